@@ -1,10 +1,19 @@
 package io.sillysillyman.api.auth.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.sillysillyman.api.auth.filter.JwtAuthenticationFilter;
 import io.sillysillyman.api.auth.handler.JwtAccessDeniedHandler;
 import io.sillysillyman.api.auth.handler.JwtAuthenticationEntryPoint;
+import io.sillysillyman.core.auth.crypto.BoundedPasswordEncoder;
+import io.sillysillyman.core.auth.crypto.PasswordEncoderCalibrator;
+import io.sillysillyman.core.auth.crypto.PasswordEncoders;
+import io.sillysillyman.core.auth.properties.JwtProperties;
+import io.sillysillyman.core.auth.properties.PasswordHashingProperties;
+import io.sillysillyman.core.auth.service.CredentialRevocationService;
 import io.sillysillyman.core.auth.util.JwtUtil;
+import io.sillysillyman.core.domain.user.UserRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,14 +23,16 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.savedrequest.NullRequestCache;
 
 @RequiredArgsConstructor
+@EnableConfigurationProperties(PasswordHashingProperties.class)
 @Configuration
 @EnableMethodSecurity
 @EnableWebSecurity
@@ -30,11 +41,23 @@ public class SecurityConfig {
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
     private final UserDetailsService userDetailsService;
+    private final CredentialRevocationService credentialRevocationService;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+        PasswordHashingProperties passwordHashingProperties,
+        MeterRegistry meterRegistry
+    ) {
+        int strength = new PasswordEncoderCalibrator(passwordHashingProperties.getCalibration())
+            .calibrate(BCryptPasswordEncoder::new, passwordHashingProperties.getStrength());
+
+        return new BoundedPasswordEncoder(
+            PasswordEncoders.createDelegatingPasswordEncoder(strength),
+            passwordHashingProperties,
+            meterRegistry
+        );
     }
 
     @Bean
@@ -50,6 +73,8 @@ public class SecurityConfig {
             .authorizeHttpRequests(it -> it
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/api/v1/users/signup").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasAuthority(UserRole.ADMIN.name())
                 .requestMatchers(HttpMethod.GET, "/**").permitAll()
                 .anyRequest().authenticated()
             )
@@ -58,10 +83,20 @@ public class SecurityConfig {
                 .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                 .accessDeniedHandler(jwtAccessDeniedHandler)
             )
-            .sessionManagement(it -> it.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            // 세션 관리 필터는 매 요청마다 인증 정보를 조회하므로 제외하고 STATELESS 와 동일하게 구성
+            .sessionManagement(AbstractHttpConfigurer::disable)
+            .securityContext(it -> it
+                .securityContextRepository(new RequestAttributeSecurityContextRepository())
+            )
+            .requestCache(it -> it.requestCache(new NullRequestCache()))
             .csrf(AbstractHttpConfigurer::disable)
             .addFilterBefore(
-                new JwtAuthenticationFilter(jwtUtil, userDetailsService),
+                new JwtAuthenticationFilter(
+                    jwtUtil,
+                    jwtProperties,
+                    userDetailsService,
+                    credentialRevocationService
+                ),
                 UsernamePasswordAuthenticationFilter.class
             )
             .build();
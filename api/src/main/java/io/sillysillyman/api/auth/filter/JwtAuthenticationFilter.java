@@ -1,21 +1,29 @@
 package io.sillysillyman.api.auth.filter;
 
+import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.auth.VerifiedClaims;
 import io.sillysillyman.core.auth.constants.JwtConstants;
+import io.sillysillyman.core.auth.exception.detail.TokenStoreUnavailableException;
+import io.sillysillyman.core.auth.properties.JwtProperties;
+import io.sillysillyman.core.auth.service.CredentialRevocationService;
 import io.sillysillyman.core.auth.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.util.StringUtils;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @RequiredArgsConstructor
@@ -23,7 +31,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
     private final UserDetailsService userDetailsService;
+    private final CredentialRevocationService credentialRevocationService;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+        SecurityContextHolder.getContextHolderStrategy();
 
     @Override
     protected void doFilterInternal(
@@ -33,26 +45,68 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         String token = extractToken(request);
 
-        try {
-            if (token != null && jwtUtil.isTokenValid(token)) {
-                String username = jwtUtil.extractUsername(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        // 인가 규칙이나 핸들러가 실제로 인증 정보를 조회할 때까지 토큰 검증과 사용자 조회를 미룬다
+        if (token != null) {
+            securityContextHolderStrategy.setDeferredContext(
+                SingletonSupplier.of(() -> createSecurityContext(token))
+            );
+        }
+
+        filterChain.doFilter(request, response);
+    }
 
-                Authentication authentication =
-                    new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                    );
+    private SecurityContext createSecurityContext(String token) {
+        SecurityContext securityContext = securityContextHolderStrategy.createEmptyContext();
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+        try {
+            jwtUtil.verify(token).ifPresent(verifiedClaims ->
+                resolveUserDetails(verifiedClaims).ifPresent(userDetails -> {
+                    UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities()
+                        );
+                    authentication.setDetails(verifiedClaims);
+
+                    securityContext.setAuthentication(authentication);
+                })
+            );
+        } catch (TokenStoreUnavailableException e) {
+            // 차단된 호출은 circuit.breaker.rejected/shed 지표와 실행기 경고로 집계되므로
+            // 장애 동안 요청마다 스택 트레이스를 남기지 않음
+            log.debug("Credential store unavailable, treating request as unauthenticated: {}",
+                e.getMessage());
+            securityContext.setAuthentication(null);
         } catch (Exception e) {
             log.error("Failed to set user authentication in security context", e);
-            SecurityContextHolder.clearContext();
+            securityContext.setAuthentication(null);
         }
+        return securityContext;
+    }
 
-        filterChain.doFilter(request, response);
+    private Optional<UserDetails> resolveUserDetails(VerifiedClaims verifiedClaims) {
+        if (jwtProperties.isStatelessPrincipal() && verifiedClaims.hasPrincipalClaims()) {
+            if (credentialRevocationService.isRevoked(
+                verifiedClaims.userId(),
+                verifiedClaims.credentialVersion()
+            )) {
+                log.info("Revoked credential version for user: {}", verifiedClaims.userId());
+                return Optional.empty();
+            }
+            return Optional.of(CustomUserDetails.from(verifiedClaims));
+        }
+
+        CustomUserDetails userDetails =
+            (CustomUserDetails) userDetailsService.loadUserByUsername(verifiedClaims.username());
+
+        if (verifiedClaims.credentialVersion() != null
+            && userDetails.userEntity().getCredentialVersion() > verifiedClaims.credentialVersion()
+        ) {
+            log.info("Outdated credential version for user: {}", verifiedClaims.username());
+            return Optional.empty();
+        }
+        return Optional.of(userDetails);
     }
 
     private String extractToken(HttpServletRequest request) {
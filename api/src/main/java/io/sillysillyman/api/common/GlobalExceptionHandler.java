@@ -3,8 +3,16 @@ package io.sillysillyman.api.common;
 import io.sillysillyman.api.common.dto.ErrorResponse;
 import io.sillysillyman.core.auth.exception.AuthErrorCode;
 import io.sillysillyman.core.auth.exception.CustomAuthenticationException;
+import io.sillysillyman.core.auth.exception.PasswordHashingErrorCode;
+import io.sillysillyman.core.auth.exception.PasswordHashingException;
+import io.sillysillyman.core.auth.exception.TokenStorageErrorCode;
+import io.sillysillyman.core.auth.exception.TokenStorageException;
+import io.sillysillyman.core.common.pagination.exception.PaginationErrorCode;
+import io.sillysillyman.core.common.pagination.exception.PaginationException;
 import io.sillysillyman.core.domain.comment.exception.CommentErrorCode;
 import io.sillysillyman.core.domain.comment.exception.CommentException;
+import io.sillysillyman.core.domain.follow.exception.FollowErrorCode;
+import io.sillysillyman.core.domain.follow.exception.FollowException;
 import io.sillysillyman.core.domain.post.exception.PostErrorCode;
 import io.sillysillyman.core.domain.post.exception.PostException;
 import io.sillysillyman.core.domain.reply.exception.ReplyErrorCode;
@@ -51,6 +59,47 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(FollowException.class)
+    public ResponseEntity<ErrorResponse> handleFollowException(FollowException e) {
+        log.error("error: ", e);
+        FollowErrorCode followErrorCode = e.getFollowErrorCode();
+        return ResponseEntity.status(followErrorCode.getStatus()).body(
+            new ErrorResponse(
+                followErrorCode.getMessage(),
+                followErrorCode.getStatus().value(),
+                followErrorCode.getStatus().name()
+            )
+        );
+    }
+
+    @ExceptionHandler(PaginationException.class)
+    public ResponseEntity<ErrorResponse> handlePaginationException(PaginationException e) {
+        log.error("error: ", e);
+        PaginationErrorCode paginationErrorCode = e.getPaginationErrorCode();
+        return ResponseEntity.status(paginationErrorCode.getStatus()).body(
+            new ErrorResponse(
+                paginationErrorCode.getMessage(),
+                paginationErrorCode.getStatus().value(),
+                paginationErrorCode.getStatus().name()
+            )
+        );
+    }
+
+    @ExceptionHandler(PasswordHashingException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingException(
+        PasswordHashingException e
+    ) {
+        log.error("error: ", e);
+        PasswordHashingErrorCode passwordHashingErrorCode = e.getPasswordHashingErrorCode();
+        return ResponseEntity.status(passwordHashingErrorCode.getStatus()).body(
+            new ErrorResponse(
+                passwordHashingErrorCode.getMessage(),
+                passwordHashingErrorCode.getStatus().value(),
+                passwordHashingErrorCode.getStatus().name()
+            )
+        );
+    }
+
     @ExceptionHandler(PostException.class)
     public ResponseEntity<ErrorResponse> handlePostException(PostException e) {
         log.error("error: ", e);
@@ -77,6 +126,19 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(TokenStorageException.class)
+    public ResponseEntity<ErrorResponse> handleTokenStorageException(TokenStorageException e) {
+        log.error("error: ", e);
+        TokenStorageErrorCode tokenStorageErrorCode = e.getTokenStorageErrorCode();
+        return ResponseEntity.status(tokenStorageErrorCode.getStatus()).body(
+            new ErrorResponse(
+                tokenStorageErrorCode.getMessage(),
+                tokenStorageErrorCode.getStatus().value(),
+                tokenStorageErrorCode.getStatus().name()
+            )
+        );
+    }
+
     @ExceptionHandler(UserException.class)
     public ResponseEntity<ErrorResponse> handleUserException(UserException e) {
         log.error("error: ", e);
@@ -0,0 +1,30 @@
+package io.sillysillyman.api.common.dto;
+
+import io.sillysillyman.core.common.pagination.Cursor;
+import io.sillysillyman.core.common.pagination.CursorSlice;
+import java.util.List;
+
+public record CursorListResponse<T>(
+    List<T> content,
+    String nextCursor,
+    String prevCursor,
+    boolean hasNext,
+    boolean hasPrevious,
+    int pageSize
+) {
+
+    public static <T> CursorListResponse<T> from(CursorSlice<T> slice) {
+        return new CursorListResponse<>(
+            slice.content(),
+            encode(slice.nextCursor()),
+            encode(slice.prevCursor()),
+            slice.hasNext(),
+            slice.hasPrevious(),
+            slice.size()
+        );
+    }
+
+    private static String encode(Cursor cursor) {
+        return cursor == null ? null : cursor.encode();
+    }
+}
@@ -0,0 +1,27 @@
+package io.sillysillyman.api.common.dto;
+
+import java.util.List;
+import org.springframework.data.domain.Slice;
+
+public record SlicedListResponse<T>(
+    List<T> content,
+    int number,
+    int pageSize,
+    boolean hasNext,
+    Long approximateTotalElements
+) {
+
+    public static <T> SlicedListResponse<T> from(Slice<T> slice) {
+        return from(slice, null);
+    }
+
+    public static <T> SlicedListResponse<T> from(Slice<T> slice, Long approximateTotalElements) {
+        return new SlicedListResponse<>(
+            slice.getContent(),
+            slice.getNumber(),
+            slice.getSize(),
+            slice.hasNext(),
+            approximateTotalElements
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package io.sillysillyman.api.common.querycount;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 요청 하나에서 허용하는 JDBC 구문, 엔티티 로드, Redis 호출 횟수. 음수면 제한하지 않음
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int statements() default -1;
+
+    int entityLoads() default -1;
+
+    int redisCalls() default -1;
+}
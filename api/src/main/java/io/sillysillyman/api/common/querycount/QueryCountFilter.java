@@ -0,0 +1,135 @@
+package io.sillysillyman.api.common.querycount;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sillysillyman.core.common.properties.QueryCountProperties;
+import io.sillysillyman.core.common.querycount.QueryCountHolder;
+import io.sillysillyman.core.common.querycount.QueryCounts;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+@ConditionalOnProperty(prefix = "query-count", name = "enabled", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+@Slf4j(topic = "QueryCountFilter")
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Query-Count-Statements";
+    public static final String ENTITY_LOADS_HEADER = "X-Query-Count-Entity-Loads";
+    public static final String REDIS_CALLS_HEADER = "X-Query-Count-Redis-Calls";
+    public static final String BUDGET_EXCEEDED_HEADER = "X-Query-Budget-Exceeded";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final QueryCountProperties queryCountProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        QueryCounts counts = QueryCountHolder.start();
+        try {
+            if (!queryCountProperties.isExposeHeaders()) {
+                filterChain.doFilter(request, response);
+                report(request, counts);
+                return;
+            }
+
+            // 헤더는 본문보다 먼저 나가야 하므로 본문을 모아 두었다가 측정이 끝난 뒤 내보냄
+            ContentCachingResponseWrapper responseWrapper =
+                new ContentCachingResponseWrapper(response);
+            filterChain.doFilter(request, responseWrapper);
+            List<String> exceeded = report(request, counts);
+
+            responseWrapper.setHeader(STATEMENTS_HEADER, String.valueOf(counts.getStatements()));
+            responseWrapper.setHeader(
+                ENTITY_LOADS_HEADER,
+                String.valueOf(counts.getEntityLoads())
+            );
+            responseWrapper.setHeader(REDIS_CALLS_HEADER, String.valueOf(counts.getRedisCalls()));
+            if (!exceeded.isEmpty()) {
+                responseWrapper.setHeader(BUDGET_EXCEEDED_HEADER, String.join(", ", exceeded));
+            }
+            responseWrapper.copyBodyToResponse();
+        } finally {
+            QueryCountHolder.clear();
+        }
+    }
+
+    private List<String> report(HttpServletRequest request, QueryCounts counts) {
+        String uri = resolveUri(request);
+        String method = request.getMethod();
+        record("statements", uri, method, counts.getStatements());
+        record("entity.loads", uri, method, counts.getEntityLoads());
+        record("redis.calls", uri, method, counts.getRedisCalls());
+
+        QueryBudget budget = resolveBudget(request);
+        if (budget == null) {
+            return List.of();
+        }
+
+        List<String> exceeded = new ArrayList<>();
+        check(exceeded, "statements", counts.getStatements(), budget.statements());
+        check(exceeded, "entity-loads", counts.getEntityLoads(), budget.entityLoads());
+        check(exceeded, "redis-calls", counts.getRedisCalls(), budget.redisCalls());
+        if (!exceeded.isEmpty()) {
+            Counter.builder("query.budget.exceeded")
+                .description("Requests that exceeded the query budget of their endpoint")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .increment();
+            log.warn("Query budget exceeded on {} {}: {}", method, uri, exceeded);
+        }
+        return exceeded;
+    }
+
+    private void record(String type, String uri, String method, long count) {
+        DistributionSummary.builder("query.count." + type)
+            .description("Number of " + type.replace('.', ' ') + " per request")
+            .tag("uri", uri)
+            .tag("method", method)
+            .register(meterRegistry)
+            .record(count);
+    }
+
+    private void check(List<String> exceeded, String type, long count, int budget) {
+        if (budget >= 0 && count > budget) {
+            exceeded.add(type + "=" + count + "/" + budget);
+        }
+    }
+
+    private String resolveUri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+
+    private QueryBudget resolveBudget(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getMethodAnnotation(QueryBudget.class);
+        }
+        return null;
+    }
+}
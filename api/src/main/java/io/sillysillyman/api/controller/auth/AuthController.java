@@ -35,6 +35,12 @@ public class AuthController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/logout/all")
+    public ResponseEntity<Void> logoutAll() {
+        authService.logoutAll();
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/refresh")
     public ResponseEntity<SingleItemResponse<TokenResponse>> refresh(
         @RequestHeader(JwtConstants.REFRESH_HEADER) String refreshToken
@@ -1,12 +1,17 @@
 package io.sillysillyman.api.controller.comment;
 
 
+import io.sillysillyman.api.common.dto.CursorListResponse;
 import io.sillysillyman.api.common.dto.PagedListResponse;
 import io.sillysillyman.api.common.dto.SingleItemResponse;
+import io.sillysillyman.api.common.dto.SlicedListResponse;
+import io.sillysillyman.api.common.querycount.QueryBudget;
 import io.sillysillyman.api.controller.comment.dto.CommentResponse;
 import io.sillysillyman.api.controller.comment.dto.CreateCommentRequest;
 import io.sillysillyman.api.controller.comment.dto.UpdateCommentRequest;
 import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.common.pagination.CursorDirection;
+import io.sillysillyman.core.common.pagination.CursorRequest;
 import io.sillysillyman.core.domain.comment.service.CommentService;
 import io.sillysillyman.core.domain.user.User;
 import jakarta.validation.Valid;
@@ -23,6 +28,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 
@@ -33,6 +39,7 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    @QueryBudget(statements = 2, entityLoads = 0)
     @PostMapping
     public ResponseEntity<SingleItemResponse<CommentResponse>> createComment(
         @PathVariable Long postId,
@@ -48,6 +55,7 @@ public class CommentController {
         );
     }
 
+    @QueryBudget(statements = 3, entityLoads = 0)
     @GetMapping
     public ResponseEntity<PagedListResponse<CommentResponse>> getComments(
         @PathVariable Long postId,
@@ -60,6 +68,38 @@ public class CommentController {
         );
     }
 
+    @QueryBudget(statements = 3, entityLoads = 0)
+    @GetMapping("/slice")
+    public ResponseEntity<SlicedListResponse<CommentResponse>> getCommentSlice(
+        @PathVariable Long postId,
+        @PageableDefault(sort = "createdAt") Pageable pageable,
+        @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return ResponseEntity.ok(
+            SlicedListResponse.from(
+                commentService.getCommentSlice(postId, pageable).map(CommentResponse::from),
+                includeTotal ? commentService.getApproximateCommentCount(postId) : null
+            )
+        );
+    }
+
+    @QueryBudget(statements = 2, entityLoads = 0)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorListResponse<CommentResponse>> getCommentsByCursor(
+        @PathVariable Long postId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) CursorDirection direction,
+        @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(
+            CursorListResponse.from(
+                commentService.getComments(postId, CursorRequest.of(cursor, direction, size))
+                    .map(CommentResponse::from)
+            )
+        );
+    }
+
+    @QueryBudget(statements = 2, entityLoads = 1)
     @PutMapping("/{commentId}")
     public ResponseEntity<Void> updateComment(
         @PathVariable Long postId,
@@ -76,6 +116,7 @@ public class CommentController {
         return ResponseEntity.noContent().build();
     }
 
+    @QueryBudget(statements = 2, entityLoads = 1)
     @DeleteMapping("/{commentId}")
     public ResponseEntity<Void> deleteComment(
         @PathVariable Long postId,
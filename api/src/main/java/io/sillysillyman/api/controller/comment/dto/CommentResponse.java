@@ -1,12 +1,17 @@
 package io.sillysillyman.api.controller.comment.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.sillysillyman.api.controller.post.dto.PostResponse;
 import io.sillysillyman.api.controller.user.dto.UserResponse;
 import io.sillysillyman.core.domain.comment.Comment;
+import io.sillysillyman.core.domain.comment.query.CommentView;
 
 public record CommentResponse(
+    @JsonSerialize(using = ToStringSerializer.class)
     Long commentId,
     String content,
+    long replyCount,
     PostResponse postResponse,
     UserResponse userResponse
 ) {
@@ -15,8 +20,19 @@ public record CommentResponse(
         return new CommentResponse(
             comment.getId(),
             comment.getContent(),
+            comment.getReplyCount(),
             PostResponse.from(comment.getPost()),
             UserResponse.from(comment.getUser())
         );
     }
+
+    public static CommentResponse from(CommentView commentView) {
+        return new CommentResponse(
+            commentView.id(),
+            commentView.content(),
+            commentView.replyCount(),
+            PostResponse.from(commentView.post()),
+            UserResponse.from(commentView.user())
+        );
+    }
 }
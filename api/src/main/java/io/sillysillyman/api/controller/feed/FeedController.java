@@ -0,0 +1,59 @@
+package io.sillysillyman.api.controller.feed;
+
+import io.sillysillyman.api.common.dto.CursorListResponse;
+import io.sillysillyman.api.common.querycount.QueryBudget;
+import io.sillysillyman.api.controller.post.dto.PostResponse;
+import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.common.pagination.CursorDirection;
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.common.pagination.CursorSlice;
+import io.sillysillyman.core.domain.feed.service.FeedService;
+import io.sillysillyman.core.domain.like.service.PostLikeService;
+import io.sillysillyman.core.domain.post.query.PostView;
+import io.sillysillyman.core.domain.user.User;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/feed")
+@RestController
+public class FeedController {
+
+    private final FeedService feedService;
+    private final PostLikeService postLikeService;
+
+    // 타임라인은 최신순으로만 내려가므로 이전 페이지 방향은 지원하지 않음
+    @PreAuthorize("isAuthenticated()")
+    @QueryBudget(statements = 4, entityLoads = 0)
+    @GetMapping
+    public ResponseEntity<CursorListResponse<PostResponse>> getFeed(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        User user = User.from(userDetails.userEntity());
+        CursorSlice<PostView> feed = feedService.getFeed(
+            user,
+            CursorRequest.of(cursor, CursorDirection.NEXT, size)
+        );
+        Set<Long> likedPostIds = postLikeService.getLikedPostIds(
+            user.getId(),
+            feed.content().stream().map(PostView::id).toList()
+        );
+        return ResponseEntity.ok(
+            CursorListResponse.from(
+                feed.map(postView -> PostResponse.from(
+                    postView,
+                    likedPostIds.contains(postView.id())
+                ))
+            )
+        );
+    }
+}
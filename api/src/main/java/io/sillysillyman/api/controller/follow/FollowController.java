@@ -0,0 +1,67 @@
+package io.sillysillyman.api.controller.follow;
+
+import io.sillysillyman.api.common.dto.SingleItemResponse;
+import io.sillysillyman.api.common.querycount.QueryBudget;
+import io.sillysillyman.api.controller.follow.dto.FollowStatsResponse;
+import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.domain.follow.service.FollowService;
+import io.sillysillyman.core.domain.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/users/{userId}")
+@RestController
+public class FollowController {
+
+    private final FollowService followService;
+
+    @QueryBudget(statements = 2, entityLoads = 0)
+    @PostMapping("/follow")
+    public ResponseEntity<Void> follow(
+        @PathVariable Long userId,
+        @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        followService.follow(userId, User.from(userDetails.userEntity()));
+        return ResponseEntity.noContent().build();
+    }
+
+    @QueryBudget(statements = 1, entityLoads = 0)
+    @DeleteMapping("/follow")
+    public ResponseEntity<Void> unfollow(
+        @PathVariable Long userId,
+        @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        followService.unfollow(userId, User.from(userDetails.userEntity()));
+        return ResponseEntity.noContent().build();
+    }
+
+    @QueryBudget(statements = 3, entityLoads = 0)
+    @GetMapping("/follow-stats")
+    public ResponseEntity<SingleItemResponse<FollowStatsResponse>> getFollowStats(
+        @PathVariable Long userId,
+        @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        // 비로그인 요청은 팔로우 여부를 알 수 없으므로 null 로 응답
+        Boolean followedByMe = userDetails == null
+            ? null
+            : followService.isFollowing(userDetails.userEntity().getId(), userId);
+        return ResponseEntity.ok(
+            SingleItemResponse.from(
+                new FollowStatsResponse(
+                    userId,
+                    followService.getFollowerCount(userId),
+                    followService.getFollowingCount(userId),
+                    followedByMe
+                )
+            )
+        );
+    }
+}
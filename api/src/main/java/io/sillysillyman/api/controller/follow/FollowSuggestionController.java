@@ -0,0 +1,42 @@
+package io.sillysillyman.api.controller.follow;
+
+import io.sillysillyman.api.common.dto.SingleItemResponse;
+import io.sillysillyman.api.common.querycount.QueryBudget;
+import io.sillysillyman.api.controller.follow.dto.FollowSuggestionResponse;
+import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.domain.follow.service.FollowSuggestionService;
+import io.sillysillyman.core.domain.user.User;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/users/me/follow-suggestions")
+@RestController
+public class FollowSuggestionController {
+
+    private final FollowSuggestionService followSuggestionService;
+
+    @PreAuthorize("isAuthenticated()")
+    @QueryBudget(statements = 2, entityLoads = 0)
+    @GetMapping
+    public ResponseEntity<SingleItemResponse<List<FollowSuggestionResponse>>> getSuggestions(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(
+            SingleItemResponse.from(
+                followSuggestionService.getSuggestions(
+                    User.from(userDetails.userEntity()),
+                    size
+                ).stream().map(FollowSuggestionResponse::from).toList()
+            )
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package io.sillysillyman.api.controller.follow.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+public record FollowStatsResponse(
+    @JsonSerialize(using = ToStringSerializer.class)
+    Long userId,
+    int followerCount,
+    int followingCount,
+    Boolean followedByMe
+) {
+
+}
@@ -0,0 +1,14 @@
+package io.sillysillyman.api.controller.follow.dto;
+
+import io.sillysillyman.api.controller.user.dto.UserResponse;
+import io.sillysillyman.core.domain.follow.query.FollowSuggestion;
+
+public record FollowSuggestionResponse(UserResponse userResponse, int mutualCount) {
+
+    public static FollowSuggestionResponse from(FollowSuggestion followSuggestion) {
+        return new FollowSuggestionResponse(
+            UserResponse.from(followSuggestion.user()),
+            followSuggestion.mutualCount()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package io.sillysillyman.api.controller.like;
+
+import io.sillysillyman.api.common.querycount.QueryBudget;
+import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.domain.like.service.PostLikeService;
+import io.sillysillyman.core.domain.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/posts/{postId}/like")
+@RestController
+public class PostLikeController {
+
+    private final PostLikeService postLikeService;
+
+    @QueryBudget(statements = 2, entityLoads = 0)
+    @PostMapping
+    public ResponseEntity<Void> like(
+        @PathVariable Long postId,
+        @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        postLikeService.like(postId, User.from(userDetails.userEntity()));
+        return ResponseEntity.noContent().build();
+    }
+
+    @QueryBudget(statements = 1, entityLoads = 0)
+    @DeleteMapping
+    public ResponseEntity<Void> unlike(
+        @PathVariable Long postId,
+        @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        postLikeService.unlike(postId, User.from(userDetails.userEntity()));
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,6 +1,7 @@
 package io.sillysillyman.api.controller.post;
 
 import io.sillysillyman.api.common.dto.SingleItemResponse;
+import io.sillysillyman.api.common.querycount.QueryBudget;
 import io.sillysillyman.api.controller.post.dto.CreatePostRequest;
 import io.sillysillyman.api.controller.post.dto.PostResponse;
 import io.sillysillyman.api.controller.post.dto.UpdatePostRequest;
@@ -28,6 +29,7 @@ public class PostController {
 
     private final PostService postService;
 
+    @QueryBudget(statements = 1, entityLoads = 0)
     @PostMapping
     public ResponseEntity<SingleItemResponse<PostResponse>> createPost(
         @Valid @RequestBody CreatePostRequest createPostRequest,
@@ -42,6 +44,7 @@ public class PostController {
         );
     }
 
+    @QueryBudget(statements = 2, entityLoads = 2)
     @GetMapping("/{postId}")
     public ResponseEntity<SingleItemResponse<PostResponse>> getPost(@PathVariable Long postId) {
         return ResponseEntity.ok(
@@ -49,6 +52,7 @@ public class PostController {
         );
     }
 
+    @QueryBudget(statements = 2, entityLoads = 1)
     @PutMapping("/{postId}")
     public ResponseEntity<Void> updatePost(
         @PathVariable Long postId,
@@ -59,6 +63,7 @@ public class PostController {
         return ResponseEntity.noContent().build();
     }
 
+    @QueryBudget(statements = 3, entityLoads = 1)
     @DeleteMapping("/{postId}")
     public ResponseEntity<Void> deletePost(
         @PathVariable Long postId,
@@ -1,11 +1,45 @@
 package io.sillysillyman.api.controller.post.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.sillysillyman.api.controller.user.dto.UserResponse;
 import io.sillysillyman.core.domain.post.Post;
+import io.sillysillyman.core.domain.post.query.PostView;
 
-public record PostResponse(Long postId, String content, UserResponse userResponse) {
+public record PostResponse(
+    // JavaScript 의 Number 로는 53 비트를 넘는 Snowflake ID 가 손상되므로 문자열로 직렬화
+    @JsonSerialize(using = ToStringSerializer.class)
+    Long postId,
+    String content,
+    long commentCount,
+    long likeCount,
+    Boolean likedByMe,
+    UserResponse userResponse
+) {
 
     public static PostResponse from(Post post) {
-        return new PostResponse(post.getId(), post.getContent(), UserResponse.from(post.getUser()));
+        return new PostResponse(
+            post.getId(),
+            post.getContent(),
+            post.getCommentCount(),
+            post.getLikeCount(),
+            null,
+            UserResponse.from(post.getUser())
+        );
+    }
+
+    public static PostResponse from(PostView postView) {
+        return from(postView, null);
+    }
+
+    public static PostResponse from(PostView postView, Boolean likedByMe) {
+        return new PostResponse(
+            postView.id(),
+            postView.content(),
+            postView.commentCount(),
+            postView.likeCount(),
+            likedByMe,
+            UserResponse.from(postView.user())
+        );
     }
 }
@@ -1,10 +1,15 @@
 package io.sillysillyman.api.controller.reply;
 
+import io.sillysillyman.api.common.dto.CursorListResponse;
 import io.sillysillyman.api.common.dto.PagedListResponse;
 import io.sillysillyman.api.common.dto.SingleItemResponse;
+import io.sillysillyman.api.common.dto.SlicedListResponse;
+import io.sillysillyman.api.common.querycount.QueryBudget;
 import io.sillysillyman.api.controller.reply.dto.ReplyResponse;
 import io.sillysillyman.api.controller.reply.dto.UpsertReplyRequest;
 import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.common.pagination.CursorDirection;
+import io.sillysillyman.core.common.pagination.CursorRequest;
 import io.sillysillyman.core.domain.reply.service.ReplyService;
 import io.sillysillyman.core.domain.user.User;
 import jakarta.validation.Valid;
@@ -21,6 +26,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -30,6 +36,7 @@ public class ReplyController {
 
     private final ReplyService replyService;
 
+    @QueryBudget(statements = 2, entityLoads = 0)
     @PostMapping
     public ResponseEntity<SingleItemResponse<ReplyResponse>> createReply(
         @PathVariable Long commentId,
@@ -49,6 +56,7 @@ public class ReplyController {
         );
     }
 
+    @QueryBudget(statements = 3, entityLoads = 0)
     @GetMapping
     public ResponseEntity<PagedListResponse<ReplyResponse>> getReplies(
         @PathVariable Long commentId,
@@ -61,6 +69,38 @@ public class ReplyController {
         );
     }
 
+    @QueryBudget(statements = 3, entityLoads = 0)
+    @GetMapping("/slice")
+    public ResponseEntity<SlicedListResponse<ReplyResponse>> getReplySlice(
+        @PathVariable Long commentId,
+        @PageableDefault(sort = "createdAt") Pageable pageable,
+        @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return ResponseEntity.ok(
+            SlicedListResponse.from(
+                replyService.getReplySlice(commentId, pageable).map(ReplyResponse::from),
+                includeTotal ? replyService.getApproximateReplyCount(commentId) : null
+            )
+        );
+    }
+
+    @QueryBudget(statements = 2, entityLoads = 0)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorListResponse<ReplyResponse>> getRepliesByCursor(
+        @PathVariable Long commentId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) CursorDirection direction,
+        @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(
+            CursorListResponse.from(
+                replyService.getReplies(commentId, CursorRequest.of(cursor, direction, size))
+                    .map(ReplyResponse::from)
+            )
+        );
+    }
+
+    @QueryBudget(statements = 2, entityLoads = 1)
     @PutMapping("/{replyId}")
     public ResponseEntity<Void> updateReply(
         @PathVariable Long commentId,
@@ -77,6 +117,7 @@ public class ReplyController {
         return ResponseEntity.noContent().build();
     }
 
+    @QueryBudget(statements = 2, entityLoads = 1)
     @DeleteMapping("/{replyId}")
     public ResponseEntity<Void> deleteReply(
         @PathVariable Long commentId,
@@ -1,10 +1,14 @@
 package io.sillysillyman.api.controller.reply.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.sillysillyman.api.controller.comment.dto.CommentResponse;
 import io.sillysillyman.api.controller.user.dto.UserResponse;
 import io.sillysillyman.core.domain.reply.Reply;
+import io.sillysillyman.core.domain.reply.query.ReplyView;
 
 public record ReplyResponse(
+    @JsonSerialize(using = ToStringSerializer.class)
     Long replyId,
     String content,
     CommentResponse commentResponse,
@@ -19,4 +23,13 @@ public record ReplyResponse(
             UserResponse.from(reply.getUser())
         );
     }
+
+    public static ReplyResponse from(ReplyView replyView) {
+        return new ReplyResponse(
+            replyView.id(),
+            replyView.content(),
+            CommentResponse.from(replyView.comment()),
+            UserResponse.from(replyView.user())
+        );
+    }
 }
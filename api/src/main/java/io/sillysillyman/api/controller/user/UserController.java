@@ -1,19 +1,33 @@
 package io.sillysillyman.api.controller.user;
 
 
+import io.sillysillyman.api.common.dto.CursorListResponse;
 import io.sillysillyman.api.common.dto.PagedListResponse;
 import io.sillysillyman.api.common.dto.SingleItemResponse;
+import io.sillysillyman.api.common.dto.SlicedListResponse;
+import io.sillysillyman.api.common.querycount.QueryBudget;
 import io.sillysillyman.api.controller.post.dto.PostResponse;
 import io.sillysillyman.api.controller.user.dto.ChangePasswordRequest;
 import io.sillysillyman.api.controller.user.dto.SignupRequest;
 import io.sillysillyman.api.controller.user.dto.UserResponse;
+import io.sillysillyman.api.controller.user.dto.UsernameAvailabilityResponse;
 import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.common.pagination.CursorDirection;
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.common.pagination.CursorSlice;
+import io.sillysillyman.core.domain.like.service.PostLikeService;
+import io.sillysillyman.core.domain.post.query.PostView;
 import io.sillysillyman.core.domain.post.service.PostService;
 import io.sillysillyman.core.domain.user.User;
 import io.sillysillyman.core.domain.user.service.UserService;
 import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -27,6 +41,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
@@ -35,8 +50,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController {
 
     private final PostService postService;
+    private final PostLikeService postLikeService;
     private final UserService userService;
 
+    @QueryBudget(statements = 2, entityLoads = 0)
     @PostMapping("/signup")
     ResponseEntity<SingleItemResponse<UserResponse>> signup(
         @Valid @RequestBody SignupRequest signupRequest
@@ -46,6 +63,22 @@ public class UserController {
             .body(SingleItemResponse.from(UserResponse.from(userService.signup(signupRequest))));
     }
 
+    @QueryBudget(statements = 1, entityLoads = 0)
+    @GetMapping("/availability")
+    ResponseEntity<SingleItemResponse<UsernameAvailabilityResponse>> checkUsernameAvailability(
+        @RequestParam String username
+    ) {
+        return ResponseEntity.ok(
+            SingleItemResponse.from(
+                new UsernameAvailabilityResponse(
+                    username,
+                    userService.isUsernameAvailable(username)
+                )
+            )
+        );
+    }
+
+    @QueryBudget(statements = 1, entityLoads = 1)
     @GetMapping("/{userId}")
     ResponseEntity<SingleItemResponse<UserResponse>> getUser(@PathVariable Long userId) {
         return ResponseEntity.ok(
@@ -53,6 +86,7 @@ public class UserController {
         );
     }
 
+    @QueryBudget(statements = 3, entityLoads = 0)
     @GetMapping("/{userId}/posts")
     ResponseEntity<PagedListResponse<PostResponse>> getUserPosts(
         @PathVariable Long userId,
@@ -65,20 +99,89 @@ public class UserController {
         );
     }
 
+    @QueryBudget(statements = 3, entityLoads = 0)
+    @GetMapping("/{userId}/posts/slice")
+    ResponseEntity<SlicedListResponse<PostResponse>> getUserPostSlice(
+        @PathVariable Long userId,
+        @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+        @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        return ResponseEntity.ok(
+            SlicedListResponse.from(
+                postService.getUserPostSlice(userId, pageable).map(PostResponse::from),
+                includeTotal ? postService.getApproximateUserPostCount(userId) : null
+            )
+        );
+    }
+
+    @QueryBudget(statements = 2, entityLoads = 0)
+    @GetMapping("/{userId}/posts/cursor")
+    ResponseEntity<CursorListResponse<PostResponse>> getUserPostsByCursor(
+        @PathVariable Long userId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) CursorDirection direction,
+        @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(
+            CursorListResponse.from(
+                postService.getUserPosts(userId, CursorRequest.of(cursor, direction, size))
+                    .map(PostResponse::from)
+            )
+        );
+    }
+
     @PreAuthorize("isAuthenticated()")
+    @QueryBudget(statements = 4, entityLoads = 0)
     @GetMapping("/me/posts")
     ResponseEntity<PagedListResponse<PostResponse>> getMyPosts(
         @AuthenticationPrincipal CustomUserDetails userDetails,
         @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
+        User user = User.from(userDetails.userEntity());
+        Page<PostView> posts = postService.getMyPosts(user, pageable);
         return ResponseEntity.ok(
-            PagedListResponse.from(
-                postService.getMyPosts(User.from(userDetails.userEntity()), pageable)
-                    .map(PostResponse::from)
+            PagedListResponse.from(posts.map(withLikedByMe(user, posts.getContent())))
+        );
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    @QueryBudget(statements = 4, entityLoads = 0)
+    @GetMapping("/me/posts/slice")
+    ResponseEntity<SlicedListResponse<PostResponse>> getMyPostSlice(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+        @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        User user = User.from(userDetails.userEntity());
+        Slice<PostView> posts = postService.getMyPostSlice(user, pageable);
+        return ResponseEntity.ok(
+            SlicedListResponse.from(
+                posts.map(withLikedByMe(user, posts.getContent())),
+                includeTotal ? postService.getApproximateUserPostCount(user.getId()) : null
             )
         );
     }
 
+    @PreAuthorize("isAuthenticated()")
+    @QueryBudget(statements = 3, entityLoads = 0)
+    @GetMapping("/me/posts/cursor")
+    ResponseEntity<CursorListResponse<PostResponse>> getMyPostsByCursor(
+        @AuthenticationPrincipal CustomUserDetails userDetails,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) CursorDirection direction,
+        @RequestParam(required = false) Integer size
+    ) {
+        User user = User.from(userDetails.userEntity());
+        CursorSlice<PostView> posts = postService.getMyPosts(
+            user,
+            CursorRequest.of(cursor, direction, size)
+        );
+        return ResponseEntity.ok(
+            CursorListResponse.from(posts.map(withLikedByMe(user, posts.content())))
+        );
+    }
+
+    @QueryBudget(statements = 2, entityLoads = 1)
     @PutMapping("/me/password")
     ResponseEntity<Void> changePassword(
         @Valid @RequestBody ChangePasswordRequest changePasswordRequest,
@@ -88,9 +191,19 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
+    @QueryBudget(statements = 2, entityLoads = 1)
     @DeleteMapping("/me")
     ResponseEntity<Void> withdraw(@AuthenticationPrincipal CustomUserDetails userDetails) {
         userService.withdraw(User.from(userDetails.userEntity()));
         return ResponseEntity.noContent().build();
     }
+
+    // 공개 목록은 인증 정보 없이 조회하므로 좋아요 여부는 내 게시물 목록에만 붙임
+    private Function<PostView, PostResponse> withLikedByMe(User user, List<PostView> postViews) {
+        Set<Long> likedPostIds = postLikeService.getLikedPostIds(
+            user.getId(),
+            postViews.stream().map(PostView::id).toList()
+        );
+        return postView -> PostResponse.from(postView, likedPostIds.contains(postView.id()));
+    }
 }
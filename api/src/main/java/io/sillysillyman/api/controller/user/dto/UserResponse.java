@@ -1,10 +1,21 @@
 package io.sillysillyman.api.controller.user.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import io.sillysillyman.core.domain.user.User;
+import io.sillysillyman.core.domain.user.query.UserView;
 
-public record UserResponse(Long userId, String username) {
+public record UserResponse(
+    @JsonSerialize(using = ToStringSerializer.class)
+    Long userId,
+    String username
+) {
 
     public static UserResponse from(User user) {
         return new UserResponse(user.getId(), user.getUsername());
     }
+
+    public static UserResponse from(UserView userView) {
+        return new UserResponse(userView.id(), userView.username());
+    }
 }
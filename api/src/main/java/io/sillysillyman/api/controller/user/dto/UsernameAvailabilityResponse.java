@@ -0,0 +1,5 @@
+package io.sillysillyman.api.controller.user.dto;
+
+public record UsernameAvailabilityResponse(String username, boolean available) {
+
+}
@@ -0,0 +1,20 @@
+package io.sillysillyman.api.config;
+
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MockMvcConfig {
+
+    // MockMvc 의 DispatcherServlet 은 spring.mvc.publish-request-handled-events 를 반영하지 않음
+    @Bean
+    public MockMvcBuilderCustomizer publishRequestHandledEventsCustomizer(
+        WebMvcProperties webMvcProperties
+    ) {
+        return builder -> builder.addDispatcherServletCustomizer(dispatcherServlet ->
+            dispatcherServlet.setPublishEvents(webMvcProperties.isPublishRequestHandledEvents())
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package io.sillysillyman.api.config;
+
+import io.sillysillyman.api.util.CapturingStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StatementCaptureConfig {
+
+    @Bean
+    public CapturingStatementInspector capturingStatementInspector() {
+        return new CapturingStatementInspector();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(
+        CapturingStatementInspector capturingStatementInspector
+    ) {
+        return properties -> properties.put(
+            AvailableSettings.STATEMENT_INSPECTOR,
+            capturingStatementInspector
+        );
+    }
+}
@@ -77,9 +77,6 @@ class AuthControllerTest {
     void tearDown() {
         withTransaction(em -> {
             em.createQuery("DELETE FROM UserEntity").executeUpdate();
-
-            em.createNativeQuery("ALTER TABLE users ALTER COLUMN id RESTART WITH 1")
-                .executeUpdate();
         });
         em.close();
     }
@@ -150,6 +147,17 @@ class AuthControllerTest {
             );
         }
 
+        @DisplayName("전체 세션 로그아웃 성공")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_AuthenticatedUser_when_LogoutAll_then_ReturnNoContent() {
+            performPost(
+                mockMvc,
+                BASE_URL + "/logout/all",
+                status().isNoContent()
+            );
+        }
+
         @DisplayName("인증되지 않은 사용자 로그아웃 실패")
         @Test
         void given_UnauthenticatedUser_when_Logout_then_ReturnUnauthorized() {
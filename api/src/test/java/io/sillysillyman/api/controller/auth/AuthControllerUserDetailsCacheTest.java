@@ -0,0 +1,124 @@
+package io.sillysillyman.api.controller.auth;
+
+import static io.sillysillyman.api.util.MockMvcTestUtil.performPost;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.sillysillyman.core.domain.user.UserEntity;
+import io.sillysillyman.core.domain.user.UserRole;
+import io.sillysillyman.core.domain.user.service.UserSchedulerService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+// 테스트 프로필은 사용자 정보를 캐시하지 않으므로 TTL 을 켜고 캐시가 비워지는지 확인
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "user-details-cache.ttl=5m")
+@ActiveProfiles("test")
+class AuthControllerUserDetailsCacheTest {
+
+    private static final String LOGIN_URL = "/api/v1/auth/login";
+    private static final String SIGNUP_URL = "/api/v1/users/signup";
+    private static final String LOGIN_REQUEST_BODY = """
+        {
+            "username": "%s",
+            "password": "%s"
+        }
+        """;
+    private static final String SIGNUP_REQUEST_BODY = """
+        {
+            "username": "%s",
+            "password": "%s",
+            "confirmPassword": "%s"
+        }
+        """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserSchedulerService userSchedulerService;
+
+    private EntityManager em;
+
+    private void withTransaction(Consumer<EntityManager> block) {
+        em.getTransaction().begin();
+        block.accept(em);
+        em.getTransaction().commit();
+    }
+
+    @BeforeEach
+    void setUp() {
+        em = emf.createEntityManager();
+
+        assert em.createQuery("SELECT COUNT(u) FROM UserEntity u", Long.class)
+            .getSingleResult() == 0;
+
+        withTransaction(em -> {
+            UserEntity user = UserEntity.builder()
+                .username("tester")
+                .password(passwordEncoder.encode("password1!"))
+                .role(UserRole.USER)
+                .deletedAt(Instant.now().minus(365, ChronoUnit.DAYS))
+                .build();
+            em.persist(user);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        withTransaction(em -> {
+            em.createQuery("DELETE FROM UserEntity").executeUpdate();
+        });
+        em.close();
+    }
+
+    @DisplayName("삭제된 사용자의 사용자명으로 새로 가입하면 이전 사용자 정보 캐시 대신 새 계정으로 로그인")
+    @Test
+    void given_PurgedUserCached_when_SignupWithSameUsername_then_LoginAsNewUser() {
+        // given
+        // 탈퇴한 사용자의 로그인 시도로 비활성 사용자 정보가 캐시됨
+        performPost(
+            mockMvc,
+            LOGIN_URL,
+            LOGIN_REQUEST_BODY.formatted("tester", "password1!"),
+            status().isUnauthorized()
+        );
+        userSchedulerService.deleteOldSoftDeletedUsers(Instant.now());
+
+        // when
+        performPost(
+            mockMvc,
+            SIGNUP_URL,
+            SIGNUP_REQUEST_BODY.formatted("tester", "password2!", "password2!"),
+            status().isCreated()
+        );
+
+        // then
+        performPost(
+            mockMvc,
+            LOGIN_URL,
+            LOGIN_REQUEST_BODY.formatted("tester", "password2!"),
+            status().isOk(),
+            jsonPath("$.data.accessToken").exists()
+        );
+    }
+}
@@ -4,15 +4,20 @@ import static io.sillysillyman.api.util.MockMvcTestUtil.performDelete;
 import static io.sillysillyman.api.util.MockMvcTestUtil.performGet;
 import static io.sillysillyman.api.util.MockMvcTestUtil.performPost;
 import static io.sillysillyman.api.util.MockMvcTestUtil.performPut;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.jayway.jsonpath.JsonPath;
+import io.sillysillyman.core.common.counter.EngagementCounters;
 import io.sillysillyman.core.domain.comment.CommentEntity;
 import io.sillysillyman.core.domain.post.PostEntity;
 import io.sillysillyman.core.domain.user.UserEntity;
 import io.sillysillyman.core.domain.user.UserRole;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,10 +47,13 @@ public class CommentControllerTest {
     @Autowired
     private EntityManagerFactory emf;
 
+    @Autowired
+    private EngagementCounters engagementCounters;
+
     private EntityManager em;
     private Long userId;
     private Long postId;
-    private Long commentId = 1L;
+    private Long commentId;
 
     private void withTransaction(Consumer<EntityManager> block) {
         em.getTransaction().begin();
@@ -90,13 +98,6 @@ public class CommentControllerTest {
             em.createQuery("DELETE FROM CommentEntity").executeUpdate();
             em.createQuery("DELETE FROM PostEntity").executeUpdate();
             em.createQuery("DELETE FROM UserEntity").executeUpdate();
-
-            em.createNativeQuery("ALTER TABLE comments ALTER COLUMN id RESTART WITH 1")
-                .executeUpdate();
-            em.createNativeQuery("ALTER TABLE posts ALTER COLUMN id RESTART WITH 1")
-                .executeUpdate();
-            em.createNativeQuery("ALTER TABLE users ALTER COLUMN id RESTART WITH 1")
-                .executeUpdate();
         });
         em.close();
     }
@@ -120,17 +121,44 @@ public class CommentControllerTest {
                 BASE_URL.formatted(postId),
                 REQUEST_BODY.formatted("comment content"),
                 status().isCreated(),
-                jsonPath("$.data.commentId").value(commentId),
+                jsonPath("$.data.commentId").isString(),
                 jsonPath("$.data.content").value("comment content"),
                 jsonPath("$.data.postResponse").exists(),
-                jsonPath("$.data.postResponse.postId").value(postId),
+                jsonPath("$.data.postResponse.postId").value(String.valueOf(postId)),
                 jsonPath("$.data.postResponse.content").value("post content"),
                 jsonPath("$.data.userResponse").exists(),
-                jsonPath("$.data.userResponse.userId").value(userId),
+                jsonPath("$.data.userResponse.userId").value(String.valueOf(userId)),
                 jsonPath("$.data.userResponse.username").value("tester")
             );
         }
 
+        @DisplayName("댓글 생성 후 반영 주기가 지나면 게시물 댓글 수 증가")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_CreatedComments_when_Flush_then_IncreaseCommentCount() {
+            performPost(
+                mockMvc,
+                BASE_URL.formatted(postId),
+                REQUEST_BODY.formatted("first comment"),
+                status().isCreated()
+            );
+            performPost(
+                mockMvc,
+                BASE_URL.formatted(postId),
+                REQUEST_BODY.formatted("second comment"),
+                status().isCreated()
+            );
+
+            engagementCounters.flush();
+
+            performGet(
+                mockMvc,
+                "/api/v1/posts/" + postId,
+                status().isOk(),
+                jsonPath("$.data.commentCount").value(2)
+            );
+        }
+
         @DisplayName("인증되지 않은 사용자의 댓글 생성 실패")
         @Test
         void given_UnauthenticatedUser_when_CreateComment_then_ReturnUnauthorized() {
@@ -201,10 +229,10 @@ public class CommentControllerTest {
                 BASE_URL.formatted(postId),
                 status().isOk(),
                 jsonPath("$.content[0]").exists(),
-                jsonPath("$.content[0].commentId").value(comment1Id),
+                jsonPath("$.content[0].commentId").value(String.valueOf(comment1Id)),
                 jsonPath("$.content[0].content").value("first comment"),
                 jsonPath("$.content[1]").exists(),
-                jsonPath("$.content[1].commentId").value(comment2Id),
+                jsonPath("$.content[1].commentId").value(String.valueOf(comment2Id)),
                 jsonPath("$.content[1].content").value("second comment")
             );
         }
@@ -222,6 +250,103 @@ public class CommentControllerTest {
         }
     }
 
+    @DisplayName("댓글 커서 목록 조회 API")
+    @Nested
+    class GetCommentsByCursor {
+
+        private final List<Long> commentIds = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            withTransaction(em -> {
+                UserEntity user = em.find(UserEntity.class, userId);
+                PostEntity post = em.find(PostEntity.class, postId);
+
+                for (int i = 1; i <= 3; i++) {
+                    CommentEntity comment = CommentEntity.builder()
+                        .content("comment " + i)
+                        .post(post)
+                        .user(user)
+                        .build();
+                    em.persist(comment);
+                    commentIds.add(comment.getId());
+                }
+            });
+        }
+
+        private String fetchCursor(String query, String field) throws Exception {
+            String body = mockMvc.perform(get(BASE_URL.formatted(postId) + "/cursor" + query))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+            return JsonPath.read(body, "$." + field);
+        }
+
+        @DisplayName("첫 페이지 조회 시 다음 커서 반환")
+        @Test
+        void given_NoCursor_when_GetCommentsByCursor_then_ReturnFirstPage() {
+            performGet(
+                mockMvc,
+                BASE_URL.formatted(postId) + "/cursor?size=2",
+                status().isOk(),
+                jsonPath("$.content.length()").value(2),
+                jsonPath("$.content[0].commentId").value(String.valueOf(commentIds.get(0))),
+                jsonPath("$.content[1].commentId").value(String.valueOf(commentIds.get(1))),
+                jsonPath("$.hasNext").value(true),
+                jsonPath("$.hasPrevious").value(false),
+                jsonPath("$.nextCursor").isString(),
+                jsonPath("$.prevCursor").doesNotExist(),
+                jsonPath("$.pageSize").value(2)
+            );
+        }
+
+        @DisplayName("다음 커서로 조회 후 이전 커서로 돌아가면 첫 페이지 반환")
+        @Test
+        void given_NextCursor_when_GetCommentsByCursor_then_NavigateBothDirections()
+            throws Exception {
+            // given
+            String nextCursor = fetchCursor("?size=2", "nextCursor");
+
+            // when
+            String prevCursor = fetchCursor("?size=2&cursor=" + nextCursor, "prevCursor");
+
+            // then
+            performGet(
+                mockMvc,
+                BASE_URL.formatted(postId) + "/cursor?size=2&cursor=" + nextCursor,
+                status().isOk(),
+                jsonPath("$.content.length()").value(1),
+                jsonPath("$.content[0].commentId").value(String.valueOf(commentIds.get(2))),
+                jsonPath("$.hasNext").value(false),
+                jsonPath("$.hasPrevious").value(true)
+            );
+            performGet(
+                mockMvc,
+                BASE_URL.formatted(postId) + "/cursor?size=2&direction=PREV&cursor="
+                    + prevCursor,
+                status().isOk(),
+                jsonPath("$.content.length()").value(2),
+                jsonPath("$.content[0].commentId").value(String.valueOf(commentIds.get(0))),
+                jsonPath("$.content[1].commentId").value(String.valueOf(commentIds.get(1))),
+                jsonPath("$.hasNext").value(true),
+                jsonPath("$.hasPrevious").value(false)
+            );
+        }
+
+        @DisplayName("잘못된 커서로 조회 실패")
+        @Test
+        void given_InvalidCursor_when_GetCommentsByCursor_then_ReturnBadRequest() {
+            performGet(
+                mockMvc,
+                BASE_URL.formatted(postId) + "/cursor?cursor=invalid",
+                status().isBadRequest(),
+                jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value()),
+                jsonPath("$.title").value(HttpStatus.BAD_REQUEST.name())
+            );
+        }
+    }
+
     @DisplayName("댓글 수정 API")
     @Nested
     class UpdateComment {
@@ -364,6 +489,32 @@ public class CommentControllerTest {
             );
         }
 
+        @DisplayName("댓글 삭제 후 반영 주기가 지나면 게시물 댓글 수 감소")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_DeletedComment_when_Flush_then_DecreaseCommentCount() {
+            withTransaction(em -> em.createQuery(
+                    "UPDATE PostEntity p SET p.commentCount = 1 WHERE p.id = :id"
+                )
+                .setParameter("id", postId)
+                .executeUpdate());
+
+            performDelete(
+                mockMvc,
+                BASE_URL.formatted(postId) + '/' + commentId,
+                status().isNoContent()
+            );
+
+            engagementCounters.flush();
+
+            performGet(
+                mockMvc,
+                "/api/v1/posts/" + postId,
+                status().isOk(),
+                jsonPath("$.data.commentCount").value(0)
+            );
+        }
+
         @DisplayName("인증되지 않은 사용자의 댓글 삭제 실패")
         @Test
         void given_UnauthenticatedUser_when_DeleteComment_then_ReturnUnauthorized() {
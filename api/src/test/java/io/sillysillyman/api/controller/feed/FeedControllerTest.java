@@ -0,0 +1,231 @@
+package io.sillysillyman.api.controller.feed;
+
+import static io.sillysillyman.api.util.MockMvcTestUtil.performGet;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import io.sillysillyman.core.domain.feed.repository.TimelineStore;
+import io.sillysillyman.core.domain.follow.FollowEntity;
+import io.sillysillyman.core.domain.like.PostLikeEntity;
+import io.sillysillyman.core.domain.post.PostEntity;
+import io.sillysillyman.core.domain.user.UserEntity;
+import io.sillysillyman.core.domain.user.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+@ActiveProfiles("test")
+class FeedControllerTest {
+
+    private final static String BASE_URL = "/api/v1/feed";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private TimelineStore timelineStore;
+
+    private EntityManager em;
+    private Long userId;
+    private Long followeeId;
+    private final List<Long> postIds = new ArrayList<>();
+
+    private void withTransaction(Consumer<EntityManager> block) {
+        em.getTransaction().begin();
+        block.accept(em);
+        em.flush();
+        em.getTransaction().commit();
+    }
+
+    private void persistFolloweePosts(int count) {
+        withTransaction(em -> {
+            UserEntity followee = em.find(UserEntity.class, followeeId);
+            for (int i = 1; i <= count; i++) {
+                PostEntity post = PostEntity.builder()
+                    .content("post " + i)
+                    .user(followee)
+                    .build();
+                em.persist(post);
+                postIds.add(post.getId());
+            }
+        });
+    }
+
+    @BeforeEach
+    void setUp() {
+        em = emf.createEntityManager();
+
+        assert em.createQuery("SELECT COUNT(u) FROM UserEntity u", Long.class)
+            .getSingleResult() == 0;
+
+        withTransaction(em -> {
+            UserEntity user = UserEntity.builder()
+                .username("tester")
+                .password("password")
+                .role(UserRole.USER)
+                .build();
+            UserEntity followee = UserEntity.builder()
+                .username("followee")
+                .password("password")
+                .role(UserRole.USER)
+                .build();
+            em.persist(user);
+            em.persist(followee);
+            em.persist(FollowEntity.builder().follower(user).followee(followee).build());
+
+            userId = user.getId();
+            followeeId = followee.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        withTransaction(em -> {
+            em.createQuery("DELETE FROM FollowEntity").executeUpdate();
+            em.createQuery("DELETE FROM PostLikeEntity").executeUpdate();
+            em.createQuery("DELETE FROM PostEntity").executeUpdate();
+            em.createQuery("DELETE FROM UserEntity").executeUpdate();
+        });
+        em.close();
+    }
+
+    @DisplayName("홈 타임라인 조회 API")
+    @Nested
+    class GetFeed {
+
+        private String fetchNextCursor(String query) throws Exception {
+            String body = mockMvc.perform(get(BASE_URL + query))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+            return JsonPath.read(body, "$.nextCursor");
+        }
+
+        @DisplayName("타임라인에 들어온 게시물을 최신순으로 반환")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_PushedPosts_when_GetFeed_then_ReturnNewestFirst() throws Exception {
+            // given
+            persistFolloweePosts(3);
+            postIds.forEach(postId -> timelineStore.push(new long[]{userId}, postId));
+
+            // when
+            String nextCursor = fetchNextCursor("?size=2");
+
+            // then
+            performGet(
+                mockMvc,
+                BASE_URL + "?size=2",
+                status().isOk(),
+                jsonPath("$.content.length()").value(2),
+                jsonPath("$.content[0].postId").value(String.valueOf(postIds.get(2))),
+                jsonPath("$.content[1].postId").value(String.valueOf(postIds.get(1))),
+                jsonPath("$.content[0].userResponse.userId").value(String.valueOf(followeeId)),
+                jsonPath("$.hasNext").value(true),
+                jsonPath("$.hasPrevious").value(false)
+            );
+            performGet(
+                mockMvc,
+                BASE_URL + "?size=2&cursor=" + nextCursor,
+                status().isOk(),
+                jsonPath("$.content.length()").value(1),
+                jsonPath("$.content[0].postId").value(String.valueOf(postIds.get(0))),
+                jsonPath("$.hasNext").value(false),
+                jsonPath("$.hasPrevious").value(true)
+            );
+        }
+
+        @DisplayName("페이지의 게시물마다 좋아요 여부를 함께 반환")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_LikedPost_when_GetFeed_then_ReturnLikedByMe() {
+            // given
+            persistFolloweePosts(2);
+            postIds.forEach(postId -> timelineStore.push(new long[]{userId}, postId));
+            withTransaction(em -> em.persist(
+                PostLikeEntity.builder()
+                    .post(em.find(PostEntity.class, postIds.get(0)))
+                    .user(em.find(UserEntity.class, userId))
+                    .build()
+            ));
+
+            // when & then
+            performGet(
+                mockMvc,
+                BASE_URL,
+                status().isOk(),
+                jsonPath("$.content.length()").value(2),
+                jsonPath("$.content[0].postId").value(String.valueOf(postIds.get(1))),
+                jsonPath("$.content[0].likedByMe").value(false),
+                jsonPath("$.content[1].postId").value(String.valueOf(postIds.get(0))),
+                jsonPath("$.content[1].likedByMe").value(true)
+            );
+        }
+
+        @DisplayName("읽기 병합 작성자의 게시물은 타임라인에 없어도 병합해 반환")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_FanoutOnReadFollowee_when_GetFeed_then_MergePosts() {
+            // given
+            persistFolloweePosts(2);
+            timelineStore.markFanoutOnRead(followeeId);
+
+            // when & then
+            try {
+                performGet(
+                    mockMvc,
+                    BASE_URL,
+                    status().isOk(),
+                    jsonPath("$.content.length()").value(2),
+                    jsonPath("$.content[0].postId").value(String.valueOf(postIds.get(1))),
+                    jsonPath("$.content[1].postId").value(String.valueOf(postIds.get(0))),
+                    jsonPath("$.hasNext").value(false)
+                );
+            } finally {
+                timelineStore.unmarkFanoutOnRead(followeeId);
+            }
+        }
+
+        @DisplayName("빈 타임라인 조회 시 빈 목록 반환")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_EmptyTimeline_when_GetFeed_then_ReturnEmptyList() {
+            performGet(
+                mockMvc,
+                BASE_URL,
+                status().isOk(),
+                jsonPath("$.content.length()").value(0),
+                jsonPath("$.hasNext").value(false),
+                jsonPath("$.nextCursor").doesNotExist()
+            );
+        }
+
+        @DisplayName("인증되지 않은 사용자의 조회 실패")
+        @Test
+        void given_UnauthenticatedUser_when_GetFeed_then_ReturnUnauthorized() {
+            performGet(mockMvc, BASE_URL, status().isUnauthorized());
+        }
+    }
+}
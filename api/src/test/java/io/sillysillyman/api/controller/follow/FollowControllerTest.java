@@ -0,0 +1,224 @@
+package io.sillysillyman.api.controller.follow;
+
+import static io.sillysillyman.api.util.MockMvcTestUtil.performDelete;
+import static io.sillysillyman.api.util.MockMvcTestUtil.performGet;
+import static io.sillysillyman.api.util.MockMvcTestUtil.performPost;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.sillysillyman.core.domain.user.UserEntity;
+import io.sillysillyman.core.domain.user.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+@ActiveProfiles("test")
+class FollowControllerTest {
+
+    private final static String FOLLOW_URL = "/api/v1/users/%d/follow";
+    private final static String FOLLOW_STATS_URL = "/api/v1/users/%d/follow-stats";
+    private final static Long NON_EXISTENT_ID = 999L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private EntityManager em;
+    private Long userId;
+    private Long followeeId;
+
+    private void withTransaction(Consumer<EntityManager> block) {
+        em.getTransaction().begin();
+        block.accept(em);
+        em.flush();
+        em.getTransaction().commit();
+    }
+
+    @BeforeEach
+    void setUp() {
+        em = emf.createEntityManager();
+
+        assert em.createQuery("SELECT COUNT(u) FROM UserEntity u", Long.class)
+            .getSingleResult() == 0;
+
+        withTransaction(em -> {
+            UserEntity user = UserEntity.builder()
+                .username("tester")
+                .password("password")
+                .role(UserRole.USER)
+                .build();
+            UserEntity followee = UserEntity.builder()
+                .username("followee")
+                .password("password")
+                .role(UserRole.USER)
+                .build();
+            em.persist(user);
+            em.persist(followee);
+
+            userId = user.getId();
+            followeeId = followee.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        withTransaction(em -> {
+            em.createQuery("DELETE FROM FollowEntity").executeUpdate();
+            em.createQuery("DELETE FROM UserEntity").executeUpdate();
+        });
+        em.close();
+    }
+
+    @DisplayName("팔로우 API")
+    @Nested
+    class Follow {
+
+        @DisplayName("팔로우 성공 후 이미 로드된 팔로우 통계에도 반영")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_LoadedStats_when_Follow_then_UpdateStats() {
+            performGet(
+                mockMvc,
+                FOLLOW_STATS_URL.formatted(followeeId),
+                status().isOk(),
+                jsonPath("$.data.followerCount").value(0),
+                jsonPath("$.data.followedByMe").value(false)
+            );
+
+            performPost(mockMvc, FOLLOW_URL.formatted(followeeId), status().isNoContent());
+
+            performGet(
+                mockMvc,
+                FOLLOW_STATS_URL.formatted(followeeId),
+                status().isOk(),
+                jsonPath("$.data.userId").value(String.valueOf(followeeId)),
+                jsonPath("$.data.followerCount").value(1),
+                jsonPath("$.data.followingCount").value(0),
+                jsonPath("$.data.followedByMe").value(true)
+            );
+            performGet(
+                mockMvc,
+                FOLLOW_STATS_URL.formatted(userId),
+                status().isOk(),
+                jsonPath("$.data.followerCount").value(0),
+                jsonPath("$.data.followingCount").value(1)
+            );
+        }
+
+        @DisplayName("같은 사용자를 다시 팔로우해도 관계는 하나")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_AlreadyFollowing_when_Follow_then_KeepSingleRelationship() {
+            performPost(mockMvc, FOLLOW_URL.formatted(followeeId), status().isNoContent());
+            performPost(mockMvc, FOLLOW_URL.formatted(followeeId), status().isNoContent());
+
+            performGet(
+                mockMvc,
+                FOLLOW_STATS_URL.formatted(followeeId),
+                status().isOk(),
+                jsonPath("$.data.followerCount").value(1)
+            );
+        }
+
+        @DisplayName("자기 자신 팔로우 실패")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_Self_when_Follow_then_ReturnBadRequest() {
+            performPost(
+                mockMvc,
+                FOLLOW_URL.formatted(userId),
+                status().isBadRequest(),
+                jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value()),
+                jsonPath("$.title").value(HttpStatus.BAD_REQUEST.name())
+            );
+        }
+
+        @DisplayName("존재하지 않는 사용자 팔로우 실패")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_NonExistentUserId_when_Follow_then_ReturnNotFound() {
+            performPost(
+                mockMvc,
+                FOLLOW_URL.formatted(NON_EXISTENT_ID),
+                status().isNotFound(),
+                jsonPath("$.status").value(HttpStatus.NOT_FOUND.value()),
+                jsonPath("$.title").value(HttpStatus.NOT_FOUND.name())
+            );
+        }
+
+        @DisplayName("인증되지 않은 사용자의 팔로우 실패")
+        @Test
+        void given_UnauthenticatedUser_when_Follow_then_ReturnUnauthorized() {
+            performPost(
+                mockMvc,
+                FOLLOW_URL.formatted(followeeId),
+                status().isUnauthorized(),
+                jsonPath("$.status").value(HttpStatus.UNAUTHORIZED.value()),
+                jsonPath("$.title").value(HttpStatus.UNAUTHORIZED.name())
+            );
+        }
+    }
+
+    @DisplayName("언팔로우 API")
+    @Nested
+    class Unfollow {
+
+        @DisplayName("언팔로우 성공")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_Following_when_Unfollow_then_RemoveRelationship() {
+            performPost(mockMvc, FOLLOW_URL.formatted(followeeId), status().isNoContent());
+
+            performDelete(mockMvc, FOLLOW_URL.formatted(followeeId), status().isNoContent());
+
+            performGet(
+                mockMvc,
+                FOLLOW_STATS_URL.formatted(followeeId),
+                status().isOk(),
+                jsonPath("$.data.followerCount").value(0),
+                jsonPath("$.data.followedByMe").value(false)
+            );
+        }
+
+        @DisplayName("팔로우하지 않은 사용자 언팔로우도 성공")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_NotFollowing_when_Unfollow_then_ReturnNoContent() {
+            performDelete(mockMvc, FOLLOW_URL.formatted(followeeId), status().isNoContent());
+        }
+    }
+
+    @DisplayName("팔로우 통계 조회 API")
+    @Nested
+    class GetFollowStats {
+
+        @DisplayName("비로그인 사용자는 팔로우 여부 없이 조회")
+        @Test
+        void given_AnonymousUser_when_GetFollowStats_then_OmitFollowedByMe() {
+            performGet(
+                mockMvc,
+                FOLLOW_STATS_URL.formatted(followeeId),
+                status().isOk(),
+                jsonPath("$.data.followerCount").value(0),
+                jsonPath("$.data.followedByMe").doesNotExist()
+            );
+        }
+    }
+}
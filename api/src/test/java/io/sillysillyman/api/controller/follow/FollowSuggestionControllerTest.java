@@ -0,0 +1,163 @@
+package io.sillysillyman.api.controller.follow;
+
+import static io.sillysillyman.api.util.MockMvcTestUtil.performGet;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.sillysillyman.core.domain.follow.FollowEntity;
+import io.sillysillyman.core.domain.user.UserEntity;
+import io.sillysillyman.core.domain.user.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+@ActiveProfiles("test")
+class FollowSuggestionControllerTest {
+
+    private final static String BASE_URL = "/api/v1/users/me/follow-suggestions";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private EntityManager em;
+    private final Map<String, UserEntity> users = new HashMap<>();
+
+    private void withTransaction(Consumer<EntityManager> block) {
+        em.getTransaction().begin();
+        block.accept(em);
+        em.flush();
+        em.getTransaction().commit();
+    }
+
+    private void follow(String follower, String followee) {
+        em.persist(
+            FollowEntity.builder()
+                .follower(users.get(follower))
+                .followee(users.get(followee))
+                .build()
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        em = emf.createEntityManager();
+
+        assert em.createQuery("SELECT COUNT(u) FROM UserEntity u", Long.class)
+            .getSingleResult() == 0;
+
+        withTransaction(em -> {
+            for (String username : new String[]{"tester", "alice", "bob", "carol", "dave"}) {
+                UserEntity user = UserEntity.builder()
+                    .username(username)
+                    .password("password")
+                    .role(UserRole.USER)
+                    .build();
+                em.persist(user);
+                users.put(username, user);
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        withTransaction(em -> {
+            em.createQuery("DELETE FROM FollowEntity").executeUpdate();
+            em.createQuery("DELETE FROM UserEntity").executeUpdate();
+        });
+        em.close();
+    }
+
+    @DisplayName("팔로우 추천 API")
+    @Nested
+    class GetSuggestions {
+
+        @DisplayName("팔로잉의 팔로잉을 겹치는 수가 많은 순으로 반환")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_SecondDegreeFollows_when_GetSuggestions_then_RankByMutualCount() {
+            withTransaction(em -> {
+                follow("tester", "alice");
+                follow("tester", "bob");
+                follow("alice", "carol");
+                follow("bob", "carol");
+                follow("alice", "dave");
+                follow("alice", "bob");
+            });
+
+            performGet(
+                mockMvc,
+                BASE_URL,
+                status().isOk(),
+                jsonPath("$.data.length()").value(2),
+                jsonPath("$.data[0].userResponse.userId")
+                    .value(users.get("carol").getId().toString()),
+                jsonPath("$.data[0].userResponse.username").value("carol"),
+                jsonPath("$.data[0].mutualCount").value(2),
+                jsonPath("$.data[1].userResponse.userId")
+                    .value(users.get("dave").getId().toString()),
+                jsonPath("$.data[1].mutualCount").value(1)
+            );
+        }
+
+        @DisplayName("탈퇴한 사용자는 추천하지 않음")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_WithdrawnCandidate_when_GetSuggestions_then_ExcludeWithdrawn() {
+            withTransaction(em -> {
+                follow("tester", "alice");
+                follow("alice", "carol");
+                follow("alice", "dave");
+                em.createQuery("UPDATE UserEntity u SET u.deletedAt = :now WHERE u.id = :id")
+                    .setParameter("now", Instant.now())
+                    .setParameter("id", users.get("dave").getId())
+                    .executeUpdate();
+            });
+
+            performGet(
+                mockMvc,
+                BASE_URL + "?size=5",
+                status().isOk(),
+                jsonPath("$.data.length()").value(1),
+                jsonPath("$.data[0].userResponse.username").value("carol")
+            );
+        }
+
+        @DisplayName("팔로잉이 없으면 빈 목록 반환")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_NoFollowings_when_GetSuggestions_then_ReturnEmptyList() {
+            performGet(
+                mockMvc,
+                BASE_URL,
+                status().isOk(),
+                jsonPath("$.data.length()").value(0)
+            );
+        }
+
+        @DisplayName("인증되지 않은 사용자의 조회 실패")
+        @Test
+        void given_UnauthenticatedUser_when_GetSuggestions_then_ReturnUnauthorized() {
+            performGet(mockMvc, BASE_URL, status().isUnauthorized());
+        }
+    }
+}
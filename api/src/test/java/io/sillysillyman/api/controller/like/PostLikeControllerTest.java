@@ -0,0 +1,203 @@
+package io.sillysillyman.api.controller.like;
+
+import static io.sillysillyman.api.util.MockMvcTestUtil.performDelete;
+import static io.sillysillyman.api.util.MockMvcTestUtil.performGet;
+import static io.sillysillyman.api.util.MockMvcTestUtil.performPost;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.sillysillyman.core.common.counter.EngagementCounters;
+import io.sillysillyman.core.domain.post.PostEntity;
+import io.sillysillyman.core.domain.user.UserEntity;
+import io.sillysillyman.core.domain.user.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+@ActiveProfiles("test")
+class PostLikeControllerTest {
+
+    private final static String LIKE_URL = "/api/v1/posts/%d/like";
+    private final static String POST_URL = "/api/v1/posts/%d";
+    private final static Long NON_EXISTENT_ID = 999L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private EngagementCounters engagementCounters;
+
+    private EntityManager em;
+    private Long postId;
+
+    private void withTransaction(Consumer<EntityManager> block) {
+        em.getTransaction().begin();
+        block.accept(em);
+        em.flush();
+        em.getTransaction().commit();
+    }
+
+    @BeforeEach
+    void setUp() {
+        em = emf.createEntityManager();
+
+        assert em.createQuery("SELECT COUNT(u) FROM UserEntity u", Long.class)
+            .getSingleResult() == 0;
+
+        withTransaction(em -> {
+            UserEntity user = UserEntity.builder()
+                .username("tester")
+                .password("password")
+                .role(UserRole.USER)
+                .build();
+            em.persist(user);
+
+            PostEntity post = PostEntity.builder()
+                .content("post content")
+                .user(user)
+                .build();
+            em.persist(post);
+
+            postId = post.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        withTransaction(em -> {
+            em.createQuery("DELETE FROM PostLikeEntity").executeUpdate();
+            em.createQuery("DELETE FROM PostEntity").executeUpdate();
+            em.createQuery("DELETE FROM UserEntity").executeUpdate();
+        });
+        em.close();
+    }
+
+    @DisplayName("좋아요 API")
+    @Nested
+    class Like {
+
+        @DisplayName("좋아요 후 반영 주기가 지나면 좋아요 수 증가")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_Post_when_Like_then_IncreaseLikeCount() {
+            performPost(mockMvc, LIKE_URL.formatted(postId), status().isNoContent());
+
+            engagementCounters.flush();
+
+            performGet(
+                mockMvc,
+                POST_URL.formatted(postId),
+                status().isOk(),
+                jsonPath("$.data.likeCount").value(1)
+            );
+        }
+
+        @DisplayName("같은 게시물에 다시 좋아요해도 한 번만 집계")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_AlreadyLiked_when_Like_then_CountOnce() {
+            performPost(mockMvc, LIKE_URL.formatted(postId), status().isNoContent());
+            performPost(mockMvc, LIKE_URL.formatted(postId), status().isNoContent());
+
+            engagementCounters.flush();
+
+            performGet(
+                mockMvc,
+                POST_URL.formatted(postId),
+                status().isOk(),
+                jsonPath("$.data.likeCount").value(1)
+            );
+        }
+
+        @DisplayName("존재하지 않는 게시물 좋아요 실패")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_NonExistentPostId_when_Like_then_ReturnNotFound() {
+            performPost(
+                mockMvc,
+                LIKE_URL.formatted(NON_EXISTENT_ID),
+                status().isNotFound(),
+                jsonPath("$.status").value(HttpStatus.NOT_FOUND.value()),
+                jsonPath("$.title").value(HttpStatus.NOT_FOUND.name())
+            );
+        }
+
+        @DisplayName("인증되지 않은 사용자의 좋아요 실패")
+        @Test
+        void given_UnauthenticatedUser_when_Like_then_ReturnUnauthorized() {
+            performPost(
+                mockMvc,
+                LIKE_URL.formatted(postId),
+                status().isUnauthorized(),
+                jsonPath("$.status").value(HttpStatus.UNAUTHORIZED.value()),
+                jsonPath("$.title").value(HttpStatus.UNAUTHORIZED.name())
+            );
+        }
+    }
+
+    @DisplayName("좋아요 취소 API")
+    @Nested
+    class Unlike {
+
+        @DisplayName("좋아요 취소 후 반영 주기가 지나면 좋아요 수 감소")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_Liked_when_Unlike_then_DecreaseLikeCount() {
+            performPost(mockMvc, LIKE_URL.formatted(postId), status().isNoContent());
+            engagementCounters.flush();
+
+            performDelete(mockMvc, LIKE_URL.formatted(postId), status().isNoContent());
+            engagementCounters.flush();
+
+            performGet(
+                mockMvc,
+                POST_URL.formatted(postId),
+                status().isOk(),
+                jsonPath("$.data.likeCount").value(0)
+            );
+        }
+
+        @DisplayName("좋아요하지 않은 게시물 좋아요 취소도 성공")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_NotLiked_when_Unlike_then_ReturnNoContent() {
+            performDelete(mockMvc, LIKE_URL.formatted(postId), status().isNoContent());
+        }
+    }
+
+    @DisplayName("게시물 조회 API")
+    @Nested
+    class GetPost {
+
+        @DisplayName("단건 조회는 사용자 조회 없이 좋아요 수만 반환")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_Post_when_GetPost_then_OmitLikedByMe() {
+            performGet(
+                mockMvc,
+                POST_URL.formatted(postId),
+                status().isOk(),
+                jsonPath("$.data.likeCount").value(0),
+                jsonPath("$.data.likedByMe").doesNotExist()
+            );
+        }
+    }
+}
@@ -4,9 +4,17 @@ import static io.sillysillyman.api.util.MockMvcTestUtil.performDelete;
 import static io.sillysillyman.api.util.MockMvcTestUtil.performGet;
 import static io.sillysillyman.api.util.MockMvcTestUtil.performPost;
 import static io.sillysillyman.api.util.MockMvcTestUtil.performPut;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import io.sillysillyman.core.auth.TokenSubject;
+import io.sillysillyman.core.auth.constants.JwtConstants;
+import io.sillysillyman.core.auth.util.JwtUtil;
+import io.sillysillyman.core.domain.like.PostLikeEntity;
 import io.sillysillyman.core.domain.post.PostEntity;
 import io.sillysillyman.core.domain.user.UserEntity;
 import io.sillysillyman.core.domain.user.UserRole;
@@ -21,11 +29,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.TestExecutionEvent;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 @AutoConfigureMockMvc
 @SpringBootTest
@@ -41,9 +52,15 @@ class PostControllerTest {
     @Autowired
     private EntityManagerFactory emf;
 
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @SpyBean
+    private UserDetailsService userDetailsService;
+
     private EntityManager em;
     private Long userId;
-    private Long postId = 1L;
+    private Long postId;
 
     private void withTransaction(Consumer<EntityManager> block) {
         em.getTransaction().begin();
@@ -76,13 +93,9 @@ class PostControllerTest {
     @AfterEach
     void tearDown() {
         withTransaction(em -> {
+            em.createQuery("DELETE FROM PostLikeEntity").executeUpdate();
             em.createQuery("DELETE FROM PostEntity").executeUpdate();
             em.createQuery("DELETE FROM UserEntity").executeUpdate();
-
-            em.createNativeQuery("ALTER TABLE posts ALTER COLUMN id RESTART WITH 1")
-                .executeUpdate();
-            em.createNativeQuery("ALTER TABLE users ALTER COLUMN id RESTART WITH 1")
-                .executeUpdate();
         });
         em.close();
     }
@@ -106,10 +119,10 @@ class PostControllerTest {
                 BASE_URL,
                 REQUEST_BODY.formatted("post content"),
                 status().isCreated(),
-                jsonPath("$.data.postId").value(postId),
+                jsonPath("$.data.postId").isString(),
                 jsonPath("$.data.content").value("post content"),
                 jsonPath("$.data.userResponse").exists(),
-                jsonPath("$.data.userResponse.userId").value(userId),
+                jsonPath("$.data.userResponse.userId").value(String.valueOf(userId)),
                 jsonPath("$.data.userResponse.username").value("tester")
             );
         }
@@ -169,13 +182,48 @@ class PostControllerTest {
                 mockMvc,
                 BASE_URL + '/' + postId,
                 status().isOk(),
-                jsonPath("$.data.postId").value(postId),
+                jsonPath("$.data.postId").value(String.valueOf(postId)),
                 jsonPath("$.data.content").value("post content"),
-                jsonPath("$.data.userResponse.userId").value(userId),
+                jsonPath("$.data.userResponse.userId").value(String.valueOf(userId)),
                 jsonPath("$.data.userResponse.username").value("tester")
             );
         }
 
+        @DisplayName("ID 는 JavaScript 에서 정밀도를 잃지 않도록 문자열로 반환")
+        @Test
+        void given_ExistingPostId_when_GetPost_then_SerializeIdsAsStrings() {
+            performGet(
+                mockMvc,
+                BASE_URL + '/' + postId,
+                status().isOk(),
+                jsonPath("$.data.postId").isString(),
+                jsonPath("$.data.userResponse.userId").isString(),
+                jsonPath("$.data.commentCount").isNumber()
+            );
+        }
+
+        @DisplayName("공개 조회 요청의 토큰은 검증하지 않고 사용자 조회 생략")
+        @Test
+        void given_AccessToken_when_GetPost_then_SkipUserDetailsLoading() {
+            // given
+            String accessToken = jwtUtil.generateAccessToken(
+                TokenSubject.from(em.find(UserEntity.class, userId))
+            );
+
+            // when
+            performGet(
+                mockMvc,
+                BASE_URL + '/' + postId,
+                (MockHttpServletRequestBuilder request) ->
+                    request.header(JwtConstants.AUTHORIZATION_HEADER, accessToken),
+                status().isOk(),
+                jsonPath("$.data.postId").value(String.valueOf(postId))
+            );
+
+            // then
+            verify(userDetailsService, never()).loadUserByUsername(anyString());
+        }
+
         @DisplayName("존재하지 않는 게시물 조회 실패")
         @Test
         void given_NonExistentPostId_when_GetPost_then_ReturnNotFound() {
@@ -280,6 +328,8 @@ class PostControllerTest {
     @Nested
     class DeletePost {
 
+        private Long otherId;
+
         @BeforeEach
         void setUp() {
             withTransaction(em -> {
@@ -291,6 +341,7 @@ class PostControllerTest {
                     .role(UserRole.USER)
                     .build();
                 em.persist(other);
+                otherId = other.getId();
 
                 PostEntity post = PostEntity.builder()
                     .content("post content")
@@ -310,6 +361,44 @@ class PostControllerTest {
             performGet(mockMvc, BASE_URL + '/' + postId, status().isNotFound());
         }
 
+        @DisplayName("좋아요가 있는 게시물 삭제 성공")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_LikedPost_when_DeletePost_then_ReturnNoContent() {
+            // given
+            withTransaction(em -> em.persist(
+                PostLikeEntity.builder()
+                    .post(em.find(PostEntity.class, postId))
+                    .user(em.find(UserEntity.class, otherId))
+                    .build()
+            ));
+
+            // when & then
+            performDelete(mockMvc, BASE_URL + '/' + postId, status().isNoContent());
+            performGet(mockMvc, BASE_URL + '/' + postId, status().isNotFound());
+        }
+
+        @DisplayName("액세스 토큰으로 인증이 필요한 요청 시 사용자 조회 후 삭제 성공")
+        @Test
+        void given_AccessToken_when_DeletePost_then_LoadUserDetailsAndReturnNoContent() {
+            // given
+            String accessToken = jwtUtil.generateAccessToken(
+                TokenSubject.from(em.find(UserEntity.class, userId))
+            );
+
+            // when
+            performDelete(
+                mockMvc,
+                BASE_URL + '/' + postId,
+                (MockHttpServletRequestBuilder request) ->
+                    request.header(JwtConstants.AUTHORIZATION_HEADER, accessToken),
+                status().isNoContent()
+            );
+
+            // then
+            verify(userDetailsService, times(1)).loadUserByUsername("tester");
+        }
+
         @DisplayName("인증되지 않은 사용자의 게시물 삭제 실패")
         @Test
         void given_UnauthenticatedUser_when_DeletePost_then_ReturnUnauthorized() {
@@ -4,9 +4,16 @@ import static io.sillysillyman.api.util.MockMvcTestUtil.performDelete;
 import static io.sillysillyman.api.util.MockMvcTestUtil.performGet;
 import static io.sillysillyman.api.util.MockMvcTestUtil.performPost;
 import static io.sillysillyman.api.util.MockMvcTestUtil.performPut;
+import static io.sillysillyman.api.util.MockMvcTestUtil.statementsAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.jayway.jsonpath.JsonPath;
+import io.sillysillyman.api.common.querycount.QueryCountFilter;
+import io.sillysillyman.api.util.CapturingStatementInspector;
 import io.sillysillyman.core.domain.comment.CommentEntity;
 import io.sillysillyman.core.domain.post.PostEntity;
 import io.sillysillyman.core.domain.reply.ReplyEntity;
@@ -14,6 +21,8 @@ import io.sillysillyman.core.domain.user.UserEntity;
 import io.sillysillyman.core.domain.user.UserRole;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,10 +52,13 @@ public class ReplyControllerTest {
     @Autowired
     private EntityManagerFactory emf;
 
+    @Autowired
+    private CapturingStatementInspector capturingStatementInspector;
+
     private EntityManager em;
     private Long userId;
     private Long commentId;
-    private Long replyId = 1L;
+    private Long replyId;
 
     private void withTransaction(Consumer<EntityManager> block) {
         em.getTransaction().begin();
@@ -101,15 +113,6 @@ public class ReplyControllerTest {
             em.createQuery("DELETE FROM CommentEntity").executeUpdate();
             em.createQuery("DELETE FROM PostEntity").executeUpdate();
             em.createQuery("DELETE FROM UserEntity").executeUpdate();
-
-            em.createNativeQuery("ALTER TABLE replies ALTER COLUMN id RESTART WITH 1")
-                .executeUpdate();
-            em.createNativeQuery("ALTER TABLE comments ALTER COLUMN id RESTART WITH 1")
-                .executeUpdate();
-            em.createNativeQuery("ALTER TABLE posts ALTER COLUMN id RESTART WITH 1")
-                .executeUpdate();
-            em.createNativeQuery("ALTER TABLE users ALTER COLUMN id RESTART WITH 1")
-                .executeUpdate();
         });
         em.close();
     }
@@ -133,10 +136,10 @@ public class ReplyControllerTest {
                 BASE_URL.formatted(commentId),
                 REQUEST_BODY.formatted("reply content"),
                 status().isCreated(),
-                jsonPath("$.data.replyId").value(replyId),
+                jsonPath("$.data.replyId").isString(),
                 jsonPath("$.data.content").value("reply content"),
-                jsonPath("$.data.commentResponse.commentId").value(commentId),
-                jsonPath("$.data.userResponse.userId").value(userId)
+                jsonPath("$.data.commentResponse.commentId").value(String.valueOf(commentId)),
+                jsonPath("$.data.userResponse.userId").value(String.valueOf(userId))
             );
         }
 
@@ -210,14 +213,85 @@ public class ReplyControllerTest {
                 BASE_URL.formatted(commentId),
                 status().isOk(),
                 jsonPath("$.content[0]").exists(),
-                jsonPath("$.content[0].replyId").value(reply1Id),
+                jsonPath("$.content[0].replyId").value(String.valueOf(reply1Id)),
                 jsonPath("$.content[0].content").value("first reply"),
                 jsonPath("$.content[1]").exists(),
-                jsonPath("$.content[1].replyId").value(reply2Id),
+                jsonPath("$.content[1].replyId").value(String.valueOf(reply2Id)),
                 jsonPath("$.content[1].content").value("second reply")
             );
         }
 
+        @DisplayName("작성자가 모두 다른 답글 페이지도 고정된 수의 쿼리로 조회")
+        @Test
+        void given_RepliesByDistinctUsers_when_GetReplies_then_IssueConstantQueries() {
+            // given
+            withTransaction(em -> {
+                CommentEntity comment = em.find(CommentEntity.class, commentId);
+                for (int i = 0; i < 18; i++) {
+                    UserEntity user = UserEntity.builder()
+                        .username("replier" + i)
+                        .password("password1!")
+                        .role(UserRole.USER)
+                        .build();
+                    em.persist(user);
+                    em.persist(
+                        ReplyEntity.builder()
+                            .content("reply " + i)
+                            .comment(comment)
+                            .user(user)
+                            .build()
+                    );
+                }
+            });
+
+            // when
+            List<String> statements = capturingStatementInspector.capture(
+                () -> performGet(
+                    mockMvc,
+                    BASE_URL.formatted(commentId) + "?size=20",
+                    status().isOk(),
+                    jsonPath("$.content.length()").value(20),
+                    jsonPath("$.content[19].commentResponse.postResponse.userResponse").exists()
+                )
+            );
+
+            // then
+            assertThat(statements).hasSizeLessThanOrEqualTo(3);
+        }
+
+        @DisplayName("답글 목록 조회 시 실행한 쿼리 수를 응답 헤더로 노출")
+        @Test
+        void given_RepliesByDistinctUsers_when_GetReplies_then_ExposeQueryCounts() {
+            // given
+            withTransaction(em -> {
+                CommentEntity comment = em.find(CommentEntity.class, commentId);
+                for (int i = 0; i < 5; i++) {
+                    UserEntity user = UserEntity.builder()
+                        .username("replier" + i)
+                        .password("password1!")
+                        .role(UserRole.USER)
+                        .build();
+                    em.persist(user);
+                    em.persist(
+                        ReplyEntity.builder()
+                            .content("reply " + i)
+                            .comment(comment)
+                            .user(user)
+                            .build()
+                    );
+                }
+            });
+
+            performGet(
+                mockMvc,
+                BASE_URL.formatted(commentId),
+                status().isOk(),
+                statementsAtMost(3),
+                header().string(QueryCountFilter.ENTITY_LOADS_HEADER, "0"),
+                header().string(QueryCountFilter.REDIS_CALLS_HEADER, "0")
+            );
+        }
+
         @DisplayName("존재하지 않는 댓글의 답글 목록 조회 실패")
         @Test
         void given_NonExistentCommentId_when_GetReplies_then_ReturnNotFound() {
@@ -231,6 +305,174 @@ public class ReplyControllerTest {
         }
     }
 
+    @DisplayName("답글 슬라이스 조회 API")
+    @Nested
+    class GetReplySlice {
+
+        private Long reply1Id;
+
+        @BeforeEach
+        void setUp() {
+            withTransaction(em -> {
+                UserEntity user = em.find(UserEntity.class, userId);
+                CommentEntity comment = em.find(CommentEntity.class, commentId);
+
+                ReplyEntity reply1 = ReplyEntity.builder()
+                    .content("first reply")
+                    .comment(comment)
+                    .user(user)
+                    .build();
+                em.persist(reply1);
+
+                ReplyEntity reply2 = ReplyEntity.builder()
+                    .content("second reply")
+                    .comment(comment)
+                    .user(user)
+                    .build();
+                em.persist(reply2);
+
+                reply1Id = reply1.getId();
+            });
+        }
+
+        @DisplayName("전체 개수 없이 다음 페이지 여부만 반환")
+        @Test
+        void given_ExistingCommentId_when_GetReplySlice_then_ReturnHasNextOnly() {
+            performGet(
+                mockMvc,
+                BASE_URL.formatted(commentId) + "/slice?size=1",
+                status().isOk(),
+                jsonPath("$.content.length()").value(1),
+                jsonPath("$.content[0].replyId").value(String.valueOf(reply1Id)),
+                jsonPath("$.hasNext").value(true),
+                jsonPath("$.pageSize").value(1),
+                jsonPath("$.approximateTotalElements").doesNotExist(),
+                jsonPath("$.totalPages").doesNotExist()
+            );
+        }
+
+        @DisplayName("전체 개수를 요청하면 근사 개수 포함")
+        @Test
+        void given_IncludeTotal_when_GetReplySlice_then_ReturnApproximateTotal() {
+            performGet(
+                mockMvc,
+                BASE_URL.formatted(commentId) + "/slice?size=1&includeTotal=true",
+                status().isOk(),
+                jsonPath("$.hasNext").value(true),
+                jsonPath("$.approximateTotalElements").value(2)
+            );
+        }
+
+        @DisplayName("존재하지 않는 댓글의 답글 슬라이스 조회 실패")
+        @Test
+        void given_NonExistentCommentId_when_GetReplySlice_then_ReturnNotFound() {
+            performGet(
+                mockMvc,
+                BASE_URL.formatted(NON_EXISTENT_ID) + "/slice",
+                status().isNotFound(),
+                jsonPath("$.status").value(HttpStatus.NOT_FOUND.value()),
+                jsonPath("$.title").value(HttpStatus.NOT_FOUND.name())
+            );
+        }
+    }
+
+    @DisplayName("답글 커서 목록 조회 API")
+    @Nested
+    class GetRepliesByCursor {
+
+        private final List<Long> replyIds = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            withTransaction(em -> {
+                UserEntity user = em.find(UserEntity.class, userId);
+                CommentEntity comment = em.find(CommentEntity.class, commentId);
+
+                for (int i = 1; i <= 3; i++) {
+                    ReplyEntity reply = ReplyEntity.builder()
+                        .content("reply " + i)
+                        .comment(comment)
+                        .user(user)
+                        .build();
+                    em.persist(reply);
+                    replyIds.add(reply.getId());
+                }
+            });
+        }
+
+        private String fetchCursor(String query, String field) throws Exception {
+            String body = mockMvc.perform(get(BASE_URL.formatted(commentId) + "/cursor" + query))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+            return JsonPath.read(body, "$." + field);
+        }
+
+        @DisplayName("첫 페이지 조회 시 다음 커서 반환")
+        @Test
+        void given_NoCursor_when_GetRepliesByCursor_then_ReturnFirstPage() {
+            performGet(
+                mockMvc,
+                BASE_URL.formatted(commentId) + "/cursor?size=2",
+                status().isOk(),
+                jsonPath("$.content.length()").value(2),
+                jsonPath("$.content[0].replyId").value(String.valueOf(replyIds.get(0))),
+                jsonPath("$.content[1].replyId").value(String.valueOf(replyIds.get(1))),
+                jsonPath("$.hasNext").value(true),
+                jsonPath("$.hasPrevious").value(false),
+                jsonPath("$.nextCursor").isString(),
+                jsonPath("$.prevCursor").doesNotExist(),
+                jsonPath("$.pageSize").value(2)
+            );
+        }
+
+        @DisplayName("다음 커서로 조회 후 이전 커서로 돌아가면 첫 페이지 반환")
+        @Test
+        void given_NextCursor_when_GetRepliesByCursor_then_NavigateBothDirections()
+            throws Exception {
+            // given
+            String nextCursor = fetchCursor("?size=2", "nextCursor");
+
+            // when
+            String prevCursor = fetchCursor("?size=2&cursor=" + nextCursor, "prevCursor");
+
+            // then
+            performGet(
+                mockMvc,
+                BASE_URL.formatted(commentId) + "/cursor?size=2&cursor=" + nextCursor,
+                status().isOk(),
+                jsonPath("$.content.length()").value(1),
+                jsonPath("$.content[0].replyId").value(String.valueOf(replyIds.get(2))),
+                jsonPath("$.hasNext").value(false),
+                jsonPath("$.hasPrevious").value(true)
+            );
+            performGet(
+                mockMvc,
+                BASE_URL.formatted(commentId) + "/cursor?size=2&direction=PREV&cursor="
+                    + prevCursor,
+                status().isOk(),
+                jsonPath("$.content.length()").value(2),
+                jsonPath("$.content[0].replyId").value(String.valueOf(replyIds.get(0))),
+                jsonPath("$.content[1].replyId").value(String.valueOf(replyIds.get(1))),
+                jsonPath("$.hasNext").value(true),
+                jsonPath("$.hasPrevious").value(false)
+            );
+        }
+
+        @DisplayName("잘못된 커서로 조회 실패")
+        @Test
+        void given_InvalidCursor_when_GetRepliesByCursor_then_ReturnBadRequest() {
+            performGet(
+                mockMvc,
+                BASE_URL.formatted(commentId) + "/cursor?cursor=invalid",
+                status().isBadRequest(),
+                jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value()),
+                jsonPath("$.title").value(HttpStatus.BAD_REQUEST.name())
+            );
+        }
+    }
+
     @DisplayName("답글 수정 API")
     @Nested
     class UpdateReply {
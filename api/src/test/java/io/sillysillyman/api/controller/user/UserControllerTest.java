@@ -4,14 +4,19 @@ import static io.sillysillyman.api.util.MockMvcTestUtil.performDelete;
 import static io.sillysillyman.api.util.MockMvcTestUtil.performGet;
 import static io.sillysillyman.api.util.MockMvcTestUtil.performPost;
 import static io.sillysillyman.api.util.MockMvcTestUtil.performPut;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.jayway.jsonpath.JsonPath;
+import io.sillysillyman.core.domain.like.PostLikeEntity;
 import io.sillysillyman.core.domain.post.PostEntity;
 import io.sillysillyman.core.domain.user.UserEntity;
 import io.sillysillyman.core.domain.user.UserRole;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -79,13 +84,9 @@ class UserControllerTest {
     @AfterEach
     void tearDown() {
         withTransaction(em -> {
+            em.createQuery("DELETE FROM PostLikeEntity").executeUpdate();
             em.createQuery("DELETE FROM PostEntity").executeUpdate();
             em.createQuery("DELETE FROM UserEntity").executeUpdate();
-
-            em.createNativeQuery("ALTER TABLE posts ALTER COLUMN id RESTART WITH 1")
-                .executeUpdate();
-            em.createNativeQuery("ALTER TABLE users ALTER COLUMN id RESTART WITH 1")
-                .executeUpdate();
         });
         em.close();
     }
@@ -142,6 +143,42 @@ class UserControllerTest {
         }
     }
 
+    @DisplayName("사용자명 사용 가능 여부 확인 API")
+    @Nested
+    class CheckUsernameAvailability {
+
+        @DisplayName("사용 중이지 않은 사용자명은 사용 가능")
+        @Test
+        void given_UnusedUsername_when_CheckUsernameAvailability_then_ReturnAvailable() {
+            performGet(
+                mockMvc,
+                BASE_URL + "/availability?username=unused",
+                status().isOk(),
+                jsonPath("$.data.username").value("unused"),
+                jsonPath("$.data.available").value(true)
+            );
+        }
+
+        @DisplayName("회원가입한 사용자명은 사용 불가")
+        @Test
+        void given_SignedUpUsername_when_CheckUsernameAvailability_then_ReturnUnavailable() {
+            performPost(
+                mockMvc,
+                BASE_URL + "/signup",
+                Signup.REQUEST_BODY.formatted("newtester", "password1!", "password1!"),
+                status().isCreated()
+            );
+
+            performGet(
+                mockMvc,
+                BASE_URL + "/availability?username=newtester",
+                status().isOk(),
+                jsonPath("$.data.username").value("newtester"),
+                jsonPath("$.data.available").value(false)
+            );
+        }
+    }
+
     @DisplayName("사용자 조회 API")
     @Nested
     class GetUser {
@@ -153,7 +190,7 @@ class UserControllerTest {
                 mockMvc,
                 BASE_URL + "/" + userId,
                 status().isOk(),
-                jsonPath("$.data.userId").value(userId),
+                jsonPath("$.data.userId").value(String.valueOf(userId)),
                 jsonPath("$.data.username").value("tester")
             );
         }
@@ -208,10 +245,110 @@ class UserControllerTest {
         }
     }
 
+    @DisplayName("사용자의 게시물 커서 목록 조회 API")
+    @Nested
+    class GetUserPostsByCursor {
+
+        private final List<Long> postIds = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            withTransaction(em -> {
+                UserEntity user = em.find(UserEntity.class, userId);
+
+                for (int i = 1; i <= 3; i++) {
+                    PostEntity post = PostEntity.builder()
+                        .content("post " + i)
+                        .user(user)
+                        .build();
+                    em.persist(post);
+                    postIds.add(post.getId());
+                }
+            });
+        }
+
+        private String cursorUrl() {
+            return BASE_URL + "/" + userId + "/posts/cursor";
+        }
+
+        private String fetchCursor(String query, String field) throws Exception {
+            String body = mockMvc.perform(get(cursorUrl() + query))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+            return JsonPath.read(body, "$." + field);
+        }
+
+        @DisplayName("첫 페이지 조회 시 최신 게시물부터 반환하고 다음 커서 반환")
+        @Test
+        void given_NoCursor_when_GetUserPostsByCursor_then_ReturnFirstPage() {
+            performGet(
+                mockMvc,
+                cursorUrl() + "?size=2",
+                status().isOk(),
+                jsonPath("$.content.length()").value(2),
+                jsonPath("$.content[0].postId").value(String.valueOf(postIds.get(2))),
+                jsonPath("$.content[1].postId").value(String.valueOf(postIds.get(1))),
+                jsonPath("$.hasNext").value(true),
+                jsonPath("$.hasPrevious").value(false),
+                jsonPath("$.nextCursor").isString(),
+                jsonPath("$.prevCursor").doesNotExist(),
+                jsonPath("$.pageSize").value(2)
+            );
+        }
+
+        @DisplayName("다음 커서로 조회 후 이전 커서로 돌아가면 첫 페이지 반환")
+        @Test
+        void given_NextCursor_when_GetUserPostsByCursor_then_NavigateBothDirections()
+            throws Exception {
+            // given
+            String nextCursor = fetchCursor("?size=2", "nextCursor");
+
+            // when
+            String prevCursor = fetchCursor("?size=2&cursor=" + nextCursor, "prevCursor");
+
+            // then
+            performGet(
+                mockMvc,
+                cursorUrl() + "?size=2&cursor=" + nextCursor,
+                status().isOk(),
+                jsonPath("$.content.length()").value(1),
+                jsonPath("$.content[0].postId").value(String.valueOf(postIds.get(0))),
+                jsonPath("$.hasNext").value(false),
+                jsonPath("$.hasPrevious").value(true)
+            );
+            performGet(
+                mockMvc,
+                cursorUrl() + "?size=2&direction=PREV&cursor=" + prevCursor,
+                status().isOk(),
+                jsonPath("$.content.length()").value(2),
+                jsonPath("$.content[0].postId").value(String.valueOf(postIds.get(2))),
+                jsonPath("$.content[1].postId").value(String.valueOf(postIds.get(1))),
+                jsonPath("$.hasNext").value(true),
+                jsonPath("$.hasPrevious").value(false)
+            );
+        }
+
+        @DisplayName("잘못된 커서로 조회 실패")
+        @Test
+        void given_InvalidCursor_when_GetUserPostsByCursor_then_ReturnBadRequest() {
+            performGet(
+                mockMvc,
+                cursorUrl() + "?cursor=invalid",
+                status().isBadRequest(),
+                jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value()),
+                jsonPath("$.title").value(HttpStatus.BAD_REQUEST.name())
+            );
+        }
+    }
+
     @DisplayName("내 게시물 조회 API")
     @Nested
     class GetMyPosts {
 
+        private Long secondPostId;
+
         @BeforeEach
         void setUp() {
             withTransaction(em -> {
@@ -228,9 +365,32 @@ class UserControllerTest {
 
                 em.persist(post1);
                 em.persist(post2);
+                secondPostId = post2.getId();
             });
         }
 
+        @DisplayName("내 게시물 목록에 내가 좋아요한 게시물 표시")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_LikedPost_when_GetMyPosts_then_ReturnLikedByMe() {
+            // given
+            withTransaction(em -> em.persist(
+                PostLikeEntity.builder()
+                    .post(em.find(PostEntity.class, secondPostId))
+                    .user(em.find(UserEntity.class, userId))
+                    .build()
+            ));
+
+            // when & then
+            performGet(
+                mockMvc,
+                BASE_URL + "/me/posts",
+                status().isOk(),
+                jsonPath("$.content[0].likedByMe").value(true),
+                jsonPath("$.content[1].likedByMe").value(false)
+            );
+        }
+
         @DisplayName("내 게시물 목록 조회 성공")
         @Test
         @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
@@ -258,6 +418,107 @@ class UserControllerTest {
         }
     }
 
+    @DisplayName("내 게시물 커서 목록 조회 API")
+    @Nested
+    class GetMyPostsByCursor {
+
+        private final List<Long> postIds = new ArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+            withTransaction(em -> {
+                UserEntity user = em.find(UserEntity.class, userId);
+
+                for (int i = 1; i <= 3; i++) {
+                    PostEntity post = PostEntity.builder()
+                        .content("my post " + i)
+                        .user(user)
+                        .build();
+                    em.persist(post);
+                    postIds.add(post.getId());
+                }
+            });
+        }
+
+        private String cursorUrl() {
+            return BASE_URL + "/me/posts/cursor";
+        }
+
+        private String fetchCursor(String query, String field) throws Exception {
+            String body = mockMvc.perform(get(cursorUrl() + query))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+            return JsonPath.read(body, "$." + field);
+        }
+
+        @DisplayName("첫 페이지 조회 시 최신 게시물부터 반환하고 다음 커서 반환")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_NoCursor_when_GetMyPostsByCursor_then_ReturnFirstPage() {
+            performGet(
+                mockMvc,
+                cursorUrl() + "?size=2",
+                status().isOk(),
+                jsonPath("$.content.length()").value(2),
+                jsonPath("$.content[0].postId").value(String.valueOf(postIds.get(2))),
+                jsonPath("$.content[1].postId").value(String.valueOf(postIds.get(1))),
+                jsonPath("$.hasNext").value(true),
+                jsonPath("$.hasPrevious").value(false),
+                jsonPath("$.nextCursor").isString(),
+                jsonPath("$.prevCursor").doesNotExist(),
+                jsonPath("$.pageSize").value(2)
+            );
+        }
+
+        @DisplayName("다음 커서로 조회 후 이전 커서로 돌아가면 첫 페이지 반환")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_NextCursor_when_GetMyPostsByCursor_then_NavigateBothDirections()
+            throws Exception {
+            // given
+            String nextCursor = fetchCursor("?size=2", "nextCursor");
+
+            // when
+            String prevCursor = fetchCursor("?size=2&cursor=" + nextCursor, "prevCursor");
+
+            // then
+            performGet(
+                mockMvc,
+                cursorUrl() + "?size=2&cursor=" + nextCursor,
+                status().isOk(),
+                jsonPath("$.content.length()").value(1),
+                jsonPath("$.content[0].postId").value(String.valueOf(postIds.get(0))),
+                jsonPath("$.hasNext").value(false),
+                jsonPath("$.hasPrevious").value(true)
+            );
+            performGet(
+                mockMvc,
+                cursorUrl() + "?size=2&direction=PREV&cursor=" + prevCursor,
+                status().isOk(),
+                jsonPath("$.content.length()").value(2),
+                jsonPath("$.content[0].postId").value(String.valueOf(postIds.get(2))),
+                jsonPath("$.content[1].postId").value(String.valueOf(postIds.get(1))),
+                jsonPath("$.hasNext").value(true),
+                jsonPath("$.hasPrevious").value(false)
+            );
+        }
+
+        @DisplayName("잘못된 커서로 조회 실패")
+        @Test
+        @WithUserDetails(value = "tester", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+        void given_InvalidCursor_when_GetMyPostsByCursor_then_ReturnBadRequest() {
+            performGet(
+                mockMvc,
+                cursorUrl() + "?cursor=invalid",
+                status().isBadRequest(),
+                jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value()),
+                jsonPath("$.title").value(HttpStatus.BAD_REQUEST.name())
+            );
+        }
+    }
+
     @DisplayName("비밀번호 변경 API")
     @Nested
     class ChangePassword {
@@ -357,7 +618,7 @@ class UserControllerTest {
                 mockMvc,
                 BASE_URL + "/" + userId,
                 status().isOk(),
-                jsonPath("$.data.userId").value(userId),
+                jsonPath("$.data.userId").value(String.valueOf(userId)),
                 jsonPath("$.data.username").value("tester")
             );
         }
@@ -0,0 +1,245 @@
+package io.sillysillyman.api.repository;
+
+import static io.sillysillyman.api.util.QueryPlanTestUtil.assertUsesIndex;
+
+import io.sillysillyman.api.util.CapturingStatementInspector;
+import io.sillysillyman.core.common.pagination.Cursor;
+import io.sillysillyman.core.common.pagination.CursorDirection;
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.domain.comment.repository.CommentRepository;
+import io.sillysillyman.core.domain.post.repository.PostRepository;
+import io.sillysillyman.core.domain.reply.repository.ReplyRepository;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 요청 경로에서 실행되는 리포지토리 쿼리의 실행 계획 회귀 테스트.
+ * 탈퇴 회원 정리용 ID 조회(OR 조인 조건)와 전체 사용자명 스트리밍은 배치 작업이라 제외한다.
+ * H2 는 외래 키마다 별도 인덱스를 만들고 플래너가 그 인덱스를 골라 정렬을 따로 하므로,
+ * 이 테스트 동안만 목록 조회 부모 외래 키를 내려 MySQL 과 같은 인덱스 구성으로 검사한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class QueryPlanTest {
+
+    private static final Long ID = 1L;
+    private static final Pageable PAGEABLE = PageRequest.of(2, 20, Sort.by("createdAt"));
+    private static final CursorRequest FIRST_PAGE = CursorRequest.first(20);
+    private static final CursorRequest NEXT_PAGE = new CursorRequest(
+        new Cursor(Instant.parse("2024-06-01T00:00:00Z"), ID),
+        CursorDirection.NEXT,
+        20
+    );
+    private static final CursorRequest PREV_PAGE = new CursorRequest(
+        NEXT_PAGE.cursor(),
+        CursorDirection.PREV,
+        20
+    );
+
+    private static final List<ForeignKey> LIST_PARENT_FOREIGN_KEYS = List.of(
+        new ForeignKey("posts", "fk_posts_user_id", "user_id", "users"),
+        new ForeignKey("comments", "fk_comments_post_id", "post_id", "posts"),
+        new ForeignKey("replies", "fk_replies_comment_id", "comment_id", "comments")
+    );
+
+    @Autowired
+    private CapturingStatementInspector capturingStatementInspector;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ReplyRepository replyRepository;
+
+    @BeforeAll
+    static void dropListParentForeignKeys(@Autowired JdbcTemplate jdbcTemplate) {
+        LIST_PARENT_FOREIGN_KEYS.forEach(foreignKey -> jdbcTemplate.execute(
+            "ALTER TABLE %s DROP CONSTRAINT %s".formatted(foreignKey.table(), foreignKey.name())
+        ));
+    }
+
+    @AfterAll
+    static void restoreListParentForeignKeys(@Autowired JdbcTemplate jdbcTemplate) {
+        LIST_PARENT_FOREIGN_KEYS.forEach(foreignKey -> jdbcTemplate.execute(
+            "ALTER TABLE %s ADD CONSTRAINT %s FOREIGN KEY (%s) REFERENCES %s (id)".formatted(
+                foreignKey.table(),
+                foreignKey.name(),
+                foreignKey.column(),
+                foreignKey.referencedTable()
+            )
+        ));
+    }
+
+    private List<String> capture(Runnable block) {
+        return capturingStatementInspector.capture(block);
+    }
+
+    private record ForeignKey(String table, String name, String column, String referencedTable) {
+
+    }
+
+    @DisplayName("사용자 쿼리")
+    @Nested
+    class UserQueries {
+
+        @DisplayName("사용자명 조회는 유니크 인덱스 사용")
+        @Test
+        void given_Username_when_FindByUsername_then_UseUniqueIndex() {
+            assertUsesIndex(
+                jdbcTemplate,
+                capture(() -> {
+                    userRepository.findByUsername("tester");
+                    userRepository.existsByUsername("tester");
+                }),
+                "uk_users_username"
+            );
+        }
+
+        @DisplayName("탈퇴 회원 ID 조회는 기본 키 범위 스캔")
+        @Test
+        void given_AfterId_when_FindSoftDeletedIdsBefore_then_UsePrimaryKey() {
+            assertUsesIndex(
+                jdbcTemplate,
+                capture(() -> userRepository.findSoftDeletedIdsBefore(Instant.now(), ID, 100)),
+                "primary_key"
+            );
+        }
+    }
+
+    @DisplayName("게시물 쿼리")
+    @Nested
+    class PostQueries {
+
+        private static final String INDEX = "idx_posts_user_id_created_at";
+
+        @DisplayName("사용자 게시물 페이지와 개수 조회는 복합 인덱스 사용")
+        @Test
+        void given_UserId_when_FindViewsByUserId_then_UseCompositeIndex() {
+            assertUsesIndex(
+                jdbcTemplate,
+                capture(() -> {
+                    postRepository.findViewsByUserId(ID, PAGEABLE);
+                    postRepository.findViewSliceByUserId(ID, PAGEABLE);
+                    postRepository.countByUserId(ID);
+                }),
+                INDEX
+            );
+        }
+
+        @DisplayName("사용자 게시물 커서 조회는 복합 인덱스 사용")
+        @Test
+        void given_Cursor_when_FindViewsByUserIdWithCursor_then_UseCompositeIndex() {
+            assertUsesIndex(
+                jdbcTemplate,
+                capture(() -> {
+                    postRepository.findViewsByUserIdWithCursor(ID, FIRST_PAGE);
+                    postRepository.findViewsByUserIdWithCursor(ID, NEXT_PAGE);
+                    postRepository.findViewsByUserIdWithCursor(ID, PREV_PAGE);
+                }),
+                INDEX
+            );
+        }
+
+        @DisplayName("탈퇴 회원 게시물 ID 조회는 복합 인덱스 사용")
+        @Test
+        void given_UserIds_when_FindIdsByUserIds_then_UseCompositeIndex() {
+            assertUsesIndex(
+                jdbcTemplate,
+                capture(() -> postRepository.findIdsByUserIds(List.of(ID), 100)),
+                INDEX
+            );
+        }
+    }
+
+    @DisplayName("댓글 쿼리")
+    @Nested
+    class CommentQueries {
+
+        private static final String INDEX = "idx_comments_post_id_created_at";
+
+        @DisplayName("게시물 댓글 페이지와 개수 조회는 복합 인덱스 사용")
+        @Test
+        void given_PostId_when_FindViewsByPostId_then_UseCompositeIndex() {
+            assertUsesIndex(
+                jdbcTemplate,
+                capture(() -> {
+                    commentRepository.findViewsByPostId(ID, PAGEABLE);
+                    commentRepository.findViewSliceByPostId(ID, PAGEABLE);
+                    commentRepository.countByPostId(ID);
+                }),
+                INDEX
+            );
+        }
+
+        @DisplayName("게시물 댓글 커서 조회는 복합 인덱스 사용")
+        @Test
+        void given_Cursor_when_FindViewsByPostIdWithCursor_then_UseCompositeIndex() {
+            assertUsesIndex(
+                jdbcTemplate,
+                capture(() -> {
+                    commentRepository.findViewsByPostIdWithCursor(ID, FIRST_PAGE);
+                    commentRepository.findViewsByPostIdWithCursor(ID, NEXT_PAGE);
+                    commentRepository.findViewsByPostIdWithCursor(ID, PREV_PAGE);
+                }),
+                INDEX
+            );
+        }
+    }
+
+    @DisplayName("답글 쿼리")
+    @Nested
+    class ReplyQueries {
+
+        private static final String INDEX = "idx_replies_comment_id_created_at";
+
+        @DisplayName("댓글 답글 페이지와 개수 조회는 복합 인덱스 사용")
+        @Test
+        void given_CommentId_when_FindViewsByCommentId_then_UseCompositeIndex() {
+            assertUsesIndex(
+                jdbcTemplate,
+                capture(() -> {
+                    replyRepository.findViewsByCommentId(ID, PAGEABLE);
+                    replyRepository.findViewSliceByCommentId(ID, PAGEABLE);
+                    replyRepository.countByCommentId(ID);
+                }),
+                INDEX
+            );
+        }
+
+        @DisplayName("댓글 답글 커서 조회는 복합 인덱스 사용")
+        @Test
+        void given_Cursor_when_FindViewsByCommentIdWithCursor_then_UseCompositeIndex() {
+            assertUsesIndex(
+                jdbcTemplate,
+                capture(() -> {
+                    replyRepository.findViewsByCommentIdWithCursor(ID, FIRST_PAGE);
+                    replyRepository.findViewsByCommentIdWithCursor(ID, NEXT_PAGE);
+                    replyRepository.findViewsByCommentIdWithCursor(ID, PREV_PAGE);
+                }),
+                INDEX
+            );
+        }
+    }
+}
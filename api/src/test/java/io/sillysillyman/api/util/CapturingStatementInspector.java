@@ -0,0 +1,36 @@
+package io.sillysillyman.api.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class CapturingStatementInspector implements StatementInspector {
+
+    private final List<String> statements = new ArrayList<>();
+    private volatile boolean capturing;
+
+    @Override
+    public String inspect(String sql) {
+        if (capturing) {
+            synchronized (statements) {
+                statements.add(sql);
+            }
+        }
+        return sql;
+    }
+
+    public List<String> capture(Runnable block) {
+        synchronized (statements) {
+            statements.clear();
+        }
+        capturing = true;
+        try {
+            block.run();
+        } finally {
+            capturing = false;
+        }
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package io.sillysillyman.api.util;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 
+import io.sillysillyman.api.common.querycount.QueryCountFilter;
 import java.util.function.Consumer;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -17,6 +20,17 @@ public final class MockMvcTestUtil {
     private MockMvcTestUtil() {
     }
 
+    // 모든 요청에 대해 엔드포인트에 선언된 @QueryBudget 을 넘지 않았는지 검증
+    public static ResultMatcher withinQueryBudget() {
+        return header().doesNotExist(QueryCountFilter.BUDGET_EXCEEDED_HEADER);
+    }
+
+    public static ResultMatcher statementsAtMost(long statements) {
+        return result -> assertThat(
+            Long.parseLong(result.getResponse().getHeader(QueryCountFilter.STATEMENTS_HEADER))
+        ).isLessThanOrEqualTo(statements);
+    }
+
     public static MvcResult performPost(
         MockMvc mockMvc,
         String url,
@@ -29,6 +43,7 @@ public final class MockMvcTestUtil {
                     .content(content)
                 )
                 .andExpectAll(matchers)
+                .andExpect(withinQueryBudget())
                 .andReturn();
         } catch (Exception e) {
             throw new RuntimeException("POST 요청 실패: " + url, e);
@@ -52,7 +67,9 @@ public final class MockMvcTestUtil {
         try {
             MockHttpServletRequestBuilder request = post(url);
             consumer.accept(request);
-            mockMvc.perform(request).andExpectAll(matchers);
+            mockMvc.perform(request)
+                .andExpectAll(matchers)
+                .andExpect(withinQueryBudget());
         } catch (Exception e) {
             throw new RuntimeException("POST 요청 실패: " + url, e);
         }
@@ -60,7 +77,26 @@ public final class MockMvcTestUtil {
 
     public static void performGet(MockMvc mockMvc, String url, ResultMatcher... matchers) {
         try {
-            mockMvc.perform(get(url)).andExpectAll(matchers);
+            mockMvc.perform(get(url))
+                .andExpectAll(matchers)
+                .andExpect(withinQueryBudget());
+        } catch (Exception e) {
+            throw new RuntimeException("GET 요청 실패: " + url, e);
+        }
+    }
+
+    public static void performGet(
+        MockMvc mockMvc,
+        String url,
+        Consumer<MockHttpServletRequestBuilder> consumer,
+        ResultMatcher... matchers
+    ) {
+        try {
+            MockHttpServletRequestBuilder request = get(url);
+            consumer.accept(request);
+            mockMvc.perform(request)
+                .andExpectAll(matchers)
+                .andExpect(withinQueryBudget());
         } catch (Exception e) {
             throw new RuntimeException("GET 요청 실패: " + url, e);
         }
@@ -77,7 +113,8 @@ public final class MockMvcTestUtil {
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(content)
                 )
-                .andExpectAll(matchers);
+                .andExpectAll(matchers)
+                .andExpect(withinQueryBudget());
         } catch (Exception e) {
             throw new RuntimeException("PUT 요청 실패: " + url, e);
         }
@@ -85,7 +122,26 @@ public final class MockMvcTestUtil {
 
     public static void performDelete(MockMvc mockMvc, String url, ResultMatcher... matchers) {
         try {
-            mockMvc.perform(delete(url)).andExpectAll(matchers);
+            mockMvc.perform(delete(url))
+                .andExpectAll(matchers)
+                .andExpect(withinQueryBudget());
+        } catch (Exception e) {
+            throw new RuntimeException("DELETE 요청 실패: " + url, e);
+        }
+    }
+
+    public static void performDelete(
+        MockMvc mockMvc,
+        String url,
+        Consumer<MockHttpServletRequestBuilder> consumer,
+        ResultMatcher... matchers
+    ) {
+        try {
+            MockHttpServletRequestBuilder request = delete(url);
+            consumer.accept(request);
+            mockMvc.perform(request)
+                .andExpectAll(matchers)
+                .andExpect(withinQueryBudget());
         } catch (Exception e) {
             throw new RuntimeException("DELETE 요청 실패: " + url, e);
         }
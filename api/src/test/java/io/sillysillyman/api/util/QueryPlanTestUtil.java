@@ -0,0 +1,39 @@
+package io.sillysillyman.api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Locale;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * H2 의 EXPLAIN 결과로 쿼리가 기대한 인덱스를 타는지 검증한다.
+ * H2 는 동등 조건 뒤 정렬을 인덱스로 처리해도 plan 에 표시하지 않으므로,
+ * 정렬 컬럼까지 포함한 복합 인덱스 사용 여부로 filesort 회귀를 대신 확인한다.
+ */
+public final class QueryPlanTestUtil {
+
+    private static final String TABLE_SCAN = ".tablescan";
+
+    private QueryPlanTestUtil() {
+    }
+
+    public static String explain(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    public static void assertUsesIndex(
+        JdbcTemplate jdbcTemplate,
+        List<String> statements,
+        String indexName
+    ) {
+        assertThat(statements).as("captured statements").isNotEmpty();
+        statements.forEach(sql -> {
+            String plan = explain(jdbcTemplate, sql).toLowerCase(Locale.ROOT);
+            assertThat(plan)
+                .as("plan of %s", sql)
+                .doesNotContain(TABLE_SCAN)
+                .contains("/* public." + indexName.toLowerCase(Locale.ROOT));
+        });
+    }
+}
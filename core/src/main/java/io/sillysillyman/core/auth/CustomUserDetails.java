@@ -9,6 +9,17 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 public record CustomUserDetails(UserEntity userEntity) implements UserDetails {
 
+    public static CustomUserDetails from(VerifiedClaims verifiedClaims) {
+        return new CustomUserDetails(
+            UserEntity.builder()
+                .id(verifiedClaims.userId())
+                .username(verifiedClaims.username())
+                .role(verifiedClaims.role())
+                .credentialVersion(verifiedClaims.credentialVersion())
+                .build()
+        );
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singleton(new SimpleGrantedAuthority(userEntity.getRole().name()));
@@ -0,0 +1,14 @@
+package io.sillysillyman.core.auth;
+
+public enum RotationResult {
+    ROTATED,
+    STALE,
+    NOT_FOUND;
+
+    public static RotationResult from(Long scriptResult) {
+        if (scriptResult == null || scriptResult == 0L) {
+            return NOT_FOUND;
+        }
+        return scriptResult > 0L ? ROTATED : STALE;
+    }
+}
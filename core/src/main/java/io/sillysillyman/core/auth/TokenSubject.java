@@ -0,0 +1,39 @@
+package io.sillysillyman.core.auth;
+
+import io.sillysillyman.core.domain.user.UserEntity;
+import io.sillysillyman.core.domain.user.UserRole;
+import java.util.Collection;
+import java.util.List;
+import lombok.Builder;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+@Builder(toBuilder = true)
+public record TokenSubject(
+    Long userId,
+    String username,
+    UserRole role,
+    Long credentialVersion,
+    String sessionId
+) {
+
+    public static TokenSubject from(UserEntity userEntity) {
+        return TokenSubject.builder()
+            .userId(userEntity.getId())
+            .username(userEntity.getUsername())
+            .role(userEntity.getRole())
+            .credentialVersion(userEntity.getCredentialVersion())
+            .build();
+    }
+
+    public TokenSubject withSessionId(String sessionId) {
+        return toBuilder().sessionId(sessionId).build();
+    }
+
+    public Collection<? extends GrantedAuthority> authorities() {
+        if (role == null) {
+            return List.of();
+        }
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+}
@@ -0,0 +1,37 @@
+package io.sillysillyman.core.auth;
+
+import io.sillysillyman.core.domain.user.UserRole;
+import java.time.Instant;
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record VerifiedClaims(
+    Long userId,
+    String username,
+    UserRole role,
+    Long credentialVersion,
+    String sessionId,
+    List<String> authorities,
+    Instant issuedAt,
+    Instant expiration
+) {
+
+    public VerifiedClaims {
+        authorities = authorities == null ? List.of() : List.copyOf(authorities);
+    }
+
+    public boolean hasPrincipalClaims() {
+        return userId != null && role != null && credentialVersion != null;
+    }
+
+    public TokenSubject toTokenSubject() {
+        return TokenSubject.builder()
+            .userId(userId)
+            .username(username)
+            .role(role)
+            .credentialVersion(credentialVersion)
+            .sessionId(sessionId)
+            .build();
+    }
+}
@@ -0,0 +1,24 @@
+package io.sillysillyman.core.auth.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(prefix = "user-details-cache.invalidation", name = "bus", havingValue = "in-memory")
+@Component
+public class InMemoryUserDetailsInvalidationBus implements UserDetailsInvalidationBus {
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String username) {
+        listeners.forEach(listener -> listener.accept(username));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+}
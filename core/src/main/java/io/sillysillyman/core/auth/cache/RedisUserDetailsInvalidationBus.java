@@ -0,0 +1,52 @@
+package io.sillysillyman.core.auth.cache;
+
+import io.sillysillyman.core.auth.properties.UserDetailsCacheProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(
+    prefix = "user-details-cache.invalidation",
+    name = "bus",
+    havingValue = "redis",
+    matchIfMissing = true
+)
+@RequiredArgsConstructor
+@Slf4j(topic = "RedisUserDetailsInvalidationBus")
+@Component
+public class RedisUserDetailsInvalidationBus implements UserDetailsInvalidationBus {
+
+    private final UserDetailsCacheProperties userDetailsCacheProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Override
+    public void publish(String username) {
+        try {
+            stringRedisTemplate.convertAndSend(getChannel(), username);
+            log.debug("Published user details invalidation for user: {}", username);
+        } catch (DataAccessException e) {
+            log.error("Failed to publish user details invalidation for user: {}", username, e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        redisMessageListenerContainer.addMessageListener(
+            (message, pattern) ->
+                listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(getChannel())
+        );
+    }
+
+    private String getChannel() {
+        return userDetailsCacheProperties.getInvalidation().getChannel();
+    }
+}
@@ -0,0 +1,69 @@
+package io.sillysillyman.core.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.auth.properties.UserDetailsCacheProperties;
+import io.sillysillyman.core.domain.user.event.UserCredentialsChangedEvent;
+import io.sillysillyman.core.domain.user.event.UsernameOwnerChangedEvent;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j(topic = "UserDetailsCache")
+@Component
+public class UserDetailsCache {
+
+    private static final String CACHE_NAME = "userDetails";
+
+    private final UserDetailsInvalidationBus invalidationBus;
+    private final Cache<String, CustomUserDetails> cache;
+
+    public UserDetailsCache(
+        UserDetailsCacheProperties userDetailsCacheProperties,
+        UserDetailsInvalidationBus invalidationBus,
+        MeterRegistry meterRegistry
+    ) {
+        this.invalidationBus = invalidationBus;
+        this.cache = CaffeineCacheMetrics.monitor(
+            meterRegistry,
+            Caffeine.newBuilder()
+                .expireAfterWrite(userDetailsCacheProperties.getTtl())
+                .maximumSize(userDetailsCacheProperties.getMaximumSize())
+                .recordStats()
+                .build(),
+            CACHE_NAME
+        );
+        invalidationBus.subscribe(this::evict);
+    }
+
+    public CustomUserDetails get(
+        String username,
+        Function<String, CustomUserDetails> loader
+    ) {
+        return cache.get(username, loader);
+    }
+
+    public void invalidate(String username) {
+        evict(username);
+        invalidationBus.publish(username);
+    }
+
+    @TransactionalEventListener
+    public void onUserCredentialsChanged(UserCredentialsChangedEvent event) {
+        invalidate(event.username());
+    }
+
+    @TransactionalEventListener
+    public void onUsernameOwnerChanged(UsernameOwnerChangedEvent event) {
+        invalidate(event.username());
+    }
+
+    private void evict(String username) {
+        cache.invalidate(username);
+        log.debug("Evicted cached user details for user: {}", username);
+    }
+}
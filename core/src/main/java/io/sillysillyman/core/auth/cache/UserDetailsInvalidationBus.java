@@ -0,0 +1,10 @@
+package io.sillysillyman.core.auth.cache;
+
+import java.util.function.Consumer;
+
+public interface UserDetailsInvalidationBus {
+
+    void publish(String username);
+
+    void subscribe(Consumer<String> listener);
+}
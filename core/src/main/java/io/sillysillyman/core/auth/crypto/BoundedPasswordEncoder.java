@@ -0,0 +1,146 @@
+package io.sillysillyman.core.auth.crypto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.sillysillyman.core.auth.exception.PasswordHashingErrorCode;
+import io.sillysillyman.core.auth.exception.detail.PasswordHashingFailedException;
+import io.sillysillyman.core.auth.exception.detail.PasswordHashingRejectedException;
+import io.sillysillyman.core.auth.exception.detail.PasswordHashingTimeoutException;
+import io.sillysillyman.core.auth.properties.PasswordHashingProperties;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Slf4j(topic = "BoundedPasswordEncoder")
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String EXECUTOR_NAME = "passwordHashing";
+    private static final String THREAD_NAME_PREFIX = "password-hashing-";
+    private static final String ENCODE = "encode";
+    private static final String MATCHES = "matches";
+
+    private final PasswordEncoder delegate;
+    private final Duration maxWait;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter encodeRejectedCounter;
+    private final Counter matchesRejectedCounter;
+
+    public BoundedPasswordEncoder(
+        PasswordEncoder delegate,
+        PasswordHashingProperties passwordHashingProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.maxWait = passwordHashingProperties.getMaxWait();
+        this.executor = new ThreadPoolExecutor(
+            passwordHashingProperties.getPoolSize(),
+            passwordHashingProperties.getPoolSize(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(passwordHashingProperties.getQueueCapacity()),
+            new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.encodeTimer = hashTimer(meterRegistry, ENCODE);
+        this.matchesTimer = hashTimer(meterRegistry, MATCHES);
+        this.encodeRejectedCounter = rejectedCounter(meterRegistry, ENCODE);
+        this.matchesRejectedCounter = rejectedCounter(meterRegistry, MATCHES);
+
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(
+            () -> encodeTimer.record(() -> delegate.encode(rawPassword)),
+            encodeRejectedCounter
+        );
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(
+            () -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)),
+            matchesRejectedCounter
+        );
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task, Counter rejectedCounter) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue is full: {} queued", executor.getQueue().size());
+            throw new PasswordHashingRejectedException(
+                PasswordHashingErrorCode.PASSWORD_HASHING_REJECTED,
+                e
+            );
+        }
+
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Password hashing did not complete within {}", maxWait);
+            throw new PasswordHashingTimeoutException(
+                PasswordHashingErrorCode.PASSWORD_HASHING_TIMEOUT,
+                e
+            );
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingTimeoutException(
+                PasswordHashingErrorCode.PASSWORD_HASHING_TIMEOUT,
+                e
+            );
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new PasswordHashingFailedException(
+                PasswordHashingErrorCode.PASSWORD_HASHING_FAILED,
+                e.getCause()
+            );
+        }
+    }
+
+    private Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hashing.duration")
+            .description("Time spent hashing or verifying a password")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    private Counter rejectedCounter(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("password.hashing.rejected")
+            .description("Password hashing requests rejected because the queue was full")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,60 @@
+package io.sillysillyman.core.auth.crypto;
+
+import io.sillysillyman.core.auth.properties.PasswordHashingProperties.CalibrationProperties;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@RequiredArgsConstructor
+@Slf4j(topic = "PasswordEncoderCalibrator")
+public class PasswordEncoderCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-password1!";
+
+    private final CalibrationProperties calibrationProperties;
+
+    public static Duration measureMatches(PasswordEncoder passwordEncoder, int samples) {
+        String encodedPassword = passwordEncoder.encode(SAMPLE_PASSWORD);
+        passwordEncoder.matches(SAMPLE_PASSWORD, encodedPassword);
+
+        long[] elapsed = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            long startedAt = System.nanoTime();
+            passwordEncoder.matches(SAMPLE_PASSWORD, encodedPassword);
+            elapsed[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(elapsed);
+
+        return Duration.ofNanos(elapsed[samples / 2]);
+    }
+
+    public int calibrate(IntFunction<PasswordEncoder> encoderFactory, int defaultStrength) {
+        if (!calibrationProperties.isEnabled()) {
+            return defaultStrength;
+        }
+
+        Duration targetLatency = calibrationProperties.getTargetLatency();
+        int calibratedStrength = calibrationProperties.getMinStrength();
+
+        for (int strength = calibrationProperties.getMinStrength();
+            strength <= calibrationProperties.getMaxStrength(); strength++) {
+            Duration latency = measureMatches(
+                encoderFactory.apply(strength),
+                calibrationProperties.getSamples()
+            );
+            log.info("Password hashing strength {} verifies in {} ms", strength, latency.toMillis());
+
+            if (latency.compareTo(targetLatency) > 0) {
+                break;
+            }
+            calibratedStrength = strength;
+        }
+
+        log.info("Calibrated password hashing strength to {} for target latency {} ms",
+            calibratedStrength, targetLatency.toMillis());
+        return calibratedStrength;
+    }
+}
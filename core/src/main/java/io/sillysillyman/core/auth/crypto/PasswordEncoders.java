@@ -0,0 +1,32 @@
+package io.sillysillyman.core.auth.crypto;
+
+import java.util.Map;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+public final class PasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2@SpringSecurity_v5_8";
+
+    private PasswordEncoders() {
+    }
+
+    public static PasswordEncoder createDelegatingPasswordEncoder(int bcryptStrength) {
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(
+            BCRYPT,
+            Map.of(
+                BCRYPT, bCryptPasswordEncoder,
+                PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+            )
+        );
+        // 접두사 없이 저장된 기존 해시는 BCrypt 로 검증하고 로그인 시 재해싱
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+
+        return delegatingPasswordEncoder;
+    }
+}
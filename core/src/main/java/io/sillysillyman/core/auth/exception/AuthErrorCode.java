@@ -10,6 +10,7 @@ public enum AuthErrorCode {
     AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "username or password mismatch"),
     FORBIDDEN_ACCESS(HttpStatus.FORBIDDEN, "forbidden access"),
     INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "invalid token"),
+    STALE_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "refresh token has already been rotated"),
     UNAUTHENTICATED_USER(HttpStatus.UNAUTHORIZED, "unauthenticated user attempt");
 
     private final HttpStatus status;
@@ -0,0 +1,16 @@
+package io.sillysillyman.core.auth.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum PasswordHashingErrorCode {
+    PASSWORD_HASHING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "failed to hash password"),
+    PASSWORD_HASHING_REJECTED(HttpStatus.TOO_MANY_REQUESTS, "too many password hashing requests"),
+    PASSWORD_HASHING_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "password hashing timed out");
+
+    private final HttpStatus status;
+    private final String message;
+}
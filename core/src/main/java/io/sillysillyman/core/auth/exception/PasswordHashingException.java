@@ -0,0 +1,22 @@
+package io.sillysillyman.core.auth.exception;
+
+import lombok.Getter;
+
+@Getter
+public class PasswordHashingException extends RuntimeException {
+
+    private final PasswordHashingErrorCode passwordHashingErrorCode;
+
+    public PasswordHashingException(PasswordHashingErrorCode passwordHashingErrorCode) {
+        super(passwordHashingErrorCode.getMessage());
+        this.passwordHashingErrorCode = passwordHashingErrorCode;
+    }
+
+    public PasswordHashingException(
+        PasswordHashingErrorCode passwordHashingErrorCode,
+        Throwable cause
+    ) {
+        super(passwordHashingErrorCode.getMessage(), cause);
+        this.passwordHashingErrorCode = passwordHashingErrorCode;
+    }
+}
@@ -7,13 +7,30 @@ import org.springframework.http.HttpStatus;
 @Getter
 @RequiredArgsConstructor
 public enum TokenStorageErrorCode {
+    CREDENTIAL_VERSION_RETRIEVE_FAILED(
+        HttpStatus.INTERNAL_SERVER_ERROR,
+        "failed to retrieve credential version"
+    ),
+    CREDENTIAL_VERSION_SAVE_FAILED(
+        HttpStatus.INTERNAL_SERVER_ERROR,
+        "failed to save credential version"
+    ),
+    CREDENTIAL_VERSION_STORE_UNAVAILABLE(
+        HttpStatus.SERVICE_UNAVAILABLE,
+        "credential version store is temporarily unavailable"
+    ),
     REFRESH_TOKEN_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "failed to delete refresh token"),
     REFRESH_TOKEN_NOT_FOUND(HttpStatus.NOT_FOUND, "refresh token not found"),
     REFRESH_TOKEN_RETRIEVE_FAILED(
         HttpStatus.INTERNAL_SERVER_ERROR,
         "failed to retrieve refresh token"
     ),
-    REFRESH_TOKEN_SAVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "failed to save refresh token");
+    REFRESH_TOKEN_ROTATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "failed to rotate refresh token"),
+    REFRESH_TOKEN_SAVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "failed to save refresh token"),
+    REFRESH_TOKEN_STORE_UNAVAILABLE(
+        HttpStatus.SERVICE_UNAVAILABLE,
+        "refresh token store is temporarily unavailable"
+    );
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,18 @@
+package io.sillysillyman.core.auth.exception.detail;
+
+import io.sillysillyman.core.auth.exception.PasswordHashingErrorCode;
+import io.sillysillyman.core.auth.exception.PasswordHashingException;
+
+public class PasswordHashingFailedException extends PasswordHashingException {
+
+    public PasswordHashingFailedException(PasswordHashingErrorCode passwordHashingErrorCode) {
+        super(passwordHashingErrorCode);
+    }
+
+    public PasswordHashingFailedException(
+        PasswordHashingErrorCode passwordHashingErrorCode,
+        Throwable cause
+    ) {
+        super(passwordHashingErrorCode, cause);
+    }
+}
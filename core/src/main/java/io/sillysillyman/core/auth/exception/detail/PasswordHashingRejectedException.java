@@ -0,0 +1,18 @@
+package io.sillysillyman.core.auth.exception.detail;
+
+import io.sillysillyman.core.auth.exception.PasswordHashingErrorCode;
+import io.sillysillyman.core.auth.exception.PasswordHashingException;
+
+public class PasswordHashingRejectedException extends PasswordHashingException {
+
+    public PasswordHashingRejectedException(PasswordHashingErrorCode passwordHashingErrorCode) {
+        super(passwordHashingErrorCode);
+    }
+
+    public PasswordHashingRejectedException(
+        PasswordHashingErrorCode passwordHashingErrorCode,
+        Throwable cause
+    ) {
+        super(passwordHashingErrorCode, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package io.sillysillyman.core.auth.exception.detail;
+
+import io.sillysillyman.core.auth.exception.PasswordHashingErrorCode;
+import io.sillysillyman.core.auth.exception.PasswordHashingException;
+
+public class PasswordHashingTimeoutException extends PasswordHashingException {
+
+    public PasswordHashingTimeoutException(PasswordHashingErrorCode passwordHashingErrorCode) {
+        super(passwordHashingErrorCode);
+    }
+
+    public PasswordHashingTimeoutException(
+        PasswordHashingErrorCode passwordHashingErrorCode,
+        Throwable cause
+    ) {
+        super(passwordHashingErrorCode, cause);
+    }
+}
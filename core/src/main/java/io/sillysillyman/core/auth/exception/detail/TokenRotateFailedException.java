@@ -0,0 +1,18 @@
+package io.sillysillyman.core.auth.exception.detail;
+
+import io.sillysillyman.core.auth.exception.TokenStorageErrorCode;
+import io.sillysillyman.core.auth.exception.TokenStorageException;
+
+public class TokenRotateFailedException extends TokenStorageException {
+
+    public TokenRotateFailedException(TokenStorageErrorCode tokenStorageErrorCode) {
+        super(tokenStorageErrorCode);
+    }
+
+    public TokenRotateFailedException(
+        TokenStorageErrorCode tokenStorageErrorCode,
+        Throwable cause
+    ) {
+        super(tokenStorageErrorCode, cause);
+    }
+}
@@ -0,0 +1,18 @@
+package io.sillysillyman.core.auth.exception.detail;
+
+import io.sillysillyman.core.auth.exception.TokenStorageErrorCode;
+import io.sillysillyman.core.auth.exception.TokenStorageException;
+
+public class TokenStoreUnavailableException extends TokenStorageException {
+
+    public TokenStoreUnavailableException(TokenStorageErrorCode tokenStorageErrorCode) {
+        super(tokenStorageErrorCode);
+    }
+
+    public TokenStoreUnavailableException(
+        TokenStorageErrorCode tokenStorageErrorCode,
+        Throwable cause
+    ) {
+        super(tokenStorageErrorCode, cause);
+    }
+}
@@ -12,4 +12,14 @@ public class JwtProperties {
     private String secret;
     private long accessTokenExpiration;
     private long refreshTokenExpiration;
+    private boolean statelessPrincipal;
+    private final VerifiedTokenCacheProperties verifiedTokenCache =
+        new VerifiedTokenCacheProperties();
+
+    @Getter
+    @Setter
+    public static class VerifiedTokenCacheProperties {
+
+        private long maximumSize = 10_000;
+    }
 }
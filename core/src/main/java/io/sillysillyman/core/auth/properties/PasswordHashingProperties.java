@@ -0,0 +1,29 @@
+package io.sillysillyman.core.auth.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64;
+    private Duration maxWait = Duration.ofSeconds(5);
+    private int strength = 10;
+    private final CalibrationProperties calibration = new CalibrationProperties();
+
+    @Getter
+    @Setter
+    public static class CalibrationProperties {
+
+        private boolean enabled;
+        private Duration targetLatency = Duration.ofMillis(250);
+        private int minStrength = 10;
+        private int maxStrength = 14;
+        private int samples = 3;
+    }
+}
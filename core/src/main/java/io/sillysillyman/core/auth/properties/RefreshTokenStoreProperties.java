@@ -0,0 +1,26 @@
+package io.sillysillyman.core.auth.properties;
+
+import io.sillysillyman.core.common.properties.CircuitBreakerProperties;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "refresh-token-store")
+public class RefreshTokenStoreProperties {
+
+    private String type = "redis";
+    private int maxSessionsPerUser = 5;
+    private final TimingWheelProperties timingWheel = new TimingWheelProperties();
+    private final CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+
+    @Getter
+    @Setter
+    public static class TimingWheelProperties {
+
+        private Duration tickDuration = Duration.ofSeconds(1);
+        private int ticksPerWheel = 65_536;
+    }
+}
@@ -0,0 +1,24 @@
+package io.sillysillyman.core.auth.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user-details-cache")
+public class UserDetailsCacheProperties {
+
+    private Duration ttl = Duration.ofMinutes(5);
+    private long maximumSize = 10_000;
+    private final InvalidationProperties invalidation = new InvalidationProperties();
+
+    @Getter
+    @Setter
+    public static class InvalidationProperties {
+
+        private String bus = "redis";
+        private String channel = "user-details:invalidate";
+    }
+}
@@ -0,0 +1,73 @@
+package io.sillysillyman.core.auth.repository;
+
+import io.sillysillyman.core.auth.RotationResult;
+import io.sillysillyman.core.auth.exception.TokenStorageErrorCode;
+import io.sillysillyman.core.auth.exception.detail.TokenStoreUnavailableException;
+import io.sillysillyman.core.common.properties.CircuitBreakerProperties;
+import io.sillysillyman.core.common.resilience.CircuitBreaker;
+import io.sillysillyman.core.common.resilience.CircuitBreakingExecutor;
+import org.springframework.beans.factory.DisposableBean;
+
+public class CircuitBreakingRefreshTokenStore implements RefreshTokenStore, DisposableBean {
+
+    private static final String THREAD_NAME_PREFIX = "refresh-token-store-";
+
+    private final RefreshTokenStore delegate;
+    private final CircuitBreakingExecutor executor;
+
+    public CircuitBreakingRefreshTokenStore(
+        RefreshTokenStore delegate,
+        CircuitBreaker circuitBreaker,
+        CircuitBreakerProperties circuitBreakerProperties
+    ) {
+        this.delegate = delegate;
+        this.executor = new CircuitBreakingExecutor(
+            circuitBreaker,
+            circuitBreakerProperties,
+            THREAD_NAME_PREFIX,
+            cause -> new TokenStoreUnavailableException(
+                TokenStorageErrorCode.REFRESH_TOKEN_STORE_UNAVAILABLE,
+                cause
+            )
+        );
+    }
+
+    @Override
+    public void save(String username, String sessionId, String refreshToken) {
+        executor.call(() -> {
+            delegate.save(username, sessionId, refreshToken);
+            return null;
+        });
+    }
+
+    @Override
+    public RotationResult rotate(
+        String username,
+        String sessionId,
+        String currentToken,
+        String newToken
+    ) {
+        return executor.call(() -> delegate.rotate(username, sessionId, currentToken, newToken));
+    }
+
+    @Override
+    public void deleteSession(String username, String sessionId) {
+        executor.call(() -> {
+            delegate.deleteSession(username, sessionId);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteByUsername(String username) {
+        executor.call(() -> {
+            delegate.deleteByUsername(username);
+            return null;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.destroy();
+    }
+}
@@ -0,0 +1,106 @@
+package io.sillysillyman.core.auth.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sillysillyman.core.auth.exception.TokenStorageErrorCode;
+import io.sillysillyman.core.auth.exception.detail.TokenRetrieveFailedException;
+import io.sillysillyman.core.auth.exception.detail.TokenSaveFailedException;
+import io.sillysillyman.core.auth.exception.detail.TokenStoreUnavailableException;
+import io.sillysillyman.core.auth.properties.JwtProperties;
+import io.sillysillyman.core.common.properties.CircuitBreakerProperties;
+import io.sillysillyman.core.common.properties.RedisProperties;
+import io.sillysillyman.core.common.resilience.CircuitBreaker;
+import io.sillysillyman.core.common.resilience.CircuitBreakingExecutor;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j(topic = "CredentialVersionRepository")
+@Component
+public class CredentialVersionRepository implements DisposableBean {
+
+    private static final String CIRCUIT_BREAKER_NAME = "credentialVersionStore";
+    private static final String THREAD_NAME_PREFIX = "credential-version-store-";
+
+    private final JwtProperties jwtProperties;
+    private final RedisProperties redisProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CircuitBreakingExecutor executor;
+
+    public CredentialVersionRepository(
+        JwtProperties jwtProperties,
+        RedisProperties redisProperties,
+        StringRedisTemplate stringRedisTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.jwtProperties = jwtProperties;
+        this.redisProperties = redisProperties;
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        // 모든 인증 요청이 거치는 조회라 Redis 가 느려지면 요청 스레드가 묶이지 않게 차단
+        CircuitBreakerProperties circuitBreakerProperties =
+            redisProperties.getCredentialVersion().getCircuitBreaker();
+        this.executor = new CircuitBreakingExecutor(
+            new CircuitBreaker(CIRCUIT_BREAKER_NAME, circuitBreakerProperties, meterRegistry),
+            circuitBreakerProperties,
+            THREAD_NAME_PREFIX,
+            cause -> new TokenStoreUnavailableException(
+                TokenStorageErrorCode.CREDENTIAL_VERSION_STORE_UNAVAILABLE,
+                cause
+            )
+        );
+    }
+
+    public void save(Long userId, long credentialVersion) {
+        executor.call(() -> {
+            doSave(userId, credentialVersion);
+            return null;
+        });
+    }
+
+    public Optional<Long> findByUserId(Long userId) {
+        return executor.call(() -> doFindByUserId(userId));
+    }
+
+    @Override
+    public void destroy() {
+        executor.destroy();
+    }
+
+    private void doSave(Long userId, long credentialVersion) {
+        try {
+            stringRedisTemplate.opsForValue().set(
+                generateKey(userId),
+                String.valueOf(credentialVersion),
+                Duration.ofMillis(jwtProperties.getAccessTokenExpiration())
+            );
+            log.debug("Saved credential version {} for user: {}", credentialVersion, userId);
+        } catch (DataAccessException e) {
+            log.error("Failed to save credential version for user: {}", userId, e);
+            throw new TokenSaveFailedException(
+                TokenStorageErrorCode.CREDENTIAL_VERSION_SAVE_FAILED,
+                e
+            );
+        }
+    }
+
+    private Optional<Long> doFindByUserId(Long userId) {
+        try {
+            String credentialVersion = stringRedisTemplate.opsForValue().get(generateKey(userId));
+            return Optional.ofNullable(credentialVersion).map(Long::valueOf);
+        } catch (DataAccessException e) {
+            log.error("Failed to retrieve credential version for user: {}", userId, e);
+            throw new TokenRetrieveFailedException(
+                TokenStorageErrorCode.CREDENTIAL_VERSION_RETRIEVE_FAILED,
+                e
+            );
+        }
+    }
+
+    private String generateKey(Long userId) {
+        return redisProperties.getCredentialVersion().getPrefix() + userId;
+    }
+}
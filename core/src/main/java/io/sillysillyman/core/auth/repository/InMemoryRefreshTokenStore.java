@@ -0,0 +1,174 @@
+package io.sillysillyman.core.auth.repository;
+
+import io.sillysillyman.core.auth.RotationResult;
+import io.sillysillyman.core.auth.properties.JwtProperties;
+import io.sillysillyman.core.auth.properties.RefreshTokenStoreProperties;
+import io.sillysillyman.core.auth.properties.RefreshTokenStoreProperties.TimingWheelProperties;
+import io.sillysillyman.core.auth.util.TokenFingerprint;
+import io.sillysillyman.core.common.util.HashedTimingWheel;
+import io.sillysillyman.core.common.util.HashedTimingWheel.Timeout;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(prefix = "refresh-token-store", name = "type", havingValue = "in-memory")
+@Slf4j(topic = "InMemoryRefreshTokenStore")
+@Component
+public class InMemoryRefreshTokenStore implements RefreshTokenStore, DisposableBean {
+
+    private static final String THREAD_NAME = "refresh-token-expiry";
+
+    // 사용자별 세션 맵은 ConcurrentHashMap 의 compute 안에서만 변경
+    private final ConcurrentHashMap<String, Map<String, StoredSession>> sessions =
+        new ConcurrentHashMap<>();
+    private final Duration expiration;
+    private final int maxSessionsPerUser;
+    private final HashedTimingWheel timingWheel;
+
+    public InMemoryRefreshTokenStore(
+        JwtProperties jwtProperties,
+        RefreshTokenStoreProperties refreshTokenStoreProperties
+    ) {
+        TimingWheelProperties timingWheelProperties = refreshTokenStoreProperties.getTimingWheel();
+
+        this.expiration = Duration.ofMillis(jwtProperties.getRefreshTokenExpiration());
+        this.maxSessionsPerUser = refreshTokenStoreProperties.getMaxSessionsPerUser();
+        this.timingWheel = new HashedTimingWheel(
+            timingWheelProperties.getTickDuration(),
+            timingWheelProperties.getTicksPerWheel(),
+            THREAD_NAME
+        );
+    }
+
+    @Override
+    public void save(String username, String sessionId, String refreshToken) {
+        sessions.compute(username, (key, userSessions) -> {
+            Map<String, StoredSession> current =
+                userSessions == null ? new LinkedHashMap<>() : userSessions;
+
+            cancel(current.remove(sessionId));
+            current.values().removeIf(this::expire);
+            current.put(sessionId, store(key, sessionId, refreshToken));
+
+            Iterator<StoredSession> eldest = current.values().iterator();
+            while (current.size() > maxSessionsPerUser) {
+                cancel(eldest.next());
+                eldest.remove();
+            }
+            return current;
+        });
+        log.debug("Saved refresh session for user: {}", username);
+    }
+
+    @Override
+    public RotationResult rotate(
+        String username,
+        String sessionId,
+        String currentToken,
+        String newToken
+    ) {
+        AtomicReference<RotationResult> result = new AtomicReference<>(RotationResult.NOT_FOUND);
+
+        sessions.computeIfPresent(username, (key, userSessions) -> {
+            StoredSession storedSession = userSessions.get(sessionId);
+            if (storedSession == null) {
+                return userSessions;
+            }
+            if (expire(storedSession)) {
+                userSessions.remove(sessionId);
+                return userSessions.isEmpty() ? null : userSessions;
+            }
+            if (!Objects.equals(storedSession.fingerprint(), TokenFingerprint.of(currentToken))) {
+                result.set(RotationResult.STALE);
+                return userSessions;
+            }
+
+            cancel(userSessions.remove(sessionId));
+            userSessions.put(sessionId, store(key, sessionId, newToken));
+            result.set(RotationResult.ROTATED);
+            return userSessions;
+        });
+
+        log.debug("Rotated refresh token for user: {} ({})", username, result.get());
+        return result.get();
+    }
+
+    @Override
+    public void deleteSession(String username, String sessionId) {
+        sessions.computeIfPresent(username, (key, userSessions) -> {
+            cancel(userSessions.remove(sessionId));
+            return userSessions.isEmpty() ? null : userSessions;
+        });
+        log.debug("Deleted refresh session for user: {}", username);
+    }
+
+    @Override
+    public void deleteByUsername(String username) {
+        Map<String, StoredSession> userSessions = sessions.remove(username);
+        if (userSessions != null) {
+            userSessions.values().forEach(this::cancel);
+        }
+        log.debug("Deleted all refresh sessions for user: {}", username);
+    }
+
+    public int countSessions(String username) {
+        int[] count = new int[1];
+        sessions.computeIfPresent(username, (key, userSessions) -> {
+            count[0] = userSessions.size();
+            return userSessions;
+        });
+        return count[0];
+    }
+
+    @Override
+    public void destroy() {
+        timingWheel.close();
+    }
+
+    private StoredSession store(String username, String sessionId, String refreshToken) {
+        Timeout timeout = timingWheel.schedule(
+            expired -> sessions.computeIfPresent(username, (key, userSessions) -> {
+                StoredSession storedSession = userSessions.get(sessionId);
+                if (storedSession != null && storedSession.timeout() == expired) {
+                    userSessions.remove(sessionId);
+                }
+                return userSessions.isEmpty() ? null : userSessions;
+            }),
+            expiration
+        );
+        return new StoredSession(
+            TokenFingerprint.of(refreshToken),
+            System.nanoTime() + expiration.toNanos(),
+            timeout
+        );
+    }
+
+    private boolean expire(StoredSession storedSession) {
+        if (!storedSession.isExpired()) {
+            return false;
+        }
+        cancel(storedSession);
+        return true;
+    }
+
+    private void cancel(StoredSession storedSession) {
+        if (storedSession != null) {
+            storedSession.timeout().cancel();
+        }
+    }
+
+    private record StoredSession(String fingerprint, long expiresAt, Timeout timeout) {
+
+        private boolean isExpired() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.sillysillyman.core.auth.repository;
+
+import io.sillysillyman.core.auth.RotationResult;
+import io.sillysillyman.core.auth.exception.TokenStorageErrorCode;
+import io.sillysillyman.core.auth.exception.detail.TokenDeleteFailedException;
+import io.sillysillyman.core.auth.exception.detail.TokenRotateFailedException;
+import io.sillysillyman.core.auth.exception.detail.TokenSaveFailedException;
+import io.sillysillyman.core.auth.properties.RefreshTokenStoreProperties;
+import io.sillysillyman.core.auth.util.TokenFingerprint;
+import io.sillysillyman.core.common.properties.RedisProperties;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@RequiredArgsConstructor
+@Slf4j(topic = "RedisRefreshTokenStore")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    // 세션 값은 "<fingerprint>:<expiresAt(ms)>" 형태로 저장
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of(
+        """
+            local key = KEYS[1]
+            local sessionId = ARGV[1]
+            local now = tonumber(ARGV[3])
+            local ttl = tonumber(ARGV[4])
+            local maxSessions = tonumber(ARGV[5])
+
+            redis.call('HSET', key, sessionId, ARGV[2] .. ':' .. string.format('%d', now + ttl))
+
+            local entries = redis.call('HGETALL', key)
+            local sessions = {}
+            for i = 1, #entries, 2 do
+                local expiresAt = tonumber(string.match(entries[i + 1], ':(%d+)$'))
+                if expiresAt <= now then
+                    redis.call('HDEL', key, entries[i])
+                elseif entries[i] ~= sessionId then
+                    table.insert(sessions, { entries[i], expiresAt })
+                end
+            end
+
+            table.sort(sessions, function(a, b) return a[2] < b[2] end)
+            local evicted = 0
+            for i = 1, #sessions + 1 - maxSessions do
+                redis.call('HDEL', key, sessions[i][1])
+                evicted = evicted + 1
+            end
+
+            redis.call('PEXPIRE', key, ttl)
+            return evicted
+            """,
+        Long.class
+    );
+
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of(
+        """
+            local key = KEYS[1]
+            local sessionId = ARGV[1]
+            local now = tonumber(ARGV[4])
+            local ttl = tonumber(ARGV[5])
+
+            local stored = redis.call('HGET', key, sessionId)
+            if not stored then
+                return 0
+            end
+
+            local fingerprint, expiresAt = string.match(stored, '^(.*):(%d+)$')
+            if tonumber(expiresAt) <= now then
+                redis.call('HDEL', key, sessionId)
+                return 0
+            end
+            if fingerprint ~= ARGV[2] then
+                return -1
+            end
+
+            redis.call('HSET', key, sessionId, ARGV[3] .. ':' .. string.format('%d', now + ttl))
+            redis.call('PEXPIRE', key, ttl)
+            return 1
+            """,
+        Long.class
+    );
+
+    private final RedisProperties redisProperties;
+    private final RefreshTokenStoreProperties refreshTokenStoreProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void save(String username, String sessionId, String refreshToken) {
+        try {
+            Long evicted = stringRedisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(generateKey(username)),
+                sessionId,
+                TokenFingerprint.of(refreshToken),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(redisProperties.getRefreshToken().getExpiration()),
+                String.valueOf(refreshTokenStoreProperties.getMaxSessionsPerUser())
+            );
+            log.debug("Saved refresh session for user: {} (evicted {})", username, evicted);
+        } catch (DataAccessException e) {
+            log.error("Failed to save refresh token for user: {}", username, e);
+            throw new TokenSaveFailedException(TokenStorageErrorCode.REFRESH_TOKEN_SAVE_FAILED, e);
+        }
+    }
+
+    @Override
+    public RotationResult rotate(
+        String username,
+        String sessionId,
+        String currentToken,
+        String newToken
+    ) {
+        try {
+            Long result = stringRedisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(generateKey(username)),
+                sessionId,
+                TokenFingerprint.of(currentToken),
+                TokenFingerprint.of(newToken),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(redisProperties.getRefreshToken().getExpiration())
+            );
+            RotationResult rotationResult = RotationResult.from(result);
+            log.debug("Rotated refresh token for user: {} ({})", username, rotationResult);
+            return rotationResult;
+        } catch (DataAccessException e) {
+            log.error("Failed to rotate refresh token for user: {}", username, e);
+            throw new TokenRotateFailedException(
+                TokenStorageErrorCode.REFRESH_TOKEN_ROTATE_FAILED,
+                e
+            );
+        }
+    }
+
+    @Override
+    public void deleteSession(String username, String sessionId) {
+        try {
+            stringRedisTemplate.opsForHash().delete(generateKey(username), sessionId);
+            log.debug("Deleted refresh session for user: {}", username);
+        } catch (DataAccessException e) {
+            log.error("Failed to delete refresh session for user: {}", username, e);
+            throw new TokenDeleteFailedException(
+                TokenStorageErrorCode.REFRESH_TOKEN_DELETE_FAILED,
+                e
+            );
+        }
+    }
+
+    @Override
+    public void deleteByUsername(String username) {
+        try {
+            stringRedisTemplate.delete(generateKey(username));
+            log.debug("Deleted all refresh sessions for user: {}", username);
+        } catch (DataAccessException e) {
+            log.error("Failed to delete refresh token for user: {}", username, e);
+            throw new TokenDeleteFailedException(
+                TokenStorageErrorCode.REFRESH_TOKEN_DELETE_FAILED,
+                e
+            );
+        }
+    }
+
+    private String generateKey(String username) {
+        return redisProperties.getRefreshToken().getPrefix() + username;
+    }
+}
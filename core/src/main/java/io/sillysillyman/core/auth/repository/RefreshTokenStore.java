@@ -0,0 +1,19 @@
+package io.sillysillyman.core.auth.repository;
+
+import io.sillysillyman.core.auth.RotationResult;
+
+public interface RefreshTokenStore {
+
+    void save(String username, String sessionId, String refreshToken);
+
+    RotationResult rotate(
+        String username,
+        String sessionId,
+        String currentToken,
+        String newToken
+    );
+
+    void deleteSession(String username, String sessionId);
+
+    void deleteByUsername(String username);
+}
@@ -1,26 +1,27 @@
 package io.sillysillyman.core.auth.service;
 
 import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.auth.RotationResult;
 import io.sillysillyman.core.auth.Token;
+import io.sillysillyman.core.auth.TokenSubject;
+import io.sillysillyman.core.auth.VerifiedClaims;
 import io.sillysillyman.core.auth.command.LoginCommand;
 import io.sillysillyman.core.auth.exception.AuthErrorCode;
 import io.sillysillyman.core.auth.exception.TokenStorageErrorCode;
 import io.sillysillyman.core.auth.exception.detail.AuthenticationFailedException;
 import io.sillysillyman.core.auth.exception.detail.InvalidTokenException;
 import io.sillysillyman.core.auth.exception.detail.TokenNotFoundException;
-import io.sillysillyman.core.auth.repository.RefreshTokenRepository;
+import io.sillysillyman.core.auth.repository.RefreshTokenStore;
 import io.sillysillyman.core.auth.util.JwtUtil;
-import java.util.Collection;
-import java.util.Objects;
+import java.security.SecureRandom;
+import java.util.Base64;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -28,7 +29,10 @@ import org.springframework.stereotype.Service;
 @Service
 public class AuthService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private static final int SESSION_ID_BYTES = 12;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
 
@@ -42,14 +46,18 @@ public class AuthService {
                 )
             );
 
-            UserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-            String username = userDetails.getUsername();
-            Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
+            CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+            TokenSubject tokenSubject = TokenSubject.from(userDetails.userEntity())
+                .withSessionId(generateSessionId());
 
-            String accessToken = jwtUtil.generateAccessToken(username, authorities);
-            String refreshToken = jwtUtil.generateRefreshToken(username, authorities);
+            String accessToken = jwtUtil.generateAccessToken(tokenSubject);
+            String refreshToken = jwtUtil.generateRefreshToken(tokenSubject);
 
-            refreshTokenRepository.save(username, refreshToken);
+            refreshTokenStore.save(
+                tokenSubject.username(),
+                tokenSubject.sessionId(),
+                refreshToken
+            );
 
             return Token.of(accessToken, refreshToken);
         } catch (AuthenticationException e) {
@@ -58,46 +66,79 @@ public class AuthService {
     }
 
     public void logout() {
-        Object principal = SecurityContextHolder
-            .getContext()
-            .getAuthentication()
-            .getPrincipal();
-
-        if (principal instanceof CustomUserDetails userDetails) {
-            String username = userDetails.getUsername();
-            refreshTokenRepository.deleteByUsername(username);
-            log.info("User logged out successfully: {}", username);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = getAuthenticatedUsername(authentication);
+
+        if (authentication.getDetails() instanceof VerifiedClaims verifiedClaims
+            && verifiedClaims.sessionId() != null) {
+            refreshTokenStore.deleteSession(username, verifiedClaims.sessionId());
         } else {
-            log.warn("Unauthenticated user attempted to log out.");
-            throw new AuthenticationFailedException(AuthErrorCode.UNAUTHENTICATED_USER);
+            refreshTokenStore.deleteByUsername(username);
         }
+        log.info("User logged out successfully: {}", username);
+
+        SecurityContextHolder.clearContext();
+    }
+
+    public void logoutAll() {
+        String username = getAuthenticatedUsername(
+            SecurityContextHolder.getContext().getAuthentication()
+        );
+
+        refreshTokenStore.deleteByUsername(username);
+        log.info("User logged out from all sessions: {}", username);
 
         SecurityContextHolder.clearContext();
     }
 
     public Token refresh(String refreshToken) {
-        if (!jwtUtil.isTokenValid(refreshToken)) {
+        VerifiedClaims verifiedClaims = jwtUtil.verify(refreshToken).orElseThrow(() ->
+            new InvalidTokenException(AuthErrorCode.INVALID_TOKEN)
+        );
+
+        if (verifiedClaims.sessionId() == null) {
             throw new InvalidTokenException(AuthErrorCode.INVALID_TOKEN);
         }
 
-        String username = jwtUtil.extractUsername(refreshToken);
-        String savedRefreshToken = refreshTokenRepository.findByUsername(username).orElseThrow(() ->
-            new TokenNotFoundException(TokenStorageErrorCode.REFRESH_TOKEN_NOT_FOUND)
+        String username = verifiedClaims.username();
+        TokenSubject tokenSubject = verifiedClaims.toTokenSubject();
+
+        String newAccessToken = jwtUtil.generateAccessToken(tokenSubject);
+        String newRefreshToken = jwtUtil.generateRefreshToken(tokenSubject);
+
+        RotationResult rotationResult = refreshTokenStore.rotate(
+            username,
+            tokenSubject.sessionId(),
+            refreshToken,
+            newRefreshToken
         );
 
-        if (!Objects.equals(refreshToken, savedRefreshToken)) {
-            throw new AuthenticationFailedException(AuthErrorCode.AUTHENTICATION_FAILED);
+        switch (rotationResult) {
+            case NOT_FOUND -> throw new TokenNotFoundException(
+                TokenStorageErrorCode.REFRESH_TOKEN_NOT_FOUND
+            );
+            case STALE -> {
+                log.warn("Stale refresh token presented for user: {}", username);
+                throw new AuthenticationFailedException(AuthErrorCode.STALE_REFRESH_TOKEN);
+            }
+            case ROTATED -> log.debug("Refresh token rotated for user: {}", username);
         }
 
-        Collection<? extends GrantedAuthority> authorities =
-            jwtUtil.extractAuthorities(refreshToken);
-
-        String newAccessToken = jwtUtil.generateAccessToken(username, authorities);
-        String newRefreshToken = jwtUtil.generateRefreshToken(username, authorities);
+        return Token.of(newAccessToken, newRefreshToken);
+    }
 
-        refreshTokenRepository.deleteByUsername(username);
-        refreshTokenRepository.save(username, newRefreshToken);
+    private String getAuthenticatedUsername(Authentication authentication) {
+        if (authentication != null
+            && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUsername();
+        }
+        log.warn("Unauthenticated user attempted to log out.");
+        throw new AuthenticationFailedException(AuthErrorCode.UNAUTHENTICATED_USER);
+    }
 
-        return Token.of(newAccessToken, newRefreshToken);
+    private String generateSessionId() {
+        byte[] bytes = new byte[SESSION_ID_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 }
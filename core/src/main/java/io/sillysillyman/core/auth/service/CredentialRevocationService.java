@@ -0,0 +1,94 @@
+package io.sillysillyman.core.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sillysillyman.core.auth.exception.TokenStorageException;
+import io.sillysillyman.core.auth.repository.CredentialVersionRepository;
+import io.sillysillyman.core.auth.repository.RefreshTokenStore;
+import io.sillysillyman.core.domain.user.event.UserCredentialsChangedEvent;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 자격 증명이 바뀐 사용자의 기존 토큰을 무효화한다. 저장소 장애로 실패한 무효화는
+ * 사용자별 최신 버전만 남겨 두었다가 주기적으로 다시 시도한다.
+ */
+@Slf4j(topic = "CredentialRevocationService")
+@Service
+public class CredentialRevocationService {
+
+    private final CredentialVersionRepository credentialVersionRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final Map<Long, UserCredentialsChangedEvent> pendingRevocations =
+        new ConcurrentHashMap<>();
+    private final Counter failedCounter;
+
+    public CredentialRevocationService(
+        CredentialVersionRepository credentialVersionRepository,
+        RefreshTokenStore refreshTokenStore,
+        MeterRegistry meterRegistry
+    ) {
+        this.credentialVersionRepository = credentialVersionRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.failedCounter = Counter.builder("auth.credential.revocation.failed")
+            .description("Credential revocations that failed and were queued for retry")
+            .register(meterRegistry);
+        Gauge.builder("auth.credential.revocation.pending", pendingRevocations, Map::size)
+            .description("Credential revocations waiting for retry")
+            .register(meterRegistry);
+    }
+
+    public boolean isRevoked(Long userId, long credentialVersion) {
+        return credentialVersionRepository.findByUserId(userId)
+            .map(currentVersion -> currentVersion > credentialVersion)
+            .orElse(false);
+    }
+
+    @TransactionalEventListener
+    public void revoke(UserCredentialsChangedEvent event) {
+        if (!tryRevoke(event)) {
+            queueRetry(event);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${credential-revocation.retry-interval:PT5S}")
+    public void retryPendingRevocations() {
+        for (UserCredentialsChangedEvent event : List.copyOf(pendingRevocations.values())) {
+            // 재시도 도중 더 새로운 버전이 들어왔으면 그 항목은 남겨 둠
+            if (tryRevoke(event)) {
+                pendingRevocations.remove(event.userId(), event);
+            } else {
+                failedCounter.increment();
+            }
+        }
+    }
+
+    private boolean tryRevoke(UserCredentialsChangedEvent event) {
+        try {
+            credentialVersionRepository.save(event.userId(), event.credentialVersion());
+            refreshTokenStore.deleteByUsername(event.username());
+            log.info("Revoked credentials issued before version {} for user: {}",
+                event.credentialVersion(), event.userId());
+            return true;
+        } catch (TokenStorageException e) {
+            log.error("Failed to revoke credentials for user: {}", event.userId(), e);
+            return false;
+        }
+    }
+
+    private void queueRetry(UserCredentialsChangedEvent event) {
+        failedCounter.increment();
+        pendingRevocations.merge(
+            event.userId(),
+            event,
+            (pending, added) ->
+                added.credentialVersion() > pending.credentialVersion() ? added : pending
+        );
+    }
+}
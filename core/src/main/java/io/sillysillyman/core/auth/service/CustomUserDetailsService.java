@@ -1,31 +1,63 @@
 package io.sillysillyman.core.auth.service;
 
 import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.auth.cache.UserDetailsCache;
+import io.sillysillyman.core.domain.user.User;
+import io.sillysillyman.core.domain.user.UserEntity;
 import io.sillysillyman.core.domain.user.exception.UserErrorCode;
 import io.sillysillyman.core.domain.user.exception.detail.UserNotFoundException;
 import io.sillysillyman.core.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
+@Slf4j(topic = "CustomUserDetailsService")
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         try {
-            return new CustomUserDetails(
-                userRepository.findByUsername(username).orElseThrow(() ->
-                    new UserNotFoundException(UserErrorCode.USER_NOT_FOUND)
-                )
-            );
+            return userDetailsCache.get(username, this::loadFromRepository);
         } catch (UserNotFoundException e) {
             throw new UsernameNotFoundException("User not found with username: " + username);
         }
     }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = User.from(
+            userRepository.findByUsername(userDetails.getUsername()).orElseThrow(() ->
+                new UsernameNotFoundException(
+                    "User not found with username: " + userDetails.getUsername()
+                )
+            )
+        );
+
+        user.upgradePasswordHash(newPassword);
+
+        UserEntity userEntity = userRepository.save(UserEntity.from(user));
+        userDetailsCache.invalidate(user.getUsername());
+        log.info("Upgraded password hash for user: {}", user.getId());
+
+        return new CustomUserDetails(userEntity);
+    }
+
+    private CustomUserDetails loadFromRepository(String username) {
+        return new CustomUserDetails(
+            userRepository.findByUsername(username).orElseThrow(() ->
+                new UserNotFoundException(UserErrorCode.USER_NOT_FOUND)
+            )
+        );
+    }
 }
@@ -1,79 +1,92 @@
 package io.sillysillyman.core.auth.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.SignatureException;
+import io.sillysillyman.core.auth.TokenSubject;
+import io.sillysillyman.core.auth.VerifiedClaims;
 import io.sillysillyman.core.auth.properties.JwtProperties;
+import io.sillysillyman.core.domain.user.UserRole;
 import java.security.Key;
-import java.util.Collection;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
-@RequiredArgsConstructor
 @Slf4j(topic = "JwtUtil")
 @Component
 public class JwtUtil {
 
     private static final String AUTHORIZATION_KEY = "auth";
+    private static final String USER_ID_KEY = "uid";
+    private static final String ROLE_KEY = "role";
+    private static final String CREDENTIAL_VERSION_KEY = "cv";
+    private static final String SESSION_ID_KEY = "sid";
     private static final String BEARER_PREFIX = "Bearer ";
     private static final SignatureAlgorithm SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256;
 
     private final JwtProperties jwtProperties;
     private final Key key;
+    private final JwtParser jwtParser;
+    private final Cache<String, VerifiedClaims> verifiedClaimsCache;
 
-    public String generateAccessToken(
-        String username,
-        Collection<? extends GrantedAuthority> authorities
-    ) {
-        return BEARER_PREFIX +
-            generateToken(username, authorities, jwtProperties.getAccessTokenExpiration());
+    public JwtUtil(JwtProperties jwtProperties, Key key) {
+        this.jwtProperties = jwtProperties;
+        this.key = key;
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+        this.verifiedClaimsCache = Caffeine.newBuilder()
+            .maximumSize(jwtProperties.getVerifiedTokenCache().getMaximumSize())
+            .expireAfter(new VerifiedClaimsExpiry())
+            .build();
     }
 
-    public String generateRefreshToken(
-        String username,
-        Collection<? extends GrantedAuthority> authorities
-    ) {
-        return generateToken(username, authorities, jwtProperties.getRefreshTokenExpiration());
+    public String generateAccessToken(TokenSubject tokenSubject) {
+        return BEARER_PREFIX +
+            generateToken(tokenSubject, jwtProperties.getAccessTokenExpiration());
     }
 
-    public String extractUsername(String token) {
-        return getClaims(token).getSubject();
-    }
-
-    public Collection<? extends GrantedAuthority> extractAuthorities(String token) {
-        Claims claims = getClaims(token);
-
-        @SuppressWarnings("unchecked")
-        List<String> authorities = claims.get(AUTHORIZATION_KEY, List.class);
-
-        return authorities.stream()
-            .map(SimpleGrantedAuthority::new)
-            .collect(Collectors.toList());
+    public String generateRefreshToken(TokenSubject tokenSubject) {
+        return generateToken(tokenSubject, jwtProperties.getRefreshTokenExpiration());
     }
 
     public String resolveToken(String token) {
         return token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()) : token;
     }
 
-    public boolean isTokenValid(String token) {
+    public Optional<VerifiedClaims> verify(String token) {
         if (token == null) {
             log.error("Jwt token is null");
-            return false;
+            return Optional.empty();
+        }
+
+        String resolvedToken = resolveToken(token);
+        String digest = TokenFingerprint.of(resolvedToken);
+
+        VerifiedClaims cachedClaims = verifiedClaimsCache.getIfPresent(digest);
+        if (cachedClaims != null) {
+            return Optional.of(cachedClaims);
         }
 
         try {
-            getClaims(token);
-            return true;
+            VerifiedClaims verifiedClaims = toVerifiedClaims(
+                jwtParser.parseClaimsJws(resolvedToken).getBody()
+            );
+            verifiedClaimsCache.put(digest, verifiedClaims);
+            return Optional.of(verifiedClaims);
         } catch (ExpiredJwtException e) {
             log.info("Expired JWT token: The token has expired", e);
         } catch (UnsupportedJwtException e) {
@@ -85,30 +98,52 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             log.error("Invalid JWT token: The token is either null or empty", e);
         }
-        return false;
+        return Optional.empty();
     }
 
-    private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-            .setSigningKey(key)
-            .build()
-            .parseClaimsJws(resolveToken(token))
-            .getBody();
+    private VerifiedClaims toVerifiedClaims(Claims claims) {
+        @SuppressWarnings("unchecked")
+        List<String> authorities = claims.get(AUTHORIZATION_KEY, List.class);
+
+        String role = claims.get(ROLE_KEY, String.class);
+
+        return VerifiedClaims.builder()
+            .userId(claims.get(USER_ID_KEY, Long.class))
+            .username(claims.getSubject())
+            .role(role == null ? null : UserRole.valueOf(role))
+            .credentialVersion(claims.get(CREDENTIAL_VERSION_KEY, Long.class))
+            .sessionId(claims.get(SESSION_ID_KEY, String.class))
+            .authorities(authorities)
+            .issuedAt(toInstant(claims.getIssuedAt()))
+            .expiration(toInstant(claims.getExpiration()))
+            .build();
+    }
+
+    private Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
     }
 
-    private String generateToken(
-        String username,
-        Collection<? extends GrantedAuthority> authorities,
-        long expiration
-    ) {
+    private String generateToken(TokenSubject tokenSubject, long expiration) {
         Date now = new Date();
-        Claims claims = Jwts.claims().setSubject(username);
+        Claims claims = Jwts.claims().setSubject(tokenSubject.username());
         claims.put(
             AUTHORIZATION_KEY,
-            authorities.stream()
+            tokenSubject.authorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .toList()
         );
+        if (tokenSubject.userId() != null) {
+            claims.put(USER_ID_KEY, tokenSubject.userId());
+        }
+        if (tokenSubject.role() != null) {
+            claims.put(ROLE_KEY, tokenSubject.role().name());
+        }
+        if (tokenSubject.credentialVersion() != null) {
+            claims.put(CREDENTIAL_VERSION_KEY, tokenSubject.credentialVersion());
+        }
+        if (tokenSubject.sessionId() != null) {
+            claims.put(SESSION_ID_KEY, tokenSubject.sessionId());
+        }
 
         return Jwts.builder()
             .setClaims(claims)
@@ -117,4 +152,35 @@ public class JwtUtil {
             .signWith(key, SIGNATURE_ALGORITHM)
             .compact();
     }
+
+    private static final class VerifiedClaimsExpiry implements Expiry<String, VerifiedClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedClaims claims, long currentTime) {
+            if (claims.expiration() == null) {
+                return 0L;
+            }
+            return Math.max(0L, Duration.between(Instant.now(), claims.expiration()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            String key,
+            VerifiedClaims claims,
+            long currentTime,
+            long currentDuration
+        ) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+            String key,
+            VerifiedClaims claims,
+            long currentTime,
+            long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package io.sillysillyman.core.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.sillysillyman.core.common.properties.ApproximateCountProperties;
+import java.util.function.LongSupplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 목록 전체 개수를 TTL 동안 캐시한다.
+ * 값은 최대 TTL 만큼 뒤처질 수 있으므로 화면 표시용 근사치로만 사용한다.
+ */
+@Component
+public class ApproximateCountCache {
+
+    private static final String CACHE_NAME = "approximateCount";
+
+    private final Cache<CountKey, Long> cache;
+
+    public ApproximateCountCache(
+        ApproximateCountProperties approximateCountProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.cache = CaffeineCacheMetrics.monitor(
+            meterRegistry,
+            Caffeine.newBuilder()
+                .expireAfterWrite(approximateCountProperties.getTtl())
+                .maximumSize(approximateCountProperties.getMaximumSize())
+                .recordStats()
+                .build(),
+            CACHE_NAME
+        );
+    }
+
+    public long get(String scope, Long ownerId, LongSupplier counter) {
+        return cache.get(new CountKey(scope, ownerId), key -> counter.getAsLong());
+    }
+
+    // 커밋 전에 지우면 동시 조회가 이전 개수를 다시 채울 수 있어 커밋 후에 지움
+    public void invalidate(String scope, Long ownerId) {
+        CountKey key = new CountKey(scope, ownerId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(key);
+                }
+            }
+        );
+    }
+
+    private record CountKey(String scope, Long ownerId) {
+
+    }
+}
@@ -0,0 +1,11 @@
+package io.sillysillyman.core.common.config;
+
+import io.sillysillyman.core.common.properties.ApproximateCountProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@EnableConfigurationProperties(ApproximateCountProperties.class)
+@Configuration
+public class ApproximateCountConfig {
+
+}
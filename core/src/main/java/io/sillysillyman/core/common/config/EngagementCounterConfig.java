@@ -0,0 +1,11 @@
+package io.sillysillyman.core.common.config;
+
+import io.sillysillyman.core.common.properties.EngagementCounterProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@EnableConfigurationProperties(EngagementCounterProperties.class)
+@Configuration
+public class EngagementCounterConfig {
+
+}
@@ -0,0 +1,31 @@
+package io.sillysillyman.core.common.config;
+
+import io.sillysillyman.core.common.properties.RedisProperties;
+import io.sillysillyman.core.domain.feed.properties.FeedProperties;
+import io.sillysillyman.core.domain.feed.repository.RedisTimelineStore;
+import io.sillysillyman.core.domain.feed.repository.TimelineStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@EnableConfigurationProperties(FeedProperties.class)
+@Configuration
+public class FeedConfig {
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "feed",
+        name = "timeline-store",
+        havingValue = "redis",
+        matchIfMissing = true
+    )
+    public TimelineStore redisTimelineStore(
+        RedisProperties redisProperties,
+        FeedProperties feedProperties,
+        StringRedisTemplate stringRedisTemplate
+    ) {
+        return new RedisTimelineStore(redisProperties, feedProperties, stringRedisTemplate);
+    }
+}
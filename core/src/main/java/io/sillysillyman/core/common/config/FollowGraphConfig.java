@@ -0,0 +1,12 @@
+package io.sillysillyman.core.common.config;
+
+import io.sillysillyman.core.domain.follow.properties.FollowGraphProperties;
+import io.sillysillyman.core.domain.follow.properties.FollowSuggestionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@EnableConfigurationProperties({FollowGraphProperties.class, FollowSuggestionProperties.class})
+@Configuration
+public class FollowGraphConfig {
+
+}
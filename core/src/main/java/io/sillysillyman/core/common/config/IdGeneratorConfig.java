@@ -0,0 +1,77 @@
+package io.sillysillyman.core.common.config;
+
+import io.sillysillyman.core.common.id.IdGenerator;
+import io.sillysillyman.core.common.id.IdGeneratorHolder;
+import io.sillysillyman.core.common.id.SnowflakeIdGenerator;
+import io.sillysillyman.core.common.properties.IdGeneratorProperties;
+import io.sillysillyman.core.common.properties.RedisProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Slf4j(topic = "IdGeneratorConfig")
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+@Configuration
+public class IdGeneratorConfig {
+
+    private static final String ID_GENERATOR_BEAN_NAME = "idGenerator";
+
+    @Bean(ID_GENERATOR_BEAN_NAME)
+    public IdGenerator idGenerator(
+        IdGeneratorProperties idGeneratorProperties,
+        RedisProperties redisProperties,
+        StringRedisTemplate stringRedisTemplate
+    ) {
+        int nodeId = idGeneratorProperties.getNodeId() != null
+            ? idGeneratorProperties.getNodeId()
+            : assignNodeId(redisProperties, stringRedisTemplate);
+        log.info("Using ID generator node id: {}", nodeId);
+
+        IdGenerator idGenerator = new SnowflakeIdGenerator(
+            idGeneratorProperties.getEpoch(),
+            nodeId,
+            idGeneratorProperties.getMaxClockBackward()
+        );
+        IdGeneratorHolder.set(idGenerator);
+        return idGenerator;
+    }
+
+    // 노드가 기동할 때마다 카운터를 증가시켜 동시에 떠 있는 노드끼리 서로 다른 노드 ID 를 갖도록 함.
+    // 임의 값으로 대신하면 다른 노드와 겹쳐 기본 키가 중복될 수 있으므로 기동을 중단
+    private int assignNodeId(
+        RedisProperties redisProperties,
+        StringRedisTemplate stringRedisTemplate
+    ) {
+        Long sequence;
+        try {
+            sequence = stringRedisTemplate.opsForValue()
+                .increment(redisProperties.getIdNode().getKey());
+        } catch (DataAccessException e) {
+            throw new IllegalStateException(
+                "Failed to assign ID generator node id from Redis. "
+                    + "Set id-generator.node-id explicitly to start without Redis",
+                e
+            );
+        }
+        if (sequence == null) {
+            throw new IllegalStateException(
+                "Redis returned no ID generator node sequence. Set id-generator.node-id explicitly"
+            );
+        }
+        return (int) (sequence % (SnowflakeIdGenerator.MAX_NODE_ID + 1));
+    }
+
+    // 엔티티 저장 전에 IdGeneratorHolder 가 초기화되도록 EntityManagerFactory 보다 먼저 생성
+    @Configuration
+    static class EntityManagerFactoryDependsOnIdGenerator
+        extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependsOnIdGenerator() {
+            super(ID_GENERATOR_BEAN_NAME);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.sillysillyman.core.common.config;
+
+import io.sillysillyman.core.common.properties.QueryCountProperties;
+import io.sillysillyman.core.common.querycount.QueryCountingPostLoadListener;
+import io.sillysillyman.core.common.querycount.QueryCountingRedisConnectionFactoryPostProcessor;
+import io.sillysillyman.core.common.querycount.QueryCountingSessionEventListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@ConditionalOnProperty(prefix = "query-count", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(QueryCountProperties.class)
+@Configuration
+public class QueryCountConfig {
+
+    // StatementInspector 는 하나만 등록할 수 있어 세션 이벤트로 실행 구문 수를 집계
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingSessionEventsCustomizer() {
+        return properties -> properties.put(
+            AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+            QueryCountingSessionEventListener.class.getName()
+        );
+    }
+
+    @Bean
+    public QueryCountingPostLoadListener queryCountingPostLoadListener(
+        EntityManagerFactory entityManagerFactory
+    ) {
+        QueryCountingPostLoadListener listener = new QueryCountingPostLoadListener();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .requireService(EventListenerRegistry.class)
+            .appendListeners(EventType.POST_LOAD, listener);
+        return listener;
+    }
+
+    @Bean
+    public static QueryCountingRedisConnectionFactoryPostProcessor
+    queryCountingRedisConnectionFactoryPostProcessor() {
+        return new QueryCountingRedisConnectionFactoryPostProcessor();
+    }
+}
@@ -0,0 +1,49 @@
+package io.sillysillyman.core.common.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sillysillyman.core.auth.properties.RefreshTokenStoreProperties;
+import io.sillysillyman.core.auth.repository.CircuitBreakingRefreshTokenStore;
+import io.sillysillyman.core.auth.repository.RedisRefreshTokenStore;
+import io.sillysillyman.core.auth.repository.RefreshTokenStore;
+import io.sillysillyman.core.common.properties.CircuitBreakerProperties;
+import io.sillysillyman.core.common.properties.RedisProperties;
+import io.sillysillyman.core.common.resilience.CircuitBreaker;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@EnableConfigurationProperties(RefreshTokenStoreProperties.class)
+@Configuration
+public class RefreshTokenStoreConfig {
+
+    private static final String CIRCUIT_BREAKER_NAME = "refreshTokenStore";
+
+    @Bean
+    @ConditionalOnProperty(
+        prefix = "refresh-token-store",
+        name = "type",
+        havingValue = "redis",
+        matchIfMissing = true
+    )
+    public RefreshTokenStore redisRefreshTokenStore(
+        RedisProperties redisProperties,
+        RefreshTokenStoreProperties refreshTokenStoreProperties,
+        StringRedisTemplate stringRedisTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        CircuitBreakerProperties circuitBreakerProperties =
+            refreshTokenStoreProperties.getCircuitBreaker();
+
+        return new CircuitBreakingRefreshTokenStore(
+            new RedisRefreshTokenStore(
+                redisProperties,
+                refreshTokenStoreProperties,
+                stringRedisTemplate
+            ),
+            new CircuitBreaker(CIRCUIT_BREAKER_NAME, circuitBreakerProperties, meterRegistry),
+            circuitBreakerProperties
+        );
+    }
+}
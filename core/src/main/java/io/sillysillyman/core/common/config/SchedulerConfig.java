@@ -1,8 +1,11 @@
 package io.sillysillyman.core.common.config;
 
+import io.sillysillyman.core.domain.user.properties.UserPurgeProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableConfigurationProperties(UserPurgeProperties.class)
 @Configuration
 @EnableScheduling
 public class SchedulerConfig {
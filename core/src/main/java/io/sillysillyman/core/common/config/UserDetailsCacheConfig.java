@@ -0,0 +1,28 @@
+package io.sillysillyman.core.common.config;
+
+import io.sillysillyman.core.auth.properties.UserDetailsCacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@EnableConfigurationProperties(UserDetailsCacheProperties.class)
+@Configuration
+public class UserDetailsCacheConfig {
+
+    // 사용자 정보 무효화와 사용자명 필터 전파가 함께 쓰는 pub/sub 리스너 컨테이너
+    @Bean
+    @ConditionalOnExpression(
+        "'${user-details-cache.invalidation.bus:redis}' == 'redis'"
+            + " or '${username-filter.broadcast.bus:redis}' == 'redis'"
+    )
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        RedisConnectionFactory connectionFactory
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
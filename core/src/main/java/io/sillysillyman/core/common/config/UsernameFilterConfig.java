@@ -0,0 +1,11 @@
+package io.sillysillyman.core.common.config;
+
+import io.sillysillyman.core.domain.user.properties.UsernameFilterProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@EnableConfigurationProperties(UsernameFilterProperties.class)
+@Configuration
+public class UsernameFilterConfig {
+
+}
@@ -0,0 +1,142 @@
+package io.sillysillyman.core.common.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sillysillyman.core.common.properties.EngagementCounterProperties;
+import io.sillysillyman.core.domain.comment.event.CommentCountChangedEvent;
+import io.sillysillyman.core.domain.comment.repository.CommentRepository;
+import io.sillysillyman.core.domain.like.event.PostLikeChangedEvent;
+import io.sillysillyman.core.domain.post.repository.PostRepository;
+import io.sillysillyman.core.domain.reply.event.ReplyCountChangedEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시물 댓글 수, 좋아요 수와 댓글 답글 수의 증감을 메모리에 모았다가 주기적으로 한꺼번에 반영한다.
+ * 같은 증감값끼리 묶어 UPDATE 하므로 대부분 +1/-1 두 종류의 쿼리로 끝난다.
+ * 반영 전에 프로세스가 비정상 종료되면 모아 둔 증감은 유실된다.
+ */
+@Slf4j(topic = "EngagementCounters")
+@Component
+public class EngagementCounters implements DisposableBean {
+
+    private static final String COMMENT_COUNT = "post.commentCount";
+    private static final String LIKE_COUNT = "post.likeCount";
+    private static final String REPLY_COUNT = "comment.replyCount";
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final StripedDeltaBuffer commentCounts;
+    private final StripedDeltaBuffer likeCounts;
+    private final StripedDeltaBuffer replyCounts;
+    private final MeterRegistry meterRegistry;
+
+    public EngagementCounters(
+        PostRepository postRepository,
+        CommentRepository commentRepository,
+        TransactionTemplate transactionTemplate,
+        EngagementCounterProperties engagementCounterProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = engagementCounterProperties.getBatchSize();
+        this.commentCounts = new StripedDeltaBuffer(engagementCounterProperties.getStripes());
+        this.likeCounts = new StripedDeltaBuffer(engagementCounterProperties.getStripes());
+        this.replyCounts = new StripedDeltaBuffer(engagementCounterProperties.getStripes());
+        this.meterRegistry = meterRegistry;
+    }
+
+    @TransactionalEventListener
+    public void onCommentCountChanged(CommentCountChangedEvent event) {
+        commentCounts.add(event.postId(), event.delta());
+    }
+
+    @TransactionalEventListener
+    public void onPostLikeChanged(PostLikeChangedEvent event) {
+        likeCounts.add(event.postId(), event.delta());
+    }
+
+    @TransactionalEventListener
+    public void onReplyCountChanged(ReplyCountChangedEvent event) {
+        replyCounts.add(event.commentId(), event.delta());
+    }
+
+    @Scheduled(fixedDelayString = "${engagement-counter.flush-interval:PT1S}")
+    public void flush() {
+        flush(COMMENT_COUNT, commentCounts, postRepository::addCommentCount);
+        flush(LIKE_COUNT, likeCounts, postRepository::addLikeCount);
+        flush(REPLY_COUNT, replyCounts, commentRepository::addReplyCount);
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    private void flush(String counter, StripedDeltaBuffer buffer, CountUpdater updater) {
+        Map<Long, Long> deltas = buffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> idsByDelta = new TreeMap<>();
+        deltas.forEach(
+            (id, delta) -> idsByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(id)
+        );
+
+        // 반영하지 못하고 빠져나가도 남은 증감은 버퍼에 되돌려 다음 주기에 다시 반영
+        Map<Long, Long> unwritten = new HashMap<>(deltas);
+        try {
+            idsByDelta.forEach((delta, ids) -> {
+                for (int from = 0; from < ids.size(); from += batchSize) {
+                    List<Long> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                    try {
+                        transactionTemplate.executeWithoutResult(
+                            status -> updater.add(batch, delta)
+                        );
+                        batch.forEach(unwritten::remove);
+                        flushedCounter(counter).increment(batch.size());
+                    } catch (RuntimeException e) {
+                        failedCounter(counter).increment(batch.size());
+                        log.warn("Failed to flush {} for {} rows", counter, batch.size(), e);
+                    }
+                }
+            });
+        } finally {
+            unwritten.forEach(buffer::add);
+        }
+    }
+
+    private Counter flushedCounter(String counter) {
+        return Counter.builder("engagement.counter.flushed")
+            .description("Rows whose buffered count delta was written")
+            .tag("counter", counter)
+            .register(meterRegistry);
+    }
+
+    private Counter failedCounter(String counter) {
+        return Counter.builder("engagement.counter.flush.failed")
+            .description("Rows whose buffered count delta failed to write and was re-queued")
+            .tag("counter", counter)
+            .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface CountUpdater {
+
+        long add(List<Long> ids, long delta);
+    }
+}
@@ -0,0 +1,67 @@
+package io.sillysillyman.core.common.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ID 별 증감을 모아 두는 버퍼. ID 해시로 나눈 구간마다 따로 잠가 쓰기 경합을 나누고,
+ * 비울 때는 구간의 맵을 통째로 바꿔 끼우므로 비우는 도중에 들어온 증감도 잃지 않는다.
+ */
+public class StripedDeltaBuffer {
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public StripedDeltaBuffer(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("stripeCount must be positive: " + stripeCount);
+        }
+        int size = Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new Stripe[Math.max(size, 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.mask = stripes.length - 1;
+    }
+
+    public void add(long id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        Stripe stripe = stripeFor(id);
+        synchronized (stripe) {
+            // 상쇄되어 0 이 된 항목은 지워 비울 때 불필요한 UPDATE 를 만들지 않음
+            stripe.deltas.merge(id, delta, (previous, added) -> {
+                long sum = previous + added;
+                return sum == 0 ? null : sum;
+            });
+        }
+    }
+
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<Long, Long> deltas;
+            synchronized (stripe) {
+                if (stripe.deltas.isEmpty()) {
+                    continue;
+                }
+                deltas = stripe.deltas;
+                stripe.deltas = new HashMap<>();
+            }
+            drained.putAll(deltas);
+        }
+        return drained;
+    }
+
+    private Stripe stripeFor(long id) {
+        // 시간순 ID 의 하위 비트는 시퀀스라 치우치므로 섞은 뒤 상위 비트를 사용
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (hash >>> 32) & mask];
+    }
+
+    private static final class Stripe {
+
+        private Map<Long, Long> deltas = new HashMap<>();
+    }
+}
@@ -0,0 +1,6 @@
+package io.sillysillyman.core.common.id;
+
+public interface IdGenerator {
+
+    long nextId();
+}
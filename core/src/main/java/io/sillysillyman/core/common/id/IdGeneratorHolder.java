@@ -0,0 +1,24 @@
+package io.sillysillyman.core.common.id;
+
+/**
+ * Hibernate 가 직접 생성하는 식별자 생성기에서 스프링이 구성한 IdGenerator 를 사용하기 위한 홀더.
+ */
+public final class IdGeneratorHolder {
+
+    private static volatile IdGenerator idGenerator;
+
+    private IdGeneratorHolder() {
+    }
+
+    public static void set(IdGenerator idGenerator) {
+        IdGeneratorHolder.idGenerator = idGenerator;
+    }
+
+    public static IdGenerator get() {
+        IdGenerator current = idGenerator;
+        if (current == null) {
+            throw new IllegalStateException("IdGenerator has not been initialized");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,101 @@
+package io.sillysillyman.core.common.id;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서로 정렬되는 64 비트 ID 생성기.
+ * [부호 1 비트 | 에포크 이후 밀리초 41 비트 | 노드 ID 10 비트 | 시퀀스 12 비트]
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    public static final int NODE_ID_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
+
+    private final long epochMillis;
+    private final long nodeId;
+    private final long maxClockBackwardMillis;
+    private final LongSupplier currentTimeMillis;
+
+    // (밀리초 << SEQUENCE_BITS) | 시퀀스. 마지막으로 발급한 논리 시각과 시퀀스
+    private final AtomicLong state = new AtomicLong();
+    // 지금까지 관측한 가장 늦은 실제 시각. 시퀀스 소진으로 앞선 논리 시각과 시계 역행을 구분
+    private final AtomicLong lastObservedMillis = new AtomicLong(Long.MIN_VALUE);
+
+    public SnowflakeIdGenerator(Instant epoch, int nodeId, Duration maxClockBackward) {
+        this(epoch, nodeId, maxClockBackward, System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(
+        Instant epoch,
+        int nodeId,
+        Duration maxClockBackward,
+        LongSupplier currentTimeMillis
+    ) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                "nodeId must be between 0 and " + MAX_NODE_ID + ": " + nodeId
+            );
+        }
+
+        this.epochMillis = epoch.toEpochMilli();
+        this.nodeId = nodeId;
+        this.maxClockBackwardMillis = maxClockBackward.toMillis();
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            long previous = state.get();
+            long now = observeCurrentMillis();
+            // 시계가 뒤로 가거나 시퀀스가 소진되면 마지막 논리 시각에서 이어서 발급
+            long next = Math.max(previous + 1, now << SEQUENCE_BITS);
+
+            // 논리 시각이 허용 범위 이상 앞서면 시계가 따라올 때까지 대기
+            if ((next >>> SEQUENCE_BITS) - now > maxClockBackwardMillis) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (state.compareAndSet(previous, next)) {
+                return ((next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT)
+                    | (nodeId << SEQUENCE_BITS)
+                    | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    private long observeCurrentMillis() {
+        long now = currentTimeMillis.getAsLong() - epochMillis;
+        long lastObserved = lastObservedMillis.accumulateAndGet(now, Math::max);
+        if (now < lastObserved - maxClockBackwardMillis) {
+            // 읽은 뒤 스레드가 밀려 오래된 값일 수 있으므로 한 번 더 읽어 확인
+            now = currentTimeMillis.getAsLong() - epochMillis;
+            if (now < lastObserved - maxClockBackwardMillis) {
+                throw new IllegalStateException(
+                    "Clock moved backwards by " + (lastObserved - now) + "ms"
+                );
+            }
+        }
+        return now;
+    }
+
+    public Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + epochMillis);
+    }
+
+    // 에포크 기준 밀리초. 생성기 없이 ID 끼리 시각 순서만 비교할 때 사용
+    public static long relativeMillisOf(long id) {
+        return id >>> TIMESTAMP_SHIFT;
+    }
+
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
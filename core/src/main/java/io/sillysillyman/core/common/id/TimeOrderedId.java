@@ -0,0 +1,18 @@
+package io.sillysillyman.core.common.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 애플리케이션에서 생성한 시간 순서 ID 를 식별자로 사용한다.
+ * IDENTITY 와 달리 INSERT 전에 ID 가 정해지므로 JDBC 배치 INSERT 가 가능하다.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOrderedId {
+
+}
@@ -0,0 +1,16 @@
+package io.sillysillyman.core.common.lock;
+
+import java.time.Duration;
+
+public interface LockProvider {
+
+    boolean tryLock(String name, String holder, Duration leaseTime);
+
+    void unlock(String name, String holder);
+
+    /**
+     * 보유 중인 락의 남은 임대 시간을 holdTime 으로 줄인다. 최소 보유 시간 전에 끝난 작업이
+     * 락을 바로 해제하지 않고 그때까지 다른 노드의 재실행을 막는 데 쓴다.
+     */
+    void shortenLease(String name, String holder, Duration holdTime);
+}
@@ -0,0 +1,64 @@
+package io.sillysillyman.core.common.lock;
+
+import io.sillysillyman.core.common.properties.RedisProperties;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class RedisLockProvider implements LockProvider {
+
+    // 임대 시간이 지나 다른 노드가 획득한 락을 해제하지 않도록 보유자를 확인 후 삭제
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of(
+        """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """,
+        Long.class
+    );
+
+    private static final RedisScript<Long> SHORTEN_LEASE_SCRIPT = RedisScript.of(
+        """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """,
+        Long.class
+    );
+
+    private final RedisProperties redisProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public boolean tryLock(String name, String holder, Duration leaseTime) {
+        return Boolean.TRUE.equals(
+            stringRedisTemplate.opsForValue().setIfAbsent(createKey(name), holder, leaseTime)
+        );
+    }
+
+    @Override
+    public void unlock(String name, String holder) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(createKey(name)), holder);
+    }
+
+    @Override
+    public void shortenLease(String name, String holder, Duration holdTime) {
+        stringRedisTemplate.execute(
+            SHORTEN_LEASE_SCRIPT,
+            List.of(createKey(name)),
+            holder,
+            String.valueOf(holdTime.toMillis())
+        );
+    }
+
+    private String createKey(String name) {
+        return redisProperties.getSchedulerLock().getPrefix() + name;
+    }
+}
@@ -0,0 +1,30 @@
+package io.sillysillyman.core.common.lock;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 노드 중 락을 획득한 한 노드에서만 스케줄 작업을 실행한다.
+ * 락을 획득하지 못한 노드는 해당 실행을 건너뛴다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchedulerLock {
+
+    String name();
+
+    /**
+     * 락 임대 시간 (ISO-8601). 작업이 비정상 종료되어도 이 시간이 지나면 락이 해제된다.
+     */
+    String leaseTime() default "PT10M";
+
+    /**
+     * 최소 락 보유 시간 (ISO-8601). 작업이 일찍 끝나도 이 시간까지는 락을 유지해, 시계가 조금씩
+     * 어긋난 다른 노드가 같은 주기의 작업을 다시 실행하지 못하게 한다.
+     */
+    String lockAtLeastFor() default "PT0S";
+}
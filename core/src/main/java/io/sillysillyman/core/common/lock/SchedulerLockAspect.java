@@ -0,0 +1,100 @@
+package io.sillysillyman.core.common.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Slf4j(topic = "SchedulerLockAspect")
+@Component
+public class SchedulerLockAspect {
+
+    private final LockProvider lockProvider;
+    private final MeterRegistry meterRegistry;
+    private final String nodeId;
+
+    public SchedulerLockAspect(LockProvider lockProvider, MeterRegistry meterRegistry) {
+        this.lockProvider = lockProvider;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    @Around("@annotation(schedulerLock)")
+    public Object runLocked(ProceedingJoinPoint joinPoint, SchedulerLock schedulerLock)
+        throws Throwable {
+        String name = schedulerLock.name();
+        Duration leaseTime = Duration.parse(schedulerLock.leaseTime());
+        Duration lockAtLeastFor = Duration.parse(schedulerLock.lockAtLeastFor());
+        String holder = nodeId + ":" + UUID.randomUUID();
+
+        if (!tryLock(name, holder, leaseTime)) {
+            count("scheduler.lock.skipped", name);
+            log.debug("Skipped job {}: lock is held by another node", name);
+            return null;
+        }
+
+        count("scheduler.lock.acquired", name);
+        long startedAt = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            Duration heldTime = Duration.ofNanos(System.nanoTime() - startedAt);
+            Timer.builder("scheduler.lock.held")
+                .description("Time a scheduler lock was held by a running job")
+                .tag("job", name)
+                .register(meterRegistry)
+                .record(heldTime);
+
+            if (heldTime.compareTo(leaseTime) > 0) {
+                count("scheduler.lock.lease.exceeded", name);
+                log.warn(
+                    "Job {} held the lock for {} beyond its lease time {}. "
+                        + "Another node may have run it concurrently",
+                    name,
+                    heldTime,
+                    leaseTime
+                );
+            }
+            release(name, holder, lockAtLeastFor.minus(heldTime));
+        }
+    }
+
+    private boolean tryLock(String name, String holder, Duration leaseTime) {
+        try {
+            return lockProvider.tryLock(name, holder, leaseTime);
+        } catch (DataAccessException e) {
+            // 락 저장소 장애 시 모든 노드가 중복 실행하지 않도록 실행을 건너뜀
+            log.error("Failed to acquire lock for job: {}", name, e);
+            count("scheduler.lock.failed", name);
+            return false;
+        }
+    }
+
+    private void release(String name, String holder, Duration remainingHoldTime) {
+        try {
+            if (remainingHoldTime.isPositive()) {
+                lockProvider.shortenLease(name, holder, remainingHoldTime);
+            } else {
+                lockProvider.unlock(name, holder);
+            }
+        } catch (DataAccessException e) {
+            log.error("Failed to release lock for job: {}. It expires with its lease", name, e);
+        }
+    }
+
+    private void count(String meterName, String name) {
+        Counter.builder(meterName)
+            .tag("job", name)
+            .register(meterRegistry)
+            .increment();
+    }
+}
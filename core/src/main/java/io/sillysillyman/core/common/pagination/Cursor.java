@@ -0,0 +1,46 @@
+package io.sillysillyman.core.common.pagination;
+
+import io.sillysillyman.core.common.pagination.exception.PaginationErrorCode;
+import io.sillysillyman.core.common.pagination.exception.detail.InvalidCursorException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * (createdAt, id) 키셋 위치.
+ * 클라이언트에는 불투명한 base64url 문자열로만 노출한다.
+ */
+public record Cursor(Instant createdAt, long id) {
+
+    private static final byte VERSION = 1;
+    private static final int ENCODED_BYTES = Byte.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public Cursor {
+        Objects.requireNonNull(createdAt, "createdAt");
+    }
+
+    public static Cursor decode(String value) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(value));
+            if (buffer.remaining() != ENCODED_BYTES || buffer.get() != VERSION) {
+                throw new InvalidCursorException(PaginationErrorCode.INVALID_CURSOR);
+            }
+            Instant createdAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            return new Cursor(createdAt, buffer.getLong());
+        } catch (IllegalArgumentException | BufferUnderflowException | DateTimeException e) {
+            throw new InvalidCursorException(PaginationErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+            .put(VERSION)
+            .putLong(createdAt.getEpochSecond())
+            .putInt(createdAt.getNano())
+            .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+}
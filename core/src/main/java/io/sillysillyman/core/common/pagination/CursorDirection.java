@@ -0,0 +1,6 @@
+package io.sillysillyman.core.common.pagination;
+
+public enum CursorDirection {
+    NEXT,
+    PREV
+}
@@ -0,0 +1,60 @@
+package io.sillysillyman.core.common.pagination;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import java.time.Instant;
+import org.springframework.data.domain.Sort;
+
+/**
+ * (createdAt, id) 복합 키 기준 seek 조건과 정렬을 만든다.
+ * 역방향 조회는 정렬을 뒤집어 커서에 가까운 순서로 가져오고,
+ * {@link CursorSlice#of} 에서 원래 순서로 되돌린다.
+ */
+public final class CursorQuerySupport {
+
+    private CursorQuerySupport() {
+    }
+
+    public static Predicate seek(
+        DateTimePath<Instant> createdAt,
+        NumberPath<Long> id,
+        CursorRequest request,
+        Sort.Direction order
+    ) {
+        Cursor cursor = request.cursor();
+        if (cursor == null) {
+            return null;
+        }
+        if (scanDirection(request, order).isAscending()) {
+            return createdAt.gt(cursor.createdAt())
+                .or(createdAt.eq(cursor.createdAt()).and(id.gt(cursor.id())));
+        }
+        return createdAt.lt(cursor.createdAt())
+            .or(createdAt.eq(cursor.createdAt()).and(id.lt(cursor.id())));
+    }
+
+    public static OrderSpecifier<?>[] orderBy(
+        DateTimePath<Instant> createdAt,
+        NumberPath<Long> id,
+        CursorRequest request,
+        Sort.Direction order
+    ) {
+        if (scanDirection(request, order).isAscending()) {
+            return new OrderSpecifier<?>[]{createdAt.asc(), id.asc()};
+        }
+        return new OrderSpecifier<?>[]{createdAt.desc(), id.desc()};
+    }
+
+    public static int limit(CursorRequest request) {
+        return request.size() + 1;
+    }
+
+    private static Sort.Direction scanDirection(CursorRequest request, Sort.Direction order) {
+        if (!request.isBackward()) {
+            return order;
+        }
+        return order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+    }
+}
@@ -0,0 +1,28 @@
+package io.sillysillyman.core.common.pagination;
+
+public record CursorRequest(Cursor cursor, CursorDirection direction, int size) {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    public CursorRequest {
+        direction = direction == null ? CursorDirection.NEXT : direction;
+        size = Math.clamp(size, 1, MAX_SIZE);
+    }
+
+    public static CursorRequest of(String cursor, CursorDirection direction, Integer size) {
+        return new CursorRequest(
+            cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor),
+            direction,
+            size == null ? DEFAULT_SIZE : size
+        );
+    }
+
+    public static CursorRequest first(int size) {
+        return new CursorRequest(null, CursorDirection.NEXT, size);
+    }
+
+    public boolean isBackward() {
+        return cursor != null && direction == CursorDirection.PREV;
+    }
+}
@@ -0,0 +1,69 @@
+package io.sillysillyman.core.common.pagination;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorSlice<T>(
+    List<T> content,
+    Cursor nextCursor,
+    Cursor prevCursor,
+    int size
+) {
+
+    public CursorSlice {
+        content = List.copyOf(content);
+    }
+
+    /**
+     * size + 1 건까지 조회한 결과로 슬라이스를 만든다.
+     * 역방향 조회 결과는 역순으로 들어온다고 가정한다.
+     */
+    public static <T> CursorSlice<T> of(
+        List<T> fetched,
+        CursorRequest request,
+        Function<T, Cursor> cursorExtractor
+    ) {
+        boolean hasMore = fetched.size() > request.size();
+        List<T> content = new ArrayList<>(hasMore ? fetched.subList(0, request.size()) : fetched);
+
+        boolean hasNext;
+        boolean hasPrevious;
+        if (request.isBackward()) {
+            Collections.reverse(content);
+            hasNext = true;
+            hasPrevious = hasMore;
+        } else {
+            hasNext = hasMore;
+            hasPrevious = request.cursor() != null;
+        }
+
+        if (content.isEmpty()) {
+            return new CursorSlice<>(content, null, null, request.size());
+        }
+        return new CursorSlice<>(
+            content,
+            hasNext ? cursorExtractor.apply(content.getLast()) : null,
+            hasPrevious ? cursorExtractor.apply(content.getFirst()) : null,
+            request.size()
+        );
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return prevCursor != null;
+    }
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorSlice<>(
+            content.stream().<R>map(mapper).toList(),
+            nextCursor,
+            prevCursor,
+            size
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package io.sillysillyman.core.common.pagination;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.EntityPathBase;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * {@link Pageable} 을 QueryDSL 조회에 적용한다.
+ * 정렬 속성은 조회 대상 엔티티 기준 경로로 해석한다.
+ */
+public final class PageQuerySupport {
+
+    private PageQuerySupport() {
+    }
+
+    public static <T> Page<T> page(
+        JPAQuery<T> contentQuery,
+        EntityPathBase<?> root,
+        Pageable pageable,
+        LongSupplier countQuery
+    ) {
+        List<T> content = applyPaging(contentQuery, root, pageable, 0).fetch();
+        return PageableExecutionUtils.getPage(content, pageable, countQuery);
+    }
+
+    public static <T> Slice<T> slice(
+        JPAQuery<T> contentQuery,
+        EntityPathBase<?> root,
+        Pageable pageable
+    ) {
+        List<T> content = new ArrayList<>(applyPaging(contentQuery, root, pageable, 1).fetch());
+        boolean hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content.removeLast();
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private static <T> JPAQuery<T> applyPaging(
+        JPAQuery<T> query,
+        EntityPathBase<?> root,
+        Pageable pageable,
+        int extraRows
+    ) {
+        query.orderBy(orderBy(root, pageable));
+        if (pageable.isPaged()) {
+            query.offset(pageable.getOffset()).limit(pageable.getPageSize() + extraRows);
+        }
+        return query;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static OrderSpecifier<?>[] orderBy(EntityPathBase<?> root, Pageable pageable) {
+        PathBuilder<?> pathBuilder = new PathBuilder<>(root.getType(), root.getMetadata());
+        return pageable.getSort().stream()
+            .map(order -> new OrderSpecifier(
+                order.isAscending() ? Order.ASC : Order.DESC,
+                pathBuilder.getComparable(order.getProperty(), Comparable.class)
+            ))
+            .toArray(OrderSpecifier<?>[]::new);
+    }
+}
@@ -0,0 +1,14 @@
+package io.sillysillyman.core.common.pagination.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum PaginationErrorCode {
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "invalid cursor");
+
+    private final HttpStatus status;
+    private final String message;
+}
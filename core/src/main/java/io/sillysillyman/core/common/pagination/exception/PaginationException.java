@@ -0,0 +1,14 @@
+package io.sillysillyman.core.common.pagination.exception;
+
+import lombok.Getter;
+
+@Getter
+public class PaginationException extends RuntimeException {
+
+    private final PaginationErrorCode paginationErrorCode;
+
+    public PaginationException(PaginationErrorCode paginationErrorCode) {
+        super(paginationErrorCode.getMessage());
+        this.paginationErrorCode = paginationErrorCode;
+    }
+}
@@ -0,0 +1,11 @@
+package io.sillysillyman.core.common.pagination.exception.detail;
+
+import io.sillysillyman.core.common.pagination.exception.PaginationErrorCode;
+import io.sillysillyman.core.common.pagination.exception.PaginationException;
+
+public class InvalidCursorException extends PaginationException {
+
+    public InvalidCursorException(PaginationErrorCode paginationErrorCode) {
+        super(paginationErrorCode);
+    }
+}
@@ -0,0 +1,15 @@
+package io.sillysillyman.core.common.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "approximate-count")
+public class ApproximateCountProperties {
+
+    private Duration ttl = Duration.ofMinutes(1);
+    private long maximumSize = 100_000;
+}
@@ -0,0 +1,18 @@
+package io.sillysillyman.core.common.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CircuitBreakerProperties {
+
+    private Duration callTimeout = Duration.ofMillis(200);
+    private int failureThreshold = 5;
+    private Duration openDuration = Duration.ofSeconds(10);
+    private int halfOpenPermittedCalls = 1;
+    private int poolSize = 16;
+    // 풀이 가득 찼을 때 잠시 기다릴 호출 수. 0 이면 바로 부하 차단
+    private int queueCapacity = 64;
+}
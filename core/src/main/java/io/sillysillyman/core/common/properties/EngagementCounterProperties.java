@@ -0,0 +1,18 @@
+package io.sillysillyman.core.common.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "engagement-counter")
+public class EngagementCounterProperties {
+
+    // 모아 둔 증감을 DB 에 반영하는 간격. 표시되는 개수는 최대 이만큼 뒤처짐
+    private Duration flushInterval = Duration.ofSeconds(1);
+    private int stripes = 16;
+    // UPDATE 한 번에 넣는 ID 수
+    private int batchSize = 500;
+}
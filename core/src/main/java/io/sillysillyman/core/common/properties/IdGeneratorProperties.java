@@ -0,0 +1,18 @@
+package io.sillysillyman.core.common.properties;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "id-generator")
+public class IdGeneratorProperties {
+
+    // 지정하지 않으면 Redis 카운터로 노드 ID 를 할당
+    private Integer nodeId;
+    private Instant epoch = Instant.parse("2024-01-01T00:00:00Z");
+    private Duration maxClockBackward = Duration.ofSeconds(1);
+}
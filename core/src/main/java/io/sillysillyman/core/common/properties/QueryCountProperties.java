@@ -0,0 +1,14 @@
+package io.sillysillyman.core.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "query-count")
+public class QueryCountProperties {
+
+    private boolean enabled = true;
+    private boolean exposeHeaders;
+}
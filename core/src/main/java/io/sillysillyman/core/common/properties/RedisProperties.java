@@ -8,7 +8,19 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "redis")
 public class RedisProperties {
 
+    private final CredentialVersionProperties credentialVersion = new CredentialVersionProperties();
     private final RefreshTokenProperties refreshToken = new RefreshTokenProperties();
+    private final SchedulerLockProperties schedulerLock = new SchedulerLockProperties();
+    private final IdNodeProperties idNode = new IdNodeProperties();
+    private final TimelineProperties timeline = new TimelineProperties();
+
+    @Getter
+    @Setter
+    public static class CredentialVersionProperties {
+
+        private String prefix;
+        private final CircuitBreakerProperties circuitBreaker = new CircuitBreakerProperties();
+    }
 
     @Getter
     @Setter
@@ -17,4 +29,26 @@ public class RedisProperties {
         private String prefix;
         private long expiration;
     }
+
+    @Getter
+    @Setter
+    public static class SchedulerLockProperties {
+
+        private String prefix;
+    }
+
+    @Getter
+    @Setter
+    public static class IdNodeProperties {
+
+        private String key;
+    }
+
+    @Getter
+    @Setter
+    public static class TimelineProperties {
+
+        private String prefix;
+        private String fanoutOnReadKey;
+    }
 }
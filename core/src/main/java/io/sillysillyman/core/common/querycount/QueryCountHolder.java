@@ -0,0 +1,70 @@
+package io.sillysillyman.core.common.querycount;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+// 요청 스레드 단위로 JDBC 구문, 엔티티 로드, Redis 호출 횟수를 누적
+public final class QueryCountHolder {
+
+    private static final ThreadLocal<QueryCounts> COUNTS = new ThreadLocal<>();
+
+    private QueryCountHolder() {
+    }
+
+    public static QueryCounts start() {
+        QueryCounts counts = new QueryCounts();
+        COUNTS.set(counts);
+        return counts;
+    }
+
+    public static Optional<QueryCounts> current() {
+        return Optional.ofNullable(COUNTS.get());
+    }
+
+    public static void clear() {
+        COUNTS.remove();
+    }
+
+    // 요청이 다른 스레드에 맡긴 작업(서킷 브레이커 풀 등)의 호출도 요청의 횟수에 집계되도록 측정을 넘겨줌
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        QueryCounts counts = COUNTS.get();
+        if (counts == null) {
+            return task;
+        }
+        return () -> {
+            QueryCounts previous = COUNTS.get();
+            COUNTS.set(counts);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    COUNTS.remove();
+                } else {
+                    COUNTS.set(previous);
+                }
+            }
+        };
+    }
+
+    // 측정 중인 요청이 없는 스레드(스케줄러, 리스너 컨테이너 등)에서는 집계하지 않음
+    static void incrementStatements() {
+        QueryCounts counts = COUNTS.get();
+        if (counts != null) {
+            counts.incrementStatements();
+        }
+    }
+
+    static void incrementEntityLoads() {
+        QueryCounts counts = COUNTS.get();
+        if (counts != null) {
+            counts.incrementEntityLoads();
+        }
+    }
+
+    static void incrementRedisCalls() {
+        QueryCounts counts = COUNTS.get();
+        if (counts != null) {
+            counts.incrementRedisCalls();
+        }
+    }
+}
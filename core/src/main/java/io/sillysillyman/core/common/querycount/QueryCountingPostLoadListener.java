@@ -0,0 +1,12 @@
+package io.sillysillyman.core.common.querycount;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+public class QueryCountingPostLoadListener implements PostLoadEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        QueryCountHolder.incrementEntityLoads();
+    }
+}
@@ -0,0 +1,60 @@
+package io.sillysillyman.core.common.querycount;
+
+import java.util.Set;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+// 연결 팩토리가 내어주는 연결을 감싸 연결에 대한 명령 호출 횟수를 집계
+public class QueryCountingRedisConnectionFactoryPostProcessor implements BeanPostProcessor {
+
+    private static final Set<String> CONNECTION_METHODS = Set.of(
+        "getConnection",
+        "getClusterConnection"
+    );
+    private static final Set<String> NON_COMMAND_METHODS = Set.of(
+        "close",
+        "isClosed",
+        "getNativeConnection",
+        "isQueueing",
+        "isPipelined",
+        "openPipeline",
+        "closePipeline",
+        "getSentinelConnection",
+        "isSubscribed",
+        "getSubscription",
+        "equals",
+        "hashCode",
+        "toString"
+    );
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof RedisConnectionFactory)) {
+            return bean;
+        }
+        // 구현체 타입으로 드라이버를 판별하는 곳(ConnectionUtils 등)이 있어 클래스 기반 프록시 사용
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            Object result = invocation.proceed();
+            if (result != null && CONNECTION_METHODS.contains(invocation.getMethod().getName())) {
+                return countingConnection(result);
+            }
+            return result;
+        });
+        return proxyFactory.getProxy();
+    }
+
+    private Object countingConnection(Object connection) {
+        ProxyFactory proxyFactory = new ProxyFactory(connection);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            if (!NON_COMMAND_METHODS.contains(invocation.getMethod().getName())) {
+                QueryCountHolder.incrementRedisCalls();
+            }
+            return invocation.proceed();
+        });
+        return proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,17 @@
+package io.sillysillyman.core.common.querycount;
+
+import org.hibernate.BaseSessionEventListener;
+
+// hibernate.session.events.auto 로 세션마다 생성되며 실행된 JDBC 구문과 배치를 집계
+public class QueryCountingSessionEventListener extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryCountHolder.incrementStatements();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryCountHolder.incrementStatements();
+    }
+}
@@ -0,0 +1,35 @@
+package io.sillysillyman.core.common.querycount;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 요청 스레드와 요청이 넘겨준 작업 스레드가 함께 누적하므로 원자적으로 증가
+public class QueryCounts {
+
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong entityLoads = new AtomicLong();
+    private final AtomicLong redisCalls = new AtomicLong();
+
+    public long getStatements() {
+        return statements.get();
+    }
+
+    public long getEntityLoads() {
+        return entityLoads.get();
+    }
+
+    public long getRedisCalls() {
+        return redisCalls.get();
+    }
+
+    void incrementStatements() {
+        statements.incrementAndGet();
+    }
+
+    void incrementEntityLoads() {
+        entityLoads.incrementAndGet();
+    }
+
+    void incrementRedisCalls() {
+        redisCalls.incrementAndGet();
+    }
+}
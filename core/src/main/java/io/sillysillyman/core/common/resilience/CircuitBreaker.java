@@ -0,0 +1,184 @@
+package io.sillysillyman.core.common.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sillysillyman.core.common.properties.CircuitBreakerProperties;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j(topic = "CircuitBreaker")
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * 허용된 호출 하나. 허용 당시의 상태 세대와 반열림 시험 호출 자리를 차지했는지를 담아,
+     * 상태가 바뀐 뒤 끝난 호출이 새 상태의 집계를 건드리지 않게 한다.
+     */
+    public record Permit(long generation, boolean halfOpenProbe) {
+
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenPermittedCalls;
+    private final LongSupplier nanoTime;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+    private final Counter shedCounter;
+
+    private volatile State state = State.CLOSED;
+    private volatile long generation;
+    private int consecutiveFailures;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(
+        String name,
+        CircuitBreakerProperties circuitBreakerProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this(name, circuitBreakerProperties, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(
+        String name,
+        CircuitBreakerProperties circuitBreakerProperties,
+        MeterRegistry meterRegistry,
+        LongSupplier nanoTime
+    ) {
+        this.name = name;
+        this.failureThreshold = circuitBreakerProperties.getFailureThreshold();
+        this.openDurationNanos = circuitBreakerProperties.getOpenDuration().toNanos();
+        this.halfOpenPermittedCalls = circuitBreakerProperties.getHalfOpenPermittedCalls();
+        this.nanoTime = nanoTime;
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = Counter.builder("circuit.breaker.rejected")
+            .description("Calls rejected while the circuit breaker was not closed")
+            .tag("name", name)
+            .register(meterRegistry);
+
+        this.shedCounter = Counter.builder("circuit.breaker.shed")
+            .description("Permitted calls dropped because the worker pool was saturated")
+            .tag("name", name)
+            .register(meterRegistry);
+
+        Gauge.builder("circuit.breaker.state", this, breaker -> breaker.state.ordinal())
+            .description("Circuit breaker state (0 = closed, 1 = open, 2 = half-open)")
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Optional<Permit> tryAcquirePermission() {
+        // 세대를 먼저 읽어야 그 사이 상태가 바뀌면 지난 세대의 허가로 남아 무시됨
+        long currentGeneration = generation;
+        if (state == State.CLOSED) {
+            return Optional.of(new Permit(currentGeneration, false));
+        }
+
+        synchronized (this) {
+            if (state == State.OPEN && nanoTime.getAsLong() - openedAt >= openDurationNanos) {
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN && halfOpenInFlight < halfOpenPermittedCalls) {
+                halfOpenInFlight++;
+                return Optional.of(new Permit(generation, true));
+            }
+            if (state == State.CLOSED) {
+                return Optional.of(new Permit(generation, false));
+            }
+        }
+
+        rejectedCounter.increment();
+        return Optional.empty();
+    }
+
+    public synchronized void onSuccess(Permit permit) {
+        if (permit.generation() != generation) {
+            return;
+        }
+        switch (state) {
+            case CLOSED -> consecutiveFailures = 0;
+            case HALF_OPEN -> {
+                if (!permit.halfOpenProbe()) {
+                    return;
+                }
+                halfOpenInFlight--;
+                if (++halfOpenSuccesses >= halfOpenPermittedCalls) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+            }
+        }
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (permit.generation() != generation) {
+            return;
+        }
+        switch (state) {
+            case CLOSED -> {
+                if (++consecutiveFailures >= failureThreshold) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                if (permit.halfOpenProbe()) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            case OPEN -> {
+            }
+        }
+    }
+
+    /**
+     * 저장소에 닿기 전에 작업 풀이 가득 차 버려진 호출. 저장소 장애가 아니므로 실패로 세지 않고
+     * 반열림 시험 자리만 돌려준다.
+     */
+    public synchronized void onLoadShed(Permit permit) {
+        shedCounter.increment();
+        if (permit.generation() == generation && state == State.HALF_OPEN
+            && permit.halfOpenProbe()) {
+            halfOpenInFlight--;
+        }
+    }
+
+    private void transitionTo(State newState) {
+        State previousState = state;
+
+        consecutiveFailures = 0;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        if (newState == State.OPEN) {
+            openedAt = nanoTime.getAsLong();
+        }
+        state = newState;
+        generation++;
+
+        meterRegistry.counter(
+            "circuit.breaker.transitions",
+            "name", name,
+            "from", previousState.name(),
+            "to", newState.name()
+        ).increment();
+        log.warn("Circuit breaker '{}' transitioned from {} to {}", name, previousState, newState);
+    }
+}
@@ -0,0 +1,109 @@
+package io.sillysillyman.core.common.resilience;
+
+import io.sillysillyman.core.common.properties.CircuitBreakerProperties;
+import io.sillysillyman.core.common.querycount.QueryCountHolder;
+import io.sillysillyman.core.common.resilience.CircuitBreaker.Permit;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * 외부 저장소 호출을 전용 스레드 풀에서 지연 시간 예산 안에 실행하고 결과를 서킷 브레이커에 알린다.
+ * 서킷이 열려 있거나 예산을 넘기면 호출자가 정한 예외로 바로 실패한다.
+ * 풀과 대기열이 가득 차 저장소에 닿지도 못한 호출은 부하 차단으로 보고 실패로 세지 않는다.
+ */
+@Slf4j(topic = "CircuitBreakingExecutor")
+public class CircuitBreakingExecutor implements DisposableBean {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Duration callTimeout;
+    private final ThreadPoolExecutor executor;
+    private final Function<Throwable, ? extends RuntimeException> unavailableException;
+
+    public CircuitBreakingExecutor(
+        CircuitBreaker circuitBreaker,
+        CircuitBreakerProperties circuitBreakerProperties,
+        String threadNamePrefix,
+        Function<Throwable, ? extends RuntimeException> unavailableException
+    ) {
+        this.circuitBreaker = circuitBreaker;
+        this.callTimeout = circuitBreakerProperties.getCallTimeout();
+        this.unavailableException = unavailableException;
+        this.executor = new ThreadPoolExecutor(
+            circuitBreakerProperties.getPoolSize(),
+            circuitBreakerProperties.getPoolSize(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            circuitBreakerProperties.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(circuitBreakerProperties.getQueueCapacity())
+                : new SynchronousQueue<>(),
+            new CustomizableThreadFactory(threadNamePrefix),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public <T> T call(Supplier<T> action) {
+        Permit permit = circuitBreaker.tryAcquirePermission()
+            .orElseThrow(() -> unavailableException.apply(null));
+
+        AtomicBoolean started = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(QueryCountHolder.propagate(() -> {
+                started.set(true);
+                return action.get();
+            }));
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.onLoadShed(permit);
+            log.warn("All '{}' workers are busy", circuitBreaker.getName());
+            throw unavailableException.apply(e);
+        }
+
+        try {
+            T result = future.get(callTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess(permit);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            if (started.get()) {
+                circuitBreaker.onFailure(permit);
+                log.warn("'{}' call exceeded its {} ms budget",
+                    circuitBreaker.getName(), callTimeout.toMillis());
+            } else {
+                // 대기열에서 예산을 다 쓴 호출은 저장소가 아니라 풀이 느린 것
+                circuitBreaker.onLoadShed(permit);
+                log.warn("'{}' call waited {} ms in the queue without starting",
+                    circuitBreaker.getName(), callTimeout.toMillis());
+            }
+            throw unavailableException.apply(e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure(permit);
+            Thread.currentThread().interrupt();
+            throw unavailableException.apply(e);
+        } catch (ExecutionException e) {
+            circuitBreaker.onFailure(permit);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw unavailableException.apply(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
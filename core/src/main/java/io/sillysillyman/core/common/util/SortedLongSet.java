@@ -0,0 +1,216 @@
+package io.sillysillyman.core.common.util;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * 정렬된 long 블록으로 이루어진 집합. 원소를 박싱하지 않고 블록 안에서만 이동시키므로
+ * 원소가 수백만 개여도 삽입/삭제 비용은 블록 크기로 제한된다. 스레드 안전하지 않다.
+ */
+public class SortedLongSet {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private static final int INITIAL_BLOCK_CAPACITY = 4;
+
+    private final int blockSize;
+    private long[][] blocks = new long[1][];
+    private int[] blockSizes = new int[1];
+    private int blockCount;
+    private int size;
+
+    public SortedLongSet() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public SortedLongSet(int blockSize) {
+        if (blockSize < 2) {
+            throw new IllegalArgumentException("blockSize must be at least 2: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    // 오름차순 값으로 블록을 꽉 채워 만든다. 로드 직후 재배치가 필요 없음
+    public static SortedLongSet fromSorted(LongStream values) {
+        SortedLongSet set = new SortedLongSet();
+        long[] block = new long[set.blockSize];
+        int blockLength = 0;
+        long previous = Long.MIN_VALUE;
+
+        for (var iterator = values.iterator(); iterator.hasNext(); ) {
+            long value = iterator.nextLong();
+            if (set.size + blockLength > 0 && value <= previous) {
+                throw new IllegalArgumentException(
+                    "values must be strictly ascending: " + previous + " then " + value
+                );
+            }
+            if (blockLength == set.blockSize) {
+                set.appendBlock(block, blockLength);
+                block = new long[set.blockSize];
+                blockLength = 0;
+            }
+            block[blockLength++] = value;
+            previous = value;
+        }
+        if (blockLength > 0) {
+            set.appendBlock(Arrays.copyOf(block, blockLength), blockLength);
+        }
+        return set;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long value) {
+        if (blockCount == 0) {
+            return false;
+        }
+        int blockIndex = blockIndexFor(value);
+        return Arrays.binarySearch(blocks[blockIndex], 0, blockSizes[blockIndex], value) >= 0;
+    }
+
+    public boolean add(long value) {
+        if (blockCount == 0) {
+            appendBlock(new long[INITIAL_BLOCK_CAPACITY], 0);
+        }
+
+        int blockIndex = blockIndexFor(value);
+        int position = Arrays.binarySearch(blocks[blockIndex], 0, blockSizes[blockIndex], value);
+        if (position >= 0) {
+            return false;
+        }
+        position = -position - 1;
+
+        if (blockSizes[blockIndex] == blockSize) {
+            int half = blockSize / 2;
+            splitBlock(blockIndex, half);
+            if (position > half) {
+                blockIndex++;
+                position -= half;
+            }
+        }
+
+        long[] block = ensureBlockCapacity(blockIndex);
+        int blockLength = blockSizes[blockIndex];
+        System.arraycopy(block, position, block, position + 1, blockLength - position);
+        block[position] = value;
+        blockSizes[blockIndex]++;
+        size++;
+        return true;
+    }
+
+    public boolean remove(long value) {
+        if (blockCount == 0) {
+            return false;
+        }
+
+        int blockIndex = blockIndexFor(value);
+        long[] block = blocks[blockIndex];
+        int blockLength = blockSizes[blockIndex];
+        int position = Arrays.binarySearch(block, 0, blockLength, value);
+        if (position < 0) {
+            return false;
+        }
+
+        System.arraycopy(block, position + 1, block, position, blockLength - position - 1);
+        blockSizes[blockIndex]--;
+        size--;
+        if (blockSizes[blockIndex] == 0) {
+            removeBlock(blockIndex);
+        }
+        return true;
+    }
+
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < blockCount; i++) {
+            long[] block = blocks[i];
+            for (int j = 0; j < blockSizes[i]; j++) {
+                action.accept(block[j]);
+            }
+        }
+    }
+
+    public long[] toArray() {
+        long[] values = new long[size];
+        int offset = 0;
+        for (int i = 0; i < blockCount; i++) {
+            System.arraycopy(blocks[i], 0, values, offset, blockSizes[i]);
+            offset += blockSizes[i];
+        }
+        return values;
+    }
+
+    // 첫 원소가 value 이하인 마지막 블록. 모든 블록보다 작으면 첫 블록
+    private int blockIndexFor(long value) {
+        int low = 1;
+        int high = blockCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (blocks[mid][0] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low - 1;
+    }
+
+    private long[] ensureBlockCapacity(int blockIndex) {
+        long[] block = blocks[blockIndex];
+        if (blockSizes[blockIndex] == block.length) {
+            block = Arrays.copyOf(block, Math.min(blockSize, block.length * 2));
+            blocks[blockIndex] = block;
+        }
+        return block;
+    }
+
+    private void splitBlock(int blockIndex, int half) {
+        long[] block = blocks[blockIndex];
+        long[] upper = new long[blockSize];
+        System.arraycopy(block, half, upper, 0, blockSize - half);
+        blockSizes[blockIndex] = half;
+        insertBlock(blockIndex + 1, upper, blockSize - half);
+    }
+
+    private void appendBlock(long[] block, int blockLength) {
+        insertBlock(blockCount, block, blockLength);
+        size += blockLength;
+    }
+
+    private void insertBlock(int blockIndex, long[] block, int blockLength) {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, blockCount * 2);
+            blockSizes = Arrays.copyOf(blockSizes, blockCount * 2);
+        }
+        System.arraycopy(blocks, blockIndex, blocks, blockIndex + 1, blockCount - blockIndex);
+        System.arraycopy(
+            blockSizes,
+            blockIndex,
+            blockSizes,
+            blockIndex + 1,
+            blockCount - blockIndex
+        );
+        blocks[blockIndex] = block;
+        blockSizes[blockIndex] = blockLength;
+        blockCount++;
+    }
+
+    private void removeBlock(int blockIndex) {
+        System.arraycopy(blocks, blockIndex + 1, blocks, blockIndex, blockCount - blockIndex - 1);
+        System.arraycopy(
+            blockSizes,
+            blockIndex + 1,
+            blockSizes,
+            blockIndex,
+            blockCount - blockIndex - 1
+        );
+        blockCount--;
+        blocks[blockCount] = null;
+    }
+}
@@ -1,6 +1,5 @@
 package io.sillysillyman.core.domain.comment;
 
-import io.sillysillyman.core.domain.comment.command.UpdateCommentCommand;
 import io.sillysillyman.core.domain.post.Post;
 import io.sillysillyman.core.domain.user.User;
 import lombok.Builder;
@@ -13,13 +12,15 @@ public class Comment {
     private final Post post;
     private final User user;
     private String content;
+    private final long replyCount;
 
     @Builder
-    public Comment(Long id, Post post, User user, String content) {
+    public Comment(Long id, Post post, User user, String content, long replyCount) {
         this.id = id;
         this.post = post;
         this.user = user;
         this.content = content;
+        this.replyCount = replyCount;
     }
 
     public static Comment from(CommentEntity commentEntity) {
@@ -28,10 +29,7 @@ public class Comment {
             .post(Post.from(commentEntity.getPost()))
             .user(User.from(commentEntity.getUser()))
             .content(commentEntity.getContent())
+            .replyCount(commentEntity.getReplyCount())
             .build();
     }
-
-    public void update(UpdateCommentCommand updateCommentCommand) {
-        this.content = updateCommentCommand.content();
-    }
 }
@@ -1,13 +1,14 @@
 package io.sillysillyman.core.domain.comment;
 
 import io.sillysillyman.core.common.BaseEntity;
+import io.sillysillyman.core.common.id.TimeOrderedId;
 import io.sillysillyman.core.domain.post.PostEntity;
 import io.sillysillyman.core.domain.user.UserEntity;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -17,17 +18,24 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "comments")
+@Table(
+    name = "comments",
+    indexes = @Index(name = "idx_comments_post_id_created_at", columnList = "post_id, created_at, id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CommentEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     private String content;
 
+    // 증감은 EngagementCounters 가 모아서 쿼리로 반영하므로 엔티티로는 갱신하지 않음
+    @Column(nullable = false, updatable = false)
+    private long replyCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id")
     private PostEntity post;
@@ -43,13 +51,4 @@ public class CommentEntity extends BaseEntity {
         this.post = post;
         this.user = user;
     }
-
-    public static CommentEntity from(Comment comment) {
-        return CommentEntity.builder()
-            .id(comment.getId())
-            .content(comment.getContent())
-            .post(PostEntity.from(comment.getPost()))
-            .user(UserEntity.from(comment.getUser()))
-            .build();
-    }
 }
@@ -0,0 +1,12 @@
+package io.sillysillyman.core.domain.comment.event;
+
+public record CommentCountChangedEvent(Long postId, long delta) {
+
+    public static CommentCountChangedEvent added(Long postId) {
+        return new CommentCountChangedEvent(postId, 1);
+    }
+
+    public static CommentCountChangedEvent removed(Long postId) {
+        return new CommentCountChangedEvent(postId, -1);
+    }
+}
@@ -0,0 +1,37 @@
+package io.sillysillyman.core.domain.comment.query;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import io.sillysillyman.core.domain.comment.QCommentEntity;
+import io.sillysillyman.core.domain.post.QPostEntity;
+import io.sillysillyman.core.domain.post.query.PostView;
+import io.sillysillyman.core.domain.user.QUserEntity;
+import io.sillysillyman.core.domain.user.query.UserView;
+import java.time.Instant;
+
+public record CommentView(
+    Long id,
+    String content,
+    long replyCount,
+    Instant createdAt,
+    PostView post,
+    UserView user
+) {
+
+    public static ConstructorExpression<CommentView> projection(
+        QCommentEntity comment,
+        QUserEntity author,
+        QPostEntity post,
+        QUserEntity postAuthor
+    ) {
+        return Projections.constructor(
+            CommentView.class,
+            comment.id,
+            comment.content,
+            comment.replyCount,
+            comment.createdAt,
+            PostView.projection(post, postAuthor),
+            UserView.projection(author)
+        );
+    }
+}
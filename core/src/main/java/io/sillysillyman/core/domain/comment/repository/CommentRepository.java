@@ -1,11 +1,18 @@
 package io.sillysillyman.core.domain.comment.repository;
 
 import io.sillysillyman.core.domain.comment.CommentEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
+public interface CommentRepository
+    extends JpaRepository<CommentEntity, Long>, CommentRepositoryCustom {
 
-    Page<CommentEntity> findByPostId(Long postId, Pageable pageable);
+    long countByPostId(Long postId);
+
+    // 댓글 하나당 게시물 ID 하나. 같은 게시물이 여러 번 나올 수 있음
+    @Query("SELECT c.post.id FROM CommentEntity c WHERE c.id IN :ids")
+    List<Long> findPostIdsByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,29 @@
+package io.sillysillyman.core.domain.comment.repository;
+
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.domain.comment.query.CommentView;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface CommentRepositoryCustom {
+
+    List<Long> findIdsByUserIdsOrPostUserIds(Collection<Long> userIds, int limit);
+
+    Optional<CommentView> findViewById(Long commentId);
+
+    Page<CommentView> findViewsByPostId(Long postId, Pageable pageable);
+
+    Slice<CommentView> findViewSliceByPostId(Long postId, Pageable pageable);
+
+    List<CommentView> findViewsByPostIdWithCursor(Long postId, CursorRequest cursorRequest);
+
+    long updateOwnedContent(Long postId, Long commentId, Long userId, String content);
+
+    long deleteOwned(Long postId, Long commentId, Long userId);
+
+    long addReplyCount(Collection<Long> commentIds, long delta);
+}
@@ -0,0 +1,142 @@
+package io.sillysillyman.core.domain.comment.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.sillysillyman.core.common.pagination.CursorQuerySupport;
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.common.pagination.PageQuerySupport;
+import io.sillysillyman.core.domain.comment.QCommentEntity;
+import io.sillysillyman.core.domain.comment.query.CommentView;
+import io.sillysillyman.core.domain.post.QPostEntity;
+import io.sillysillyman.core.domain.user.QUserEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+@RequiredArgsConstructor
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    private static final QCommentEntity qCommentEntity = QCommentEntity.commentEntity;
+    private static final QPostEntity qPostEntity = QPostEntity.postEntity;
+    private static final QUserEntity qCommentUser = new QUserEntity("commentUser");
+    private static final QUserEntity qPostUser = new QUserEntity("postUser");
+    private static final Sort.Direction CURSOR_ORDER = Sort.Direction.ASC;
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<Long> findIdsByUserIdsOrPostUserIds(Collection<Long> userIds, int limit) {
+        return jpaQueryFactory.select(qCommentEntity.id)
+            .from(qCommentEntity)
+            .join(qCommentEntity.post, qPostEntity)
+            .where(qCommentEntity.user.id.in(userIds).or(qPostEntity.user.id.in(userIds)))
+            .orderBy(qCommentEntity.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public Optional<CommentView> findViewById(Long commentId) {
+        return Optional.ofNullable(
+            selectViews().where(qCommentEntity.id.eq(commentId)).fetchOne()
+        );
+    }
+
+    @Override
+    public Page<CommentView> findViewsByPostId(Long postId, Pageable pageable) {
+        return PageQuerySupport.page(
+            selectViewsByPostId(postId),
+            qCommentEntity,
+            pageable,
+            () -> Objects.requireNonNullElse(
+                jpaQueryFactory.select(qCommentEntity.count())
+                    .from(qCommentEntity)
+                    .where(qCommentEntity.post.id.eq(postId))
+                    .fetchOne(),
+                0L
+            )
+        );
+    }
+
+    @Override
+    public Slice<CommentView> findViewSliceByPostId(Long postId, Pageable pageable) {
+        return PageQuerySupport.slice(selectViewsByPostId(postId), qCommentEntity, pageable);
+    }
+
+    @Override
+    public List<CommentView> findViewsByPostIdWithCursor(
+        Long postId,
+        CursorRequest cursorRequest
+    ) {
+        return selectViewsByPostId(postId)
+            .where(
+                CursorQuerySupport.seek(
+                    qCommentEntity.createdAt,
+                    qCommentEntity.id,
+                    cursorRequest,
+                    CURSOR_ORDER
+                )
+            )
+            .orderBy(
+                CursorQuerySupport.orderBy(
+                    qCommentEntity.createdAt,
+                    qCommentEntity.id,
+                    cursorRequest,
+                    CURSOR_ORDER
+                )
+            )
+            .limit(CursorQuerySupport.limit(cursorRequest))
+            .fetch();
+    }
+
+    @Override
+    public long updateOwnedContent(Long postId, Long commentId, Long userId, String content) {
+        return jpaQueryFactory.update(qCommentEntity)
+            .set(qCommentEntity.content, content)
+            .set(qCommentEntity.updatedAt, Instant.now())
+            .where(ownedBy(postId, commentId, userId))
+            .execute();
+    }
+
+    @Override
+    public long deleteOwned(Long postId, Long commentId, Long userId) {
+        return jpaQueryFactory.delete(qCommentEntity)
+            .where(ownedBy(postId, commentId, userId))
+            .execute();
+    }
+
+    @Override
+    public long addReplyCount(Collection<Long> commentIds, long delta) {
+        return jpaQueryFactory.update(qCommentEntity)
+            .set(qCommentEntity.replyCount, qCommentEntity.replyCount.add(delta))
+            .where(qCommentEntity.id.in(commentIds))
+            .execute();
+    }
+
+    private BooleanExpression ownedBy(Long postId, Long commentId, Long userId) {
+        return qCommentEntity.id.eq(commentId)
+            .and(qCommentEntity.post.id.eq(postId))
+            .and(qCommentEntity.user.id.eq(userId));
+    }
+
+    private JPAQuery<CommentView> selectViewsByPostId(Long postId) {
+        return selectViews().where(qCommentEntity.post.id.eq(postId));
+    }
+
+    private JPAQuery<CommentView> selectViews() {
+        return jpaQueryFactory.select(
+                CommentView.projection(qCommentEntity, qCommentUser, qPostEntity, qPostUser)
+            )
+            .from(qCommentEntity)
+            .join(qCommentEntity.user, qCommentUser)
+            .join(qCommentEntity.post, qPostEntity)
+            .join(qPostEntity.user, qPostUser);
+    }
+}
@@ -2,21 +2,32 @@ package io.sillysillyman.core.domain.comment.service;
 
 import io.sillysillyman.core.auth.exception.AuthErrorCode;
 import io.sillysillyman.core.auth.exception.detail.ForbiddenAccessException;
+import io.sillysillyman.core.common.cache.ApproximateCountCache;
+import io.sillysillyman.core.common.pagination.Cursor;
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.common.pagination.CursorSlice;
 import io.sillysillyman.core.domain.comment.Comment;
 import io.sillysillyman.core.domain.comment.CommentEntity;
 import io.sillysillyman.core.domain.comment.command.CreateCommentCommand;
 import io.sillysillyman.core.domain.comment.command.UpdateCommentCommand;
+import io.sillysillyman.core.domain.comment.event.CommentCountChangedEvent;
 import io.sillysillyman.core.domain.comment.exception.CommentErrorCode;
 import io.sillysillyman.core.domain.comment.exception.detail.CommentNotBelongToPostException;
 import io.sillysillyman.core.domain.comment.exception.detail.CommentNotFoundException;
+import io.sillysillyman.core.domain.comment.query.CommentView;
 import io.sillysillyman.core.domain.comment.repository.CommentRepository;
-import io.sillysillyman.core.domain.post.Post;
+import io.sillysillyman.core.domain.post.query.PostView;
+import io.sillysillyman.core.domain.post.repository.PostRepository;
 import io.sillysillyman.core.domain.post.service.PostService;
 import io.sillysillyman.core.domain.user.User;
+import io.sillysillyman.core.domain.user.query.UserView;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,8 +35,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class CommentService {
 
+    private static final String POST_COMMENT_COUNT_SCOPE = "post-comments";
+
     private final CommentRepository commentRepository;
     private final PostService postService;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final ApproximateCountCache approximateCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Comment getById(Long commentId) {
@@ -36,28 +53,77 @@ public class CommentService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public CommentView getViewById(Long commentId) {
+        return commentRepository.findViewById(commentId).orElseThrow(
+            () -> new CommentNotFoundException(CommentErrorCode.COMMENT_NOT_FOUND)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public void validateCommentExists(Long commentId) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new CommentNotFoundException(CommentErrorCode.COMMENT_NOT_FOUND);
+        }
+    }
+
     @Transactional
-    public Comment createComment(
+    public CommentView createComment(
         Long postId,
         CreateCommentCommand createCommentCommand,
         User user
     ) {
-        Post post = postService.getById(postId);
-        Comment comment = Comment.builder()
-            .content(createCommentCommand.content())
-            .post(post)
-            .user(user)
-            .build();
+        PostView post = postService.getViewById(postId);
+
+        CommentEntity commentEntity = commentRepository.save(
+            CommentEntity.builder()
+                .content(createCommentCommand.content())
+                .post(postRepository.getReferenceById(postId))
+                .user(userRepository.getReferenceById(user.getId()))
+                .build()
+        );
+        eventPublisher.publishEvent(CommentCountChangedEvent.added(postId));
+        approximateCountCache.invalidate(POST_COMMENT_COUNT_SCOPE, postId);
+
+        return new CommentView(
+            commentEntity.getId(),
+            commentEntity.getContent(),
+            commentEntity.getReplyCount(),
+            commentEntity.getCreatedAt(),
+            post,
+            UserView.from(user)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public Page<CommentView> getComments(Long postId, Pageable pageable) {
+        postService.validatePostExists(postId);
+        return commentRepository.findViewsByPostId(postId, pageable);
+    }
 
-        CommentEntity commentEntity = commentRepository.save(CommentEntity.from(comment));
+    @Transactional(readOnly = true)
+    public Slice<CommentView> getCommentSlice(Long postId, Pageable pageable) {
+        postService.validatePostExists(postId);
+        return commentRepository.findViewSliceByPostId(postId, pageable);
+    }
 
-        return Comment.from(commentEntity);
+    @Transactional(readOnly = true)
+    public long getApproximateCommentCount(Long postId) {
+        return approximateCountCache.get(
+            POST_COMMENT_COUNT_SCOPE,
+            postId,
+            () -> commentRepository.countByPostId(postId)
+        );
     }
 
     @Transactional(readOnly = true)
-    public Page<Comment> getComments(Long postId, Pageable pageable) {
-        postService.getById(postId);
-        return commentRepository.findByPostId(postId, pageable).map(Comment::from);
+    public CursorSlice<CommentView> getComments(Long postId, CursorRequest cursorRequest) {
+        postService.validatePostExists(postId);
+        return CursorSlice.of(
+            commentRepository.findViewsByPostIdWithCursor(postId, cursorRequest),
+            cursorRequest,
+            commentView -> new Cursor(commentView.createdAt(), commentView.id())
+        );
     }
 
     @Transactional
@@ -67,24 +133,38 @@ public class CommentService {
         UpdateCommentCommand updateCommentCommand,
         User user
     ) {
-        Comment comment = getById(commentId);
-
-        validateCommentOwnership(user.getId(), comment.getUser().getId());
-        validateCommentPostId(postId, comment.getPost().getId());
-
-        comment.update(updateCommentCommand);
+        long updatedRows = commentRepository.updateOwnedContent(
+            postId,
+            commentId,
+            user.getId(),
+            updateCommentCommand.content()
+        );
 
-        commentRepository.save(CommentEntity.from(comment));
+        validateAffectedRows(updatedRows, postId, commentId, user);
     }
 
     @Transactional
     public void deleteComment(Long postId, Long commentId, User user) {
-        Comment comment = getById(commentId);
+        long deletedRows = commentRepository.deleteOwned(postId, commentId, user.getId());
 
-        validateCommentOwnership(user.getId(), comment.getUser().getId());
-        validateCommentPostId(postId, comment.getPost().getId());
+        validateAffectedRows(deletedRows, postId, commentId, user);
+        if (deletedRows > 0) {
+            eventPublisher.publishEvent(CommentCountChangedEvent.removed(postId));
+            approximateCountCache.invalidate(POST_COMMENT_COUNT_SCOPE, postId);
+        }
+    }
+
+    // 조건부 UPDATE/DELETE 가 0건일 때만 댓글을 다시 읽어 실패 원인을 구분
+    private void validateAffectedRows(long affectedRows, Long postId, Long commentId, User user) {
+        if (affectedRows > 0) {
+            return;
+        }
+        CommentEntity commentEntity = commentRepository.findById(commentId).orElseThrow(
+            () -> new CommentNotFoundException(CommentErrorCode.COMMENT_NOT_FOUND)
+        );
 
-        commentRepository.delete(CommentEntity.from(comment));
+        validateCommentOwnership(user.getId(), commentEntity.getUser().getId());
+        validateCommentPostId(postId, commentEntity.getPost().getId());
     }
 
     private void validateCommentOwnership(Long userId, Long authorId) {
@@ -0,0 +1,27 @@
+package io.sillysillyman.core.domain.feed.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "feed")
+public class FeedProperties {
+
+    private String timelineStore = "redis";
+    // 사용자별 타임라인에 남겨 두는 최신 게시물 수
+    private int timelineSize = 800;
+    // 팔로워가 이 수 이상인 작성자의 게시물은 타임라인에 넣지 않고 읽을 때 병합
+    private int fanoutOnReadThreshold = 10_000;
+    private final FanoutProperties fanout = new FanoutProperties();
+
+    @Getter
+    @Setter
+    public static class FanoutProperties {
+
+        private int poolSize = 2;
+        private int queueCapacity = 10_000;
+        private int batchSize = 500;
+    }
+}
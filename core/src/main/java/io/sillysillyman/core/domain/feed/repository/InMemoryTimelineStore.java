@@ -0,0 +1,72 @@
+package io.sillysillyman.core.domain.feed.repository;
+
+import io.sillysillyman.core.domain.feed.properties.FeedProperties;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(prefix = "feed", name = "timeline-store", havingValue = "in-memory")
+@Component
+public class InMemoryTimelineStore implements TimelineStore {
+
+    private final ConcurrentHashMap<Long, NavigableSet<Long>> timelines =
+        new ConcurrentHashMap<>();
+    private final Set<Long> fanoutOnReadAuthors = ConcurrentHashMap.newKeySet();
+    private final int timelineSize;
+
+    public InMemoryTimelineStore(FeedProperties feedProperties) {
+        this.timelineSize = feedProperties.getTimelineSize();
+    }
+
+    @Override
+    public void push(long[] userIds, long postId) {
+        for (long userId : userIds) {
+            timelines.compute(userId, (key, timeline) -> {
+                NavigableSet<Long> postIds = timeline == null
+                    ? new ConcurrentSkipListSet<>()
+                    : timeline;
+                postIds.add(postId);
+                while (postIds.size() > timelineSize) {
+                    postIds.pollFirst();
+                }
+                return postIds;
+            });
+        }
+    }
+
+    @Override
+    public List<Long> read(long userId, Long beforePostId, int limit) {
+        NavigableSet<Long> timeline = timelines.get(userId);
+        if (timeline == null) {
+            return List.of();
+        }
+        NavigableSet<Long> older = beforePostId == null
+            ? timeline.descendingSet()
+            : timeline.headSet(beforePostId, false).descendingSet();
+        return older.stream().limit(limit).toList();
+    }
+
+    @Override
+    public void markFanoutOnRead(long authorId) {
+        fanoutOnReadAuthors.add(authorId);
+    }
+
+    @Override
+    public void unmarkFanoutOnRead(long authorId) {
+        fanoutOnReadAuthors.remove(authorId);
+    }
+
+    @Override
+    public boolean isFanoutOnRead(long authorId) {
+        return fanoutOnReadAuthors.contains(authorId);
+    }
+
+    @Override
+    public Set<Long> getFanoutOnReadAuthors() {
+        return Set.copyOf(fanoutOnReadAuthors);
+    }
+}
@@ -0,0 +1,102 @@
+package io.sillysillyman.core.domain.feed.repository;
+
+import io.sillysillyman.core.common.id.SnowflakeIdGenerator;
+import io.sillysillyman.core.common.properties.RedisProperties;
+import io.sillysillyman.core.domain.feed.properties.FeedProperties;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 타임라인을 사용자별 sorted set 으로 보관한다. 점수는 ID 의 밀리초, 멤버는 게시물 ID.
+ * double 점수로는 64 비트 ID 를 정확히 표현할 수 없어 같은 밀리초 안의 순서는 읽을 때 ID 로 정렬한다.
+ */
+@RequiredArgsConstructor
+public class RedisTimelineStore implements TimelineStore {
+
+    // 커서와 같은 밀리초에 만들어진 게시물을 걸러낸 뒤에도 limit 개를 채우기 위한 여유분
+    private static final int SAME_MILLIS_ALLOWANCE = 16;
+
+    private final RedisProperties redisProperties;
+    private final FeedProperties feedProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void push(long[] userIds, long postId) {
+        String member = Long.toString(postId);
+        double score = SnowflakeIdGenerator.relativeMillisOf(postId);
+        long trimEnd = -(feedProperties.getTimelineSize() + 1L);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (long userId : userIds) {
+                String key = key(userId);
+                stringConnection.zAdd(key, score, member);
+                stringConnection.zRemRange(key, 0, trimEnd);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public List<Long> read(long userId, Long beforePostId, int limit) {
+        double max = beforePostId == null
+            ? Double.POSITIVE_INFINITY
+            : SnowflakeIdGenerator.relativeMillisOf(beforePostId);
+        Set<String> members = stringRedisTemplate.opsForZSet().reverseRangeByScore(
+            key(userId),
+            Double.NEGATIVE_INFINITY,
+            max,
+            0,
+            limit + SAME_MILLIS_ALLOWANCE
+        );
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream()
+            .map(Long::valueOf)
+            .filter(postId -> beforePostId == null || postId < beforePostId)
+            .sorted(Comparator.reverseOrder())
+            .limit(limit)
+            .toList();
+    }
+
+    @Override
+    public void markFanoutOnRead(long authorId) {
+        stringRedisTemplate.opsForSet().add(fanoutOnReadKey(), Long.toString(authorId));
+    }
+
+    @Override
+    public void unmarkFanoutOnRead(long authorId) {
+        stringRedisTemplate.opsForSet().remove(fanoutOnReadKey(), Long.toString(authorId));
+    }
+
+    @Override
+    public boolean isFanoutOnRead(long authorId) {
+        return Boolean.TRUE.equals(
+            stringRedisTemplate.opsForSet().isMember(fanoutOnReadKey(), Long.toString(authorId))
+        );
+    }
+
+    @Override
+    public Set<Long> getFanoutOnReadAuthors() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(fanoutOnReadKey());
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toUnmodifiableSet());
+    }
+
+    private String key(long userId) {
+        return redisProperties.getTimeline().getPrefix() + userId;
+    }
+
+    private String fanoutOnReadKey() {
+        return redisProperties.getTimeline().getFanoutOnReadKey();
+    }
+}
@@ -0,0 +1,23 @@
+package io.sillysillyman.core.domain.feed.repository;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 홈 타임라인. 게시물 ID 만 최신순으로 보관하며 크기를 넘으면 오래된 것부터 버린다.
+ */
+public interface TimelineStore {
+
+    void push(long[] userIds, long postId);
+
+    // beforePostId 보다 오래된 게시물 ID 를 최신순으로 최대 limit 개 반환. null 이면 처음부터
+    List<Long> read(long userId, Long beforePostId, int limit);
+
+    void markFanoutOnRead(long authorId);
+
+    void unmarkFanoutOnRead(long authorId);
+
+    boolean isFanoutOnRead(long authorId);
+
+    Set<Long> getFanoutOnReadAuthors();
+}
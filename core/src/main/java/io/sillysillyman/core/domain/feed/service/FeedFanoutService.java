@@ -0,0 +1,160 @@
+package io.sillysillyman.core.domain.feed.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.sillysillyman.core.domain.feed.properties.FeedProperties;
+import io.sillysillyman.core.domain.feed.repository.TimelineStore;
+import io.sillysillyman.core.domain.follow.graph.FollowGraph;
+import io.sillysillyman.core.domain.post.event.PostCreatedEvent;
+import io.sillysillyman.core.domain.post.repository.PostRepository;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 게시물을 팔로워 타임라인에 밀어 넣는다. 게시물 생성 요청은 큐에 넣기만 하고 바로 반환하며,
+ * 팔로워가 많은 작성자는 밀어 넣지 않고 읽을 때 병합하도록 표시만 한다. 큐가 가득 차거나 밀어 넣기에
+ * 실패한 게시물도 같은 표시로 읽을 때 병합하고, 다음 팬아웃의 백필이 타임라인을 채운 뒤 표시를 푼다.
+ */
+@Slf4j(topic = "FeedFanoutService")
+@Component
+public class FeedFanoutService implements DisposableBean {
+
+    private static final String EXECUTOR_NAME = "feedFanout";
+    private static final String THREAD_NAME_PREFIX = "feed-fanout-";
+
+    private final TimelineStore timelineStore;
+    private final FollowGraph followGraph;
+    private final PostRepository postRepository;
+    private final FeedProperties feedProperties;
+    private final ThreadPoolExecutor executor;
+    private final Timer fanoutTimer;
+    private final Counter rejectedCounter;
+
+    public FeedFanoutService(
+        TimelineStore timelineStore,
+        FollowGraph followGraph,
+        PostRepository postRepository,
+        FeedProperties feedProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.timelineStore = timelineStore;
+        this.followGraph = followGraph;
+        this.postRepository = postRepository;
+        this.feedProperties = feedProperties;
+        this.executor = new ThreadPoolExecutor(
+            feedProperties.getFanout().getPoolSize(),
+            feedProperties.getFanout().getPoolSize(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(feedProperties.getFanout().getQueueCapacity()),
+            new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.fanoutTimer = Timer.builder("feed.fanout.duration")
+            .description("Time spent pushing a post into follower timelines")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("feed.fanout.rejected")
+            .description("Posts merged at read time because the fanout queue was full")
+            .register(meterRegistry);
+
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        try {
+            executor.execute(() -> fanoutTimer.record(() -> safeFanOut(event)));
+        } catch (RejectedExecutionException e) {
+            // 작성 자체는 성공시키고 게시물은 읽을 때 병합
+            rejectedCounter.increment();
+            log.warn(
+                "Feed fanout queue is full, merging post: {} at read time ({} queued)",
+                event.postId(),
+                executor.getQueue().size()
+            );
+            degradeToFanoutOnRead(event);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void safeFanOut(PostCreatedEvent event) {
+        try {
+            fanOut(event);
+        } catch (RuntimeException e) {
+            log.error("Failed to fan out post: {}, merging it at read time", event.postId(), e);
+            degradeToFanoutOnRead(event);
+        }
+    }
+
+    private void degradeToFanoutOnRead(PostCreatedEvent event) {
+        try {
+            timelineStore.markFanoutOnRead(event.authorId());
+        } catch (RuntimeException e) {
+            log.error(
+                "Failed to mark author: {} for fanout on read, dropping post: {}",
+                event.authorId(),
+                event.postId(),
+                e
+            );
+        }
+    }
+
+    void fanOut(PostCreatedEvent event) {
+        long authorId = event.authorId();
+        long postId = event.postId();
+
+        if (followGraph.getFollowerCount(authorId) >= feedProperties.getFanoutOnReadThreshold()) {
+            timelineStore.markFanoutOnRead(authorId);
+            timelineStore.push(new long[]{authorId}, postId);
+            return;
+        }
+        long[] followerIds = followGraph.getFollowerIds(authorId);
+        if (timelineStore.isFanoutOnRead(authorId)) {
+            // 읽기 병합 동안 밀어 넣지 않은 게시물을 먼저 채워야 표시를 풀어도 팔로워 피드에 남음
+            backfill(authorId, followerIds, postId);
+            timelineStore.unmarkFanoutOnRead(authorId);
+        }
+
+        long[] userIds = Arrays.copyOf(followerIds, followerIds.length + 1);
+        userIds[followerIds.length] = authorId;
+        pushInBatches(userIds, postId);
+        log.debug("Fanned out post: {} to {} timelines", postId, userIds.length);
+    }
+
+    private void backfill(long authorId, long[] followerIds, long beforePostId) {
+        List<Long> postIds = postRepository.findRecentIdsByUserIds(
+            List.of(authorId),
+            beforePostId,
+            feedProperties.getTimelineSize()
+        );
+        postIds.forEach(postId -> pushInBatches(followerIds, postId));
+        log.info("Backfilled {} posts of author: {} to {} timelines",
+            postIds.size(), authorId, followerIds.length);
+    }
+
+    private void pushInBatches(long[] userIds, long postId) {
+        int batchSize = feedProperties.getFanout().getBatchSize();
+        for (int from = 0; from < userIds.length; from += batchSize) {
+            timelineStore.push(
+                Arrays.copyOfRange(userIds, from, Math.min(from + batchSize, userIds.length)),
+                postId
+            );
+        }
+    }
+}
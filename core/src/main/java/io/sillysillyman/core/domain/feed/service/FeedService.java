@@ -0,0 +1,92 @@
+package io.sillysillyman.core.domain.feed.service;
+
+import io.sillysillyman.core.common.pagination.Cursor;
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.common.pagination.CursorSlice;
+import io.sillysillyman.core.domain.feed.repository.TimelineStore;
+import io.sillysillyman.core.domain.follow.graph.FollowGraph;
+import io.sillysillyman.core.domain.post.query.PostView;
+import io.sillysillyman.core.domain.post.repository.PostRepository;
+import io.sillysillyman.core.domain.user.User;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+
+    private final TimelineStore timelineStore;
+    private final FollowGraph followGraph;
+    private final PostRepository postRepository;
+
+    @Transactional(readOnly = true)
+    public CursorSlice<PostView> getFeed(User user, CursorRequest cursorRequest) {
+        long userId = user.getId();
+        Long beforePostId = cursorRequest.cursor() == null ? null : cursorRequest.cursor().id();
+        int limit = cursorRequest.size() + 1;
+
+        List<Long> fanoutOnReadFollowees = timelineStore.getFanoutOnReadAuthors().stream()
+            .filter(authorId -> followGraph.isFollowing(userId, authorId))
+            .toList();
+
+        // 타임라인에 남아 있어도 이미 삭제된 게시물은 건너뛰고, 그만큼 모자라면 이어서 읽음
+        List<PostView> fetched = new ArrayList<>(limit);
+        Long before = beforePostId;
+        while (fetched.size() < limit) {
+            List<Long> postIds = readPostIds(userId, fanoutOnReadFollowees, before, limit);
+            if (postIds.isEmpty()) {
+                break;
+            }
+
+            Map<Long, PostView> postViews = postRepository.findViewsByIds(postIds).stream()
+                .collect(Collectors.toMap(PostView::id, Function.identity()));
+            postIds.stream()
+                .map(postViews::get)
+                .filter(Objects::nonNull)
+                .forEach(fetched::add);
+
+            if (postIds.size() < limit) {
+                break;
+            }
+            before = postIds.getLast();
+        }
+
+        return CursorSlice.of(fetched, cursorRequest, FeedService::cursorOf);
+    }
+
+    private List<Long> readPostIds(
+        long userId,
+        List<Long> fanoutOnReadFollowees,
+        Long beforePostId,
+        int limit
+    ) {
+        List<Long> postIds = timelineStore.read(userId, beforePostId, limit);
+        if (fanoutOnReadFollowees.isEmpty()) {
+            return postIds;
+        }
+
+        List<Long> pulledPostIds = postRepository.findRecentIdsByUserIds(
+            fanoutOnReadFollowees,
+            beforePostId,
+            limit
+        );
+        return Stream.concat(postIds.stream(), pulledPostIds.stream())
+            .distinct()
+            .sorted(Comparator.reverseOrder())
+            .limit(limit)
+            .toList();
+    }
+
+    private static Cursor cursorOf(PostView postView) {
+        return new Cursor(postView.createdAt(), postView.id());
+    }
+}
@@ -0,0 +1,53 @@
+package io.sillysillyman.core.domain.follow;
+
+import io.sillysillyman.core.common.BaseEntity;
+import io.sillysillyman.core.common.id.TimeOrderedId;
+import io.sillysillyman.core.domain.user.UserEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+    name = "follows",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_follows_follower_id_followee_id",
+        columnNames = {"follower_id", "followee_id"}
+    ),
+    indexes = @Index(
+        name = "idx_follows_followee_id_follower_id",
+        columnList = "followee_id, follower_id"
+    )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FollowEntity extends BaseEntity {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "follower_id", nullable = false)
+    private UserEntity follower;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "followee_id", nullable = false)
+    private UserEntity followee;
+
+    @Builder
+    private FollowEntity(Long id, UserEntity follower, UserEntity followee) {
+        this.id = id;
+        this.follower = follower;
+        this.followee = followee;
+    }
+}
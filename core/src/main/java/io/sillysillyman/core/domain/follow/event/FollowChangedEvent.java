@@ -0,0 +1,12 @@
+package io.sillysillyman.core.domain.follow.event;
+
+public record FollowChangedEvent(Long followerId, Long followeeId, boolean following) {
+
+    public static FollowChangedEvent followed(Long followerId, Long followeeId) {
+        return new FollowChangedEvent(followerId, followeeId, true);
+    }
+
+    public static FollowChangedEvent unfollowed(Long followerId, Long followeeId) {
+        return new FollowChangedEvent(followerId, followeeId, false);
+    }
+}
@@ -0,0 +1,14 @@
+package io.sillysillyman.core.domain.follow.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum FollowErrorCode {
+    SELF_FOLLOW(HttpStatus.BAD_REQUEST, "cannot follow yourself");
+
+    private final HttpStatus status;
+    private final String message;
+}
@@ -0,0 +1,14 @@
+package io.sillysillyman.core.domain.follow.exception;
+
+import lombok.Getter;
+
+@Getter
+public class FollowException extends RuntimeException {
+
+    private final FollowErrorCode followErrorCode;
+
+    public FollowException(FollowErrorCode followErrorCode) {
+        super(followErrorCode.getMessage());
+        this.followErrorCode = followErrorCode;
+    }
+}
@@ -0,0 +1,11 @@
+package io.sillysillyman.core.domain.follow.exception.detail;
+
+import io.sillysillyman.core.domain.follow.exception.FollowErrorCode;
+import io.sillysillyman.core.domain.follow.exception.FollowException;
+
+public class SelfFollowException extends FollowException {
+
+    public SelfFollowException(FollowErrorCode followErrorCode) {
+        super(followErrorCode);
+    }
+}
@@ -0,0 +1,173 @@
+package io.sillysillyman.core.domain.follow.graph;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.sillysillyman.core.common.util.SortedLongSet;
+import io.sillysillyman.core.domain.follow.event.FollowChangedEvent;
+import io.sillysillyman.core.domain.follow.properties.FollowGraphProperties;
+import io.sillysillyman.core.domain.follow.repository.FollowRepository;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자별 팔로잉/팔로워 ID 를 박싱 없는 정렬 블록으로 보관하는 인접 리스트 캐시.
+ * 처음 조회할 때 DB 에서 한 번 읽어 오고, 이후 변경은 커밋 직후 캐시에 직접 반영한다.
+ */
+@Slf4j(topic = "FollowGraph")
+@Component
+public class FollowGraph {
+
+    private final FollowRepository followRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, SortedLongSet> followings;
+    private final Cache<Long, SortedLongSet> followers;
+
+    public FollowGraph(
+        FollowRepository followRepository,
+        TransactionTemplate transactionTemplate,
+        FollowGraphProperties followGraphProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.followRepository = followRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.followings = createCache(followGraphProperties, meterRegistry, "followings");
+        this.followers = createCache(followGraphProperties, meterRegistry, "followers");
+    }
+
+    public boolean isFollowing(long followerId, long followeeId) {
+        SortedLongSet followeeIds = followingsOf(followerId);
+        synchronized (followeeIds) {
+            return followeeIds.contains(followeeId);
+        }
+    }
+
+    public int getFollowingCount(long userId) {
+        SortedLongSet followeeIds = followingsOf(userId);
+        synchronized (followeeIds) {
+            return followeeIds.size();
+        }
+    }
+
+    public int getFollowerCount(long userId) {
+        SortedLongSet followerIds = followersOf(userId);
+        synchronized (followerIds) {
+            return followerIds.size();
+        }
+    }
+
+    public long[] getFollowingIds(long userId) {
+        SortedLongSet followeeIds = followingsOf(userId);
+        synchronized (followeeIds) {
+            return followeeIds.toArray();
+        }
+    }
+
+    public long[] getFollowerIds(long userId) {
+        SortedLongSet followerIds = followersOf(userId);
+        synchronized (followerIds) {
+            return followerIds.toArray();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onFollowChanged(FollowChangedEvent event) {
+        update(followings, event.followerId(), event.followeeId(), event);
+        update(followers, event.followeeId(), event.followerId(), event);
+    }
+
+    private void update(
+        Cache<Long, SortedLongSet> cache,
+        long userId,
+        long adjacentUserId,
+        FollowChangedEvent event
+    ) {
+        // getIfPresent 는 로드 중인 키에 null 을 돌려줘 커밋 전 스냅샷으로 로드된 값에서 변경이 빠지므로,
+        // 로드가 끝날 때까지 기다리는 compute 로 반영. 캐시에 없으면 다음 조회 때 최신 상태로 로드됨
+        cache.asMap().compute(userId, (key, adjacency) -> {
+            if (adjacency == null) {
+                return null;
+            }
+            synchronized (adjacency) {
+                if (event.following()) {
+                    adjacency.add(adjacentUserId);
+                } else {
+                    adjacency.remove(adjacentUserId);
+                }
+            }
+            return adjacency;
+        });
+    }
+
+    private SortedLongSet followingsOf(long userId) {
+        return followings.get(userId, load(followRepository::streamFolloweeIds));
+    }
+
+    private SortedLongSet followersOf(long userId) {
+        return followers.get(userId, load(followRepository::streamFollowerIds));
+    }
+
+    private Function<Long, SortedLongSet> load(Function<Long, Stream<Long>> idStreamer) {
+        return userId -> transactionTemplate.execute(status -> {
+            try (Stream<Long> ids = idStreamer.apply(userId)) {
+                SortedLongSet adjacency = SortedLongSet.fromSorted(ids.mapToLong(Long::longValue));
+                log.debug("Loaded {} adjacent users for user: {}", adjacency.size(), userId);
+                return adjacency;
+            }
+        });
+    }
+
+    private static Cache<Long, SortedLongSet> createCache(
+        FollowGraphProperties followGraphProperties,
+        MeterRegistry meterRegistry,
+        String name
+    ) {
+        // 변경 반영으로 만료가 미뤄지면 다른 노드의 변경을 계속 놓치므로 로드 시점 기준으로만 만료
+        long ttlNanos = followGraphProperties.getTtl().toNanos();
+        return CaffeineCacheMetrics.monitor(
+            meterRegistry,
+            Caffeine.newBuilder()
+                .expireAfter(new Expiry<Long, SortedLongSet>() {
+                    @Override
+                    public long expireAfterCreate(
+                        Long userId,
+                        SortedLongSet adjacency,
+                        long currentTime
+                    ) {
+                        return ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(
+                        Long userId,
+                        SortedLongSet adjacency,
+                        long currentTime,
+                        long currentDuration
+                    ) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(
+                        Long userId,
+                        SortedLongSet adjacency,
+                        long currentTime,
+                        long currentDuration
+                    ) {
+                        return currentDuration;
+                    }
+                })
+                .maximumWeight(followGraphProperties.getMaximumEdges())
+                .weigher((Long userId, SortedLongSet adjacency) -> adjacency.size() + 1)
+                .recordStats()
+                .build(),
+            name
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package io.sillysillyman.core.domain.follow.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "follow-graph")
+public class FollowGraphProperties {
+
+    // 다른 노드에서 변경된 관계는 만료 후 다시 로드할 때 반영됨
+    private Duration ttl = Duration.ofMinutes(5);
+    // 캐시에 올릴 수 있는 관계(long) 수의 합. 방향별 캐시마다 적용
+    private long maximumEdges = 10_000_000;
+}
@@ -0,0 +1,45 @@
+package io.sillysillyman.core.domain.follow.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "follow-suggestion")
+public class FollowSuggestionProperties {
+
+    // 이 시간 동안 조회가 없으면 비활성 사용자로 보고 추천 결과를 버림
+    private Duration ttl = Duration.ofMinutes(30);
+    // 활성 사용자의 추천 결과를 백그라운드에서 다시 계산하는 주기
+    private Duration refreshInterval = Duration.ofMinutes(5);
+    private long maximumSize = 100_000;
+    // 사용자별로 미리 계산해 두는 후보 수
+    private int candidateSize = 50;
+    private final WalkProperties walk = new WalkProperties();
+    private final RefreshProperties refresh = new RefreshProperties();
+
+    @Getter
+    @Setter
+    public static class WalkProperties {
+
+        private int poolSize = 4;
+        private int queueCapacity = 1_000;
+        // 한 작업이 맡는 팔로잉 수
+        private int chunkSize = 64;
+        // 탐색할 팔로잉 수와 팔로잉마다 볼 2 단계 이웃 수의 상한
+        private int maxFollowings = 500;
+        private int maxFollowingsPerFollowee = 1_000;
+        private Duration maxWait = Duration.ofSeconds(2);
+    }
+
+    // 추천 결과를 다시 계산하는 전용 풀. 계산이 탐색을 기다리며 막히므로 공용 풀을 쓰지 않음
+    @Getter
+    @Setter
+    public static class RefreshProperties {
+
+        private int poolSize = 2;
+        private int queueCapacity = 1_000;
+    }
+}
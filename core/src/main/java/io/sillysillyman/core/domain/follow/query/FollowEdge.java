@@ -0,0 +1,12 @@
+package io.sillysillyman.core.domain.follow.query;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import io.sillysillyman.core.domain.follow.QFollowEntity;
+
+public record FollowEdge(Long followerId, Long followeeId) {
+
+    public static ConstructorExpression<FollowEdge> projection(QFollowEntity follow) {
+        return Projections.constructor(FollowEdge.class, follow.follower.id, follow.followee.id);
+    }
+}
@@ -0,0 +1,7 @@
+package io.sillysillyman.core.domain.follow.query;
+
+import io.sillysillyman.core.domain.user.query.UserView;
+
+public record FollowSuggestion(UserView user, int mutualCount) {
+
+}
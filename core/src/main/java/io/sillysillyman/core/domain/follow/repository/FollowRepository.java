@@ -0,0 +1,60 @@
+package io.sillysillyman.core.domain.follow.repository;
+
+import io.sillysillyman.core.domain.follow.FollowEntity;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface FollowRepository
+    extends JpaRepository<FollowEntity, Long>, FollowRepositoryCustom {
+
+    // 이미 있는 관계면 0 을 반환하므로 중복 확인 조회 없이 멱등하게 저장
+    @Modifying
+    @Query(
+        value = "INSERT IGNORE INTO follows (id, follower_id, followee_id, created_at) "
+            + "VALUES (:id, :followerId, :followeeId, :createdAt)",
+        nativeQuery = true
+    )
+    int insertIfAbsent(
+        @Param("id") long id,
+        @Param("followerId") Long followerId,
+        @Param("followeeId") Long followeeId,
+        @Param("createdAt") Instant createdAt
+    );
+
+    @Modifying
+    @Query(
+        "DELETE FROM FollowEntity f "
+            + "WHERE f.follower.id = :followerId AND f.followee.id = :followeeId"
+    )
+    int deleteByFollowerIdAndFolloweeId(
+        @Param("followerId") Long followerId,
+        @Param("followeeId") Long followeeId
+    );
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+        "SELECT f.followee.id FROM FollowEntity f "
+            + "WHERE f.follower.id = :followerId ORDER BY f.followee.id"
+    )
+    Stream<Long> streamFolloweeIds(@Param("followerId") Long followerId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+        "SELECT f.follower.id FROM FollowEntity f "
+            + "WHERE f.followee.id = :followeeId ORDER BY f.follower.id"
+    )
+    Stream<Long> streamFollowerIds(@Param("followeeId") Long followeeId);
+}
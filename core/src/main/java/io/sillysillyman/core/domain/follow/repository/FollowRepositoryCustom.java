@@ -0,0 +1,12 @@
+package io.sillysillyman.core.domain.follow.repository;
+
+import io.sillysillyman.core.domain.follow.query.FollowEdge;
+import java.util.Collection;
+import java.util.List;
+
+public interface FollowRepositoryCustom {
+
+    List<Long> findIdsByUserIds(Collection<Long> userIds, int limit);
+
+    List<FollowEdge> findEdgesByIds(Collection<Long> ids);
+}
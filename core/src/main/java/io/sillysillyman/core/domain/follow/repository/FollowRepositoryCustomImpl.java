@@ -0,0 +1,36 @@
+package io.sillysillyman.core.domain.follow.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.sillysillyman.core.domain.follow.QFollowEntity;
+import io.sillysillyman.core.domain.follow.query.FollowEdge;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class FollowRepositoryCustomImpl implements FollowRepositoryCustom {
+
+    private static final QFollowEntity qFollowEntity = QFollowEntity.followEntity;
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<Long> findIdsByUserIds(Collection<Long> userIds, int limit) {
+        return jpaQueryFactory.select(qFollowEntity.id)
+            .from(qFollowEntity)
+            .where(
+                qFollowEntity.follower.id.in(userIds)
+                    .or(qFollowEntity.followee.id.in(userIds))
+            )
+            .orderBy(qFollowEntity.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<FollowEdge> findEdgesByIds(Collection<Long> ids) {
+        return jpaQueryFactory.select(FollowEdge.projection(qFollowEntity))
+            .from(qFollowEntity)
+            .where(qFollowEntity.id.in(ids))
+            .fetch();
+    }
+}
@@ -0,0 +1,79 @@
+package io.sillysillyman.core.domain.follow.service;
+
+import io.sillysillyman.core.common.id.IdGenerator;
+import io.sillysillyman.core.domain.follow.event.FollowChangedEvent;
+import io.sillysillyman.core.domain.follow.exception.FollowErrorCode;
+import io.sillysillyman.core.domain.follow.exception.detail.SelfFollowException;
+import io.sillysillyman.core.domain.follow.graph.FollowGraph;
+import io.sillysillyman.core.domain.follow.repository.FollowRepository;
+import io.sillysillyman.core.domain.user.User;
+import io.sillysillyman.core.domain.user.exception.UserErrorCode;
+import io.sillysillyman.core.domain.user.exception.detail.UserNotFoundException;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class FollowService {
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final FollowGraph followGraph;
+    private final IdGenerator idGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void follow(Long followeeId, User user) {
+        validateNotSelf(followeeId, user);
+        validateUserActive(followeeId);
+
+        int insertedRows = followRepository.insertIfAbsent(
+            idGenerator.nextId(),
+            user.getId(),
+            followeeId,
+            Instant.now()
+        );
+        if (insertedRows > 0) {
+            eventPublisher.publishEvent(FollowChangedEvent.followed(user.getId(), followeeId));
+        }
+    }
+
+    @Transactional
+    public void unfollow(Long followeeId, User user) {
+        int deletedRows = followRepository.deleteByFollowerIdAndFolloweeId(
+            user.getId(),
+            followeeId
+        );
+        if (deletedRows > 0) {
+            eventPublisher.publishEvent(FollowChangedEvent.unfollowed(user.getId(), followeeId));
+        }
+    }
+
+    public boolean isFollowing(Long followerId, Long followeeId) {
+        return followGraph.isFollowing(followerId, followeeId);
+    }
+
+    public int getFollowerCount(Long userId) {
+        return followGraph.getFollowerCount(userId);
+    }
+
+    public int getFollowingCount(Long userId) {
+        return followGraph.getFollowingCount(userId);
+    }
+
+    private void validateNotSelf(Long followeeId, User user) {
+        if (followeeId.equals(user.getId())) {
+            throw new SelfFollowException(FollowErrorCode.SELF_FOLLOW);
+        }
+    }
+
+    private void validateUserActive(Long userId) {
+        if (!userRepository.existsByIdAndDeletedAtIsNull(userId)) {
+            throw new UserNotFoundException(UserErrorCode.USER_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package io.sillysillyman.core.domain.follow.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.sillysillyman.core.domain.follow.event.FollowChangedEvent;
+import io.sillysillyman.core.domain.follow.graph.FollowGraph;
+import io.sillysillyman.core.domain.follow.properties.FollowSuggestionProperties;
+import io.sillysillyman.core.domain.follow.properties.FollowSuggestionProperties.RefreshProperties;
+import io.sillysillyman.core.domain.follow.query.FollowSuggestion;
+import io.sillysillyman.core.domain.follow.suggestion.SecondDegreeWalker;
+import io.sillysillyman.core.domain.follow.suggestion.SuggestionRanking;
+import io.sillysillyman.core.domain.user.User;
+import io.sillysillyman.core.domain.user.query.UserView;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 알 수도 있는 사람 추천. 최근에 조회한 활성 사용자의 순위만 캐시에 두고 주기적으로 다시 계산하며,
+ * 조회가 끊긴 사용자는 만료시켜 계산 대상에서 뺀다.
+ */
+@Slf4j(topic = "FollowSuggestionService")
+@Service
+public class FollowSuggestionService implements DisposableBean {
+
+    private static final String EXECUTOR_NAME = "followSuggestionRefresh";
+    private static final String THREAD_NAME_PREFIX = "follow-suggestion-refresh-";
+
+    private final FollowGraph followGraph;
+    private final UserRepository userRepository;
+    private final int candidateSize;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final LoadingCache<Long, SuggestionRanking> rankings;
+
+    public FollowSuggestionService(
+        FollowGraph followGraph,
+        UserRepository userRepository,
+        SecondDegreeWalker secondDegreeWalker,
+        FollowSuggestionProperties followSuggestionProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.followGraph = followGraph;
+        this.userRepository = userRepository;
+        this.candidateSize = followSuggestionProperties.getCandidateSize();
+        // 큐가 가득 차 거절된 갱신은 건너뛰고 기존 순위를 계속 사용
+        RefreshProperties refreshProperties = followSuggestionProperties.getRefresh();
+        this.refreshExecutor = new ThreadPoolExecutor(
+            refreshProperties.getPoolSize(),
+            refreshProperties.getPoolSize(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(refreshProperties.getQueueCapacity()),
+            new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.rankings = CaffeineCacheMetrics.monitor(
+            meterRegistry,
+            Caffeine.newBuilder()
+                .executor(refreshExecutor)
+                .expireAfterAccess(followSuggestionProperties.getTtl())
+                .refreshAfterWrite(followSuggestionProperties.getRefreshInterval())
+                .maximumSize(followSuggestionProperties.getMaximumSize())
+                .recordStats()
+                .build(secondDegreeWalker::walk),
+            "followSuggestions"
+        );
+
+        new ExecutorServiceMetrics(refreshExecutor, EXECUTOR_NAME, Tags.empty())
+            .bindTo(meterRegistry);
+    }
+
+    public List<FollowSuggestion> getSuggestions(User user, int size) {
+        long userId = user.getId();
+        SuggestionRanking ranking = rankings.get(userId);
+
+        // 순위 계산 이후 새로 팔로우한 사용자는 다음 갱신 전까지 여기서 거름
+        List<Long> candidateIds = new ArrayList<>(ranking.size());
+        Map<Long, Integer> mutualCounts = new HashMap<>();
+        for (int i = 0; i < ranking.size(); i++) {
+            long candidateId = ranking.userIds()[i];
+            if (!followGraph.isFollowing(userId, candidateId)) {
+                candidateIds.add(candidateId);
+                mutualCounts.put(candidateId, ranking.mutualCounts()[i]);
+            }
+        }
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, UserView> userViews = userRepository.findActiveViewsByIds(candidateIds).stream()
+            .collect(Collectors.toMap(UserView::id, Function.identity()));
+        return candidateIds.stream()
+            .filter(userViews::containsKey)
+            .limit(Math.clamp(size, 1, candidateSize))
+            .map(candidateId -> new FollowSuggestion(
+                userViews.get(candidateId),
+                mutualCounts.get(candidateId)
+            ))
+            .toList();
+    }
+
+    @TransactionalEventListener
+    public void onFollowChanged(FollowChangedEvent event) {
+        // 팔로잉이 바뀐 활성 사용자만 백그라운드에서 다시 계산
+        if (rankings.asMap().containsKey(event.followerId())) {
+            try {
+                rankings.refresh(event.followerId());
+            } catch (RejectedExecutionException e) {
+                log.warn("Follow suggestion refresh queue is full, skipping user: {}",
+                    event.followerId());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,210 @@
+package io.sillysillyman.core.domain.follow.suggestion;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.sillysillyman.core.domain.follow.graph.FollowGraph;
+import io.sillysillyman.core.domain.follow.properties.FollowSuggestionProperties;
+import io.sillysillyman.core.domain.follow.properties.FollowSuggestionProperties.WalkProperties;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팔로잉의 팔로잉을 모아 겹치는 수로 순위를 매긴다. 팔로잉을 묶음으로 나눠 병렬로 걷고,
+ * 모은 ID 는 정렬 후 연속 구간 길이로 세므로 후보마다 객체를 만들지 않는다.
+ * 탐색 상한을 넘는 목록은 전체에서 고른 간격으로 표본을 뽑으므로 같은 입력에는 같은 결과를 낸다.
+ */
+@Slf4j(topic = "SecondDegreeWalker")
+@Component
+public class SecondDegreeWalker implements DisposableBean {
+
+    private static final String EXECUTOR_NAME = "followSuggestionWalk";
+    private static final String THREAD_NAME_PREFIX = "follow-suggestion-walk-";
+
+    private final FollowGraph followGraph;
+    private final WalkProperties walkProperties;
+    private final int candidateSize;
+    private final ThreadPoolExecutor executor;
+    private final Timer walkTimer;
+    private final Counter truncatedCounter;
+
+    public SecondDegreeWalker(
+        FollowGraph followGraph,
+        FollowSuggestionProperties followSuggestionProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.followGraph = followGraph;
+        this.walkProperties = followSuggestionProperties.getWalk();
+        this.candidateSize = followSuggestionProperties.getCandidateSize();
+        // 큐가 가득 차면 요청한 스레드가 직접 걸어 자연스럽게 속도를 늦춤
+        this.executor = new ThreadPoolExecutor(
+            walkProperties.getPoolSize(),
+            walkProperties.getPoolSize(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(walkProperties.getQueueCapacity()),
+            new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.walkTimer = Timer.builder("follow.suggestion.walk.duration")
+            .description("Time spent walking second-degree follows for a user")
+            .register(meterRegistry);
+        this.truncatedCounter = Counter.builder("follow.suggestion.walk.truncated")
+            .description("Walks ranked from partial results because a chunk timed out or failed")
+            .register(meterRegistry);
+
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public SuggestionRanking walk(long userId) {
+        return walkTimer.record(() -> {
+            long[] followings = followGraph.getFollowingIds(userId);
+            return rank(userId, followings, collectCandidates(userId, followings));
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    // 이미 팔로우 중인 사용자와 자기 자신은 제외. 탐색 상한과 관계없이 전체 팔로잉으로 판단
+    private SuggestionRanking rank(long userId, long[] followings, long[] candidates) {
+        if (candidates.length == 0) {
+            return SuggestionRanking.EMPTY;
+        }
+        Arrays.sort(candidates);
+
+        PriorityQueue<Candidate> top = new PriorityQueue<>(Candidate.WEAKEST_FIRST);
+        for (int start = 0; start < candidates.length; ) {
+            long candidateId = candidates[start];
+            int end = start + 1;
+            while (end < candidates.length && candidates[end] == candidateId) {
+                end++;
+            }
+            int mutualCount = end - start;
+            start = end;
+
+            if (candidateId == userId || Arrays.binarySearch(followings, candidateId) >= 0) {
+                continue;
+            }
+            top.offer(new Candidate(candidateId, mutualCount));
+            if (top.size() > candidateSize) {
+                top.poll();
+            }
+        }
+
+        long[] userIds = new long[top.size()];
+        int[] mutualCounts = new int[top.size()];
+        for (int i = top.size() - 1; i >= 0; i--) {
+            Candidate candidate = top.poll();
+            userIds[i] = candidate.userId();
+            mutualCounts[i] = candidate.mutualCount();
+        }
+        return new SuggestionRanking(userIds, mutualCounts);
+    }
+
+    private long[] collectCandidates(long userId, long[] followings) {
+        int scanned = Math.min(followings.length, walkProperties.getMaxFollowings());
+        long[] sampled = new long[scanned];
+        sample(followings, scanned, sampled, 0);
+        int chunkSize = walkProperties.getChunkSize();
+
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int from = 0; from < scanned; from += chunkSize) {
+            long[] chunk = Arrays.copyOfRange(
+                sampled,
+                from,
+                Math.min(from + chunkSize, scanned)
+            );
+            futures.add(executor.submit(() -> collectNeighbors(chunk)));
+        }
+
+        long deadline = System.nanoTime() + walkProperties.getMaxWait().toNanos();
+        List<long[]> collected = new ArrayList<>(futures.size());
+        int total = 0;
+        boolean truncated = false;
+        for (Future<long[]> future : futures) {
+            try {
+                long[] neighbors = future.get(
+                    Math.max(0L, deadline - System.nanoTime()),
+                    TimeUnit.NANOSECONDS
+                );
+                collected.add(neighbors);
+                total += neighbors.length;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                truncated = true;
+            } catch (ExecutionException e) {
+                log.warn("Failed to walk followings of user: {}", userId, e.getCause());
+                truncated = true;
+            } catch (InterruptedException e) {
+                futures.forEach(remaining -> remaining.cancel(true));
+                Thread.currentThread().interrupt();
+                truncated = true;
+                break;
+            }
+        }
+        if (truncated) {
+            truncatedCounter.increment();
+        }
+
+        long[] candidates = new long[total];
+        int offset = 0;
+        for (long[] neighbors : collected) {
+            System.arraycopy(neighbors, 0, candidates, offset, neighbors.length);
+            offset += neighbors.length;
+        }
+        return candidates;
+    }
+
+    private long[] collectNeighbors(long[] followeeIds) {
+        int maxPerFollowee = walkProperties.getMaxFollowingsPerFollowee();
+        long[] buffer = new long[Math.min(followeeIds.length * maxPerFollowee, 1_024)];
+        int length = 0;
+        for (long followeeId : followeeIds) {
+            long[] neighbors = followGraph.getFollowingIds(followeeId);
+            int count = Math.min(neighbors.length, maxPerFollowee);
+            if (length + count > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + count));
+            }
+            sample(neighbors, count, buffer, length);
+            length += count;
+        }
+        return Arrays.copyOf(buffer, length);
+    }
+
+    // ID 순으로 정렬된 목록의 앞쪽(오래된 사용자)만 보지 않도록 전체에서 같은 간격으로 count 개를 고름
+    private static void sample(long[] source, int count, long[] target, int offset) {
+        if (count == source.length) {
+            System.arraycopy(source, 0, target, offset, count);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            target[offset + i] = source[(int) ((long) i * source.length / count)];
+        }
+    }
+
+    private record Candidate(long userId, int mutualCount) {
+
+        // 겹치는 수가 같으면 먼저 가입한 사용자를 앞에 둠
+        private static final Comparator<Candidate> WEAKEST_FIRST = Comparator
+            .comparingInt(Candidate::mutualCount)
+            .thenComparing(Candidate::userId, Comparator.reverseOrder());
+    }
+}
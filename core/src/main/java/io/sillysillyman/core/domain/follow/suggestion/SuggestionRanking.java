@@ -0,0 +1,22 @@
+package io.sillysillyman.core.domain.follow.suggestion;
+
+/**
+ * 추천 후보를 점수가 높은 순으로 담은 결과. 캐시에 오래 머무르므로 박싱 없이 배열로 보관한다.
+ */
+public record SuggestionRanking(long[] userIds, int[] mutualCounts) {
+
+    public static final SuggestionRanking EMPTY = new SuggestionRanking(new long[0], new int[0]);
+
+    public SuggestionRanking {
+        if (userIds.length != mutualCounts.length) {
+            throw new IllegalArgumentException(
+                "userIds and mutualCounts must have the same length: "
+                    + userIds.length + " != " + mutualCounts.length
+            );
+        }
+    }
+
+    public int size() {
+        return userIds.length;
+    }
+}
@@ -0,0 +1,51 @@
+package io.sillysillyman.core.domain.like;
+
+import io.sillysillyman.core.common.BaseEntity;
+import io.sillysillyman.core.common.id.TimeOrderedId;
+import io.sillysillyman.core.domain.post.PostEntity;
+import io.sillysillyman.core.domain.user.UserEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+    name = "post_likes",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_post_likes_user_id_post_id",
+        columnNames = {"user_id", "post_id"}
+    ),
+    indexes = @Index(name = "idx_post_likes_post_id", columnList = "post_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostLikeEntity extends BaseEntity {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    private PostEntity post;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity user;
+
+    @Builder
+    private PostLikeEntity(Long id, PostEntity post, UserEntity user) {
+        this.id = id;
+        this.post = post;
+        this.user = user;
+    }
+}
@@ -0,0 +1,12 @@
+package io.sillysillyman.core.domain.like.event;
+
+public record PostLikeChangedEvent(Long postId, long delta) {
+
+    public static PostLikeChangedEvent liked(Long postId) {
+        return new PostLikeChangedEvent(postId, 1);
+    }
+
+    public static PostLikeChangedEvent unliked(Long postId) {
+        return new PostLikeChangedEvent(postId, -1);
+    }
+}
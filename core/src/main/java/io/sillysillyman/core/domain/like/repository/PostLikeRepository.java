@@ -0,0 +1,50 @@
+package io.sillysillyman.core.domain.like.repository;
+
+import io.sillysillyman.core.domain.like.PostLikeEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostLikeRepository
+    extends JpaRepository<PostLikeEntity, Long>, PostLikeRepositoryCustom {
+
+    // 이미 누른 좋아요면 0 을 반환하므로 중복 확인 조회 없이 멱등하게 저장
+    @Modifying
+    @Query(
+        value = "INSERT IGNORE INTO post_likes (id, post_id, user_id, created_at) "
+            + "VALUES (:id, :postId, :userId, :createdAt)",
+        nativeQuery = true
+    )
+    int insertIfAbsent(
+        @Param("id") long id,
+        @Param("postId") Long postId,
+        @Param("userId") Long userId,
+        @Param("createdAt") Instant createdAt
+    );
+
+    @Modifying
+    @Query("DELETE FROM PostLikeEntity l WHERE l.post.id = :postId AND l.user.id = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 게시물을 지우기 전에 같은 트랜잭션에서 좋아요를 먼저 지워 외래 키 위반을 막음
+    @Modifying
+    @Query("DELETE FROM PostLikeEntity l WHERE l.post.id = :postId")
+    int deleteByPostId(@Param("postId") Long postId);
+
+    // 좋아요 하나당 게시물 ID 하나. 같은 게시물이 여러 번 나올 수 있음
+    @Query("SELECT l.post.id FROM PostLikeEntity l WHERE l.id IN :ids")
+    List<Long> findPostIdsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(
+        "SELECT l.post.id FROM PostLikeEntity l "
+            + "WHERE l.user.id = :userId AND l.post.id IN :postIds"
+    )
+    List<Long> findLikedPostIds(
+        @Param("userId") Long userId,
+        @Param("postIds") Collection<Long> postIds
+    );
+}
@@ -0,0 +1,9 @@
+package io.sillysillyman.core.domain.like.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostLikeRepositoryCustom {
+
+    List<Long> findIdsByUserIdsOrPostUserIds(Collection<Long> userIds, int limit);
+}
@@ -0,0 +1,27 @@
+package io.sillysillyman.core.domain.like.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.sillysillyman.core.domain.like.QPostLikeEntity;
+import io.sillysillyman.core.domain.post.QPostEntity;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PostLikeRepositoryCustomImpl implements PostLikeRepositoryCustom {
+
+    private static final QPostLikeEntity qPostLikeEntity = QPostLikeEntity.postLikeEntity;
+    private static final QPostEntity qPostEntity = QPostEntity.postEntity;
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<Long> findIdsByUserIdsOrPostUserIds(Collection<Long> userIds, int limit) {
+        return jpaQueryFactory.select(qPostLikeEntity.id)
+            .from(qPostLikeEntity)
+            .join(qPostLikeEntity.post, qPostEntity)
+            .where(qPostLikeEntity.user.id.in(userIds).or(qPostEntity.user.id.in(userIds)))
+            .orderBy(qPostLikeEntity.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+}
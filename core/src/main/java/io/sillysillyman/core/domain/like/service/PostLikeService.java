@@ -0,0 +1,61 @@
+package io.sillysillyman.core.domain.like.service;
+
+import io.sillysillyman.core.common.id.IdGenerator;
+import io.sillysillyman.core.domain.like.event.PostLikeChangedEvent;
+import io.sillysillyman.core.domain.like.repository.PostLikeRepository;
+import io.sillysillyman.core.domain.post.service.PostService;
+import io.sillysillyman.core.domain.user.User;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시물 좋아요. 좋아요 행은 멱등하게 쓰고, 게시물의 좋아요 수는 EngagementCounters 가
+ * 모아서 반영하므로 인기 게시물에 좋아요가 몰려도 posts 행을 매번 잠그지 않는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class PostLikeService {
+
+    private final PostLikeRepository postLikeRepository;
+    private final PostService postService;
+    private final IdGenerator idGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void like(Long postId, User user) {
+        postService.validatePostExists(postId);
+
+        int insertedRows = postLikeRepository.insertIfAbsent(
+            idGenerator.nextId(),
+            postId,
+            user.getId(),
+            Instant.now()
+        );
+        if (insertedRows > 0) {
+            eventPublisher.publishEvent(PostLikeChangedEvent.liked(postId));
+        }
+    }
+
+    @Transactional
+    public void unlike(Long postId, User user) {
+        int deletedRows = postLikeRepository.deleteByPostIdAndUserId(postId, user.getId());
+        if (deletedRows > 0) {
+            eventPublisher.publishEvent(PostLikeChangedEvent.unliked(postId));
+        }
+    }
+
+    // 목록 한 페이지의 게시물을 한 번의 조회로 확인
+    @Transactional(readOnly = true)
+    public Set<Long> getLikedPostIds(Long userId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(postLikeRepository.findLikedPostIds(userId, postIds));
+    }
+}
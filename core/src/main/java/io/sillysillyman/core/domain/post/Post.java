@@ -1,6 +1,5 @@
 package io.sillysillyman.core.domain.post;
 
-import io.sillysillyman.core.domain.post.command.UpdatePostCommand;
 import io.sillysillyman.core.domain.user.User;
 import lombok.Builder;
 import lombok.Getter;
@@ -11,12 +10,16 @@ public class Post {
     private final Long id;
     private final User user;
     private String content;
+    private final long commentCount;
+    private final long likeCount;
 
     @Builder
-    public Post(Long id, User user, String content) {
+    public Post(Long id, User user, String content, long commentCount, long likeCount) {
         this.id = id;
         this.user = user;
         this.content = content;
+        this.commentCount = commentCount;
+        this.likeCount = likeCount;
     }
 
     public static Post from(PostEntity postEntity) {
@@ -24,10 +27,8 @@ public class Post {
             .id(postEntity.getId())
             .user(User.from(postEntity.getUser()))
             .content(postEntity.getContent())
+            .commentCount(postEntity.getCommentCount())
+            .likeCount(postEntity.getLikeCount())
             .build();
     }
-
-    public void update(UpdatePostCommand updatePostCommand) {
-        this.content = updatePostCommand.content();
-    }
 }
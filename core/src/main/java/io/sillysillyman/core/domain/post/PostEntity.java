@@ -1,12 +1,13 @@
 package io.sillysillyman.core.domain.post;
 
 import io.sillysillyman.core.common.BaseEntity;
+import io.sillysillyman.core.common.id.TimeOrderedId;
 import io.sillysillyman.core.domain.user.UserEntity;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -16,17 +17,27 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "posts")
+@Table(
+    name = "posts",
+    indexes = @Index(name = "idx_posts_user_id_created_at", columnList = "user_id, created_at, id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PostEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     private String content;
 
+    // 증감은 EngagementCounters 가 모아서 쿼리로 반영하므로 엔티티로는 갱신하지 않음
+    @Column(nullable = false, updatable = false)
+    private long commentCount;
+
+    @Column(nullable = false, updatable = false)
+    private long likeCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private UserEntity user;
@@ -37,12 +48,4 @@ public class PostEntity extends BaseEntity {
         this.content = content;
         this.user = user;
     }
-
-    public static PostEntity from(Post post) {
-        return PostEntity.builder()
-            .id(post.getId())
-            .content(post.getContent())
-            .user(UserEntity.from(post.getUser()))
-            .build();
-    }
 }
@@ -0,0 +1,5 @@
+package io.sillysillyman.core.domain.post.event;
+
+public record PostCreatedEvent(Long postId, Long authorId) {
+
+}
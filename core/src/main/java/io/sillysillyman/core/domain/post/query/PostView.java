@@ -0,0 +1,30 @@
+package io.sillysillyman.core.domain.post.query;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import io.sillysillyman.core.domain.post.QPostEntity;
+import io.sillysillyman.core.domain.user.QUserEntity;
+import io.sillysillyman.core.domain.user.query.UserView;
+import java.time.Instant;
+
+public record PostView(
+    Long id,
+    String content,
+    long commentCount,
+    long likeCount,
+    Instant createdAt,
+    UserView user
+) {
+
+    public static ConstructorExpression<PostView> projection(QPostEntity post, QUserEntity author) {
+        return Projections.constructor(
+            PostView.class,
+            post.id,
+            post.content,
+            post.commentCount,
+            post.likeCount,
+            post.createdAt,
+            UserView.projection(author)
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package io.sillysillyman.core.domain.post.repository;
+
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.domain.post.query.PostView;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface PostRepositoryCustom {
+
+    List<Long> findIdsByUserIds(Collection<Long> userIds, int limit);
+
+    List<Long> findRecentIdsByUserIds(Collection<Long> userIds, Long beforePostId, int limit);
+
+    Optional<PostView> findViewById(Long postId);
+
+    List<PostView> findViewsByIds(Collection<Long> postIds);
+
+    Page<PostView> findViewsByUserId(Long userId, Pageable pageable);
+
+    Slice<PostView> findViewSliceByUserId(Long userId, Pageable pageable);
+
+    List<PostView> findViewsByUserIdWithCursor(Long userId, CursorRequest cursorRequest);
+
+    long updateOwnedContent(Long postId, Long userId, String content);
+
+    long deleteOwned(Long postId, Long userId);
+
+    long addCommentCount(Collection<Long> postIds, long delta);
+
+    long addLikeCount(Collection<Long> postIds, long delta);
+}
@@ -0,0 +1,159 @@
+package io.sillysillyman.core.domain.post.repository;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.sillysillyman.core.common.pagination.CursorQuerySupport;
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.common.pagination.PageQuerySupport;
+import io.sillysillyman.core.domain.post.QPostEntity;
+import io.sillysillyman.core.domain.post.query.PostView;
+import io.sillysillyman.core.domain.user.QUserEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+@RequiredArgsConstructor
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    private static final QPostEntity qPostEntity = QPostEntity.postEntity;
+    private static final QUserEntity qUserEntity = QUserEntity.userEntity;
+    private static final Sort.Direction CURSOR_ORDER = Sort.Direction.DESC;
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<Long> findIdsByUserIds(Collection<Long> userIds, int limit) {
+        return jpaQueryFactory.select(qPostEntity.id)
+            .from(qPostEntity)
+            .where(qPostEntity.user.id.in(userIds))
+            .orderBy(qPostEntity.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<Long> findRecentIdsByUserIds(
+        Collection<Long> userIds,
+        Long beforePostId,
+        int limit
+    ) {
+        return jpaQueryFactory.select(qPostEntity.id)
+            .from(qPostEntity)
+            .where(
+                qPostEntity.user.id.in(userIds),
+                beforePostId == null ? null : qPostEntity.id.lt(beforePostId)
+            )
+            .orderBy(qPostEntity.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public Optional<PostView> findViewById(Long postId) {
+        return Optional.ofNullable(
+            jpaQueryFactory.select(PostView.projection(qPostEntity, qUserEntity))
+                .from(qPostEntity)
+                .join(qPostEntity.user, qUserEntity)
+                .where(qPostEntity.id.eq(postId))
+                .fetchOne()
+        );
+    }
+
+    @Override
+    public List<PostView> findViewsByIds(Collection<Long> postIds) {
+        return jpaQueryFactory.select(PostView.projection(qPostEntity, qUserEntity))
+            .from(qPostEntity)
+            .join(qPostEntity.user, qUserEntity)
+            .where(qPostEntity.id.in(postIds))
+            .fetch();
+    }
+
+    @Override
+    public Page<PostView> findViewsByUserId(Long userId, Pageable pageable) {
+        return PageQuerySupport.page(
+            selectViewsByUserId(userId),
+            qPostEntity,
+            pageable,
+            () -> Objects.requireNonNullElse(
+                jpaQueryFactory.select(qPostEntity.count())
+                    .from(qPostEntity)
+                    .where(qPostEntity.user.id.eq(userId))
+                    .fetchOne(),
+                0L
+            )
+        );
+    }
+
+    @Override
+    public Slice<PostView> findViewSliceByUserId(Long userId, Pageable pageable) {
+        return PageQuerySupport.slice(selectViewsByUserId(userId), qPostEntity, pageable);
+    }
+
+    @Override
+    public List<PostView> findViewsByUserIdWithCursor(Long userId, CursorRequest cursorRequest) {
+        return selectViewsByUserId(userId)
+            .where(
+                CursorQuerySupport.seek(
+                    qPostEntity.createdAt,
+                    qPostEntity.id,
+                    cursorRequest,
+                    CURSOR_ORDER
+                )
+            )
+            .orderBy(
+                CursorQuerySupport.orderBy(
+                    qPostEntity.createdAt,
+                    qPostEntity.id,
+                    cursorRequest,
+                    CURSOR_ORDER
+                )
+            )
+            .limit(CursorQuerySupport.limit(cursorRequest))
+            .fetch();
+    }
+
+    @Override
+    public long updateOwnedContent(Long postId, Long userId, String content) {
+        return jpaQueryFactory.update(qPostEntity)
+            .set(qPostEntity.content, content)
+            .set(qPostEntity.updatedAt, Instant.now())
+            .where(qPostEntity.id.eq(postId), qPostEntity.user.id.eq(userId))
+            .execute();
+    }
+
+    @Override
+    public long deleteOwned(Long postId, Long userId) {
+        return jpaQueryFactory.delete(qPostEntity)
+            .where(qPostEntity.id.eq(postId), qPostEntity.user.id.eq(userId))
+            .execute();
+    }
+
+    @Override
+    public long addCommentCount(Collection<Long> postIds, long delta) {
+        return jpaQueryFactory.update(qPostEntity)
+            .set(qPostEntity.commentCount, qPostEntity.commentCount.add(delta))
+            .where(qPostEntity.id.in(postIds))
+            .execute();
+    }
+
+    @Override
+    public long addLikeCount(Collection<Long> postIds, long delta) {
+        return jpaQueryFactory.update(qPostEntity)
+            .set(qPostEntity.likeCount, qPostEntity.likeCount.add(delta))
+            .where(qPostEntity.id.in(postIds))
+            .execute();
+    }
+
+    private JPAQuery<PostView> selectViewsByUserId(Long userId) {
+        return jpaQueryFactory.select(PostView.projection(qPostEntity, qUserEntity))
+            .from(qPostEntity)
+            .join(qPostEntity.user, qUserEntity)
+            .where(qPostEntity.user.id.eq(userId));
+    }
+}
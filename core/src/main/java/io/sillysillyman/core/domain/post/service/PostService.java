@@ -2,18 +2,28 @@ package io.sillysillyman.core.domain.post.service;
 
 import io.sillysillyman.core.auth.exception.AuthErrorCode;
 import io.sillysillyman.core.auth.exception.detail.ForbiddenAccessException;
+import io.sillysillyman.core.common.cache.ApproximateCountCache;
+import io.sillysillyman.core.common.pagination.Cursor;
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.common.pagination.CursorSlice;
+import io.sillysillyman.core.domain.like.repository.PostLikeRepository;
 import io.sillysillyman.core.domain.post.Post;
 import io.sillysillyman.core.domain.post.PostEntity;
 import io.sillysillyman.core.domain.post.command.CreatePostCommand;
 import io.sillysillyman.core.domain.post.command.UpdatePostCommand;
+import io.sillysillyman.core.domain.post.event.PostCreatedEvent;
 import io.sillysillyman.core.domain.post.exception.PostErrorCode;
 import io.sillysillyman.core.domain.post.exception.detail.PostNotFoundException;
+import io.sillysillyman.core.domain.post.query.PostView;
 import io.sillysillyman.core.domain.post.repository.PostRepository;
 import io.sillysillyman.core.domain.user.User;
-import java.util.Objects;
+import io.sillysillyman.core.domain.user.query.UserView;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,7 +31,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class PostService {
 
+    private static final String USER_POST_COUNT_SCOPE = "user-posts";
+
     private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final ApproximateCountCache approximateCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Post getById(Long postId) {
@@ -32,16 +48,39 @@ public class PostService {
         );
     }
 
-    @Transactional
-    public Post createPost(CreatePostCommand createPostCommand, User user) {
-        Post post = Post.builder()
-            .user(user)
-            .content(createPostCommand.content())
-            .build();
+    @Transactional(readOnly = true)
+    public PostView getViewById(Long postId) {
+        return postRepository.findViewById(postId).orElseThrow(
+            () -> new PostNotFoundException(PostErrorCode.POST_NOT_FOUND)
+        );
+    }
 
-        PostEntity postEntity = postRepository.save(PostEntity.from(post));
+    @Transactional(readOnly = true)
+    public void validatePostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(PostErrorCode.POST_NOT_FOUND);
+        }
+    }
 
-        return Post.from(postEntity);
+    @Transactional
+    public PostView createPost(CreatePostCommand createPostCommand, User user) {
+        PostEntity postEntity = postRepository.save(
+            PostEntity.builder()
+                .content(createPostCommand.content())
+                .user(userRepository.getReferenceById(user.getId()))
+                .build()
+        );
+        eventPublisher.publishEvent(new PostCreatedEvent(postEntity.getId(), user.getId()));
+        approximateCountCache.invalidate(USER_POST_COUNT_SCOPE, user.getId());
+
+        return new PostView(
+            postEntity.getId(),
+            postEntity.getContent(),
+            postEntity.getCommentCount(),
+            postEntity.getLikeCount(),
+            postEntity.getCreatedAt(),
+            UserView.from(user)
+        );
     }
 
     @Transactional(readOnly = true)
@@ -50,14 +89,43 @@ public class PostService {
     }
 
     @Transactional(readOnly = true)
-    public Page<Post> getUserPosts(Long userId, Pageable pageable) {
+    public Page<PostView> getUserPosts(Long userId, Pageable pageable) {
         // TODO: 팔로우/팔로잉 기반 공개/비공개 여부 검증 필요
-        return postRepository.findByUserId(userId, pageable).map(Post::from);
+        return postRepository.findViewsByUserId(userId, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PostView> getMyPosts(User user, Pageable pageable) {
+        return postRepository.findViewsByUserId(user.getId(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<PostView> getUserPostSlice(Long userId, Pageable pageable) {
+        return postRepository.findViewSliceByUserId(userId, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<Post> getMyPosts(User user, Pageable pageable) {
-        return postRepository.findByUserId(user.getId(), pageable).map(Post::from);
+    public Slice<PostView> getMyPostSlice(User user, Pageable pageable) {
+        return postRepository.findViewSliceByUserId(user.getId(), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public long getApproximateUserPostCount(Long userId) {
+        return approximateCountCache.get(
+            USER_POST_COUNT_SCOPE,
+            userId,
+            () -> postRepository.countByUserId(userId)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSlice<PostView> getUserPosts(Long userId, CursorRequest cursorRequest) {
+        return findUserPosts(userId, cursorRequest);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSlice<PostView> getMyPosts(User user, CursorRequest cursorRequest) {
+        return findUserPosts(user.getId(), cursorRequest);
     }
 
     @Transactional
@@ -66,27 +134,41 @@ public class PostService {
         UpdatePostCommand updatePostCommand,
         User user
     ) {
-        Post post = getById(postId);
-
-        validatePostOwnership(user.getId(), post.getUser().getId());
-
-        post.update(updatePostCommand);
+        long updatedRows = postRepository.updateOwnedContent(
+            postId,
+            user.getId(),
+            updatePostCommand.content()
+        );
 
-        postRepository.save(PostEntity.from(post));
+        validateAffectedRows(updatedRows, postId);
     }
 
     @Transactional
     public void deletePost(Long postId, User user) {
-        Post post = getById(postId);
+        // 남의 게시물이면 아래 검증에서 예외가 나며 좋아요 삭제도 함께 롤백됨
+        postLikeRepository.deleteByPostId(postId);
+        long deletedRows = postRepository.deleteOwned(postId, user.getId());
 
-        validatePostOwnership(user.getId(), post.getUser().getId());
+        validateAffectedRows(deletedRows, postId);
+        approximateCountCache.invalidate(USER_POST_COUNT_SCOPE, user.getId());
+    }
 
-        postRepository.delete(PostEntity.from(post));
+    private CursorSlice<PostView> findUserPosts(Long userId, CursorRequest cursorRequest) {
+        return CursorSlice.of(
+            postRepository.findViewsByUserIdWithCursor(userId, cursorRequest),
+            cursorRequest,
+            postView -> new Cursor(postView.createdAt(), postView.id())
+        );
     }
 
-    private void validatePostOwnership(Long userId, Long authorId) {
-        if (!Objects.equals(userId, authorId)) {
-            throw new ForbiddenAccessException(AuthErrorCode.FORBIDDEN_ACCESS);
+    // 조건부 UPDATE/DELETE 가 0건일 때만 없는 게시물인지, 남의 게시물인지 구분
+    private void validateAffectedRows(long affectedRows, Long postId) {
+        if (affectedRows > 0) {
+            return;
+        }
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(PostErrorCode.POST_NOT_FOUND);
         }
+        throw new ForbiddenAccessException(AuthErrorCode.FORBIDDEN_ACCESS);
     }
 }
@@ -1,7 +1,6 @@
 package io.sillysillyman.core.domain.reply;
 
 import io.sillysillyman.core.domain.comment.Comment;
-import io.sillysillyman.core.domain.reply.command.UpsertReplyCommand;
 import io.sillysillyman.core.domain.user.User;
 import lombok.Builder;
 import lombok.Getter;
@@ -30,8 +29,4 @@ public class Reply {
             .content(replyEntity.getContent())
             .build();
     }
-
-    public void update(UpsertReplyCommand upsertReplyCommand) {
-        this.content = upsertReplyCommand.content();
-    }
 }
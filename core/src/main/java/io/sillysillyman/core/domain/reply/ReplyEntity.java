@@ -1,14 +1,14 @@
 package io.sillysillyman.core.domain.reply;
 
 import io.sillysillyman.core.common.BaseEntity;
+import io.sillysillyman.core.common.id.TimeOrderedId;
 import io.sillysillyman.core.domain.comment.CommentEntity;
 import io.sillysillyman.core.domain.user.UserEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -18,13 +18,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "replies")
+@Table(
+    name = "replies",
+    indexes = @Index(name = "idx_replies_comment_id_created_at", columnList = "comment_id, created_at, id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReplyEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(nullable = false)
@@ -45,13 +48,4 @@ public class ReplyEntity extends BaseEntity {
         this.comment = comment;
         this.user = user;
     }
-
-    public static ReplyEntity from(Reply reply) {
-        return ReplyEntity.builder()
-            .id(reply.getId())
-            .content(reply.getContent())
-            .comment(CommentEntity.from(reply.getComment()))
-            .user(UserEntity.from(reply.getUser()))
-            .build();
-    }
 }
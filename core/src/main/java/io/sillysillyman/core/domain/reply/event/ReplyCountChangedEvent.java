@@ -0,0 +1,12 @@
+package io.sillysillyman.core.domain.reply.event;
+
+public record ReplyCountChangedEvent(Long commentId, long delta) {
+
+    public static ReplyCountChangedEvent added(Long commentId) {
+        return new ReplyCountChangedEvent(commentId, 1);
+    }
+
+    public static ReplyCountChangedEvent removed(Long commentId) {
+        return new ReplyCountChangedEvent(commentId, -1);
+    }
+}
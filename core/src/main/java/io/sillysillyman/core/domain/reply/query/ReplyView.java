@@ -0,0 +1,38 @@
+package io.sillysillyman.core.domain.reply.query;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import io.sillysillyman.core.domain.comment.QCommentEntity;
+import io.sillysillyman.core.domain.comment.query.CommentView;
+import io.sillysillyman.core.domain.post.QPostEntity;
+import io.sillysillyman.core.domain.reply.QReplyEntity;
+import io.sillysillyman.core.domain.user.QUserEntity;
+import io.sillysillyman.core.domain.user.query.UserView;
+import java.time.Instant;
+
+public record ReplyView(
+    Long id,
+    String content,
+    Instant createdAt,
+    CommentView comment,
+    UserView user
+) {
+
+    public static ConstructorExpression<ReplyView> projection(
+        QReplyEntity reply,
+        QUserEntity author,
+        QCommentEntity comment,
+        QUserEntity commentAuthor,
+        QPostEntity post,
+        QUserEntity postAuthor
+    ) {
+        return Projections.constructor(
+            ReplyView.class,
+            reply.id,
+            reply.content,
+            reply.createdAt,
+            CommentView.projection(comment, commentAuthor, post, postAuthor),
+            UserView.projection(author)
+        );
+    }
+}
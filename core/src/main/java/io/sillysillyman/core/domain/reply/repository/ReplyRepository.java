@@ -1,11 +1,18 @@
 package io.sillysillyman.core.domain.reply.repository;
 
 import io.sillysillyman.core.domain.reply.ReplyEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ReplyRepository extends JpaRepository<ReplyEntity, Long> {
+public interface ReplyRepository
+    extends JpaRepository<ReplyEntity, Long>, ReplyRepositoryCustom {
 
-    Page<ReplyEntity> findByCommentId(Long commentId, Pageable pageable);
+    long countByCommentId(Long commentId);
+
+    // 답글 하나당 댓글 ID 하나. 같은 댓글이 여러 번 나올 수 있음
+    @Query("SELECT r.comment.id FROM ReplyEntity r WHERE r.id IN :ids")
+    List<Long> findCommentIdsByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,24 @@
+package io.sillysillyman.core.domain.reply.repository;
+
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.domain.reply.query.ReplyView;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface ReplyRepositoryCustom {
+
+    List<Long> findIdsByUserIdsOrCommentUserIdsOrPostUserIds(Collection<Long> userIds, int limit);
+
+    Page<ReplyView> findViewsByCommentId(Long commentId, Pageable pageable);
+
+    Slice<ReplyView> findViewSliceByCommentId(Long commentId, Pageable pageable);
+
+    List<ReplyView> findViewsByCommentIdWithCursor(Long commentId, CursorRequest cursorRequest);
+
+    long updateOwnedContent(Long commentId, Long replyId, Long userId, String content);
+
+    long deleteOwned(Long commentId, Long replyId, Long userId);
+}
@@ -0,0 +1,143 @@
+package io.sillysillyman.core.domain.reply.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.sillysillyman.core.common.pagination.CursorQuerySupport;
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.common.pagination.PageQuerySupport;
+import io.sillysillyman.core.domain.comment.QCommentEntity;
+import io.sillysillyman.core.domain.post.QPostEntity;
+import io.sillysillyman.core.domain.reply.QReplyEntity;
+import io.sillysillyman.core.domain.reply.query.ReplyView;
+import io.sillysillyman.core.domain.user.QUserEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+@RequiredArgsConstructor
+public class ReplyRepositoryCustomImpl implements ReplyRepositoryCustom {
+
+    private static final QReplyEntity qReplyEntity = QReplyEntity.replyEntity;
+    private static final QCommentEntity qCommentEntity = QCommentEntity.commentEntity;
+    private static final QPostEntity qPostEntity = QPostEntity.postEntity;
+    private static final QUserEntity qReplyUser = new QUserEntity("replyUser");
+    private static final QUserEntity qCommentUser = new QUserEntity("commentUser");
+    private static final QUserEntity qPostUser = new QUserEntity("postUser");
+    private static final Sort.Direction CURSOR_ORDER = Sort.Direction.ASC;
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<Long> findIdsByUserIdsOrCommentUserIdsOrPostUserIds(
+        Collection<Long> userIds,
+        int limit
+    ) {
+        return jpaQueryFactory.select(qReplyEntity.id)
+            .from(qReplyEntity)
+            .join(qReplyEntity.comment, qCommentEntity)
+            .join(qCommentEntity.post, qPostEntity)
+            .where(
+                qReplyEntity.user.id.in(userIds)
+                    .or(qCommentEntity.user.id.in(userIds))
+                    .or(qPostEntity.user.id.in(userIds))
+            )
+            .orderBy(qReplyEntity.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public Page<ReplyView> findViewsByCommentId(Long commentId, Pageable pageable) {
+        return PageQuerySupport.page(
+            selectViewsByCommentId(commentId),
+            qReplyEntity,
+            pageable,
+            () -> Objects.requireNonNullElse(
+                jpaQueryFactory.select(qReplyEntity.count())
+                    .from(qReplyEntity)
+                    .where(qReplyEntity.comment.id.eq(commentId))
+                    .fetchOne(),
+                0L
+            )
+        );
+    }
+
+    @Override
+    public Slice<ReplyView> findViewSliceByCommentId(Long commentId, Pageable pageable) {
+        return PageQuerySupport.slice(selectViewsByCommentId(commentId), qReplyEntity, pageable);
+    }
+
+    @Override
+    public List<ReplyView> findViewsByCommentIdWithCursor(
+        Long commentId,
+        CursorRequest cursorRequest
+    ) {
+        return selectViewsByCommentId(commentId)
+            .where(
+                CursorQuerySupport.seek(
+                    qReplyEntity.createdAt,
+                    qReplyEntity.id,
+                    cursorRequest,
+                    CURSOR_ORDER
+                )
+            )
+            .orderBy(
+                CursorQuerySupport.orderBy(
+                    qReplyEntity.createdAt,
+                    qReplyEntity.id,
+                    cursorRequest,
+                    CURSOR_ORDER
+                )
+            )
+            .limit(CursorQuerySupport.limit(cursorRequest))
+            .fetch();
+    }
+
+    @Override
+    public long updateOwnedContent(Long commentId, Long replyId, Long userId, String content) {
+        return jpaQueryFactory.update(qReplyEntity)
+            .set(qReplyEntity.content, content)
+            .set(qReplyEntity.updatedAt, Instant.now())
+            .where(ownedBy(commentId, replyId, userId))
+            .execute();
+    }
+
+    @Override
+    public long deleteOwned(Long commentId, Long replyId, Long userId) {
+        return jpaQueryFactory.delete(qReplyEntity)
+            .where(ownedBy(commentId, replyId, userId))
+            .execute();
+    }
+
+    private BooleanExpression ownedBy(Long commentId, Long replyId, Long userId) {
+        return qReplyEntity.id.eq(replyId)
+            .and(qReplyEntity.comment.id.eq(commentId))
+            .and(qReplyEntity.user.id.eq(userId));
+    }
+
+    private JPAQuery<ReplyView> selectViewsByCommentId(Long commentId) {
+        return jpaQueryFactory.select(
+                ReplyView.projection(
+                    qReplyEntity,
+                    qReplyUser,
+                    qCommentEntity,
+                    qCommentUser,
+                    qPostEntity,
+                    qPostUser
+                )
+            )
+            .from(qReplyEntity)
+            .join(qReplyEntity.user, qReplyUser)
+            .join(qReplyEntity.comment, qCommentEntity)
+            .join(qCommentEntity.user, qCommentUser)
+            .join(qCommentEntity.post, qPostEntity)
+            .join(qPostEntity.user, qPostUser)
+            .where(qReplyEntity.comment.id.eq(commentId));
+    }
+}
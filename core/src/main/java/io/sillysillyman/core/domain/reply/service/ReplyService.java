@@ -2,20 +2,31 @@ package io.sillysillyman.core.domain.reply.service;
 
 import io.sillysillyman.core.auth.exception.AuthErrorCode;
 import io.sillysillyman.core.auth.exception.detail.ForbiddenAccessException;
-import io.sillysillyman.core.domain.comment.Comment;
+import io.sillysillyman.core.common.cache.ApproximateCountCache;
+import io.sillysillyman.core.common.pagination.Cursor;
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.common.pagination.CursorSlice;
+import io.sillysillyman.core.domain.comment.query.CommentView;
+import io.sillysillyman.core.domain.comment.repository.CommentRepository;
 import io.sillysillyman.core.domain.comment.service.CommentService;
 import io.sillysillyman.core.domain.reply.Reply;
 import io.sillysillyman.core.domain.reply.ReplyEntity;
 import io.sillysillyman.core.domain.reply.command.UpsertReplyCommand;
+import io.sillysillyman.core.domain.reply.event.ReplyCountChangedEvent;
 import io.sillysillyman.core.domain.reply.exception.ReplyErrorCode;
 import io.sillysillyman.core.domain.reply.exception.detail.ReplyNotBelongToCommentException;
 import io.sillysillyman.core.domain.reply.exception.detail.ReplyNotFoundException;
+import io.sillysillyman.core.domain.reply.query.ReplyView;
 import io.sillysillyman.core.domain.reply.repository.ReplyRepository;
 import io.sillysillyman.core.domain.user.User;
+import io.sillysillyman.core.domain.user.query.UserView;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,8 +34,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class ReplyService {
 
+    private static final String COMMENT_REPLY_COUNT_SCOPE = "comment-replies";
+
     private final ReplyRepository replyRepository;
     private final CommentService commentService;
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final ApproximateCountCache approximateCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Reply getById(Long replyId) {
@@ -35,23 +52,57 @@ public class ReplyService {
     }
 
     @Transactional
-    public Reply createReply(Long commentId, UpsertReplyCommand upsertReplyCommand, User user) {
-        Comment comment = commentService.getById(commentId);
-        Reply reply = Reply.builder()
-            .content(upsertReplyCommand.content())
-            .comment(comment)
-            .user(user)
-            .build();
+    public ReplyView createReply(Long commentId, UpsertReplyCommand upsertReplyCommand, User user) {
+        CommentView comment = commentService.getViewById(commentId);
+
+        ReplyEntity replyEntity = replyRepository.save(
+            ReplyEntity.builder()
+                .content(upsertReplyCommand.content())
+                .comment(commentRepository.getReferenceById(commentId))
+                .user(userRepository.getReferenceById(user.getId()))
+                .build()
+        );
+        eventPublisher.publishEvent(ReplyCountChangedEvent.added(commentId));
+        approximateCountCache.invalidate(COMMENT_REPLY_COUNT_SCOPE, commentId);
+
+        return new ReplyView(
+            replyEntity.getId(),
+            replyEntity.getContent(),
+            replyEntity.getCreatedAt(),
+            comment,
+            UserView.from(user)
+        );
+    }
 
-        ReplyEntity replyEntity = replyRepository.save(ReplyEntity.from(reply));
+    @Transactional(readOnly = true)
+    public Page<ReplyView> getReplies(Long commentId, Pageable pageable) {
+        commentService.validateCommentExists(commentId);
+        return replyRepository.findViewsByCommentId(commentId, pageable);
+    }
 
-        return Reply.from(replyEntity);
+    @Transactional(readOnly = true)
+    public Slice<ReplyView> getReplySlice(Long commentId, Pageable pageable) {
+        commentService.validateCommentExists(commentId);
+        return replyRepository.findViewSliceByCommentId(commentId, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<Reply> getReplies(Long commentId, Pageable pageable) {
-        commentService.getById(commentId);
-        return replyRepository.findByCommentId(commentId, pageable).map(Reply::from);
+    public long getApproximateReplyCount(Long commentId) {
+        return approximateCountCache.get(
+            COMMENT_REPLY_COUNT_SCOPE,
+            commentId,
+            () -> replyRepository.countByCommentId(commentId)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorSlice<ReplyView> getReplies(Long commentId, CursorRequest cursorRequest) {
+        commentService.validateCommentExists(commentId);
+        return CursorSlice.of(
+            replyRepository.findViewsByCommentIdWithCursor(commentId, cursorRequest),
+            cursorRequest,
+            replyView -> new Cursor(replyView.createdAt(), replyView.id())
+        );
     }
 
     @Transactional
@@ -61,14 +112,14 @@ public class ReplyService {
         UpsertReplyCommand upsertReplyCommand,
         User user
     ) {
-        Reply reply = getById(replyId);
-
-        validateReplyOwnership(user.getId(), reply.getUser().getId());
-        validateReplyCommentId(commentId, reply.getComment().getId());
-
-        reply.update(upsertReplyCommand);
+        long updatedRows = replyRepository.updateOwnedContent(
+            commentId,
+            replyId,
+            user.getId(),
+            upsertReplyCommand.content()
+        );
 
-        replyRepository.save(ReplyEntity.from(reply));
+        validateAffectedRows(updatedRows, commentId, replyId, user);
     }
 
     @Transactional
@@ -77,12 +128,25 @@ public class ReplyService {
         Long replyId,
         User user
     ) {
-        Reply reply = getById(replyId);
+        long deletedRows = replyRepository.deleteOwned(commentId, replyId, user.getId());
 
-        validateReplyOwnership(user.getId(), reply.getUser().getId());
-        validateReplyCommentId(commentId, reply.getComment().getId());
+        validateAffectedRows(deletedRows, commentId, replyId, user);
+        if (deletedRows > 0) {
+            eventPublisher.publishEvent(ReplyCountChangedEvent.removed(commentId));
+            approximateCountCache.invalidate(COMMENT_REPLY_COUNT_SCOPE, commentId);
+        }
+    }
+
+    // 조건부 UPDATE/DELETE 가 0건일 때만 답글을 다시 읽어 실패 원인을 구분
+    private void validateAffectedRows(long affectedRows, Long commentId, Long replyId, User user) {
+        if (affectedRows > 0) {
+            return;
+        }
+        ReplyEntity replyEntity = replyRepository.findById(replyId)
+            .orElseThrow(() -> new ReplyNotFoundException(ReplyErrorCode.REPLY_NOT_FOUND));
 
-        replyRepository.delete(ReplyEntity.from(reply));
+        validateReplyOwnership(user.getId(), replyEntity.getUser().getId());
+        validateReplyCommentId(commentId, replyEntity.getComment().getId());
     }
 
     private void validateReplyOwnership(Long userId, Long authorId) {
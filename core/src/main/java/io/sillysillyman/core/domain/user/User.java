@@ -11,14 +11,23 @@ public class User {
     private final String username;
     private final UserRole role;
     private String password;
+    private long credentialVersion;
     private Instant deletedAt;
 
     @Builder
-    public User(Long id, String username, String password, UserRole role, Instant deletedAt) {
+    public User(
+        Long id,
+        String username,
+        String password,
+        UserRole role,
+        long credentialVersion,
+        Instant deletedAt
+    ) {
         this.id = id;
         this.username = username;
         this.password = password;
         this.role = role;
+        this.credentialVersion = credentialVersion;
         this.deletedAt = deletedAt;
     }
 
@@ -28,15 +37,22 @@ public class User {
             .username(userEntity.getUsername())
             .password(userEntity.getPassword())
             .role(userEntity.getRole())
+            .credentialVersion(userEntity.getCredentialVersion())
             .deletedAt(userEntity.getDeletedAt())
             .build();
     }
 
     public void changePassword(String newPassword) {
         this.password = newPassword;
+        this.credentialVersion++;
+    }
+
+    public void upgradePasswordHash(String encodedPassword) {
+        this.password = encodedPassword;
     }
 
     public void delete() {
         this.deletedAt = Instant.now();
+        this.credentialVersion++;
     }
 }
@@ -1,12 +1,11 @@
 package io.sillysillyman.core.domain.user;
 
 import io.sillysillyman.core.common.BaseEntity;
+import io.sillysillyman.core.common.id.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.Instant;
@@ -22,7 +21,7 @@ import lombok.NoArgsConstructor;
 public class UserEntity extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(unique = true, nullable = false, updatable = false, length = 20)
@@ -35,6 +34,9 @@ public class UserEntity extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private UserRole role;
 
+    @Column(nullable = false)
+    private long credentialVersion;
+
     private Instant deletedAt;
 
     @Builder
@@ -43,12 +45,14 @@ public class UserEntity extends BaseEntity {
         String username,
         String password,
         UserRole role,
+        long credentialVersion,
         Instant deletedAt
     ) {
         this.id = id;
         this.username = username;
         this.password = password;
         this.role = role;
+        this.credentialVersion = credentialVersion;
         this.deletedAt = deletedAt;
     }
 
@@ -58,6 +62,7 @@ public class UserEntity extends BaseEntity {
             .username(user.getUsername())
             .password(user.getPassword())
             .role(user.getRole())
+            .credentialVersion(user.getCredentialVersion())
             .deletedAt(user.getDeletedAt())
             .build();
     }
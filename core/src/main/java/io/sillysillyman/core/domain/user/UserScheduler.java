@@ -1,13 +1,14 @@
 package io.sillysillyman.core.domain.user;
 
+import io.sillysillyman.core.common.lock.SchedulerLock;
+import io.sillysillyman.core.domain.user.properties.UserPurgeProperties;
 import io.sillysillyman.core.domain.user.service.UserSchedulerService;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Slf4j(topic = "UserScheduler")
@@ -15,12 +16,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserScheduler {
 
     private final UserSchedulerService userSchedulerService;
+    private final UserPurgeProperties userPurgeProperties;
 
-    @Transactional
-    @Scheduled(cron = "0 0 0 * * ?")
+    @SchedulerLock(
+        name = "deleteOldSoftDeletedUsers",
+        leaseTime = "PT1H",
+        lockAtLeastFor = "PT1M"
+    )
+    @Scheduled(cron = "${user-purge.cron:0 0 0 * * ?}")
     public void deleteOldSoftDeletedUsers() {
-        Instant sixMonthsAgo = Instant.now().minus(6, ChronoUnit.MONTHS);
-        long deletedCount = userSchedulerService.deleteOldSoftDeletedUsers(sixMonthsAgo);
-        log.info("Completed cleanup of old deleted users. Total deleted: {}", deletedCount);
+        Instant cutoff = Instant.now().minus(userPurgeProperties.getRetention());
+        try {
+            long deletedCount = userSchedulerService.deleteOldSoftDeletedUsers(cutoff);
+            log.info("Completed cleanup of old deleted users. Total deleted: {}", deletedCount);
+        } catch (DataAccessException e) {
+            log.error("Cleanup of old deleted users stopped. It resumes on the next run", e);
+        }
     }
 }
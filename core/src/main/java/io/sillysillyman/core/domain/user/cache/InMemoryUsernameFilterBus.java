@@ -0,0 +1,28 @@
+package io.sillysillyman.core.domain.user.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(
+    prefix = "username-filter.broadcast",
+    name = "bus",
+    havingValue = "in-memory"
+)
+@Component
+public class InMemoryUsernameFilterBus implements UsernameFilterBus {
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String key) {
+        listeners.forEach(listener -> listener.accept(key));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,52 @@
+package io.sillysillyman.core.domain.user.cache;
+
+import io.sillysillyman.core.domain.user.properties.UsernameFilterProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@ConditionalOnProperty(
+    prefix = "username-filter.broadcast",
+    name = "bus",
+    havingValue = "redis",
+    matchIfMissing = true
+)
+@RequiredArgsConstructor
+@Slf4j(topic = "RedisUsernameFilterBus")
+@Component
+public class RedisUsernameFilterBus implements UsernameFilterBus {
+
+    private final UsernameFilterProperties usernameFilterProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Override
+    public void publish(String key) {
+        try {
+            stringRedisTemplate.convertAndSend(getChannel(), key);
+            log.debug("Published username filter put for username: {}", key);
+        } catch (DataAccessException e) {
+            log.error("Failed to publish username filter put for username: {}", key, e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        redisMessageListenerContainer.addMessageListener(
+            (message, pattern) ->
+                listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(getChannel())
+        );
+    }
+
+    private String getChannel() {
+        return usernameFilterProperties.getBroadcast().getChannel();
+    }
+}
@@ -0,0 +1,137 @@
+package io.sillysillyman.core.domain.user.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.sillysillyman.core.common.util.BloomFilter;
+import io.sillysillyman.core.domain.user.properties.UsernameFilterProperties;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용 중인 사용자명의 Bloom filter. 확실히 없는 사용자명은 DB 조회 없이 판별한다.
+ * 최종 중복 판단은 DB 유니크 제약이 담당한다. DB 의 사용자명 비교가 대소문자를 구분하지 않으므로
+ * 키는 소문자로 정규화한다. 노드마다 필터를 따로 두므로, 커밋된 사용자명은 {@link UsernameFilterBus} 로
+ * 다른 노드에 전파해 "확실히 없음" 판단이 클러스터 전체에서 유효하도록 한다.
+ */
+@Slf4j(topic = "UsernameBloomFilter")
+@Component
+public class UsernameBloomFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UsernameFilterProperties usernameFilterProperties;
+    private final UsernameFilterBus usernameFilterBus;
+    private final Counter definiteMissCounter;
+    private final Counter possibleHitCounter;
+
+    // 재구성 전에는 null 이며 모든 사용자명을 "있을 수도 있음" 으로 취급
+    private volatile BloomFilter current;
+    private volatile BloomFilter rebuilding;
+
+    public UsernameBloomFilter(
+        UserRepository userRepository,
+        TransactionTemplate transactionTemplate,
+        UsernameFilterProperties usernameFilterProperties,
+        UsernameFilterBus usernameFilterBus,
+        MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.usernameFilterProperties = usernameFilterProperties;
+        this.usernameFilterBus = usernameFilterBus;
+        this.definiteMissCounter = createLookupCounter(meterRegistry, "definite_miss");
+        this.possibleHitCounter = createLookupCounter(meterRegistry, "possible_hit");
+        usernameFilterBus.subscribe(this::apply);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        BloomFilter bloomFilter = new BloomFilter(
+            usernameFilterProperties.getExpectedInsertions(),
+            usernameFilterProperties.getFalsePositiveProbability()
+        );
+        rebuilding = bloomFilter;
+
+        AtomicLong count = new AtomicLong();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+                usernames.forEach(username -> {
+                    bloomFilter.put(normalize(username));
+                    count.incrementAndGet();
+                });
+            }
+        });
+
+        // 재구성 중 추가된 사용자명이 누락되지 않도록 current 를 먼저 교체한 뒤 rebuilding 을 비움
+        current = bloomFilter;
+        rebuilding = null;
+        log.info(
+            "Rebuilt username filter with {} usernames ({} bits, {} hash functions)",
+            count.get(),
+            bloomFilter.bitSize(),
+            bloomFilter.hashFunctions()
+        );
+    }
+
+    public void put(String username) {
+        String key = normalize(username);
+        apply(key);
+
+        // 커밋 전 행은 재구성 스트림에 보이지 않을 수 있어, 그 사이 교체된 필터에도 커밋 후 다시 추가
+        // 다른 노드에는 롤백될 수 있는 사용자명이 퍼지지 않도록 커밋 후에만 전파
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        apply(key);
+                        usernameFilterBus.publish(key);
+                    }
+                }
+            );
+        } else {
+            usernameFilterBus.publish(key);
+        }
+    }
+
+    public boolean mightContain(String username) {
+        BloomFilter currentFilter = current;
+        if (currentFilter != null && !currentFilter.mightContain(normalize(username))) {
+            definiteMissCounter.increment();
+            return false;
+        }
+        possibleHitCounter.increment();
+        return true;
+    }
+
+    private void apply(String key) {
+        BloomFilter rebuildingFilter = rebuilding;
+        if (rebuildingFilter != null) {
+            rebuildingFilter.put(key);
+        }
+        BloomFilter currentFilter = current;
+        if (currentFilter != null) {
+            currentFilter.put(key);
+        }
+    }
+
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter createLookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("username.filter.lookups")
+            .description("Username filter lookups by result")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
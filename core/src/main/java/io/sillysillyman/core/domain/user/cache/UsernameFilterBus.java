@@ -0,0 +1,10 @@
+package io.sillysillyman.core.domain.user.cache;
+
+import java.util.function.Consumer;
+
+public interface UsernameFilterBus {
+
+    void publish(String key);
+
+    void subscribe(Consumer<String> listener);
+}
@@ -0,0 +1,14 @@
+package io.sillysillyman.core.domain.user.event;
+
+import io.sillysillyman.core.domain.user.User;
+
+public record UserCredentialsChangedEvent(Long userId, String username, long credentialVersion) {
+
+    public static UserCredentialsChangedEvent from(User user) {
+        return new UserCredentialsChangedEvent(
+            user.getId(),
+            user.getUsername(),
+            user.getCredentialVersion()
+        );
+    }
+}
@@ -0,0 +1,8 @@
+package io.sillysillyman.core.domain.user.event;
+
+/**
+ * 사용자명이 새 사용자에게 배정되거나 사용자 삭제로 풀린 경우. 이전 소유자의 캐시를 비우는 데 쓴다.
+ */
+public record UsernameOwnerChangedEvent(String username) {
+
+}
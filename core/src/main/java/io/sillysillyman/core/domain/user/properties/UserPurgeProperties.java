@@ -0,0 +1,17 @@
+package io.sillysillyman.core.domain.user.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user-purge")
+public class UserPurgeProperties {
+
+    private Duration retention = Duration.ofDays(180);
+    private int userChunkSize = 100;
+    private int chunkSize = 500;
+    private Duration pauseBetweenChunks = Duration.ofMillis(100);
+}
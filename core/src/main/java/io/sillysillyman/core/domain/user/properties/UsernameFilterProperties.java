@@ -0,0 +1,23 @@
+package io.sillysillyman.core.domain.user.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "username-filter")
+public class UsernameFilterProperties {
+
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveProbability = 0.01;
+    private final BroadcastProperties broadcast = new BroadcastProperties();
+
+    @Getter
+    @Setter
+    public static class BroadcastProperties {
+
+        private String bus = "redis";
+        private String channel = "username-filter:put";
+    }
+}
@@ -0,0 +1,17 @@
+package io.sillysillyman.core.domain.user.query;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import io.sillysillyman.core.domain.user.QUserEntity;
+import io.sillysillyman.core.domain.user.User;
+
+public record UserView(Long id, String username) {
+
+    public static UserView from(User user) {
+        return new UserView(user.getId(), user.getUsername());
+    }
+
+    public static ConstructorExpression<UserView> projection(QUserEntity user) {
+        return Projections.constructor(UserView.class, user.id, user.username);
+    }
+}
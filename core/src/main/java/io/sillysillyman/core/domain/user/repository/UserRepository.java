@@ -1,12 +1,32 @@
 package io.sillysillyman.core.domain.user.repository;
 
 import io.sillysillyman.core.domain.user.UserEntity;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long>, UserRepositoryCustom {
 
     Boolean existsByUsername(String username);
 
+    boolean existsByIdAndDeletedAtIsNull(Long id);
+
     Optional<UserEntity> findByUsername(String username);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.username FROM UserEntity u")
+    Stream<String> streamAllUsernames();
+
+    @Query("SELECT u.username FROM UserEntity u WHERE u.id IN :ids")
+    List<String> findUsernamesByIds(@Param("ids") Collection<Long> ids);
 }
@@ -1,8 +1,13 @@
 package io.sillysillyman.core.domain.user.repository;
 
+import io.sillysillyman.core.domain.user.query.UserView;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 public interface UserRepositoryCustom {
 
-    long deleteByDeletedAtNotNullAndBefore(Instant instant);
+    List<Long> findSoftDeletedIdsBefore(Instant instant, long afterId, int limit);
+
+    List<UserView> findActiveViewsByIds(Collection<Long> userIds);
 }
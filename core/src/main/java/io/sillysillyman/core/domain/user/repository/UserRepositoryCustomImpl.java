@@ -2,7 +2,10 @@ package io.sillysillyman.core.domain.user.repository;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import io.sillysillyman.core.domain.user.QUserEntity;
+import io.sillysillyman.core.domain.user.query.UserView;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -12,9 +15,27 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
     private final JPAQueryFactory jpaQueryFactory;
 
     @Override
-    public long deleteByDeletedAtNotNullAndBefore(Instant instant) {
-        return jpaQueryFactory.delete(qUserEntity)
-            .where(qUserEntity.deletedAt.isNotNull().and(qUserEntity.deletedAt.loe(instant)))
-            .execute();
+    public List<Long> findSoftDeletedIdsBefore(Instant instant, long afterId, int limit) {
+        return jpaQueryFactory.select(qUserEntity.id)
+            .from(qUserEntity)
+            .where(
+                qUserEntity.id.gt(afterId),
+                qUserEntity.deletedAt.isNotNull(),
+                qUserEntity.deletedAt.loe(instant)
+            )
+            .orderBy(qUserEntity.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<UserView> findActiveViewsByIds(Collection<Long> userIds) {
+        return jpaQueryFactory.select(UserView.projection(qUserEntity))
+            .from(qUserEntity)
+            .where(
+                qUserEntity.id.in(userIds),
+                qUserEntity.deletedAt.isNull()
+            )
+            .fetch();
     }
 }
@@ -1,20 +1,231 @@
 package io.sillysillyman.core.domain.user.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.sillysillyman.core.domain.comment.event.CommentCountChangedEvent;
+import io.sillysillyman.core.domain.comment.repository.CommentRepository;
+import io.sillysillyman.core.domain.follow.event.FollowChangedEvent;
+import io.sillysillyman.core.domain.follow.repository.FollowRepository;
+import io.sillysillyman.core.domain.like.event.PostLikeChangedEvent;
+import io.sillysillyman.core.domain.like.repository.PostLikeRepository;
+import io.sillysillyman.core.domain.post.repository.PostRepository;
+import io.sillysillyman.core.domain.reply.event.ReplyCountChangedEvent;
+import io.sillysillyman.core.domain.reply.repository.ReplyRepository;
+import io.sillysillyman.core.domain.user.event.UsernameOwnerChangedEvent;
+import io.sillysillyman.core.domain.user.properties.UserPurgeProperties;
 import io.sillysillyman.core.domain.user.repository.UserRepository;
+import java.time.Duration;
 import java.time.Instant;
-import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-
-@RequiredArgsConstructor
+@Slf4j(topic = "UserSchedulerService")
 @Service
 public class UserSchedulerService {
 
+    private static final String REPLIES = "replies";
+    private static final String COMMENTS = "comments";
+    private static final String POST_LIKES = "post_likes";
+    private static final String POSTS = "posts";
+    private static final String FOLLOWS = "follows";
+    private static final String USERS = "users";
+
     private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final FollowRepository followRepository;
+    private final PostLikeRepository postLikeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserPurgeProperties userPurgeProperties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong cursor = new AtomicLong();
 
-    @Transactional
+    public UserSchedulerService(
+        UserRepository userRepository,
+        PostRepository postRepository,
+        CommentRepository commentRepository,
+        ReplyRepository replyRepository,
+        FollowRepository followRepository,
+        PostLikeRepository postLikeRepository,
+        TransactionTemplate transactionTemplate,
+        ApplicationEventPublisher eventPublisher,
+        UserPurgeProperties userPurgeProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.replyRepository = replyRepository;
+        this.followRepository = followRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.userPurgeProperties = userPurgeProperties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("user.purge.cursor", cursor, AtomicLong::get)
+            .description("Last soft-deleted user id purged")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 탈퇴 후 보관 기간이 지난 사용자를 사용자 ID 키셋 순서로 청크 단위 삭제한다.
+     * 청크마다 별도 트랜잭션으로 커밋하므로 중단되더라도 다음 실행이 남은 행부터 이어서 처리한다.
+     */
     public long deleteOldSoftDeletedUsers(Instant instant) {
-        return userRepository.deleteByDeletedAtNotNullAndBefore(instant);
+        long deletedCount = 0;
+        long afterId = 0;
+
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Long> userIds = userRepository.findSoftDeletedIdsBefore(
+                instant,
+                afterId,
+                userPurgeProperties.getUserChunkSize()
+            );
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            deleteInChunks(
+                REPLIES,
+                limit -> replyRepository.findIdsByUserIdsOrCommentUserIdsOrPostUserIds(
+                    userIds,
+                    limit
+                ),
+                this::deleteReplies
+            );
+            deleteInChunks(
+                COMMENTS,
+                limit -> commentRepository.findIdsByUserIdsOrPostUserIds(userIds, limit),
+                this::deleteComments
+            );
+            deleteInChunks(
+                POST_LIKES,
+                limit -> postLikeRepository.findIdsByUserIdsOrPostUserIds(userIds, limit),
+                this::deletePostLikes
+            );
+            deleteInChunks(
+                POSTS,
+                limit -> postRepository.findIdsByUserIds(userIds, limit),
+                postRepository::deleteAllByIdInBatch
+            );
+            deleteInChunks(
+                FOLLOWS,
+                limit -> followRepository.findIdsByUserIds(userIds, limit),
+                this::deleteFollows
+            );
+            deleteChunk(USERS, limit -> userIds, this::deleteUsers);
+
+            deletedCount += userIds.size();
+            afterId = userIds.getLast();
+            cursor.set(afterId);
+            log.debug("Purged soft-deleted users up to id: {}", afterId);
+        }
+        return deletedCount;
+    }
+
+    // 남의 댓글에 남긴 답글도 함께 지워지므로 커밋 후 답글 수를 줄이도록 증감을 발행
+    private void deleteReplies(List<Long> replyIds) {
+        replyRepository.findCommentIdsByIds(replyIds)
+            .forEach(commentId -> eventPublisher.publishEvent(
+                ReplyCountChangedEvent.removed(commentId)
+            ));
+        replyRepository.deleteAllByIdInBatch(replyIds);
+    }
+
+    // 남의 게시물에 남긴 댓글도 함께 지워지므로 커밋 후 댓글 수를 줄이도록 증감을 발행
+    private void deleteComments(List<Long> commentIds) {
+        commentRepository.findPostIdsByIds(commentIds).stream()
+            .filter(Objects::nonNull)
+            .forEach(postId -> eventPublisher.publishEvent(
+                CommentCountChangedEvent.removed(postId)
+            ));
+        commentRepository.deleteAllByIdInBatch(commentIds);
+    }
+
+    // 남의 게시물에 남긴 좋아요도 함께 지워지므로 커밋 후 좋아요 수를 줄이도록 증감을 발행
+    private void deletePostLikes(List<Long> postLikeIds) {
+        postLikeRepository.findPostIdsByIds(postLikeIds)
+            .forEach(postId -> eventPublisher.publishEvent(PostLikeChangedEvent.unliked(postId)));
+        postLikeRepository.deleteAllByIdInBatch(postLikeIds);
+    }
+
+    // 커밋 후 팔로우 그래프 캐시에서도 관계를 지우도록 언팔로우로 발행
+    private void deleteFollows(List<Long> followIds) {
+        followRepository.findEdgesByIds(followIds)
+            .forEach(edge -> eventPublisher.publishEvent(
+                FollowChangedEvent.unfollowed(edge.followerId(), edge.followeeId())
+            ));
+        followRepository.deleteAllByIdInBatch(followIds);
+    }
+
+    // 풀린 사용자명으로 새 사용자가 가입하기 전에 커밋 후 모든 노드의 사용자 정보 캐시를 비움
+    private void deleteUsers(List<Long> userIds) {
+        userRepository.findUsernamesByIds(userIds)
+            .forEach(username -> eventPublisher.publishEvent(
+                new UsernameOwnerChangedEvent(username)
+            ));
+        userRepository.deleteAllByIdInBatch(userIds);
+    }
+
+    private void deleteInChunks(
+        String entity,
+        IntFunction<List<Long>> idFinder,
+        Consumer<List<Long>> deleter
+    ) {
+        while (!Thread.currentThread().isInterrupted()
+            && deleteChunk(entity, idFinder, deleter) == userPurgeProperties.getChunkSize()
+        ) {
+            pause();
+        }
+    }
+
+    private int deleteChunk(
+        String entity,
+        IntFunction<List<Long>> idFinder,
+        Consumer<List<Long>> deleter
+    ) {
+        Integer deleted = Timer.builder("user.purge.chunk")
+            .description("Time spent deleting one purge chunk")
+            .tag("entity", entity)
+            .register(meterRegistry)
+            .record(() -> transactionTemplate.execute(status -> {
+                List<Long> ids = idFinder.apply(userPurgeProperties.getChunkSize());
+                if (!ids.isEmpty()) {
+                    deleter.accept(ids);
+                }
+                return ids.size();
+            }));
+
+        int deletedCount = deleted == null ? 0 : deleted;
+        Counter.builder("user.purge.deleted")
+            .description("Rows deleted by the soft-deleted user purge")
+            .tag("entity", entity)
+            .register(meterRegistry)
+            .increment(deletedCount);
+        return deletedCount;
+    }
+
+    private void pause() {
+        Duration pauseBetweenChunks = userPurgeProperties.getPauseBetweenChunks();
+        if (pauseBetweenChunks.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseBetweenChunks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
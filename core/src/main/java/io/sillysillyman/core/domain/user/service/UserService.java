@@ -3,14 +3,21 @@ package io.sillysillyman.core.domain.user.service;
 import io.sillysillyman.core.domain.user.User;
 import io.sillysillyman.core.domain.user.UserEntity;
 import io.sillysillyman.core.domain.user.UserRole;
+import io.sillysillyman.core.domain.user.cache.UsernameBloomFilter;
 import io.sillysillyman.core.domain.user.command.ChangePasswordCommand;
 import io.sillysillyman.core.domain.user.command.SignupCommand;
+import io.sillysillyman.core.domain.user.event.UserCredentialsChangedEvent;
+import io.sillysillyman.core.domain.user.event.UsernameOwnerChangedEvent;
 import io.sillysillyman.core.domain.user.exception.UserErrorCode;
 import io.sillysillyman.core.domain.user.exception.detail.DuplicateUsernameException;
 import io.sillysillyman.core.domain.user.exception.detail.PasswordMismatchException;
 import io.sillysillyman.core.domain.user.exception.detail.UserNotFoundException;
 import io.sillysillyman.core.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +28,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UsernameBloomFilter usernameBloomFilter;
 
     @Transactional(readOnly = true)
     public User getById(Long userId) {
@@ -33,7 +42,10 @@ public class UserService {
 
     @Transactional
     public User signup(SignupCommand signupCommand) {
-        validateUsernameUniqueness(signupCommand.username());
+        // 확실히 없는 사용자명은 중복 확인 쿼리 없이 유니크 제약에 맡김
+        if (usernameBloomFilter.mightContain(signupCommand.username())) {
+            validateUsernameUniqueness(signupCommand.username());
+        }
 
         User user = User.builder()
             .username(signupCommand.username())
@@ -41,11 +53,20 @@ public class UserService {
             .role(UserRole.USER)
             .build();
 
-        UserEntity userEntity = userRepository.save(UserEntity.from(user));
+        UserEntity userEntity = saveNewUser(UserEntity.from(user));
+        usernameBloomFilter.put(userEntity.getUsername());
+        // 같은 사용자명의 이전 소유자가 다른 노드 캐시에 남아 있을 수 있음
+        eventPublisher.publishEvent(new UsernameOwnerChangedEvent(userEntity.getUsername()));
 
         return User.from(userEntity);
     }
 
+    @Transactional(readOnly = true)
+    public boolean isUsernameAvailable(String username) {
+        return !usernameBloomFilter.mightContain(username)
+            || !userRepository.existsByUsername(username);
+    }
+
     @Transactional(readOnly = true)
     public User getUser(Long userId) {
         return getById(userId);
@@ -53,21 +74,52 @@ public class UserService {
 
     @Transactional
     public void changePassword(ChangePasswordCommand changePasswordCommand, User user) {
+        User persistedUser = withPersistedCredentials(user);
+
         validateCurrentPasswordMatches(
-            user.getPassword(),
+            persistedUser.getPassword(),
             changePasswordCommand.currentPassword()
         );
 
-        user.changePassword(passwordEncoder.encode(changePasswordCommand.newPassword()));
+        persistedUser.changePassword(passwordEncoder.encode(changePasswordCommand.newPassword()));
 
-        userRepository.save(UserEntity.from(user));
+        userRepository.save(UserEntity.from(persistedUser));
+        eventPublisher.publishEvent(UserCredentialsChangedEvent.from(persistedUser));
     }
 
     @Transactional
     public void withdraw(User user) {
-        user.delete();
+        User persistedUser = withPersistedCredentials(user);
+
+        persistedUser.delete();
+
+        userRepository.save(UserEntity.from(persistedUser));
+        eventPublisher.publishEvent(UserCredentialsChangedEvent.from(persistedUser));
+    }
+
+    private User withPersistedCredentials(User user) {
+        // stateless principal 은 비밀번호 해시를 갖지 않으므로 DB 에서 다시 조회
+        return user.getPassword() == null ? getById(user.getId()) : user;
+    }
 
-        userRepository.save(UserEntity.from(user));
+    private UserEntity saveNewUser(UserEntity userEntity) {
+        try {
+            return userRepository.saveAndFlush(userEntity);
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new DuplicateUsernameException(UserErrorCode.DUPLICATE_USERNAME);
+            }
+            throw e;
+        }
+    }
+
+    private boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException constraintViolationException) {
+                return constraintViolationException.getKind() == ConstraintKind.UNIQUE;
+            }
+        }
+        return false;
     }
 
     private void validateUsernameUniqueness(String username) {
@@ -0,0 +1,51 @@
+-- 기존 ddl-auto 스키마는 이 버전으로 baseline 되므로 마이그레이션 도입 전 스키마와 같게 유지한다.
+-- 이후 변경은 새 버전으로 추가
+CREATE TABLE users
+(
+    id         BIGINT                 NOT NULL,
+    username   VARCHAR(20)            NOT NULL,
+    password   VARCHAR(255)           NOT NULL,
+    role       ENUM ('ADMIN', 'USER') NOT NULL,
+    deleted_at DATETIME(6),
+    created_at DATETIME(6)            NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE posts
+(
+    id         BIGINT      NOT NULL,
+    content    VARCHAR(255),
+    user_id    BIGINT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_posts_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE comments
+(
+    id         BIGINT      NOT NULL,
+    content    VARCHAR(255),
+    post_id    BIGINT,
+    user_id    BIGINT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_post_id FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_comments_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE replies
+(
+    id         BIGINT       NOT NULL,
+    content    VARCHAR(255) NOT NULL,
+    comment_id BIGINT       NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_replies_comment_id FOREIGN KEY (comment_id) REFERENCES comments (id),
+    CONSTRAINT fk_replies_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,16 @@
+-- 팔로우 관계. (follower_id, followee_id) 유니크 인덱스는 팔로잉 목록을,
+-- (followee_id, follower_id) 인덱스는 팔로워 목록을 ID 순서대로 읽는 데 사용한다
+CREATE TABLE follows
+(
+    id          BIGINT      NOT NULL,
+    follower_id BIGINT      NOT NULL,
+    followee_id BIGINT      NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_follows_follower_id_followee_id UNIQUE (follower_id, followee_id),
+    CONSTRAINT fk_follows_follower_id FOREIGN KEY (follower_id) REFERENCES users (id),
+    CONSTRAINT fk_follows_followee_id FOREIGN KEY (followee_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_follows_followee_id_follower_id ON follows (followee_id, follower_id);
@@ -0,0 +1,11 @@
+-- 목록 조회마다 COUNT 하지 않도록 게시물 댓글 수와 댓글 답글 수를 행에 비정규화한다.
+-- 이후 증감은 애플리케이션이 모아서 반영하므로 여기서는 기존 데이터만 채운다
+ALTER TABLE posts ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE comments ADD COLUMN reply_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE posts p
+SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id);
+
+UPDATE comments c
+SET reply_count = (SELECT COUNT(*) FROM replies r WHERE r.comment_id = c.id);
@@ -0,0 +1,18 @@
+-- 게시물 좋아요. (user_id, post_id) 유니크 인덱스는 중복 좋아요를 막고,
+-- 목록 한 페이지의 게시물에 대한 좋아요 여부를 한 번에 조회하는 데 사용한다
+CREATE TABLE post_likes
+(
+    id         BIGINT      NOT NULL,
+    post_id    BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_post_likes_user_id_post_id UNIQUE (user_id, post_id),
+    CONSTRAINT fk_post_likes_post_id FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT fk_post_likes_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_post_likes_post_id ON post_likes (post_id);
+
+ALTER TABLE posts ADD COLUMN like_count BIGINT NOT NULL DEFAULT 0;
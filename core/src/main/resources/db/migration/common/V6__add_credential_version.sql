@@ -0,0 +1,2 @@
+-- 비밀번호 변경 시 이전에 발급된 토큰을 무효화하기 위한 자격 증명 버전. 기존 사용자는 0 에서 시작
+ALTER TABLE users ADD COLUMN credential_version BIGINT NOT NULL DEFAULT 0;
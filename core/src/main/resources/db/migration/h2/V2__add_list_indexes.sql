@@ -0,0 +1,4 @@
+-- mysql/V2 와 같은 인덱스 구성
+CREATE INDEX idx_posts_user_id_created_at ON posts (user_id, created_at, id);
+CREATE INDEX idx_comments_post_id_created_at ON comments (post_id, created_at, id);
+CREATE INDEX idx_replies_comment_id_created_at ON replies (comment_id, created_at, id);
@@ -0,0 +1,5 @@
+-- 목록 조회(부모 ID 일치 + created_at, id 정렬)가 인덱스 순서대로 읽히도록 복합 인덱스 추가
+-- 외래 키가 쓰던 단일 컬럼 인덱스는 InnoDB 가 새 인덱스로 대체하며 자동으로 제거한다
+CREATE INDEX idx_posts_user_id_created_at ON posts (user_id, created_at, id);
+CREATE INDEX idx_comments_post_id_created_at ON comments (post_id, created_at, id);
+CREATE INDEX idx_replies_comment_id_created_at ON replies (comment_id, created_at, id);
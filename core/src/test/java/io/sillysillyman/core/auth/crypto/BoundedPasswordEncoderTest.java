@@ -0,0 +1,143 @@
+package io.sillysillyman.core.auth.crypto;
+
+import static io.sillysillyman.core.common.constants.TestConstants.ENCODED_PASSWORD;
+import static io.sillysillyman.core.common.constants.TestConstants.PASSWORD;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.auth.exception.PasswordHashingErrorCode;
+import io.sillysillyman.core.auth.exception.detail.PasswordHashingRejectedException;
+import io.sillysillyman.core.auth.exception.detail.PasswordHashingTimeoutException;
+import io.sillysillyman.core.auth.properties.PasswordHashingProperties;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private MeterRegistry meterRegistry;
+    private PasswordHashingProperties passwordHashingProperties;
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    private final PasswordEncoder blockingPasswordEncoder = new PasswordEncoder() {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ENCODED_PASSWORD;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return ENCODED_PASSWORD.equals(encodedPassword);
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingProperties = new PasswordHashingProperties();
+        passwordHashingProperties.setPoolSize(1);
+        passwordHashingProperties.setQueueCapacity(1);
+        passwordHashingProperties.setMaxWait(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        boundedPasswordEncoder.destroy();
+    }
+
+    private BoundedPasswordEncoder createBoundedPasswordEncoder() {
+        return new BoundedPasswordEncoder(
+            blockingPasswordEncoder,
+            passwordHashingProperties,
+            meterRegistry
+        );
+    }
+
+    @DisplayName("비밀번호 해싱")
+    @Nested
+    class Hash {
+
+        @DisplayName("전용 스레드에서 해싱 후 소요 시간 기록")
+        @Test
+        void given_IdleExecutor_when_Matches_then_DelegateAndRecordDuration() {
+            // given
+            boundedPasswordEncoder = createBoundedPasswordEncoder();
+
+            // when
+            boolean matches = boundedPasswordEncoder.matches(PASSWORD, ENCODED_PASSWORD);
+
+            // then
+            assertThat(matches).isTrue();
+            assertThat(
+                meterRegistry.get("password.hashing.duration")
+                    .tag("operation", "matches")
+                    .timer()
+                    .count()
+            ).isEqualTo(1);
+        }
+
+        @DisplayName("대기열이 가득 차면 즉시 거부")
+        @Test
+        void given_FullQueue_when_Encode_then_ThrowPasswordHashingRejectedException()
+            throws InterruptedException {
+            // given
+            boundedPasswordEncoder = createBoundedPasswordEncoder();
+            CompletableFuture.runAsync(() -> boundedPasswordEncoder.encode(PASSWORD));
+            started.await(5, TimeUnit.SECONDS);
+            CompletableFuture.runAsync(() -> boundedPasswordEncoder.encode(PASSWORD));
+            awaitQueued(1);
+
+            // when & then
+            assertThatThrownBy(() -> boundedPasswordEncoder.encode(PASSWORD))
+                .isInstanceOf(PasswordHashingRejectedException.class)
+                .hasMessage(PasswordHashingErrorCode.PASSWORD_HASHING_REJECTED.getMessage());
+            assertThat(
+                meterRegistry.get("password.hashing.rejected")
+                    .tag("operation", "encode")
+                    .counter()
+                    .count()
+            ).isEqualTo(1);
+        }
+
+        @DisplayName("최대 대기 시간 초과 시 실패")
+        @Test
+        void given_SlowHashing_when_Encode_then_ThrowPasswordHashingTimeoutException() {
+            // given
+            passwordHashingProperties.setMaxWait(Duration.ofMillis(50));
+            boundedPasswordEncoder = createBoundedPasswordEncoder();
+
+            // when & then
+            assertThatThrownBy(() -> boundedPasswordEncoder.encode(PASSWORD))
+                .isInstanceOf(PasswordHashingTimeoutException.class)
+                .hasMessage(PasswordHashingErrorCode.PASSWORD_HASHING_TIMEOUT.getMessage());
+        }
+
+        private void awaitQueued(int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.get("executor.queued").gauge().value() < expected
+                && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
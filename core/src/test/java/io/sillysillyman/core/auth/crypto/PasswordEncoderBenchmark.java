@@ -0,0 +1,32 @@
+package io.sillysillyman.core.auth.crypto;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+public class PasswordEncoderBenchmark {
+
+    private static final int SAMPLES = 5;
+    private static final int MIN_BCRYPT_STRENGTH = 8;
+    private static final int MAX_BCRYPT_STRENGTH = 14;
+
+    public static void main(String[] args) {
+        Map<String, PasswordEncoder> candidates = new LinkedHashMap<>();
+        for (int strength = MIN_BCRYPT_STRENGTH; strength <= MAX_BCRYPT_STRENGTH; strength++) {
+            candidates.put("bcrypt(" + strength + ")", new BCryptPasswordEncoder(strength));
+        }
+        candidates.put("pbkdf2(v5_8)", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%-16s %12s %16s%n", "encoder", "matches(ms)", "max logins/s");
+
+        candidates.forEach((name, passwordEncoder) -> {
+            Duration latency = PasswordEncoderCalibrator.measureMatches(passwordEncoder, SAMPLES);
+            double throughput = processors * 1_000_000_000.0 / Math.max(1, latency.toNanos());
+            System.out.printf("%-16s %12d %16.1f%n", name, latency.toMillis(), throughput);
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package io.sillysillyman.core.auth.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.sillysillyman.core.auth.properties.PasswordHashingProperties.CalibrationProperties;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordEncoderCalibratorTest {
+
+    private static final int DEFAULT_STRENGTH = 10;
+
+    private CalibrationProperties calibrationProperties;
+
+    @BeforeEach
+    void setUp() {
+        calibrationProperties = new CalibrationProperties();
+        calibrationProperties.setEnabled(true);
+        calibrationProperties.setMinStrength(4);
+        calibrationProperties.setMaxStrength(6);
+        calibrationProperties.setSamples(1);
+    }
+
+    @DisplayName("해싱 강도 보정")
+    @Nested
+    class Calibrate {
+
+        @DisplayName("보정이 비활성화되면 기본 강도 반환")
+        @Test
+        void given_CalibrationDisabled_when_Calibrate_then_ReturnDefaultStrength() {
+            // given
+            calibrationProperties.setEnabled(false);
+
+            // when
+            int strength = new PasswordEncoderCalibrator(calibrationProperties)
+                .calibrate(BCryptPasswordEncoder::new, DEFAULT_STRENGTH);
+
+            // then
+            assertThat(strength).isEqualTo(DEFAULT_STRENGTH);
+        }
+
+        @DisplayName("목표 지연 시간 내 최대 강도 반환")
+        @Test
+        void given_GenerousTargetLatency_when_Calibrate_then_ReturnMaxStrength() {
+            // given
+            calibrationProperties.setTargetLatency(Duration.ofMinutes(1));
+
+            // when
+            int strength = new PasswordEncoderCalibrator(calibrationProperties)
+                .calibrate(BCryptPasswordEncoder::new, DEFAULT_STRENGTH);
+
+            // then
+            assertThat(strength).isEqualTo(6);
+        }
+
+        @DisplayName("목표 지연 시간을 만족하지 못하면 최소 강도 반환")
+        @Test
+        void given_UnreachableTargetLatency_when_Calibrate_then_ReturnMinStrength() {
+            // given
+            calibrationProperties.setTargetLatency(Duration.ZERO);
+
+            // when
+            int strength = new PasswordEncoderCalibrator(calibrationProperties)
+                .calibrate(BCryptPasswordEncoder::new, DEFAULT_STRENGTH);
+
+            // then
+            assertThat(strength).isEqualTo(4);
+        }
+    }
+
+    @DisplayName("위임 인코더")
+    @Nested
+    class Delegating {
+
+        @DisplayName("접두사 없는 기존 해시는 검증 후 재해싱 대상")
+        @Test
+        void given_LegacyHash_when_Matches_then_MatchAndRequireUpgrade() {
+            // given
+            String legacyHash = new BCryptPasswordEncoder(4).encode("password1!");
+            PasswordEncoder passwordEncoder = PasswordEncoders.createDelegatingPasswordEncoder(5);
+
+            // when & then
+            assertThat(passwordEncoder.matches("password1!", legacyHash)).isTrue();
+            assertThat(passwordEncoder.upgradeEncoding(legacyHash)).isTrue();
+        }
+
+        @DisplayName("낮은 강도로 저장된 해시는 재해싱 대상")
+        @Test
+        void given_WeakerHash_when_UpgradeEncoding_then_ReturnTrue() {
+            // given
+            String weakerHash = PasswordEncoders.createDelegatingPasswordEncoder(4)
+                .encode("password1!");
+
+            // when & then
+            assertThat(PasswordEncoders.createDelegatingPasswordEncoder(5)
+                .upgradeEncoding(weakerHash)).isTrue();
+            assertThat(PasswordEncoders.createDelegatingPasswordEncoder(4)
+                .upgradeEncoding(weakerHash)).isFalse();
+        }
+    }
+}
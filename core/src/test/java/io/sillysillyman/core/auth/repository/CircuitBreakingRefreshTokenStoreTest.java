@@ -0,0 +1,189 @@
+package io.sillysillyman.core.auth.repository;
+
+import static io.sillysillyman.core.common.constants.TestConstants.NEW_REFRESH_TOKEN;
+import static io.sillysillyman.core.common.constants.TestConstants.REFRESH_TOKEN;
+import static io.sillysillyman.core.common.constants.TestConstants.USERNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.auth.RotationResult;
+import io.sillysillyman.core.auth.exception.TokenStorageErrorCode;
+import io.sillysillyman.core.auth.exception.detail.TokenSaveFailedException;
+import io.sillysillyman.core.auth.exception.detail.TokenStoreUnavailableException;
+import io.sillysillyman.core.common.properties.CircuitBreakerProperties;
+import io.sillysillyman.core.common.resilience.CircuitBreaker;
+import io.sillysillyman.core.common.resilience.CircuitBreaker.State;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakingRefreshTokenStoreTest {
+
+    private static final String SESSION_ID = "session-id";
+    private static final int FAILURE_THRESHOLD = 2;
+    private static final Duration CALL_TIMEOUT = Duration.ofMillis(50);
+    private static final Duration OPEN_DURATION = Duration.ofMillis(100);
+
+    private MeterRegistry meterRegistry;
+    private FaultInjectingRefreshTokenStore faultInjectingRefreshTokenStore;
+    private CircuitBreaker circuitBreaker;
+    private CircuitBreakingRefreshTokenStore circuitBreakingRefreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerProperties circuitBreakerProperties = new CircuitBreakerProperties();
+        circuitBreakerProperties.setCallTimeout(CALL_TIMEOUT);
+        circuitBreakerProperties.setFailureThreshold(FAILURE_THRESHOLD);
+        circuitBreakerProperties.setOpenDuration(OPEN_DURATION);
+        circuitBreakerProperties.setPoolSize(4);
+
+        meterRegistry = new SimpleMeterRegistry();
+        faultInjectingRefreshTokenStore = new FaultInjectingRefreshTokenStore();
+        circuitBreaker = new CircuitBreaker(
+            "refreshTokenStore",
+            circuitBreakerProperties,
+            meterRegistry
+        );
+        circuitBreakingRefreshTokenStore = new CircuitBreakingRefreshTokenStore(
+            faultInjectingRefreshTokenStore,
+            circuitBreaker,
+            circuitBreakerProperties
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        circuitBreakingRefreshTokenStore.destroy();
+    }
+
+    private void save() {
+        circuitBreakingRefreshTokenStore.save(USERNAME, SESSION_ID, REFRESH_TOKEN);
+    }
+
+    private double transitions(State from, State to) {
+        return meterRegistry.get("circuit.breaker.transitions")
+            .tag("from", from.name())
+            .tag("to", to.name())
+            .counter()
+            .count();
+    }
+
+    @DisplayName("지연 시간 예산")
+    @Nested
+    class LatencyBudget {
+
+        @DisplayName("예산 내 호출은 위임 결과 반환")
+        @Test
+        void given_HealthyStore_when_Rotate_then_ReturnDelegateResult() {
+            // given
+            save();
+
+            // when
+            RotationResult rotationResult = circuitBreakingRefreshTokenStore.rotate(
+                USERNAME,
+                SESSION_ID,
+                REFRESH_TOKEN,
+                NEW_REFRESH_TOKEN
+            );
+
+            // then
+            assertThat(rotationResult).isEqualTo(RotationResult.ROTATED);
+            assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        }
+
+        @DisplayName("예산을 초과하면 응답을 기다리지 않고 실패")
+        @Test
+        void given_SlowStore_when_Save_then_ThrowTokenStoreUnavailableException() {
+            // given
+            faultInjectingRefreshTokenStore.injectLatency(Duration.ofSeconds(1));
+
+            // when
+            long startedAt = System.nanoTime();
+
+            // then
+            assertThatThrownBy(() -> save())
+                .isInstanceOf(TokenStoreUnavailableException.class)
+                .hasMessage(TokenStorageErrorCode.REFRESH_TOKEN_STORE_UNAVAILABLE.getMessage());
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt))
+                .isLessThan(Duration.ofMillis(500));
+        }
+    }
+
+    @DisplayName("서킷 브레이커")
+    @Nested
+    class Breaker {
+
+        @DisplayName("연속 실패가 임계치에 도달하면 열리고 이후 호출은 즉시 거부")
+        @Test
+        void given_ConsecutiveTimeouts_when_Save_then_OpenAndRejectWithoutCallingStore() {
+            // given
+            faultInjectingRefreshTokenStore.injectLatency(Duration.ofSeconds(1));
+            for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+                assertThatThrownBy(() -> save())
+                    .isInstanceOf(TokenStoreUnavailableException.class);
+            }
+            int callsBeforeOpen = faultInjectingRefreshTokenStore.getCalls();
+
+            // when & then
+            assertThatThrownBy(() -> save())
+                .isInstanceOf(TokenStoreUnavailableException.class);
+            assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+            assertThat(faultInjectingRefreshTokenStore.getCalls()).isEqualTo(callsBeforeOpen);
+            assertThat(transitions(State.CLOSED, State.OPEN)).isEqualTo(1);
+        }
+
+        @DisplayName("저장소 오류도 실패로 집계하고 원래 예외 전달")
+        @Test
+        void given_FailingStore_when_Save_then_PropagateOriginalException() {
+            // given
+            faultInjectingRefreshTokenStore.injectFailures(true);
+
+            // when & then
+            assertThatThrownBy(() -> save()).isInstanceOf(TokenSaveFailedException.class);
+            assertThatThrownBy(() -> save()).isInstanceOf(TokenSaveFailedException.class);
+            assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        }
+
+        @DisplayName("열림 시간이 지나면 반열림 상태에서 시험 호출 후 닫힘")
+        @Test
+        void given_OpenBreaker_when_OpenDurationElapsedAndProbeSucceeds_then_Close()
+            throws InterruptedException {
+            // given
+            faultInjectingRefreshTokenStore.injectFailures(true);
+            for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+                assertThatThrownBy(() -> save()).isInstanceOf(TokenSaveFailedException.class);
+            }
+            faultInjectingRefreshTokenStore.heal();
+            Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+            // when
+            save();
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+            assertThat(transitions(State.OPEN, State.HALF_OPEN)).isEqualTo(1);
+            assertThat(transitions(State.HALF_OPEN, State.CLOSED)).isEqualTo(1);
+        }
+
+        @DisplayName("반열림 상태의 시험 호출이 실패하면 다시 열림")
+        @Test
+        void given_HalfOpenBreaker_when_ProbeFails_then_Reopen() throws InterruptedException {
+            // given
+            faultInjectingRefreshTokenStore.injectFailures(true);
+            for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+                assertThatThrownBy(() -> save()).isInstanceOf(TokenSaveFailedException.class);
+            }
+            Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+            // when & then
+            assertThatThrownBy(() -> save()).isInstanceOf(TokenSaveFailedException.class);
+            assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+            assertThat(transitions(State.HALF_OPEN, State.OPEN)).isEqualTo(1);
+        }
+    }
+}
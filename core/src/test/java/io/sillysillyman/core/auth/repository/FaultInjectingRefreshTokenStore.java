@@ -0,0 +1,92 @@
+package io.sillysillyman.core.auth.repository;
+
+import io.sillysillyman.core.auth.RotationResult;
+import io.sillysillyman.core.auth.exception.TokenStorageErrorCode;
+import io.sillysillyman.core.auth.exception.detail.TokenSaveFailedException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.dao.QueryTimeoutException;
+
+public class FaultInjectingRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile boolean failing;
+
+    public void injectLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    public void injectFailures(boolean failing) {
+        this.failing = failing;
+    }
+
+    public void heal() {
+        this.latency = Duration.ZERO;
+        this.failing = false;
+    }
+
+    public int getCalls() {
+        return calls.get();
+    }
+
+    @Override
+    public void save(String username, String sessionId, String refreshToken) {
+        injectFaults();
+        fingerprints.put(username + ":" + sessionId, refreshToken);
+    }
+
+    @Override
+    public RotationResult rotate(
+        String username,
+        String sessionId,
+        String currentToken,
+        String newToken
+    ) {
+        injectFaults();
+        String stored = fingerprints.get(username + ":" + sessionId);
+        if (stored == null) {
+            return RotationResult.NOT_FOUND;
+        }
+        if (!stored.equals(currentToken)) {
+            return RotationResult.STALE;
+        }
+        fingerprints.put(username + ":" + sessionId, newToken);
+        return RotationResult.ROTATED;
+    }
+
+    @Override
+    public void deleteSession(String username, String sessionId) {
+        injectFaults();
+        fingerprints.remove(username + ":" + sessionId);
+    }
+
+    @Override
+    public void deleteByUsername(String username) {
+        injectFaults();
+        fingerprints.keySet().removeIf(key -> key.startsWith(username + ":"));
+    }
+
+    private void injectFaults() {
+        calls.incrementAndGet();
+
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (failing) {
+            throw new TokenSaveFailedException(
+                TokenStorageErrorCode.REFRESH_TOKEN_SAVE_FAILED,
+                new QueryTimeoutException("injected fault")
+            );
+        }
+    }
+}
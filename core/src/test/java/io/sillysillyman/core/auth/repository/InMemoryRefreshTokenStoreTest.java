@@ -0,0 +1,210 @@
+package io.sillysillyman.core.auth.repository;
+
+import static io.sillysillyman.core.common.constants.TestConstants.NEW_REFRESH_TOKEN;
+import static io.sillysillyman.core.common.constants.TestConstants.REFRESH_TOKEN;
+import static io.sillysillyman.core.common.constants.TestConstants.USERNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.sillysillyman.core.auth.RotationResult;
+import io.sillysillyman.core.auth.properties.JwtProperties;
+import io.sillysillyman.core.auth.properties.RefreshTokenStoreProperties;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private static final long REFRESH_TOKEN_EXPIRATION = 1_209_600_000L;
+    private static final String SESSION_ID = "session-id";
+    private static final String ANOTHER_SESSION_ID = "another-session-id";
+    private static final int MAX_SESSIONS_PER_USER = 2;
+
+    private InMemoryRefreshTokenStore inMemoryRefreshTokenStore;
+
+    @AfterEach
+    void tearDown() {
+        inMemoryRefreshTokenStore.destroy();
+    }
+
+    private InMemoryRefreshTokenStore createStore(long expiration) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setRefreshTokenExpiration(expiration);
+
+        RefreshTokenStoreProperties refreshTokenStoreProperties = new RefreshTokenStoreProperties();
+        refreshTokenStoreProperties.getTimingWheel().setTickDuration(Duration.ofMillis(10));
+        refreshTokenStoreProperties.getTimingWheel().setTicksPerWheel(8);
+        refreshTokenStoreProperties.setMaxSessionsPerUser(MAX_SESSIONS_PER_USER);
+
+        return new InMemoryRefreshTokenStore(jwtProperties, refreshTokenStoreProperties);
+    }
+
+    @DisplayName("리프레시 세션 저장")
+    @Nested
+    class Save {
+
+        @DisplayName("기기별로 세션 저장")
+        @Test
+        void given_TwoDevices_when_Save_then_KeepBothSessions() {
+            // given
+            inMemoryRefreshTokenStore = createStore(REFRESH_TOKEN_EXPIRATION);
+
+            // when
+            inMemoryRefreshTokenStore.save(USERNAME, SESSION_ID, REFRESH_TOKEN);
+            inMemoryRefreshTokenStore.save(USERNAME, ANOTHER_SESSION_ID, NEW_REFRESH_TOKEN);
+
+            // then
+            assertThat(inMemoryRefreshTokenStore.countSessions(USERNAME)).isEqualTo(2);
+        }
+
+        @DisplayName("최대 세션 수를 초과하면 가장 오래된 세션 제거")
+        @Test
+        void given_MaxSessions_when_Save_then_EvictEldestSession() {
+            // given
+            inMemoryRefreshTokenStore = createStore(REFRESH_TOKEN_EXPIRATION);
+            inMemoryRefreshTokenStore.save(USERNAME, SESSION_ID, REFRESH_TOKEN);
+            inMemoryRefreshTokenStore.save(USERNAME, ANOTHER_SESSION_ID, REFRESH_TOKEN);
+
+            // when
+            inMemoryRefreshTokenStore.save(USERNAME, "third-session-id", REFRESH_TOKEN);
+
+            // then
+            assertThat(inMemoryRefreshTokenStore.countSessions(USERNAME))
+                .isEqualTo(MAX_SESSIONS_PER_USER);
+            assertThat(
+                inMemoryRefreshTokenStore.rotate(
+                    USERNAME,
+                    SESSION_ID,
+                    REFRESH_TOKEN,
+                    NEW_REFRESH_TOKEN
+                )
+            ).isEqualTo(RotationResult.NOT_FOUND);
+        }
+
+        @DisplayName("만료 시간이 지나면 타이밍 휠이 세션 제거")
+        @Test
+        void given_ExpiredSession_when_WheelTicks_then_RemoveSession()
+            throws InterruptedException {
+            // given
+            inMemoryRefreshTokenStore = createStore(50L);
+            inMemoryRefreshTokenStore.save(USERNAME, SESSION_ID, REFRESH_TOKEN);
+
+            // when
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (inMemoryRefreshTokenStore.countSessions(USERNAME) > 0
+                && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // then
+            assertThat(inMemoryRefreshTokenStore.countSessions(USERNAME)).isZero();
+        }
+    }
+
+    @DisplayName("리프레시 세션 삭제")
+    @Nested
+    class Delete {
+
+        @DisplayName("단일 세션만 삭제")
+        @Test
+        void given_TwoSessions_when_DeleteSession_then_KeepOtherSession() {
+            // given
+            inMemoryRefreshTokenStore = createStore(REFRESH_TOKEN_EXPIRATION);
+            inMemoryRefreshTokenStore.save(USERNAME, SESSION_ID, REFRESH_TOKEN);
+            inMemoryRefreshTokenStore.save(USERNAME, ANOTHER_SESSION_ID, NEW_REFRESH_TOKEN);
+
+            // when
+            inMemoryRefreshTokenStore.deleteSession(USERNAME, SESSION_ID);
+
+            // then
+            assertThat(inMemoryRefreshTokenStore.countSessions(USERNAME)).isEqualTo(1);
+        }
+
+        @DisplayName("모든 세션 삭제")
+        @Test
+        void given_TwoSessions_when_DeleteByUsername_then_RemoveAllSessions() {
+            // given
+            inMemoryRefreshTokenStore = createStore(REFRESH_TOKEN_EXPIRATION);
+            inMemoryRefreshTokenStore.save(USERNAME, SESSION_ID, REFRESH_TOKEN);
+            inMemoryRefreshTokenStore.save(USERNAME, ANOTHER_SESSION_ID, NEW_REFRESH_TOKEN);
+
+            // when
+            inMemoryRefreshTokenStore.deleteByUsername(USERNAME);
+
+            // then
+            assertThat(inMemoryRefreshTokenStore.countSessions(USERNAME)).isZero();
+        }
+    }
+
+    @DisplayName("리프레시 토큰 교체")
+    @Nested
+    class Rotate {
+
+        @DisplayName("저장된 토큰과 일치하면 새 토큰으로 교체")
+        @Test
+        void given_CurrentToken_when_Rotate_then_ReturnRotated() {
+            // given
+            inMemoryRefreshTokenStore = createStore(REFRESH_TOKEN_EXPIRATION);
+            inMemoryRefreshTokenStore.save(USERNAME, SESSION_ID, REFRESH_TOKEN);
+
+            // when
+            RotationResult rotationResult = inMemoryRefreshTokenStore.rotate(
+                USERNAME,
+                SESSION_ID,
+                REFRESH_TOKEN,
+                NEW_REFRESH_TOKEN
+            );
+
+            // then
+            assertThat(rotationResult).isEqualTo(RotationResult.ROTATED);
+            assertThat(
+                inMemoryRefreshTokenStore.rotate(
+                    USERNAME,
+                    SESSION_ID,
+                    NEW_REFRESH_TOKEN,
+                    REFRESH_TOKEN
+                )
+            ).isEqualTo(RotationResult.ROTATED);
+        }
+
+        @DisplayName("이미 교체된 토큰이면 STALE 반환")
+        @Test
+        void given_RotatedToken_when_Rotate_then_ReturnStale() {
+            // given
+            inMemoryRefreshTokenStore = createStore(REFRESH_TOKEN_EXPIRATION);
+            inMemoryRefreshTokenStore.save(USERNAME, SESSION_ID, NEW_REFRESH_TOKEN);
+
+            // when
+            RotationResult rotationResult = inMemoryRefreshTokenStore.rotate(
+                USERNAME,
+                SESSION_ID,
+                REFRESH_TOKEN,
+                "another.refresh.token"
+            );
+
+            // then
+            assertThat(rotationResult).isEqualTo(RotationResult.STALE);
+        }
+
+        @DisplayName("저장된 토큰이 없으면 NOT_FOUND 반환")
+        @Test
+        void given_MissingToken_when_Rotate_then_ReturnNotFound() {
+            // given
+            inMemoryRefreshTokenStore = createStore(REFRESH_TOKEN_EXPIRATION);
+
+            // when
+            RotationResult rotationResult = inMemoryRefreshTokenStore.rotate(
+                USERNAME,
+                SESSION_ID,
+                REFRESH_TOKEN,
+                NEW_REFRESH_TOKEN
+            );
+
+            // then
+            assertThat(rotationResult).isEqualTo(RotationResult.NOT_FOUND);
+            assertThat(inMemoryRefreshTokenStore.countSessions(USERNAME)).isZero();
+        }
+    }
+}
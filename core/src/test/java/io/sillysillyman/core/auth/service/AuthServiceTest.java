@@ -8,28 +8,34 @@ import static io.sillysillyman.core.common.constants.TestConstants.NEW_REFRESH_T
 import static io.sillysillyman.core.common.constants.TestConstants.PASSWORD;
 import static io.sillysillyman.core.common.constants.TestConstants.REFRESH_TOKEN;
 import static io.sillysillyman.core.common.constants.TestConstants.USERNAME;
+import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
+import static io.sillysillyman.core.common.constants.TestConstants.USER_ROLE;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createUserEntity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.doReturn;
 
 import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.auth.RotationResult;
 import io.sillysillyman.core.auth.Token;
+import io.sillysillyman.core.auth.TokenSubject;
+import io.sillysillyman.core.auth.VerifiedClaims;
 import io.sillysillyman.core.auth.command.LoginCommand;
 import io.sillysillyman.core.auth.exception.AuthErrorCode;
 import io.sillysillyman.core.auth.exception.TokenStorageErrorCode;
 import io.sillysillyman.core.auth.exception.detail.AuthenticationFailedException;
 import io.sillysillyman.core.auth.exception.detail.InvalidTokenException;
 import io.sillysillyman.core.auth.exception.detail.TokenNotFoundException;
-import io.sillysillyman.core.auth.repository.RefreshTokenRepository;
+import io.sillysillyman.core.auth.repository.RefreshTokenStore;
 import io.sillysillyman.core.auth.util.JwtUtil;
 import io.sillysillyman.core.domain.user.UserEntity;
+import java.util.List;
 import java.util.Optional;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.AfterEach;
@@ -51,8 +57,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
 
+    private static final String SESSION_ID = "session-id";
+
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
 
     @Mock
     private JwtUtil jwtUtil;
@@ -93,9 +101,9 @@ class AuthServiceTest {
                     )
                 )
             ).willReturn(new UsernamePasswordAuthenticationToken(userDetails, null, AUTHORITIES));
-            given(jwtUtil.generateAccessToken(anyString(), any()))
+            given(jwtUtil.generateAccessToken(argThat(subject -> isLoginSubject(subject))))
                 .willReturn(ACCESS_TOKEN);
-            given(jwtUtil.generateRefreshToken(anyString(), any()))
+            given(jwtUtil.generateRefreshToken(argThat(subject -> isLoginSubject(subject))))
                 .willReturn(REFRESH_TOKEN);
 
             // when
@@ -105,7 +113,7 @@ class AuthServiceTest {
             assertThat(token.accessToken()).isEqualTo(ACCESS_TOKEN);
             assertThat(token.refreshToken()).isEqualTo(REFRESH_TOKEN);
 
-            then(refreshTokenRepository).should().save(USERNAME, REFRESH_TOKEN);
+            then(refreshTokenStore).should().save(eq(USERNAME), anyString(), eq(REFRESH_TOKEN));
         }
 
         @DisplayName("잘못된 인증 정보로 로그인하면 예외 발생")
@@ -126,6 +134,11 @@ class AuthServiceTest {
                 .hasMessage(AuthErrorCode.AUTHENTICATION_FAILED.getMessage());
         }
 
+        private boolean isLoginSubject(TokenSubject subject) {
+            return subject.sessionId() != null
+                && subject.withSessionId(null).equals(TokenSubject.from(userEntity));
+        }
+
         private record TestLoginCommand(String username, String password) implements LoginCommand {
 
         }
@@ -162,7 +175,45 @@ class AuthServiceTest {
             // then
             assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
 
-            then(refreshTokenRepository).should().deleteByUsername(USERNAME);
+            then(refreshTokenStore).should().deleteByUsername(USERNAME);
+        }
+
+        @DisplayName("세션 ID 가 있는 토큰으로 로그아웃하면 해당 세션만 삭제")
+        @Test
+        void given_SessionBoundAuthentication_when_Logout_then_DeleteOnlyThatSession() {
+            // given
+            given(userDetails.getUsername()).willReturn(USERNAME);
+            given(authentication.getPrincipal()).willReturn(userDetails);
+            given(authentication.getDetails()).willReturn(
+                VerifiedClaims.builder().username(USERNAME).sessionId(SESSION_ID).build()
+            );
+            given(securityContext.getAuthentication()).willReturn(authentication);
+
+            SecurityContextHolder.setContext(securityContext);
+
+            // when
+            authService.logout();
+
+            // then
+            then(refreshTokenStore).should().deleteSession(USERNAME, SESSION_ID);
+            then(refreshTokenStore).shouldHaveNoMoreInteractions();
+        }
+
+        @DisplayName("전체 로그아웃하면 모든 세션 삭제")
+        @Test
+        void given_AuthenticatedUser_when_LogoutAll_then_DeleteAllSessions() {
+            // given
+            given(userDetails.getUsername()).willReturn(USERNAME);
+            given(authentication.getPrincipal()).willReturn(userDetails);
+            given(securityContext.getAuthentication()).willReturn(authentication);
+
+            SecurityContextHolder.setContext(securityContext);
+
+            // when
+            authService.logoutAll();
+
+            // then
+            then(refreshTokenStore).should().deleteByUsername(USERNAME);
         }
     }
 
@@ -170,18 +221,27 @@ class AuthServiceTest {
     @Nested
     class Refresh {
 
+        private VerifiedClaims verifiedClaims;
+
+        @BeforeEach
+        void setUp() {
+            verifiedClaims = VerifiedClaims.builder()
+                .userId(USER_ID)
+                .username(USERNAME)
+                .role(USER_ROLE)
+                .credentialVersion(0L)
+                .sessionId(SESSION_ID)
+                .authorities(List.of(USER_ROLE.name()))
+                .build();
+        }
+
         @DisplayName("유효한 리프레시 토큰으로 새로운 토큰 발급")
         @Test
         void given_ValidRefreshToken_when_Refresh_then_GenerateNewTokens() {
             // given
-            given(jwtUtil.isTokenValid(REFRESH_TOKEN)).willReturn(true);
-            given(jwtUtil.extractUsername(REFRESH_TOKEN)).willReturn(USERNAME);
-            given(refreshTokenRepository.findByUsername(USERNAME))
-                .willReturn(Optional.of(REFRESH_TOKEN));
-            given(jwtUtil.generateAccessToken(USERNAME, AUTHORITIES)).willReturn(NEW_ACCESS_TOKEN);
-            given(jwtUtil.generateRefreshToken(USERNAME, AUTHORITIES))
-                .willReturn(NEW_REFRESH_TOKEN);
-            doReturn(AUTHORITIES).when(jwtUtil).extractAuthorities(REFRESH_TOKEN);
+            givenNewTokens();
+            given(refreshTokenStore.rotate(USERNAME, SESSION_ID, REFRESH_TOKEN, NEW_REFRESH_TOKEN))
+                .willReturn(RotationResult.ROTATED);
 
             // when
             Token newToken = authService.refresh(REFRESH_TOKEN);
@@ -190,15 +250,16 @@ class AuthServiceTest {
             assertThat(newToken.accessToken()).isEqualTo(NEW_ACCESS_TOKEN);
             assertThat(newToken.refreshToken()).isEqualTo(NEW_REFRESH_TOKEN);
 
-            then(refreshTokenRepository).should().deleteByUsername(USERNAME);
-            then(refreshTokenRepository).should().save(USERNAME, NEW_REFRESH_TOKEN);
+            then(refreshTokenStore).should()
+                .rotate(USERNAME, SESSION_ID, REFRESH_TOKEN, NEW_REFRESH_TOKEN);
+            then(refreshTokenStore).shouldHaveNoMoreInteractions();
         }
 
         @DisplayName("유효하지 않은 리프레시 토큰으로 요청하면 예외 발생")
         @Test
         void given_InvalidRefreshToken_when_Refresh_then_ThrowInvalidTokenException() {
             // given
-            given(jwtUtil.isTokenValid(REFRESH_TOKEN)).willReturn(false);
+            given(jwtUtil.verify(REFRESH_TOKEN)).willReturn(Optional.empty());
 
             // when
             ThrowingCallable when = () -> authService.refresh(REFRESH_TOKEN);
@@ -213,9 +274,9 @@ class AuthServiceTest {
         @Test
         void given_MissingRefreshToken_when_Refresh_then_ThrowTokenNotFoundException() {
             // given
-            given(jwtUtil.isTokenValid(REFRESH_TOKEN)).willReturn(true);
-            given(jwtUtil.extractUsername(REFRESH_TOKEN)).willReturn(USERNAME);
-            given(refreshTokenRepository.findByUsername(USERNAME)).willReturn(Optional.empty());
+            givenNewTokens();
+            given(refreshTokenStore.rotate(USERNAME, SESSION_ID, REFRESH_TOKEN, NEW_REFRESH_TOKEN))
+                .willReturn(RotationResult.NOT_FOUND);
 
             // when
             ThrowingCallable when = () -> authService.refresh(REFRESH_TOKEN);
@@ -225,5 +286,30 @@ class AuthServiceTest {
                 .isInstanceOf(TokenNotFoundException.class)
                 .hasMessage(TokenStorageErrorCode.REFRESH_TOKEN_NOT_FOUND.getMessage());
         }
+
+        @DisplayName("이미 교체된 리프레시 토큰으로 요청하면 예외 발생")
+        @Test
+        void given_StaleRefreshToken_when_Refresh_then_ThrowAuthenticationFailedException() {
+            // given
+            givenNewTokens();
+            given(refreshTokenStore.rotate(USERNAME, SESSION_ID, REFRESH_TOKEN, NEW_REFRESH_TOKEN))
+                .willReturn(RotationResult.STALE);
+
+            // when
+            ThrowingCallable when = () -> authService.refresh(REFRESH_TOKEN);
+
+            // then
+            assertThatThrownBy(when)
+                .isInstanceOf(AuthenticationFailedException.class)
+                .hasMessage(AuthErrorCode.STALE_REFRESH_TOKEN.getMessage());
+        }
+
+        private void givenNewTokens() {
+            given(jwtUtil.verify(REFRESH_TOKEN)).willReturn(Optional.of(verifiedClaims));
+            given(jwtUtil.generateAccessToken(verifiedClaims.toTokenSubject()))
+                .willReturn(NEW_ACCESS_TOKEN);
+            given(jwtUtil.generateRefreshToken(verifiedClaims.toTokenSubject()))
+                .willReturn(NEW_REFRESH_TOKEN);
+        }
     }
 }
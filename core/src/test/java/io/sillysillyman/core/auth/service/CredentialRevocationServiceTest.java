@@ -0,0 +1,138 @@
+package io.sillysillyman.core.auth.service;
+
+import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.auth.exception.TokenStorageErrorCode;
+import io.sillysillyman.core.auth.exception.detail.TokenSaveFailedException;
+import io.sillysillyman.core.auth.repository.CredentialVersionRepository;
+import io.sillysillyman.core.auth.repository.RefreshTokenStore;
+import io.sillysillyman.core.domain.user.event.UserCredentialsChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialRevocationServiceTest {
+
+    private static final String USERNAME = "tester";
+
+    @Mock
+    private CredentialVersionRepository credentialVersionRepository;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    private MeterRegistry meterRegistry;
+    private CredentialRevocationService credentialRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        credentialRevocationService = new CredentialRevocationService(
+            credentialVersionRepository,
+            refreshTokenStore,
+            meterRegistry
+        );
+    }
+
+    private double pending() {
+        return meterRegistry.get("auth.credential.revocation.pending").gauge().value();
+    }
+
+    private double failed() {
+        return meterRegistry.get("auth.credential.revocation.failed").counter().count();
+    }
+
+    private TokenSaveFailedException saveFailed() {
+        return new TokenSaveFailedException(TokenStorageErrorCode.CREDENTIAL_VERSION_SAVE_FAILED);
+    }
+
+    @DisplayName("자격 증명 무효화")
+    @Nested
+    class Revoke {
+
+        @DisplayName("저장소 장애로 실패하면 재시도 대기열에 넣고 실패 지표 증가")
+        @Test
+        void given_StorageFailure_when_Revoke_then_QueueRetry() {
+            // given
+            willThrow(saveFailed()).given(credentialVersionRepository).save(USER_ID, 2L);
+
+            // when
+            credentialRevocationService.revoke(
+                new UserCredentialsChangedEvent(USER_ID, USERNAME, 2L)
+            );
+
+            // then
+            assertThat(pending()).isEqualTo(1);
+            assertThat(failed()).isEqualTo(1);
+            then(refreshTokenStore).shouldHaveNoInteractions();
+        }
+
+        @DisplayName("저장소가 복구되면 대기 중인 최신 버전으로 무효화")
+        @Test
+        void given_RecoveredStorage_when_Retry_then_RevokeLatestVersion() {
+            // given
+            willThrow(saveFailed()).given(credentialVersionRepository).save(USER_ID, 2L);
+            willThrow(saveFailed()).willDoNothing()
+                .given(credentialVersionRepository).save(USER_ID, 3L);
+            credentialRevocationService.revoke(
+                new UserCredentialsChangedEvent(USER_ID, USERNAME, 2L)
+            );
+            credentialRevocationService.revoke(
+                new UserCredentialsChangedEvent(USER_ID, USERNAME, 3L)
+            );
+
+            // when
+            credentialRevocationService.retryPendingRevocations();
+
+            // then
+            assertThat(pending()).isZero();
+            then(credentialVersionRepository).should(times(2)).save(USER_ID, 3L);
+            then(refreshTokenStore).should().deleteByUsername(USERNAME);
+        }
+
+        @DisplayName("재시도도 실패하면 대기열에 남기고 실패 지표 증가")
+        @Test
+        void given_StillFailing_when_Retry_then_KeepPending() {
+            // given
+            willThrow(saveFailed()).given(credentialVersionRepository).save(USER_ID, 2L);
+            credentialRevocationService.revoke(
+                new UserCredentialsChangedEvent(USER_ID, USERNAME, 2L)
+            );
+
+            // when
+            credentialRevocationService.retryPendingRevocations();
+
+            // then
+            assertThat(pending()).isEqualTo(1);
+            assertThat(failed()).isEqualTo(2);
+        }
+
+        @DisplayName("성공하면 대기열에 넣지 않음")
+        @Test
+        void given_AvailableStorage_when_Revoke_then_DeleteRefreshTokens() {
+            // given
+            willDoNothing().given(credentialVersionRepository).save(USER_ID, 2L);
+
+            // when
+            credentialRevocationService.revoke(
+                new UserCredentialsChangedEvent(USER_ID, USERNAME, 2L)
+            );
+
+            // then
+            assertThat(pending()).isZero();
+            then(refreshTokenStore).should().deleteByUsername(USERNAME);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.sillysillyman.core.auth.service;
+
+import static io.sillysillyman.core.common.constants.TestConstants.USERNAME;
+import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createUserEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.auth.CustomUserDetails;
+import io.sillysillyman.core.auth.cache.InMemoryUserDetailsInvalidationBus;
+import io.sillysillyman.core.auth.cache.UserDetailsCache;
+import io.sillysillyman.core.auth.properties.UserDetailsCacheProperties;
+import io.sillysillyman.core.domain.user.UserEntity;
+import io.sillysillyman.core.domain.user.event.UserCredentialsChangedEvent;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    private static final String UPGRADED_PASSWORD = "{bcrypt}upgradedPassword";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private MeterRegistry meterRegistry;
+    private InMemoryUserDetailsInvalidationBus invalidationBus;
+    private UserDetailsCache userDetailsCache;
+    private CustomUserDetailsService customUserDetailsService;
+    private UserEntity userEntity;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        invalidationBus = new InMemoryUserDetailsInvalidationBus();
+        userDetailsCache = new UserDetailsCache(
+            new UserDetailsCacheProperties(),
+            invalidationBus,
+            meterRegistry
+        );
+        customUserDetailsService = new CustomUserDetailsService(userRepository, userDetailsCache);
+        userEntity = createUserEntity();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", "userDetails")
+            .tag("result", result)
+            .functionCounter()
+            .count();
+    }
+
+    @DisplayName("사용자 정보 조회")
+    @Nested
+    class LoadUserByUsername {
+
+        @DisplayName("첫 조회 시 DB 에서 조회 후 캐시")
+        @Test
+        void given_UncachedUsername_when_LoadUserByUsername_then_LoadFromRepository() {
+            // given
+            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(userEntity));
+
+            // when
+            UserDetails userDetails = customUserDetailsService.loadUserByUsername(USERNAME);
+
+            // then
+            assertThat(userDetails).isEqualTo(new CustomUserDetails(userEntity));
+            assertThat(cacheGets("miss")).isEqualTo(1);
+
+            then(userRepository).should().findByUsername(USERNAME);
+        }
+
+        @DisplayName("재조회 시 캐시된 사용자 정보 반환")
+        @Test
+        void given_CachedUsername_when_LoadUserByUsername_then_ReturnCachedUserDetails() {
+            // given
+            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(userEntity));
+            UserDetails firstUserDetails = customUserDetailsService.loadUserByUsername(USERNAME);
+
+            // when
+            UserDetails secondUserDetails = customUserDetailsService.loadUserByUsername(USERNAME);
+
+            // then
+            assertThat(secondUserDetails).isSameAs(firstUserDetails);
+            assertThat(cacheGets("hit")).isEqualTo(1);
+
+            then(userRepository).should(times(1)).findByUsername(USERNAME);
+        }
+
+        @DisplayName("존재하지 않는 사용자 조회 실패")
+        @Test
+        void given_NonExistentUsername_when_LoadUserByUsername_then_ThrowUsernameNotFoundException() {
+            // given
+            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> customUserDetailsService.loadUserByUsername(USERNAME))
+                .isInstanceOf(UsernameNotFoundException.class)
+                .hasMessage("User not found with username: " + USERNAME);
+        }
+    }
+
+    @DisplayName("캐시 무효화")
+    @Nested
+    class Invalidate {
+
+        @DisplayName("인증 정보 변경 시 캐시 무효화 후 DB 에서 재조회")
+        @Test
+        void given_CredentialsChanged_when_LoadUserByUsername_then_ReloadFromRepository() {
+            // given
+            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(userEntity));
+            customUserDetailsService.loadUserByUsername(USERNAME);
+
+            // when
+            userDetailsCache.onUserCredentialsChanged(
+                new UserCredentialsChangedEvent(USER_ID, USERNAME, 1L)
+            );
+            customUserDetailsService.loadUserByUsername(USERNAME);
+
+            // then
+            then(userRepository).should(times(2)).findByUsername(USERNAME);
+        }
+
+        @DisplayName("다른 노드의 무효화 메시지 수신 시 캐시 무효화")
+        @Test
+        void given_InvalidationFromBus_when_LoadUserByUsername_then_ReloadFromRepository() {
+            // given
+            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(userEntity));
+            customUserDetailsService.loadUserByUsername(USERNAME);
+
+            // when
+            invalidationBus.publish(USERNAME);
+            customUserDetailsService.loadUserByUsername(USERNAME);
+
+            // then
+            then(userRepository).should(times(2)).findByUsername(USERNAME);
+        }
+    }
+
+    @DisplayName("비밀번호 해시 갱신")
+    @Nested
+    class UpdatePassword {
+
+        @DisplayName("갱신된 해시 저장 후 캐시 무효화")
+        @Test
+        void given_OutdatedHash_when_UpdatePassword_then_SaveUpgradedHashAndEvictCache() {
+            // given
+            given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(userEntity));
+            given(userRepository.save(any(UserEntity.class))).willAnswer(invocation ->
+                invocation.getArgument(0)
+            );
+            UserDetails cachedUserDetails = customUserDetailsService.loadUserByUsername(USERNAME);
+
+            // when
+            UserDetails updatedUserDetails = customUserDetailsService.updatePassword(
+                cachedUserDetails,
+                UPGRADED_PASSWORD
+            );
+            customUserDetailsService.loadUserByUsername(USERNAME);
+
+            // then
+            assertThat(updatedUserDetails.getPassword()).isEqualTo(UPGRADED_PASSWORD);
+
+            then(userRepository).should().save(argThat(entity ->
+                entity.getPassword().equals(UPGRADED_PASSWORD)
+                    && entity.getCredentialVersion() == userEntity.getCredentialVersion()
+            ));
+            then(userRepository).should(times(3)).findByUsername(USERNAME);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.sillysillyman.core.auth.util;
+
+import static io.sillysillyman.core.common.constants.TestConstants.USERNAME;
+import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
+import static io.sillysillyman.core.common.constants.TestConstants.USER_ROLE;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createUserEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.security.Keys;
+import io.sillysillyman.core.auth.TokenSubject;
+import io.sillysillyman.core.auth.VerifiedClaims;
+import io.sillysillyman.core.auth.properties.JwtProperties;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class JwtUtilTest {
+
+    private static final String SECRET =
+        "dGVzdHNlY3JldGtleXRlc3RzZWNyZXRrZXl0ZXN0c2VjcmV0a2V5dGVzdHNlY3JldGtleQ==";
+    private static final String ANOTHER_SECRET =
+        "YW5vdGhlcnNlY3JldGFub3RoZXJzZWNyZXRhbm90aGVyc2VjcmV0YW5vdGhlcnNlY3JldA==";
+    private static final long ACCESS_TOKEN_EXPIRATION = 3_600_000L;
+    private static final String SESSION_ID = "session-id";
+
+    private JwtProperties jwtProperties;
+    private JwtUtil jwtUtil;
+    private TokenSubject tokenSubject;
+
+    private static Key createKey(String secret) {
+        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+    }
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setAccessTokenExpiration(ACCESS_TOKEN_EXPIRATION);
+        jwtProperties.setRefreshTokenExpiration(ACCESS_TOKEN_EXPIRATION);
+        jwtUtil = new JwtUtil(jwtProperties, createKey(SECRET));
+        tokenSubject = TokenSubject.from(createUserEntity()).withSessionId(SESSION_ID);
+    }
+
+    @DisplayName("토큰 검증")
+    @Nested
+    class Verify {
+
+        @DisplayName("유효한 토큰을 검증하면 클레임 반환")
+        @Test
+        void given_ValidToken_when_Verify_then_ReturnVerifiedClaims() {
+            // given
+            String accessToken = jwtUtil.generateAccessToken(tokenSubject);
+
+            // when
+            Optional<VerifiedClaims> verifiedClaims = jwtUtil.verify(accessToken);
+
+            // then
+            assertThat(verifiedClaims).hasValueSatisfying(claims -> {
+                assertThat(claims.userId()).isEqualTo(USER_ID);
+                assertThat(claims.username()).isEqualTo(USERNAME);
+                assertThat(claims.role()).isEqualTo(USER_ROLE);
+                assertThat(claims.credentialVersion()).isZero();
+                assertThat(claims.sessionId()).isEqualTo(SESSION_ID);
+                assertThat(claims.authorities()).containsExactly(USER_ROLE.name());
+                assertThat(claims.toTokenSubject()).isEqualTo(tokenSubject);
+                assertThat(claims.expiration()).isAfter(claims.issuedAt());
+            });
+        }
+
+        @DisplayName("같은 토큰을 다시 검증하면 캐시된 클레임 반환")
+        @Test
+        void given_VerifiedToken_when_VerifyAgain_then_ReturnCachedClaims() {
+            // given
+            String accessToken = jwtUtil.generateAccessToken(tokenSubject);
+            VerifiedClaims firstClaims = jwtUtil.verify(accessToken).orElseThrow();
+
+            // when
+            Optional<VerifiedClaims> secondClaims = jwtUtil.verify(
+                jwtUtil.resolveToken(accessToken)
+            );
+
+            // then
+            assertThat(secondClaims).containsSame(firstClaims);
+        }
+
+        @DisplayName("다른 키로 서명된 토큰을 검증하면 빈 값 반환")
+        @Test
+        void given_TokenSignedWithAnotherKey_when_Verify_then_ReturnEmpty() {
+            // given
+            String accessToken = new JwtUtil(jwtProperties, createKey(ANOTHER_SECRET))
+                .generateAccessToken(tokenSubject);
+
+            // when
+            Optional<VerifiedClaims> verifiedClaims = jwtUtil.verify(accessToken);
+
+            // then
+            assertThat(verifiedClaims).isEmpty();
+        }
+
+        @DisplayName("만료된 토큰을 검증하면 빈 값 반환")
+        @Test
+        void given_ExpiredToken_when_Verify_then_ReturnEmpty() {
+            // given
+            jwtProperties.setAccessTokenExpiration(-ACCESS_TOKEN_EXPIRATION);
+            String accessToken = jwtUtil.generateAccessToken(tokenSubject);
+
+            // when
+            Optional<VerifiedClaims> verifiedClaims = jwtUtil.verify(accessToken);
+
+            // then
+            assertThat(verifiedClaims).isEmpty();
+        }
+
+        @DisplayName("형식이 잘못된 토큰을 검증하면 빈 값 반환")
+        @Test
+        void given_MalformedToken_when_Verify_then_ReturnEmpty() {
+            // when
+            Optional<VerifiedClaims> verifiedClaims = jwtUtil.verify("invalid.refresh.token");
+
+            // then
+            assertThat(verifiedClaims).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.sillysillyman.core.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.common.properties.ApproximateCountProperties;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ApproximateCountCacheTest {
+
+    private static final String SCOPE = "post-comments";
+    private static final Long OWNER_ID = 1L;
+
+    private ApproximateCountCache approximateCountCache;
+    private AtomicLong countQueries;
+
+    @BeforeEach
+    void setUp() {
+        approximateCountCache = new ApproximateCountCache(
+            new ApproximateCountProperties(),
+            new SimpleMeterRegistry()
+        );
+        countQueries = new AtomicLong();
+    }
+
+    private long count() {
+        countQueries.incrementAndGet();
+        return 10L;
+    }
+
+    @DisplayName("같은 대상의 개수를 다시 조회하면 캐시된 값 반환")
+    @Test
+    void given_CachedCount_when_Get_then_SkipCountQuery() {
+        // given
+        approximateCountCache.get(SCOPE, OWNER_ID, this::count);
+
+        // when
+        long count = approximateCountCache.get(SCOPE, OWNER_ID, this::count);
+
+        // then
+        assertThat(count).isEqualTo(10L);
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @DisplayName("무효화 후 조회하면 개수를 다시 계산")
+    @Test
+    void given_InvalidatedCount_when_Get_then_RunCountQuery() {
+        // given
+        approximateCountCache.get(SCOPE, OWNER_ID, this::count);
+        approximateCountCache.invalidate(SCOPE, OWNER_ID);
+
+        // when
+        approximateCountCache.get(SCOPE, OWNER_ID, this::count);
+
+        // then
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 후에 다시 계산")
+    @Test
+    void given_InvalidatedInTransaction_when_Get_then_KeepCountUntilCommit() {
+        // given
+        approximateCountCache.get(SCOPE, OWNER_ID, this::count);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            approximateCountCache.invalidate(SCOPE, OWNER_ID);
+
+            // when
+            approximateCountCache.get(SCOPE, OWNER_ID, this::count);
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        approximateCountCache.get(SCOPE, OWNER_ID, this::count);
+
+        // then
+        assertThat(countQueries).hasValue(2);
+    }
+}
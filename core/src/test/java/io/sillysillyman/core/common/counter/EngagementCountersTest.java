@@ -0,0 +1,150 @@
+package io.sillysillyman.core.common.counter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.common.properties.EngagementCounterProperties;
+import io.sillysillyman.core.domain.comment.event.CommentCountChangedEvent;
+import io.sillysillyman.core.domain.comment.repository.CommentRepository;
+import io.sillysillyman.core.domain.like.event.PostLikeChangedEvent;
+import io.sillysillyman.core.domain.post.repository.PostRepository;
+import io.sillysillyman.core.domain.reply.event.ReplyCountChangedEvent;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class EngagementCountersTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EngagementCounters engagementCounters;
+
+    @BeforeEach
+    void setUp() {
+        EngagementCounterProperties engagementCounterProperties = new EngagementCounterProperties();
+        engagementCounterProperties.setBatchSize(2);
+        engagementCounters = new EngagementCounters(
+            postRepository,
+            commentRepository,
+            new TransactionTemplate(transactionManager),
+            engagementCounterProperties,
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @DisplayName("모아 둔 증감 반영")
+    @Nested
+    class Flush {
+
+        @DisplayName("같은 증감값끼리 묶어 배치 크기만큼 반영")
+        @Test
+        void given_BufferedDeltas_when_Flush_then_UpdateGroupedByDelta() {
+            // given
+            engagementCounters.onCommentCountChanged(CommentCountChangedEvent.added(1L));
+            engagementCounters.onCommentCountChanged(CommentCountChangedEvent.added(2L));
+            engagementCounters.onCommentCountChanged(CommentCountChangedEvent.added(4L));
+            engagementCounters.onCommentCountChanged(CommentCountChangedEvent.added(3L));
+            engagementCounters.onCommentCountChanged(CommentCountChangedEvent.added(3L));
+            engagementCounters.onReplyCountChanged(ReplyCountChangedEvent.removed(10L));
+
+            // when
+            engagementCounters.flush();
+
+            // then
+            then(postRepository).should(times(2)).addCommentCount(anyList(), eq(1L));
+            then(postRepository).should().addCommentCount(List.of(3L), 2L);
+            then(commentRepository).should().addReplyCount(List.of(10L), -1L);
+        }
+
+        @DisplayName("좋아요 증감은 게시물 좋아요 수로 반영")
+        @Test
+        void given_LikeDeltas_when_Flush_then_UpdateLikeCount() {
+            // given
+            engagementCounters.onPostLikeChanged(PostLikeChangedEvent.liked(1L));
+            engagementCounters.onPostLikeChanged(PostLikeChangedEvent.liked(1L));
+            engagementCounters.onPostLikeChanged(PostLikeChangedEvent.unliked(2L));
+
+            // when
+            engagementCounters.flush();
+
+            // then
+            then(postRepository).should().addLikeCount(List.of(1L), 2L);
+            then(postRepository).should().addLikeCount(List.of(2L), -1L);
+            then(postRepository).should(never()).addCommentCount(anyList(), anyLong());
+        }
+
+        @DisplayName("상쇄된 증감은 반영하지 않음")
+        @Test
+        void given_CancelledDeltas_when_Flush_then_DoNotUpdate() {
+            // given
+            engagementCounters.onCommentCountChanged(CommentCountChangedEvent.added(1L));
+            engagementCounters.onCommentCountChanged(CommentCountChangedEvent.removed(1L));
+
+            // when
+            engagementCounters.flush();
+
+            // then
+            then(postRepository).should(never()).addCommentCount(anyList(), anyLong());
+        }
+
+        @DisplayName("반영에 실패한 증감은 다음 주기에 다시 반영")
+        @Test
+        void given_FailedUpdate_when_FlushAgain_then_RetryDeltas() {
+            // given
+            engagementCounters.onReplyCountChanged(ReplyCountChangedEvent.added(10L));
+            given(commentRepository.addReplyCount(List.of(10L), 1L))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(1L);
+            engagementCounters.flush();
+
+            // when
+            engagementCounters.flush();
+
+            // then
+            then(commentRepository).should(times(2)).addReplyCount(List.of(10L), 1L);
+        }
+
+        @DisplayName("트랜잭션을 시작하지 못한 증감도 되돌리고 나머지 카운터는 계속 반영")
+        @Test
+        void given_TransactionFailure_when_FlushAgain_then_RetryDeltas() {
+            // given
+            engagementCounters.onCommentCountChanged(CommentCountChangedEvent.added(1L));
+            engagementCounters.onReplyCountChanged(ReplyCountChangedEvent.added(10L));
+            given(transactionManager.getTransaction(any()))
+                .willThrow(new CannotCreateTransactionException("no connection"))
+                .willReturn(null);
+            engagementCounters.flush();
+
+            // when
+            engagementCounters.flush();
+
+            // then
+            then(postRepository).should().addCommentCount(List.of(1L), 1L);
+            then(commentRepository).should().addReplyCount(List.of(10L), 1L);
+        }
+    }
+}
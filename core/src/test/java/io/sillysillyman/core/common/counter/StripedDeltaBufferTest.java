@@ -0,0 +1,117 @@
+package io.sillysillyman.core.common.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class StripedDeltaBufferTest {
+
+    private static final int STRIPES = 4;
+
+    @DisplayName("증감 추가")
+    @Nested
+    class Add {
+
+        @DisplayName("같은 ID 의 증감은 합쳐서 보관")
+        @Test
+        void given_SameId_when_Add_then_MergeDeltas() {
+            // given
+            StripedDeltaBuffer buffer = new StripedDeltaBuffer(STRIPES);
+
+            // when
+            buffer.add(1L, 1L);
+            buffer.add(1L, 1L);
+            buffer.add(2L, -1L);
+
+            // then
+            assertThat(buffer.drain()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, -1L));
+        }
+
+        @DisplayName("상쇄되어 0 이 된 ID 는 남기지 않음")
+        @Test
+        void given_CancelledDeltas_when_Add_then_RemoveEntry() {
+            // given
+            StripedDeltaBuffer buffer = new StripedDeltaBuffer(STRIPES);
+
+            // when
+            buffer.add(1L, 1L);
+            buffer.add(1L, -1L);
+
+            // then
+            assertThat(buffer.drain()).isEmpty();
+        }
+
+        @DisplayName("구간 수가 양수가 아니면 생성 실패")
+        @Test
+        void given_NonPositiveStripes_when_Create_then_ThrowIllegalArgumentException() {
+            assertThatThrownBy(() -> new StripedDeltaBuffer(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("버퍼 비우기")
+    @Nested
+    class Drain {
+
+        @DisplayName("비운 뒤에는 새로 들어온 증감만 반환")
+        @Test
+        void given_DrainedBuffer_when_DrainAgain_then_ReturnOnlyNewDeltas() {
+            // given
+            StripedDeltaBuffer buffer = new StripedDeltaBuffer(STRIPES);
+            buffer.add(1L, 3L);
+            buffer.drain();
+
+            // when
+            buffer.add(2L, 1L);
+            Map<Long, Long> drained = buffer.drain();
+
+            // then
+            assertThat(drained).containsExactlyEntriesOf(Map.of(2L, 1L));
+        }
+
+        @DisplayName("동시에 추가하면서 비워도 증감을 잃지 않음")
+        @Test
+        void given_ConcurrentAdds_when_Drain_then_KeepTotal() throws Exception {
+            // given
+            StripedDeltaBuffer buffer = new StripedDeltaBuffer(STRIPES);
+            int threads = 4;
+            int addsPerThread = 10_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            // when
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < addsPerThread; j++) {
+                        buffer.add(j % 8, 1L);
+                    }
+                }));
+            }
+            long total = 0;
+            while (!futures.stream().allMatch(Future::isDone)) {
+                total += sum(buffer.drain());
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            total += sum(buffer.drain());
+            executor.shutdown();
+
+            // then
+            assertThat(total).isEqualTo((long) threads * addsPerThread);
+        }
+
+        private long sum(Map<Long, Long> deltas) {
+            return deltas.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
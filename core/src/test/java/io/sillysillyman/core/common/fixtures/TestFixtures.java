@@ -12,9 +12,13 @@ import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
 import static io.sillysillyman.core.common.constants.TestConstants.USER_ROLE;
 
 import io.sillysillyman.core.domain.comment.CommentEntity;
+import io.sillysillyman.core.domain.comment.query.CommentView;
 import io.sillysillyman.core.domain.post.PostEntity;
+import io.sillysillyman.core.domain.post.query.PostView;
 import io.sillysillyman.core.domain.reply.ReplyEntity;
+import io.sillysillyman.core.domain.reply.query.ReplyView;
 import io.sillysillyman.core.domain.user.UserEntity;
+import io.sillysillyman.core.domain.user.query.UserView;
 import java.time.Instant;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -161,4 +165,67 @@ public final class TestFixtures {
 
         return replyEntity;
     }
+
+    public static UserView createUserView(UserEntity userEntity) {
+        return new UserView(userEntity.getId(), userEntity.getUsername());
+    }
+
+    public static PostView createPostView(PostEntity postEntity) {
+        return new PostView(
+            postEntity.getId(),
+            postEntity.getContent(),
+            postEntity.getCommentCount(),
+            postEntity.getLikeCount(),
+            postEntity.getCreatedAt(),
+            createUserView(postEntity.getUser())
+        );
+    }
+
+    public static PostView createPostView(
+        Long postId,
+        String content,
+        Instant createdAt,
+        UserEntity userEntity
+    ) {
+        return createPostView(createPostEntity(postId, content, createdAt, userEntity));
+    }
+
+    public static CommentView createCommentView(CommentEntity commentEntity) {
+        return new CommentView(
+            commentEntity.getId(),
+            commentEntity.getContent(),
+            commentEntity.getReplyCount(),
+            commentEntity.getCreatedAt(),
+            createPostView(commentEntity.getPost()),
+            createUserView(commentEntity.getUser())
+        );
+    }
+
+    public static CommentView createCommentView(
+        Long commentId,
+        String content,
+        PostEntity postEntity,
+        UserEntity userEntity
+    ) {
+        return createCommentView(createCommentEntity(commentId, content, postEntity, userEntity));
+    }
+
+    public static ReplyView createReplyView(ReplyEntity replyEntity) {
+        return new ReplyView(
+            replyEntity.getId(),
+            replyEntity.getContent(),
+            replyEntity.getCreatedAt(),
+            createCommentView(replyEntity.getComment()),
+            createUserView(replyEntity.getUser())
+        );
+    }
+
+    public static ReplyView createReplyView(
+        Long replyId,
+        String content,
+        CommentEntity commentEntity,
+        UserEntity userEntity
+    ) {
+        return createReplyView(createReplyEntity(replyId, content, commentEntity, userEntity));
+    }
 }
@@ -0,0 +1,169 @@
+package io.sillysillyman.core.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant NOW = Instant.parse("2024-06-01T00:00:00Z");
+    private static final int NODE_ID = 7;
+    private static final Duration MAX_CLOCK_BACKWARD = Duration.ofMillis(10);
+
+    private AtomicLong clock;
+    private SnowflakeIdGenerator snowflakeIdGenerator;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(NOW.toEpochMilli());
+        snowflakeIdGenerator = new SnowflakeIdGenerator(
+            EPOCH,
+            NODE_ID,
+            MAX_CLOCK_BACKWARD,
+            clock::get
+        );
+    }
+
+    @DisplayName("ID 생성")
+    @Nested
+    class NextId {
+
+        @DisplayName("생성 시각과 노드 ID 를 ID 에 담음")
+        @Test
+        void given_Clock_when_NextId_then_EncodeTimestampAndNodeId() {
+            // when
+            long id = snowflakeIdGenerator.nextId();
+
+            // then
+            assertThat(id).isPositive();
+            assertThat(snowflakeIdGenerator.timestampOf(id)).isEqualTo(NOW);
+            assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(NODE_ID);
+        }
+
+        @DisplayName("같은 밀리초 안에서도 증가하는 ID 발급")
+        @Test
+        void given_SameMillisecond_when_NextId_then_ReturnIncreasingIds() {
+            // when
+            List<Long> ids = LongStream.range(0, 10_000)
+                .map(i -> snowflakeIdGenerator.nextId())
+                .boxed()
+                .toList();
+
+            // then
+            assertThat(ids).isSorted().doesNotHaveDuplicates();
+        }
+
+        @DisplayName("시계가 허용 범위 안에서 뒤로 가면 마지막 시각에서 이어서 발급")
+        @Test
+        void given_SmallClockBackward_when_NextId_then_KeepIncreasing() {
+            // given
+            long previousId = snowflakeIdGenerator.nextId();
+            clock.addAndGet(-MAX_CLOCK_BACKWARD.toMillis());
+
+            // when
+            long id = snowflakeIdGenerator.nextId();
+
+            // then
+            assertThat(id).isGreaterThan(previousId);
+            assertThat(snowflakeIdGenerator.timestampOf(id)).isEqualTo(NOW);
+        }
+
+        @DisplayName("시계가 허용 범위를 넘어 뒤로 가면 발급 거부")
+        @Test
+        void given_LargeClockBackward_when_NextId_then_ThrowIllegalStateException() {
+            // given
+            snowflakeIdGenerator.nextId();
+            clock.addAndGet(-MAX_CLOCK_BACKWARD.toMillis() - 1);
+
+            // when & then
+            assertThatThrownBy(() -> snowflakeIdGenerator.nextId())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Clock moved backwards");
+        }
+
+        @DisplayName("시퀀스 소진으로 논리 시각이 앞서도 시계가 따라올 때까지 기다려 발급")
+        @Test
+        void given_SequenceExhausted_when_NextId_then_WaitForClock() {
+            // given
+            AtomicLong reads = new AtomicLong();
+            SnowflakeIdGenerator slowClockGenerator = new SnowflakeIdGenerator(
+                EPOCH,
+                NODE_ID,
+                MAX_CLOCK_BACKWARD,
+                () -> NOW.toEpochMilli() + reads.incrementAndGet() / 10_000
+            );
+
+            // when
+            List<Long> ids = LongStream.range(0, 200_000)
+                .map(i -> slowClockGenerator.nextId())
+                .boxed()
+                .toList();
+
+            // then
+            assertThat(ids).isSorted().doesNotHaveDuplicates();
+            assertThat(slowClockGenerator.timestampOf(ids.getLast()))
+                .isBeforeOrEqualTo(
+                    NOW.plusMillis(reads.get() / 10_000 + MAX_CLOCK_BACKWARD.toMillis())
+                );
+        }
+
+        @DisplayName("여러 스레드에서 동시에 발급해도 중복 없음")
+        @Test
+        void given_ConcurrentThreads_when_NextId_then_ReturnUniqueIds() throws Exception {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(
+                EPOCH,
+                NODE_ID,
+                MAX_CLOCK_BACKWARD
+            );
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+            // when
+            try {
+                List<Future<?>> futures = IntStream.range(0, 8)
+                    .mapToObj(i -> executorService.submit(() -> {
+                        for (int j = 0; j < 10_000; j++) {
+                            ids.add(generator.nextId());
+                        }
+                    }))
+                    .<Future<?>>map(future -> future)
+                    .toList();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executorService.shutdown();
+            }
+
+            // then
+            assertThat(ids).hasSize(80_000);
+        }
+
+        @DisplayName("범위를 벗어난 노드 ID 는 거부")
+        @Test
+        void given_InvalidNodeId_when_Create_then_ThrowIllegalArgumentException() {
+            assertThatThrownBy(() -> new SnowflakeIdGenerator(
+                EPOCH,
+                SnowflakeIdGenerator.MAX_NODE_ID + 1,
+                MAX_CLOCK_BACKWARD
+            )).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package io.sillysillyman.core.common.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLockAspectTest {
+
+    private static final String JOB_NAME = "job";
+
+    @Mock
+    private LockProvider lockProvider;
+
+    private MeterRegistry meterRegistry;
+    private Job job;
+    private Job lockedJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new Job();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(job);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new SchedulerLockAspect(lockProvider, meterRegistry));
+        lockedJob = proxyFactory.getProxy();
+    }
+
+    private double count(String meterName) {
+        return meterRegistry.get(meterName).tag("job", JOB_NAME).counter().count();
+    }
+
+    static class Job {
+
+        private final AtomicInteger runs = new AtomicInteger();
+        private Duration duration = Duration.ZERO;
+        private RuntimeException failure;
+
+        @SchedulerLock(name = JOB_NAME, leaseTime = "PT0.05S")
+        public void run() throws InterruptedException {
+            runs.incrementAndGet();
+            Thread.sleep(duration);
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        @SchedulerLock(name = JOB_NAME, leaseTime = "PT1M", lockAtLeastFor = "PT0.05S")
+        public void runWithMinimumHold() throws InterruptedException {
+            runs.incrementAndGet();
+            Thread.sleep(duration);
+        }
+    }
+
+    @DisplayName("스케줄 작업 락")
+    @Nested
+    class RunLocked {
+
+        @DisplayName("락을 획득하면 작업 실행 후 같은 보유자로 해제")
+        @Test
+        void given_LockAcquired_when_Run_then_RunJobAndUnlock() throws InterruptedException {
+            // given
+            given(lockProvider.tryLock(eq(JOB_NAME), anyString(), eq(Duration.ofMillis(50))))
+                .willReturn(true);
+
+            // when
+            lockedJob.run();
+
+            // then
+            ArgumentCaptor<String> holderCaptor = ArgumentCaptor.forClass(String.class);
+            then(lockProvider).should()
+                .tryLock(eq(JOB_NAME), holderCaptor.capture(), any(Duration.class));
+            then(lockProvider).should().unlock(JOB_NAME, holderCaptor.getValue());
+            assertThat(job.runs).hasValue(1);
+            assertThat(count("scheduler.lock.acquired")).isEqualTo(1);
+            assertThat(meterRegistry.get("scheduler.lock.held").tag("job", JOB_NAME).timer()
+                .count()).isEqualTo(1);
+        }
+
+        @DisplayName("다른 노드가 락을 보유 중이면 작업을 건너뜀")
+        @Test
+        void given_LockHeldByAnotherNode_when_Run_then_SkipJob() throws InterruptedException {
+            // given
+            given(lockProvider.tryLock(eq(JOB_NAME), anyString(), any(Duration.class)))
+                .willReturn(false);
+
+            // when
+            lockedJob.run();
+
+            // then
+            assertThat(job.runs).hasValue(0);
+            assertThat(count("scheduler.lock.skipped")).isEqualTo(1);
+            then(lockProvider).should(never()).unlock(anyString(), anyString());
+        }
+
+        @DisplayName("락 저장소 장애 시 작업을 건너뜀")
+        @Test
+        void given_LockStoreFailure_when_Run_then_SkipJob() throws InterruptedException {
+            // given
+            given(lockProvider.tryLock(eq(JOB_NAME), anyString(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("Redis is down"));
+
+            // when
+            lockedJob.run();
+
+            // then
+            assertThat(job.runs).hasValue(0);
+            assertThat(count("scheduler.lock.failed")).isEqualTo(1);
+            assertThat(count("scheduler.lock.skipped")).isEqualTo(1);
+        }
+
+        @DisplayName("작업이 실패해도 락 해제")
+        @Test
+        void given_FailingJob_when_Run_then_UnlockAndPropagate() {
+            // given
+            job.failure = new IllegalStateException("job failed");
+            given(lockProvider.tryLock(eq(JOB_NAME), anyString(), any(Duration.class)))
+                .willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> lockedJob.run()).isSameAs(job.failure);
+            then(lockProvider).should().unlock(eq(JOB_NAME), anyString());
+        }
+
+        @DisplayName("임대 시간을 넘겨 실행되면 초과 지표 기록")
+        @Test
+        void given_JobExceedingLease_when_Run_then_RecordLeaseExceeded()
+            throws InterruptedException {
+            // given
+            job.duration = Duration.ofMillis(80);
+            given(lockProvider.tryLock(eq(JOB_NAME), anyString(), any(Duration.class)))
+                .willReturn(true);
+
+            // when
+            lockedJob.run();
+
+            // then
+            assertThat(count("scheduler.lock.lease.exceeded")).isEqualTo(1);
+        }
+
+        @DisplayName("최소 보유 시간 전에 끝나면 해제 대신 남은 시간만큼 락 유지")
+        @Test
+        void given_JobFinishedEarly_when_Run_then_ShortenLeaseInsteadOfUnlock()
+            throws InterruptedException {
+            // given
+            given(lockProvider.tryLock(eq(JOB_NAME), anyString(), any(Duration.class)))
+                .willReturn(true);
+
+            // when
+            lockedJob.runWithMinimumHold();
+
+            // then
+            ArgumentCaptor<Duration> holdTimeCaptor = ArgumentCaptor.forClass(Duration.class);
+            then(lockProvider).should()
+                .shortenLease(eq(JOB_NAME), anyString(), holdTimeCaptor.capture());
+            then(lockProvider).should(never()).unlock(anyString(), anyString());
+            assertThat(holdTimeCaptor.getValue())
+                .isPositive()
+                .isLessThanOrEqualTo(Duration.ofMillis(50));
+        }
+
+        @DisplayName("최소 보유 시간이 지난 뒤 끝나면 바로 해제")
+        @Test
+        void given_JobOutlastingMinimumHold_when_Run_then_Unlock() throws InterruptedException {
+            // given
+            job.duration = Duration.ofMillis(80);
+            given(lockProvider.tryLock(eq(JOB_NAME), anyString(), any(Duration.class)))
+                .willReturn(true);
+
+            // when
+            lockedJob.runWithMinimumHold();
+
+            // then
+            then(lockProvider).should().unlock(eq(JOB_NAME), anyString());
+            then(lockProvider).should(never())
+                .shortenLease(anyString(), anyString(), any(Duration.class));
+        }
+    }
+}
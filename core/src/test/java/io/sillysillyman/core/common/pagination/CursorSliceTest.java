@@ -0,0 +1,127 @@
+package io.sillysillyman.core.common.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.sillysillyman.core.common.pagination.exception.detail.InvalidCursorException;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CursorSliceTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-06-01T00:00:00.123456Z");
+    private static final int SIZE = 2;
+
+    private static Cursor cursorOf(long id) {
+        return new Cursor(CREATED_AT.plusSeconds(id), id);
+    }
+
+    private static List<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+
+    private static List<Long> reversedIds(long from, long to) {
+        return ids(from, to).reversed();
+    }
+
+    @DisplayName("커서 인코딩")
+    @Nested
+    class Encode {
+
+        @DisplayName("인코딩한 커서를 디코딩하면 같은 위치 반환")
+        @Test
+        void given_Cursor_when_EncodeAndDecode_then_ReturnSameCursor() {
+            // given
+            Cursor cursor = new Cursor(CREATED_AT, 370212462676414464L);
+
+            // when
+            Cursor decoded = Cursor.decode(cursor.encode());
+
+            // then
+            assertThat(decoded).isEqualTo(cursor);
+        }
+
+        @DisplayName("형식이 잘못된 커서를 디코딩하면 예외 발생")
+        @Test
+        void given_MalformedCursor_when_Decode_then_ThrowInvalidCursorException() {
+            // when & then
+            assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+            assertThatThrownBy(() -> Cursor.decode("!!!"))
+                .isInstanceOf(InvalidCursorException.class);
+        }
+    }
+
+    @DisplayName("슬라이스 생성")
+    @Nested
+    class Of {
+
+        @DisplayName("첫 페이지에서 요청 크기보다 많이 조회되면 다음 커서만 반환")
+        @Test
+        void given_FirstPageWithMore_when_Of_then_ReturnNextCursorOnly() {
+            // given
+            CursorRequest request = CursorRequest.first(SIZE);
+
+            // when
+            CursorSlice<Long> slice = CursorSlice.of(
+                ids(1, 3),
+                request,
+                CursorSliceTest::cursorOf
+            );
+
+            // then
+            assertThat(slice.content()).containsExactly(1L, 2L);
+            assertThat(slice.nextCursor()).isEqualTo(cursorOf(2));
+            assertThat(slice.hasPrevious()).isFalse();
+        }
+
+        @DisplayName("다음 방향 마지막 페이지는 이전 커서만 반환")
+        @Test
+        void given_LastPage_when_Of_then_ReturnPrevCursorOnly() {
+            // given
+            CursorRequest request = new CursorRequest(cursorOf(2), CursorDirection.NEXT, SIZE);
+
+            // when
+            CursorSlice<Long> slice = CursorSlice.of(ids(3, 3), request, CursorSliceTest::cursorOf);
+
+            // then
+            assertThat(slice.content()).containsExactly(3L);
+            assertThat(slice.hasNext()).isFalse();
+            assertThat(slice.prevCursor()).isEqualTo(cursorOf(3));
+        }
+
+        @DisplayName("이전 방향 조회 결과는 원래 순서로 되돌려 반환")
+        @Test
+        void given_BackwardRequest_when_Of_then_ReturnContentInOriginalOrder() {
+            // given
+            CursorRequest request = new CursorRequest(cursorOf(4), CursorDirection.PREV, SIZE);
+
+            // when
+            CursorSlice<Long> slice = CursorSlice.of(
+                reversedIds(1, 3),
+                request,
+                CursorSliceTest::cursorOf
+            );
+
+            // then
+            assertThat(slice.content()).containsExactly(2L, 3L);
+            assertThat(slice.nextCursor()).isEqualTo(cursorOf(3));
+            assertThat(slice.prevCursor()).isEqualTo(cursorOf(2));
+        }
+
+        @DisplayName("요청 크기는 최대값으로 제한")
+        @Test
+        void given_TooLargeSize_when_CreateRequest_then_ClampSize() {
+            // when
+            CursorRequest request = CursorRequest.of(null, null, 10_000);
+
+            // then
+            assertThat(request.size()).isEqualTo(CursorRequest.MAX_SIZE);
+            assertThat(request.direction()).isEqualTo(CursorDirection.NEXT);
+        }
+    }
+}
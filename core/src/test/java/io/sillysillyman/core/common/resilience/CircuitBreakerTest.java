@@ -0,0 +1,111 @@
+package io.sillysillyman.core.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.common.properties.CircuitBreakerProperties;
+import io.sillysillyman.core.common.resilience.CircuitBreaker.Permit;
+import io.sillysillyman.core.common.resilience.CircuitBreaker.State;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final int FAILURE_THRESHOLD = 2;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerProperties circuitBreakerProperties = new CircuitBreakerProperties();
+        circuitBreakerProperties.setFailureThreshold(FAILURE_THRESHOLD);
+        circuitBreakerProperties.setOpenDuration(OPEN_DURATION);
+        circuitBreakerProperties.setHalfOpenPermittedCalls(1);
+
+        circuitBreaker = new CircuitBreaker(
+            "test",
+            circuitBreakerProperties,
+            new SimpleMeterRegistry(),
+            nanoTime::get
+        );
+    }
+
+    private Permit acquire() {
+        return circuitBreaker.tryAcquirePermission().orElseThrow();
+    }
+
+    private Permit openThenProbe() {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            circuitBreaker.onFailure(acquire());
+        }
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        return acquire();
+    }
+
+    @DisplayName("반열림 시험 호출")
+    @Nested
+    class HalfOpen {
+
+        @DisplayName("시험 호출이 성공하면 닫힘")
+        @Test
+        void given_HalfOpen_when_ProbeSucceeds_then_Close() {
+            // given
+            Permit probe = openThenProbe();
+
+            // when
+            circuitBreaker.onSuccess(probe);
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        }
+
+        @DisplayName("시험 호출이 실패하면 다시 열림")
+        @Test
+        void given_HalfOpen_when_ProbeFails_then_Open() {
+            // given
+            Permit probe = openThenProbe();
+
+            // when
+            circuitBreaker.onFailure(probe);
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        }
+
+        @DisplayName("열리기 전에 허용된 호출의 성공은 시험 자리를 비우지 않음")
+        @Test
+        void given_PermitFromClosed_when_SucceedsWhileHalfOpen_then_Ignore() {
+            // given
+            Permit stalePermit = acquire();
+            openThenProbe();
+
+            // when
+            circuitBreaker.onSuccess(stalePermit);
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+            assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+        }
+
+        @DisplayName("열리기 전에 허용된 호출의 실패는 반열림 상태를 바꾸지 않음")
+        @Test
+        void given_PermitFromClosed_when_FailsWhileHalfOpen_then_Ignore() {
+            // given
+            Permit stalePermit = acquire();
+            Permit probe = openThenProbe();
+
+            // when
+            circuitBreaker.onFailure(stalePermit);
+            circuitBreaker.onSuccess(probe);
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        }
+    }
+}
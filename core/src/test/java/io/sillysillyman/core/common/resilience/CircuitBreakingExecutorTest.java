@@ -0,0 +1,141 @@
+package io.sillysillyman.core.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.common.properties.CircuitBreakerProperties;
+import io.sillysillyman.core.common.querycount.QueryCountHolder;
+import io.sillysillyman.core.common.querycount.QueryCounts;
+import io.sillysillyman.core.common.resilience.CircuitBreaker.State;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakingExecutorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch callStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseCall = new CountDownLatch(1);
+
+    private CircuitBreaker circuitBreaker;
+    private CircuitBreakingExecutor executor;
+    private Thread blockingCaller;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        releaseCall.countDown();
+        if (blockingCaller != null) {
+            blockingCaller.join();
+        }
+        executor.destroy();
+    }
+
+    private void createExecutor(int queueCapacity, Duration callTimeout, int failureThreshold) {
+        CircuitBreakerProperties circuitBreakerProperties = new CircuitBreakerProperties();
+        circuitBreakerProperties.setCallTimeout(callTimeout);
+        circuitBreakerProperties.setFailureThreshold(failureThreshold);
+        circuitBreakerProperties.setPoolSize(1);
+        circuitBreakerProperties.setQueueCapacity(queueCapacity);
+
+        circuitBreaker = new CircuitBreaker("test", circuitBreakerProperties, meterRegistry);
+        executor = new CircuitBreakingExecutor(
+            circuitBreaker,
+            circuitBreakerProperties,
+            "test-",
+            IllegalStateException::new
+        );
+    }
+
+    // 유일한 작업 스레드를 테스트가 끝날 때까지 붙잡아 둔다. 취소로 인터럽트돼도 놓지 않음
+    private void occupyWorker() throws InterruptedException {
+        blockingCaller = new Thread(() -> {
+            try {
+                executor.call(() -> {
+                    callStarted.countDown();
+                    while (releaseCall.getCount() > 0) {
+                        try {
+                            releaseCall.await();
+                        } catch (InterruptedException ignored) {
+                            // 계속 붙잡음
+                        }
+                    }
+                    return null;
+                });
+            } catch (IllegalStateException ignored) {
+                // 예산 초과
+            }
+        });
+        blockingCaller.start();
+        assertThat(callStarted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private double shed() {
+        return meterRegistry.get("circuit.breaker.shed").counter().count();
+    }
+
+    @DisplayName("작업 풀 포화")
+    @Nested
+    class Saturation {
+
+        @DisplayName("풀이 가득 차 거절된 호출은 서킷을 열지 않고 부하 차단으로 집계")
+        @Test
+        void given_SaturatedPool_when_Call_then_ShedWithoutOpening() throws Exception {
+            // given
+            createExecutor(0, Duration.ofSeconds(5), 1);
+            occupyWorker();
+
+            // when & then
+            assertThatThrownBy(() -> executor.call(() -> "value"))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+            assertThat(shed()).isEqualTo(1);
+        }
+
+        @DisplayName("대기열에서 시작하지 못하고 예산을 넘긴 호출은 서킷을 열지 않음")
+        @Test
+        void given_QueuedCall_when_BudgetExpires_then_ShedWithoutOpening() throws Exception {
+            // given
+            // 붙잡힌 호출이 먼저 예산을 넘겨 실패 하나가 쌓여도 닫혀 있도록 기준은 2
+            createExecutor(1, Duration.ofMillis(100), 2);
+            occupyWorker();
+
+            // when & then
+            assertThatThrownBy(() -> executor.call(() -> "value"))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+            assertThat(shed()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("쿼리 횟수 측정 전파")
+    @Nested
+    class QueryCountPropagation {
+
+        @DisplayName("작업 스레드의 호출도 요청 스레드의 측정에 집계")
+        @Test
+        void given_CountingRequest_when_Call_then_WorkerSeesRequestCounts() {
+            // given
+            createExecutor(0, Duration.ofSeconds(5), 1);
+            QueryCounts counts = QueryCountHolder.start();
+
+            // when
+            Optional<QueryCounts> workerCounts;
+            try {
+                workerCounts = executor.call(QueryCountHolder::current);
+            } finally {
+                QueryCountHolder.clear();
+            }
+
+            // then
+            assertThat(workerCounts).containsSame(counts);
+            assertThat(executor.call(QueryCountHolder::current)).isEmpty();
+        }
+    }
+}
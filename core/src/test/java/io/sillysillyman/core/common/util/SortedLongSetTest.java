@@ -0,0 +1,128 @@
+package io.sillysillyman.core.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SortedLongSetTest {
+
+    private static final int BLOCK_SIZE = 4;
+
+    @DisplayName("원소 추가")
+    @Nested
+    class Add {
+
+        @DisplayName("블록 크기를 넘어 추가해도 정렬 순서 유지")
+        @Test
+        void given_ValuesExceedingBlockSize_when_Add_then_KeepSortedOrder() {
+            // given
+            SortedLongSet set = new SortedLongSet(BLOCK_SIZE);
+
+            // when
+            for (long value : new long[]{50, 10, 40, 20, 30, 60, 15, 35, 5, 55}) {
+                set.add(value);
+            }
+
+            // then
+            assertThat(set.size()).isEqualTo(10);
+            assertThat(set.toArray()).containsExactly(5, 10, 15, 20, 30, 35, 40, 50, 55, 60);
+        }
+
+        @DisplayName("이미 있는 값은 추가하지 않음")
+        @Test
+        void given_ExistingValue_when_Add_then_ReturnFalse() {
+            // given
+            SortedLongSet set = new SortedLongSet(BLOCK_SIZE);
+            set.add(1L);
+
+            // when
+            boolean added = set.add(1L);
+
+            // then
+            assertThat(added).isFalse();
+            assertThat(set.size()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("원소 삭제")
+    @Nested
+    class Remove {
+
+        @DisplayName("블록이 비어도 나머지 원소 조회 가능")
+        @Test
+        void given_EmptiedBlock_when_Remove_then_KeepOtherValues() {
+            // given
+            SortedLongSet set = SortedLongSet.fromSorted(LongStream.rangeClosed(1, 3000));
+
+            // when
+            for (long value = 1; value <= SortedLongSet.DEFAULT_BLOCK_SIZE; value++) {
+                set.remove(value);
+            }
+
+            // then
+            assertThat(set.size()).isEqualTo(3000 - SortedLongSet.DEFAULT_BLOCK_SIZE);
+            assertThat(set.contains(1L)).isFalse();
+            assertThat(set.contains(SortedLongSet.DEFAULT_BLOCK_SIZE + 1L)).isTrue();
+            assertThat(set.contains(3000L)).isTrue();
+        }
+
+        @DisplayName("없는 값은 삭제하지 않음")
+        @Test
+        void given_AbsentValue_when_Remove_then_ReturnFalse() {
+            // given
+            SortedLongSet set = new SortedLongSet(BLOCK_SIZE);
+            set.add(1L);
+
+            // when
+            boolean removed = set.remove(2L);
+
+            // then
+            assertThat(removed).isFalse();
+            assertThat(set.size()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("정렬된 값으로 생성")
+    @Nested
+    class FromSorted {
+
+        @DisplayName("오름차순이 아니면 생성 실패")
+        @Test
+        void given_UnsortedValues_when_FromSorted_then_ThrowIllegalArgumentException() {
+            assertThatThrownBy(() -> SortedLongSet.fromSorted(LongStream.of(1, 3, 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @DisplayName("무작위 추가/삭제 결과가 TreeSet 과 일치")
+    @Test
+    void given_RandomOperations_when_AddAndRemove_then_MatchTreeSet() {
+        // given
+        SortedLongSet set = new SortedLongSet(BLOCK_SIZE);
+        TreeSet<Long> expected = new TreeSet<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong(500);
+            if (random.nextInt(3) == 0) {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            }
+        }
+
+        // then
+        assertThat(set.size()).isEqualTo(expected.size());
+        assertThat(set.toArray())
+            .containsExactly(expected.stream().mapToLong(Long::longValue).toArray());
+        LongStream.range(0, 500)
+            .forEach(value -> assertThat(set.contains(value)).isEqualTo(expected.contains(value)));
+    }
+}
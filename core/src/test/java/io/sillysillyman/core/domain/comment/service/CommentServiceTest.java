@@ -10,33 +10,43 @@ import static io.sillysillyman.core.common.constants.TestConstants.NON_EXISTENT_
 import static io.sillysillyman.core.common.constants.TestConstants.POST_ID;
 import static io.sillysillyman.core.common.constants.TestConstants.SECOND_PAGE_NUMBER;
 import static io.sillysillyman.core.common.constants.TestConstants.UPDATED_CONTENT;
+import static io.sillysillyman.core.common.constants.TestConstants.UNAUTHORIZED_USER_ID;
 import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createCommentEntity;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createCommentView;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createPostEntity;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createPostView;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createUnauthorizedUserEntity;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createUserEntity;
 import static io.sillysillyman.core.common.utils.TestUtils.assertPageProperties;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import io.sillysillyman.core.auth.exception.AuthErrorCode;
 import io.sillysillyman.core.auth.exception.detail.ForbiddenAccessException;
-import io.sillysillyman.core.domain.comment.Comment;
+import io.sillysillyman.core.common.cache.ApproximateCountCache;
 import io.sillysillyman.core.domain.comment.CommentEntity;
 import io.sillysillyman.core.domain.comment.command.CreateCommentCommand;
 import io.sillysillyman.core.domain.comment.command.UpdateCommentCommand;
+import io.sillysillyman.core.domain.comment.event.CommentCountChangedEvent;
 import io.sillysillyman.core.domain.comment.exception.CommentErrorCode;
 import io.sillysillyman.core.domain.comment.exception.detail.CommentNotBelongToPostException;
 import io.sillysillyman.core.domain.comment.exception.detail.CommentNotFoundException;
+import io.sillysillyman.core.domain.comment.query.CommentView;
 import io.sillysillyman.core.domain.comment.repository.CommentRepository;
-import io.sillysillyman.core.domain.post.Post;
 import io.sillysillyman.core.domain.post.PostEntity;
+import io.sillysillyman.core.domain.post.exception.PostErrorCode;
+import io.sillysillyman.core.domain.post.exception.detail.PostNotFoundException;
+import io.sillysillyman.core.domain.post.repository.PostRepository;
 import io.sillysillyman.core.domain.post.service.PostService;
 import io.sillysillyman.core.domain.user.User;
 import io.sillysillyman.core.domain.user.UserEntity;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -49,9 +59,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
@@ -63,11 +76,22 @@ public class CommentServiceTest {
     @Mock
     private PostService postService;
 
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApproximateCountCache approximateCountCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentService commentService;
 
     private User user;
-    private Post post;
     private UserEntity userEntity;
     private PostEntity postEntity;
     private CommentEntity commentEntity;
@@ -79,7 +103,6 @@ public class CommentServiceTest {
         commentEntity = createCommentEntity(postEntity, userEntity);
 
         user = User.from(userEntity);
-        post = Post.from(postEntity);
     }
 
     @DisplayName("댓글 생성")
@@ -94,19 +117,47 @@ public class CommentServiceTest {
 
             CommentEntity savedCommentEntity = createCommentEntity(postEntity, userEntity);
 
-            given(postService.getById(POST_ID)).willReturn(post);
+            given(postService.getViewById(POST_ID)).willReturn(createPostView(postEntity));
+            given(postRepository.getReferenceById(POST_ID)).willReturn(postEntity);
+            given(userRepository.getReferenceById(USER_ID)).willReturn(userEntity);
             given(commentRepository.save(any(CommentEntity.class))).willReturn(savedCommentEntity);
 
             // when
-            Comment comment = commentService.createComment(POST_ID, command, user);
+            CommentView comment = commentService.createComment(POST_ID, command, user);
 
             // then
-            assertThat(comment.getContent()).isEqualTo(CONTENT);
-            assertThat(comment.getPost().getId()).isEqualTo(POST_ID);
-            assertThat(comment.getUser().getId()).isEqualTo(USER_ID);
+            assertThat(comment.content()).isEqualTo(CONTENT);
+            assertThat(comment.post().id()).isEqualTo(POST_ID);
+            assertThat(comment.user().id()).isEqualTo(USER_ID);
 
+            then(postRepository).should().getReferenceById(POST_ID);
+            then(postRepository).shouldHaveNoMoreInteractions();
             then(commentRepository).should().save(any(CommentEntity.class));
             then(commentRepository).shouldHaveNoMoreInteractions();
+            then(eventPublisher).should().publishEvent(CommentCountChangedEvent.added(POST_ID));
+            then(approximateCountCache).should().invalidate("post-comments", POST_ID);
+        }
+
+        @DisplayName("존재하지 않는 게시물에 댓글 생성 실패")
+        @Test
+        void given_NonExistentPost_when_CreateComment_then_ThrowPostNotFoundException() {
+            // given
+            CreateCommentCommand command = () -> CONTENT;
+
+            given(postService.getViewById(NON_EXISTENT_ID))
+                .willThrow(new PostNotFoundException(PostErrorCode.POST_NOT_FOUND));
+
+            // when
+            ThrowingCallable when = () -> commentService.createComment(
+                NON_EXISTENT_ID,
+                command,
+                user
+            );
+
+            // then
+            assertThatThrownBy(when).isInstanceOf(PostNotFoundException.class);
+
+            then(commentRepository).shouldHaveNoInteractions();
         }
     }
 
@@ -125,14 +176,14 @@ public class CommentServiceTest {
             // given
             Pageable pageable = PageRequest.of(FIRST_PAGE_NUMBER, DEFAULT_PAGE_SIZE);
 
-            List<CommentEntity> commentEntities = List.of(
-                createCommentEntity(
+            List<CommentView> commentViews = List.of(
+                createCommentView(
                     COMMENT_ID,
                     OLDER_COMMENT_CONTENT,
                     postEntity,
                     userEntity
                 ),
-                createCommentEntity(
+                createCommentView(
                     ANOTHER_COMMENT_ID,
                     NEWER_COMMENT_CONTENT,
                     postEntity,
@@ -140,31 +191,32 @@ public class CommentServiceTest {
                 )
             );
 
-            Page<CommentEntity> commentEntityPage = new PageImpl<>(
-                commentEntities,
+            Page<CommentView> commentViewPage = new PageImpl<>(
+                commentViews,
                 pageable,
-                commentEntities.size()
+                commentViews.size()
             );
 
-            given(commentRepository.findByPostId(POST_ID, pageable)).willReturn(commentEntityPage);
+            given(commentRepository.findViewsByPostId(POST_ID, pageable))
+                .willReturn(commentViewPage);
 
             // when
-            Page<Comment> commentPage = commentService.getComments(POST_ID, pageable);
+            Page<CommentView> commentPage = commentService.getComments(POST_ID, pageable);
 
             // then
             assertPageProperties(commentPage, 2, FIRST_PAGE_NUMBER, DEFAULT_PAGE_SIZE, 2,
                 content -> {
-                    assertThat(content.get(0).getContent()).isEqualTo(OLDER_COMMENT_CONTENT);
-                    assertThat(content.get(1).getContent()).isEqualTo(NEWER_COMMENT_CONTENT);
+                    assertThat(content.get(0).content()).isEqualTo(OLDER_COMMENT_CONTENT);
+                    assertThat(content.get(1).content()).isEqualTo(NEWER_COMMENT_CONTENT);
                     content.forEach(comment -> {
-                            assertThat(comment.getPost().getId()).isEqualTo(POST_ID);
-                            assertThat(comment.getUser().getId()).isEqualTo(USER_ID);
+                            assertThat(comment.post().id()).isEqualTo(POST_ID);
+                            assertThat(comment.user().id()).isEqualTo(USER_ID);
                         }
                     );
                 }
             );
 
-            then(commentRepository).should().findByPostId(POST_ID, pageable);
+            then(commentRepository).should().findViewsByPostId(POST_ID, pageable);
             then(commentRepository).shouldHaveNoMoreInteractions();
         }
 
@@ -174,22 +226,22 @@ public class CommentServiceTest {
             // given
             Pageable pageable = PageRequest.of(FIRST_PAGE_NUMBER, DEFAULT_PAGE_SIZE);
 
-            Page<CommentEntity> emptyCommentEntityPage = new PageImpl<>(
+            Page<CommentView> emptyCommentViewPage = new PageImpl<>(
                 Collections.emptyList(),
                 pageable,
                 0
             );
 
-            given(commentRepository.findByPostId(POST_ID, pageable))
-                .willReturn(emptyCommentEntityPage);
+            given(commentRepository.findViewsByPostId(POST_ID, pageable))
+                .willReturn(emptyCommentViewPage);
 
             // when
-            Page<Comment> commentPage = commentService.getComments(POST_ID, pageable);
+            Page<CommentView> commentPage = commentService.getComments(POST_ID, pageable);
 
             // then
             assertPageProperties(commentPage, 0, FIRST_PAGE_NUMBER, DEFAULT_PAGE_SIZE, 0);
 
-            then(commentRepository).should().findByPostId(POST_ID, pageable);
+            then(commentRepository).should().findViewsByPostId(POST_ID, pageable);
             then(commentRepository).shouldHaveNoMoreInteractions();
         }
 
@@ -199,14 +251,14 @@ public class CommentServiceTest {
             // given
             Pageable pageable = PageRequest.of(SECOND_PAGE_NUMBER, DEFAULT_PAGE_SIZE);
 
-            List<CommentEntity> commentEntities = List.of(
-                createCommentEntity(
+            List<CommentView> commentViews = List.of(
+                createCommentView(
                     COMMENT_ID,
                     SECOND_PAGE_OLDER_COMMENT_CONTENT,
                     postEntity,
                     userEntity
                 ),
-                createCommentEntity(
+                createCommentView(
                     ANOTHER_COMMENT_ID,
                     SECOND_PAGE_NEWER_COMMENT_CONTENT,
                     postEntity,
@@ -214,36 +266,75 @@ public class CommentServiceTest {
                 )
             );
 
-            Page<CommentEntity> commentEntityPage = new PageImpl<>(commentEntities, pageable, 12);
+            Page<CommentView> commentViewPage = new PageImpl<>(commentViews, pageable, 12);
 
-            given(commentRepository.findByPostId(POST_ID, pageable))
-                .willReturn(commentEntityPage);
+            given(commentRepository.findViewsByPostId(POST_ID, pageable))
+                .willReturn(commentViewPage);
 
             // when
-            Page<Comment> commentPage = commentService.getComments(POST_ID, pageable);
+            Page<CommentView> commentPage = commentService.getComments(POST_ID, pageable);
 
             // then
             assertPageProperties(commentPage, 2, SECOND_PAGE_NUMBER, DEFAULT_PAGE_SIZE, 12,
                 content -> {
-                    assertThat(content.get(0).getContent()).isEqualTo(
+                    assertThat(content.get(0).content()).isEqualTo(
                         SECOND_PAGE_OLDER_COMMENT_CONTENT
                     );
-                    assertThat(content.get(1).getContent()).isEqualTo(
+                    assertThat(content.get(1).content()).isEqualTo(
                         SECOND_PAGE_NEWER_COMMENT_CONTENT
                     );
                     content.forEach(comment -> {
-                            assertThat(comment.getPost().getId()).isEqualTo(POST_ID);
-                            assertThat(comment.getUser().getId()).isEqualTo(USER_ID);
+                            assertThat(comment.post().id()).isEqualTo(POST_ID);
+                            assertThat(comment.user().id()).isEqualTo(USER_ID);
                         }
                     );
                 }
             );
 
-            then(commentRepository).should().findByPostId(POST_ID, pageable);
+            then(commentRepository).should().findViewsByPostId(POST_ID, pageable);
             then(commentRepository).shouldHaveNoMoreInteractions();
         }
     }
 
+    @DisplayName("댓글 슬라이스 조회")
+    @Nested
+    class GetCommentSlice {
+
+        @DisplayName("전체 개수 조회 없이 다음 페이지 여부만 반환")
+        @Test
+        void given_PostWithComments_when_GetCommentSlice_then_ReturnSliceWithoutCount() {
+            // given
+            Pageable pageable = PageRequest.of(FIRST_PAGE_NUMBER, 1);
+
+            given(commentRepository.findViewSliceByPostId(POST_ID, pageable)).willReturn(
+                new SliceImpl<>(List.of(createCommentView(commentEntity)), pageable, true)
+            );
+
+            // when
+            Slice<CommentView> commentSlice = commentService.getCommentSlice(POST_ID, pageable);
+
+            // then
+            assertThat(commentSlice.getContent()).hasSize(1);
+            assertThat(commentSlice.hasNext()).isTrue();
+            then(commentRepository).should(never()).countByPostId(any());
+        }
+
+        @DisplayName("근사 개수는 캐시를 통해 조회")
+        @Test
+        void given_PostId_when_GetApproximateCommentCount_then_ReturnCachedCount() {
+            // given
+            given(approximateCountCache.get(eq("post-comments"), eq(POST_ID), any()))
+                .willReturn(42L);
+
+            // when
+            long count = commentService.getApproximateCommentCount(POST_ID);
+
+            // then
+            assertThat(count).isEqualTo(42L);
+            then(commentRepository).should(never()).countByPostId(any());
+        }
+    }
+
     @DisplayName("댓글 수정")
     @Nested
     class UpdateComment {
@@ -254,25 +345,16 @@ public class CommentServiceTest {
             // given
             UpdateCommentCommand command = () -> UPDATED_CONTENT;
 
-            CommentEntity updatedCommentEntity = createCommentEntity(
-                UPDATED_CONTENT,
-                postEntity,
-                userEntity
-            );
-
-            given(commentRepository.findById(COMMENT_ID)).willReturn(Optional.of(commentEntity));
-            given(commentRepository.save(any(CommentEntity.class)))
-                .willReturn(updatedCommentEntity);
+            given(
+                commentRepository.updateOwnedContent(POST_ID, COMMENT_ID, USER_ID, UPDATED_CONTENT)
+            ).willReturn(1L);
 
             // when
             commentService.updateComment(POST_ID, COMMENT_ID, command, user);
-            Comment updatedComment = Comment.from(updatedCommentEntity);
 
             // then
-            assertThat(updatedComment.getContent()).isEqualTo(UPDATED_CONTENT);
-
-            then(commentRepository).should().save(any(CommentEntity.class));
-            then(commentRepository).should().findById(COMMENT_ID);
+            then(commentRepository).should()
+                .updateOwnedContent(POST_ID, COMMENT_ID, USER_ID, UPDATED_CONTENT);
             then(commentRepository).shouldHaveNoMoreInteractions();
         }
 
@@ -282,6 +364,14 @@ public class CommentServiceTest {
             // given
             UpdateCommentCommand command = () -> UPDATED_CONTENT;
 
+            given(
+                commentRepository.updateOwnedContent(
+                    POST_ID,
+                    NON_EXISTENT_ID,
+                    USER_ID,
+                    UPDATED_CONTENT
+                )
+            ).willReturn(0L);
             given(commentRepository.findById(NON_EXISTENT_ID)).willReturn(Optional.empty());
 
             // when
@@ -298,7 +388,6 @@ public class CommentServiceTest {
                 .hasMessage(CommentErrorCode.COMMENT_NOT_FOUND.getMessage());
 
             then(commentRepository).should().findById(NON_EXISTENT_ID);
-            then(commentRepository).shouldHaveNoMoreInteractions();
         }
 
         @DisplayName("권한이 없는 사용자의 댓글 수정 실패")
@@ -310,6 +399,14 @@ public class CommentServiceTest {
             UserEntity unauthorizedUserEntity = createUnauthorizedUserEntity();
             User unauthorizedUser = User.from(unauthorizedUserEntity);
 
+            given(
+                commentRepository.updateOwnedContent(
+                    POST_ID,
+                    COMMENT_ID,
+                    UNAUTHORIZED_USER_ID,
+                    UPDATED_CONTENT
+                )
+            ).willReturn(0L);
             given(commentRepository.findById(COMMENT_ID)).willReturn(Optional.of(commentEntity));
 
             // when
@@ -326,7 +423,6 @@ public class CommentServiceTest {
                 .hasMessage(AuthErrorCode.FORBIDDEN_ACCESS.getMessage());
 
             then(commentRepository).should().findById(COMMENT_ID);
-            then(commentRepository).shouldHaveNoMoreInteractions();
         }
 
         @DisplayName("다른 게시물의 댓글 수정 실패")
@@ -335,6 +431,14 @@ public class CommentServiceTest {
             // given
             UpdateCommentCommand command = () -> UPDATED_CONTENT;
 
+            given(
+                commentRepository.updateOwnedContent(
+                    ANOTHER_POST_ID,
+                    COMMENT_ID,
+                    USER_ID,
+                    UPDATED_CONTENT
+                )
+            ).willReturn(0L);
             given(commentRepository.findById(COMMENT_ID)).willReturn(Optional.of(commentEntity));
 
             // when
@@ -351,7 +455,6 @@ public class CommentServiceTest {
                 .hasMessage(CommentErrorCode.COMMENT_NOT_BELONG_TO_POST.getMessage());
 
             then(commentRepository).should().findById(COMMENT_ID);
-            then(commentRepository).shouldHaveNoMoreInteractions();
         }
     }
 
@@ -363,21 +466,24 @@ public class CommentServiceTest {
         @Test
         void given_ExistingComment_when_DeleteComment_then_CommentDeletedSuccessfully() {
             // given
-            given(commentRepository.findById(COMMENT_ID)).willReturn(Optional.of(commentEntity));
+            given(commentRepository.deleteOwned(POST_ID, COMMENT_ID, USER_ID)).willReturn(1L);
 
             // when
             commentService.deleteComment(POST_ID, COMMENT_ID, user);
 
             // then
-            then(commentRepository).should().findById(COMMENT_ID);
-            then(commentRepository).should().delete(any(CommentEntity.class));
+            then(commentRepository).should().deleteOwned(POST_ID, COMMENT_ID, USER_ID);
             then(commentRepository).shouldHaveNoMoreInteractions();
+            then(eventPublisher).should().publishEvent(CommentCountChangedEvent.removed(POST_ID));
+            then(approximateCountCache).should().invalidate("post-comments", POST_ID);
         }
 
         @DisplayName("존재하지 않는 댓글 삭제 실패")
         @Test
         void given_NonExistentComment_when_DeleteComment_then_ThrowCommentNotFoundException() {
             // given
+            given(commentRepository.deleteOwned(POST_ID, NON_EXISTENT_ID, USER_ID))
+                .willReturn(0L);
             given(commentRepository.findById(NON_EXISTENT_ID)).willReturn(Optional.empty());
 
             // when
@@ -393,7 +499,6 @@ public class CommentServiceTest {
                 .hasMessage(CommentErrorCode.COMMENT_NOT_FOUND.getMessage());
 
             then(commentRepository).should().findById(NON_EXISTENT_ID);
-            then(commentRepository).shouldHaveNoMoreInteractions();
         }
 
         @DisplayName("권한이 없는 사용자의 댓글 삭제 시도")
@@ -403,8 +508,9 @@ public class CommentServiceTest {
             UserEntity unauthorizedUserEntity = createUnauthorizedUserEntity();
             User unauthorizedUser = User.from(unauthorizedUserEntity);
 
-            given(commentRepository.findById(commentEntity.getId()))
-                .willReturn(Optional.of(commentEntity));
+            given(commentRepository.deleteOwned(POST_ID, COMMENT_ID, UNAUTHORIZED_USER_ID))
+                .willReturn(0L);
+            given(commentRepository.findById(COMMENT_ID)).willReturn(Optional.of(commentEntity));
 
             // when
             ThrowingCallable when = () -> commentService.deleteComment(
@@ -419,13 +525,14 @@ public class CommentServiceTest {
                 .hasMessage(AuthErrorCode.FORBIDDEN_ACCESS.getMessage());
 
             then(commentRepository).should().findById(COMMENT_ID);
-            then(commentRepository).shouldHaveNoMoreInteractions();
         }
 
         @DisplayName("다른 게시물의 댓글 삭제 실패")
         @Test
         void given_CommentFromDifferentPost_when_DeleteComment_then_ThrowCommentNotBelongToPostException() {
             // given
+            given(commentRepository.deleteOwned(ANOTHER_POST_ID, COMMENT_ID, USER_ID))
+                .willReturn(0L);
             given(commentRepository.findById(COMMENT_ID)).willReturn(Optional.of(commentEntity));
 
             // when
@@ -441,7 +548,6 @@ public class CommentServiceTest {
                 .hasMessage(CommentErrorCode.COMMENT_NOT_BELONG_TO_POST.getMessage());
 
             then(commentRepository).should().findById(COMMENT_ID);
-            then(commentRepository).shouldHaveNoMoreInteractions();
         }
     }
 }
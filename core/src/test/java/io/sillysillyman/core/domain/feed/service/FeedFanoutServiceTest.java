@@ -0,0 +1,177 @@
+package io.sillysillyman.core.domain.feed.service;
+
+import static io.sillysillyman.core.common.constants.TestConstants.POST_ID;
+import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.domain.feed.properties.FeedProperties;
+import io.sillysillyman.core.domain.feed.repository.TimelineStore;
+import io.sillysillyman.core.domain.follow.graph.FollowGraph;
+import io.sillysillyman.core.domain.post.event.PostCreatedEvent;
+import io.sillysillyman.core.domain.post.repository.PostRepository;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FeedFanoutServiceTest {
+
+    private static final int THRESHOLD = 3;
+    private static final int BATCH_SIZE = 2;
+    private static final int TIMELINE_SIZE = 10;
+    private static final long ASYNC_TIMEOUT_MILLIS = 1_000L;
+
+    @Mock
+    private TimelineStore timelineStore;
+
+    @Mock
+    private FollowGraph followGraph;
+
+    @Mock
+    private PostRepository postRepository;
+
+    private FeedFanoutService feedFanoutService;
+
+    @BeforeEach
+    void setUp() {
+        feedFanoutService = createFeedFanoutService(2, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedFanoutService.destroy();
+    }
+
+    private FeedFanoutService createFeedFanoutService(int poolSize, int queueCapacity) {
+        FeedProperties feedProperties = new FeedProperties();
+        feedProperties.setFanoutOnReadThreshold(THRESHOLD);
+        feedProperties.setTimelineSize(TIMELINE_SIZE);
+        feedProperties.getFanout().setBatchSize(BATCH_SIZE);
+        feedProperties.getFanout().setPoolSize(poolSize);
+        feedProperties.getFanout().setQueueCapacity(queueCapacity);
+        return new FeedFanoutService(
+            timelineStore,
+            followGraph,
+            postRepository,
+            feedProperties,
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @DisplayName("게시물 팬아웃")
+    @Nested
+    class FanOut {
+
+        @DisplayName("팔로워와 작성자 타임라인에 배치 단위로 추가")
+        @Test
+        void given_FewFollowers_when_FanOut_then_PushInBatches() {
+            // given
+            given(followGraph.getFollowerCount(USER_ID)).willReturn(2);
+            given(followGraph.getFollowerIds(USER_ID)).willReturn(new long[]{2L, 3L});
+            given(timelineStore.isFanoutOnRead(USER_ID)).willReturn(false);
+
+            // when
+            feedFanoutService.fanOut(new PostCreatedEvent(POST_ID, USER_ID));
+
+            // then
+            then(timelineStore).should().push(new long[]{2L, 3L}, POST_ID);
+            then(timelineStore).should().push(new long[]{USER_ID}, POST_ID);
+            then(timelineStore).shouldHaveNoMoreInteractions();
+            then(postRepository).shouldHaveNoInteractions();
+        }
+
+        @DisplayName("읽기 병합이던 작성자의 팔로워가 기준 아래로 줄면 이전 게시물을 채운 뒤 표시 해제")
+        @Test
+        void given_FormerFanoutOnReadAuthor_when_FanOut_then_BackfillBeforeUnmark() {
+            // given
+            long postId = 30L;
+            given(followGraph.getFollowerCount(USER_ID)).willReturn(1);
+            given(followGraph.getFollowerIds(USER_ID)).willReturn(new long[]{2L});
+            given(timelineStore.isFanoutOnRead(USER_ID)).willReturn(true);
+            given(postRepository.findRecentIdsByUserIds(List.of(USER_ID), postId, TIMELINE_SIZE))
+                .willReturn(List.of(20L, 10L));
+
+            // when
+            feedFanoutService.fanOut(new PostCreatedEvent(postId, USER_ID));
+
+            // then
+            InOrder inOrder = inOrder(timelineStore);
+            inOrder.verify(timelineStore).push(new long[]{2L}, 20L);
+            inOrder.verify(timelineStore).push(new long[]{2L}, 10L);
+            inOrder.verify(timelineStore).unmarkFanoutOnRead(USER_ID);
+            inOrder.verify(timelineStore).push(new long[]{2L, USER_ID}, postId);
+        }
+
+        @DisplayName("팔로워가 기준 이상이면 읽기 병합으로 표시하고 작성자 타임라인에만 추가")
+        @Test
+        void given_ManyFollowers_when_FanOut_then_MarkFanoutOnRead() {
+            // given
+            given(followGraph.getFollowerCount(USER_ID)).willReturn(THRESHOLD);
+
+            // when
+            feedFanoutService.fanOut(new PostCreatedEvent(POST_ID, USER_ID));
+
+            // then
+            then(timelineStore).should().markFanoutOnRead(USER_ID);
+            then(timelineStore).should().push(new long[]{USER_ID}, POST_ID);
+            then(timelineStore).shouldHaveNoMoreInteractions();
+            then(followGraph).should(never()).getFollowerIds(anyLong());
+        }
+
+        @DisplayName("비동기 팬아웃이 실패하면 예외를 전파하지 않고 읽기 병합으로 표시")
+        @Test
+        void given_FollowGraphFailure_when_OnPostCreated_then_MarkFanoutOnRead() {
+            // given
+            given(followGraph.getFollowerCount(USER_ID)).willThrow(new IllegalStateException());
+
+            // when
+            feedFanoutService.onPostCreated(new PostCreatedEvent(POST_ID, USER_ID));
+
+            // then
+            then(timelineStore).should(timeout(ASYNC_TIMEOUT_MILLIS)).markFanoutOnRead(USER_ID);
+            then(timelineStore).should(never()).push(any(), anyLong());
+        }
+
+        @DisplayName("큐가 가득 차 거절된 게시물은 버리지 않고 읽기 병합으로 표시")
+        @Test
+        void given_FullQueue_when_OnPostCreated_then_MarkFanoutOnRead() throws Exception {
+            // given
+            CountDownLatch fanoutStarted = new CountDownLatch(1);
+            CountDownLatch releaseFanout = new CountDownLatch(1);
+            feedFanoutService.destroy();
+            feedFanoutService = createFeedFanoutService(1, 1);
+            given(followGraph.getFollowerCount(USER_ID)).willAnswer(invocation -> {
+                fanoutStarted.countDown();
+                releaseFanout.await();
+                return THRESHOLD;
+            });
+            feedFanoutService.onPostCreated(new PostCreatedEvent(POST_ID, USER_ID));
+            assertThat(fanoutStarted.await(1, TimeUnit.SECONDS)).isTrue();
+            feedFanoutService.onPostCreated(new PostCreatedEvent(POST_ID + 1, USER_ID));
+
+            // when
+            feedFanoutService.onPostCreated(new PostCreatedEvent(POST_ID + 2, USER_ID));
+
+            // then
+            then(timelineStore).should().markFanoutOnRead(USER_ID);
+            releaseFanout.countDown();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.sillysillyman.core.domain.feed.service;
+
+import static io.sillysillyman.core.common.constants.TestConstants.BASE_TIME;
+import static io.sillysillyman.core.common.constants.TestConstants.CONTENT;
+import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createPostView;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createUnauthorizedUserEntity;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createUserEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import io.sillysillyman.core.common.pagination.Cursor;
+import io.sillysillyman.core.common.pagination.CursorDirection;
+import io.sillysillyman.core.common.pagination.CursorRequest;
+import io.sillysillyman.core.common.pagination.CursorSlice;
+import io.sillysillyman.core.domain.feed.repository.TimelineStore;
+import io.sillysillyman.core.domain.follow.graph.FollowGraph;
+import io.sillysillyman.core.domain.post.query.PostView;
+import io.sillysillyman.core.domain.post.repository.PostRepository;
+import io.sillysillyman.core.domain.user.User;
+import io.sillysillyman.core.domain.user.UserEntity;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FeedServiceTest {
+
+    private static final int SIZE = 2;
+    private static final long CELEBRITY_ID = 50L;
+
+    @Mock
+    private TimelineStore timelineStore;
+
+    @Mock
+    private FollowGraph followGraph;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private FeedService feedService;
+
+    private User user;
+    private UserEntity followeeEntity;
+
+    @BeforeEach
+    void setUp() {
+        user = User.from(createUserEntity());
+        followeeEntity = createUnauthorizedUserEntity();
+    }
+
+    private PostView postView(long postId) {
+        return createPostView(postId, CONTENT, BASE_TIME.plusSeconds(postId), followeeEntity);
+    }
+
+    @DisplayName("홈 타임라인 조회")
+    @Nested
+    class GetFeed {
+
+        @DisplayName("타임라인의 게시물을 최신순으로 반환하고 다음 커서 설정")
+        @Test
+        void given_PushedTimeline_when_GetFeed_then_ReturnNewestFirst() {
+            // given
+            given(timelineStore.read(USER_ID, null, SIZE + 1)).willReturn(List.of(30L, 20L, 10L));
+            given(timelineStore.getFanoutOnReadAuthors()).willReturn(Set.of());
+            given(postRepository.findViewsByIds(List.of(30L, 20L, 10L)))
+                .willReturn(List.of(postView(10L), postView(30L), postView(20L)));
+
+            // when
+            CursorSlice<PostView> feed = feedService.getFeed(user, CursorRequest.first(SIZE));
+
+            // then
+            assertThat(feed.content()).extracting(PostView::id).containsExactly(30L, 20L);
+            assertThat(feed.nextCursor()).isEqualTo(new Cursor(BASE_TIME.plusSeconds(20L), 20L));
+            assertThat(feed.hasPrevious()).isFalse();
+            then(postRepository).should().findViewsByIds(List.of(30L, 20L, 10L));
+            then(postRepository).shouldHaveNoMoreInteractions();
+        }
+
+        @DisplayName("팔로우 중인 읽기 병합 작성자의 게시물을 타임라인과 합쳐 반환")
+        @Test
+        void given_FollowedFanoutOnReadAuthor_when_GetFeed_then_MergeRecentPosts() {
+            // given
+            Cursor cursor = new Cursor(BASE_TIME.plusSeconds(40L), 40L);
+            CursorRequest request = new CursorRequest(cursor, CursorDirection.NEXT, SIZE);
+
+            given(timelineStore.read(USER_ID, 40L, SIZE + 1)).willReturn(List.of(30L, 10L));
+            given(timelineStore.getFanoutOnReadAuthors()).willReturn(Set.of(CELEBRITY_ID));
+            given(followGraph.isFollowing(USER_ID, CELEBRITY_ID)).willReturn(true);
+            given(postRepository.findRecentIdsByUserIds(List.of(CELEBRITY_ID), 40L, SIZE + 1))
+                .willReturn(List.of(35L, 25L, 5L));
+            given(postRepository.findViewsByIds(List.of(35L, 30L, 25L)))
+                .willReturn(List.of(postView(35L), postView(30L), postView(25L)));
+
+            // when
+            CursorSlice<PostView> feed = feedService.getFeed(user, request);
+
+            // then
+            assertThat(feed.content()).extracting(PostView::id).containsExactly(35L, 30L);
+            assertThat(feed.hasNext()).isTrue();
+            assertThat(feed.hasPrevious()).isTrue();
+        }
+
+        @DisplayName("팔로우하지 않는 읽기 병합 작성자는 조회하지 않음")
+        @Test
+        void given_UnfollowedFanoutOnReadAuthor_when_GetFeed_then_SkipPull() {
+            // given
+            given(timelineStore.read(USER_ID, null, SIZE + 1)).willReturn(List.of());
+            given(timelineStore.getFanoutOnReadAuthors()).willReturn(Set.of(CELEBRITY_ID));
+            given(followGraph.isFollowing(USER_ID, CELEBRITY_ID)).willReturn(false);
+
+            // when
+            CursorSlice<PostView> feed = feedService.getFeed(user, CursorRequest.first(SIZE));
+
+            // then
+            assertThat(feed.content()).isEmpty();
+            assertThat(feed.hasNext()).isFalse();
+            then(postRepository).shouldHaveNoInteractions();
+        }
+
+        @DisplayName("삭제된 게시물로 모자란 만큼 이어서 읽어 다음 페이지 유지")
+        @Test
+        void given_DeletedPostsInFullRead_when_GetFeed_then_ReadMoreAndKeepNext() {
+            // given
+            given(timelineStore.read(USER_ID, null, SIZE + 1)).willReturn(List.of(50L, 40L, 30L));
+            given(timelineStore.read(USER_ID, 30L, SIZE + 1)).willReturn(List.of(20L, 10L));
+            given(timelineStore.getFanoutOnReadAuthors()).willReturn(Set.of());
+            given(postRepository.findViewsByIds(List.of(50L, 40L, 30L)))
+                .willReturn(List.of(postView(50L)));
+            given(postRepository.findViewsByIds(List.of(20L, 10L)))
+                .willReturn(List.of(postView(20L), postView(10L)));
+
+            // when
+            CursorSlice<PostView> feed = feedService.getFeed(user, CursorRequest.first(SIZE));
+
+            // then
+            assertThat(feed.content()).extracting(PostView::id).containsExactly(50L, 20L);
+            assertThat(feed.nextCursor()).isEqualTo(new Cursor(BASE_TIME.plusSeconds(20L), 20L));
+        }
+
+        @DisplayName("삭제된 게시물은 건너뛰고 반환")
+        @Test
+        void given_DeletedPostInTimeline_when_GetFeed_then_SkipMissingPost() {
+            // given
+            given(timelineStore.read(USER_ID, null, SIZE + 1)).willReturn(List.of(30L, 20L));
+            given(timelineStore.getFanoutOnReadAuthors()).willReturn(Set.of());
+            given(postRepository.findViewsByIds(any())).willReturn(List.of(postView(20L)));
+
+            // when
+            CursorSlice<PostView> feed = feedService.getFeed(user, CursorRequest.first(SIZE));
+
+            // then
+            assertThat(feed.content()).extracting(PostView::id).containsExactly(20L);
+            assertThat(feed.hasNext()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.sillysillyman.core.domain.follow.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.domain.follow.event.FollowChangedEvent;
+import io.sillysillyman.core.domain.follow.properties.FollowGraphProperties;
+import io.sillysillyman.core.domain.follow.repository.FollowRepository;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class FollowGraphTest {
+
+    private static final long FOLLOWER_ID = 1L;
+    private static final long FOLLOWEE_ID = 2L;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private FollowGraph followGraph;
+
+    @BeforeEach
+    void setUp() {
+        followGraph = new FollowGraph(
+            followRepository,
+            transactionTemplate,
+            new FollowGraphProperties(),
+            new SimpleMeterRegistry()
+        );
+    }
+
+    private void givenTransactionsExecuted() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @DisplayName("팔로우 변경 반영")
+    @Nested
+    class OnFollowChanged {
+
+        @DisplayName("캐시된 사용자는 DB 를 다시 읽지 않고 변경 반영")
+        @Test
+        void given_CachedUser_when_OnFollowChanged_then_ApplyChange() {
+            // given
+            givenTransactionsExecuted();
+            given(followRepository.streamFolloweeIds(FOLLOWER_ID)).willReturn(Stream.empty());
+            followGraph.getFollowingCount(FOLLOWER_ID);
+
+            // when
+            followGraph.onFollowChanged(FollowChangedEvent.followed(FOLLOWER_ID, FOLLOWEE_ID));
+
+            // then
+            assertThat(followGraph.isFollowing(FOLLOWER_ID, FOLLOWEE_ID)).isTrue();
+            then(followRepository).should().streamFolloweeIds(FOLLOWER_ID);
+        }
+
+        @DisplayName("캐시에 없는 사용자는 변경 때문에 로드하지 않음")
+        @Test
+        void given_UncachedUser_when_OnFollowChanged_then_SkipLoading() {
+            // when
+            followGraph.onFollowChanged(FollowChangedEvent.followed(FOLLOWER_ID, FOLLOWEE_ID));
+
+            // then
+            then(followRepository).shouldHaveNoInteractions();
+        }
+
+        @DisplayName("로드 도중 커밋된 변경은 로드가 끝난 뒤 반영")
+        @Test
+        void given_LoadInFlight_when_OnFollowChanged_then_ApplyAfterLoad() throws Exception {
+            // given
+            CountDownLatch loadStarted = new CountDownLatch(1);
+            CountDownLatch releaseLoad = new CountDownLatch(1);
+            givenTransactionsExecuted();
+            given(followRepository.streamFolloweeIds(FOLLOWER_ID)).willAnswer(invocation -> {
+                loadStarted.countDown();
+                releaseLoad.await();
+                // 변경이 커밋되기 전의 스냅샷
+                return Stream.empty();
+            });
+            Thread reader = new Thread(() -> followGraph.getFollowingCount(FOLLOWER_ID));
+            reader.start();
+            assertThat(loadStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            Thread writer = new Thread(() -> followGraph.onFollowChanged(
+                FollowChangedEvent.followed(FOLLOWER_ID, FOLLOWEE_ID)
+            ));
+            writer.start();
+            while (writer.getState() == Thread.State.NEW
+                || writer.getState() == Thread.State.RUNNABLE) {
+                Thread.onSpinWait();
+            }
+            releaseLoad.countDown();
+            reader.join();
+            writer.join();
+
+            // then
+            assertThat(followGraph.isFollowing(FOLLOWER_ID, FOLLOWEE_ID)).isTrue();
+        }
+    }
+}
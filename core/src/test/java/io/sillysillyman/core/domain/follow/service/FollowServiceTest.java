@@ -0,0 +1,186 @@
+package io.sillysillyman.core.domain.follow.service;
+
+import static io.sillysillyman.core.common.constants.TestConstants.NON_EXISTENT_ID;
+import static io.sillysillyman.core.common.constants.TestConstants.UNAUTHORIZED_USER_ID;
+import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createUserEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import io.sillysillyman.core.common.id.IdGenerator;
+import io.sillysillyman.core.domain.follow.event.FollowChangedEvent;
+import io.sillysillyman.core.domain.follow.exception.FollowErrorCode;
+import io.sillysillyman.core.domain.follow.exception.detail.SelfFollowException;
+import io.sillysillyman.core.domain.follow.graph.FollowGraph;
+import io.sillysillyman.core.domain.follow.repository.FollowRepository;
+import io.sillysillyman.core.domain.user.User;
+import io.sillysillyman.core.domain.user.exception.UserErrorCode;
+import io.sillysillyman.core.domain.user.exception.detail.UserNotFoundException;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class FollowServiceTest {
+
+    private static final long FOLLOW_ID = 100L;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FollowGraph followGraph;
+
+    @Mock
+    private IdGenerator idGenerator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private FollowService followService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.from(createUserEntity());
+    }
+
+    @DisplayName("팔로우")
+    @Nested
+    class Follow {
+
+        @DisplayName("새 관계를 저장하면 변경 이벤트 발행")
+        @Test
+        void given_NewFollowee_when_Follow_then_PublishFollowedEvent() {
+            // given
+            given(userRepository.existsByIdAndDeletedAtIsNull(UNAUTHORIZED_USER_ID))
+                .willReturn(true);
+            given(idGenerator.nextId()).willReturn(FOLLOW_ID);
+            given(followRepository.insertIfAbsent(
+                eq(FOLLOW_ID),
+                eq(USER_ID),
+                eq(UNAUTHORIZED_USER_ID),
+                any()
+            )).willReturn(1);
+
+            // when
+            followService.follow(UNAUTHORIZED_USER_ID, user);
+
+            // then
+            then(eventPublisher).should()
+                .publishEvent(FollowChangedEvent.followed(USER_ID, UNAUTHORIZED_USER_ID));
+        }
+
+        @DisplayName("이미 팔로우 중이면 이벤트를 발행하지 않음")
+        @Test
+        void given_AlreadyFollowing_when_Follow_then_PublishNothing() {
+            // given
+            given(userRepository.existsByIdAndDeletedAtIsNull(UNAUTHORIZED_USER_ID))
+                .willReturn(true);
+            given(idGenerator.nextId()).willReturn(FOLLOW_ID);
+            given(followRepository.insertIfAbsent(
+                eq(FOLLOW_ID),
+                eq(USER_ID),
+                eq(UNAUTHORIZED_USER_ID),
+                any()
+            )).willReturn(0);
+
+            // when
+            followService.follow(UNAUTHORIZED_USER_ID, user);
+
+            // then
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @DisplayName("자기 자신은 팔로우 불가")
+        @Test
+        void given_Self_when_Follow_then_ThrowSelfFollowException() {
+            // when & then
+            assertThatThrownBy(() -> followService.follow(USER_ID, user))
+                .isInstanceOf(SelfFollowException.class)
+                .hasMessage(FollowErrorCode.SELF_FOLLOW.getMessage());
+            then(followRepository).shouldHaveNoInteractions();
+        }
+
+        @DisplayName("존재하지 않거나 탈퇴한 사용자는 팔로우 불가")
+        @Test
+        void given_NonExistentFollowee_when_Follow_then_ThrowUserNotFoundException() {
+            // given
+            given(userRepository.existsByIdAndDeletedAtIsNull(NON_EXISTENT_ID)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> followService.follow(NON_EXISTENT_ID, user))
+                .isInstanceOf(UserNotFoundException.class)
+                .hasMessage(UserErrorCode.USER_NOT_FOUND.getMessage());
+            then(followRepository).should(never())
+                .insertIfAbsent(anyLong(), any(), any(), any());
+        }
+    }
+
+    @DisplayName("언팔로우")
+    @Nested
+    class Unfollow {
+
+        @DisplayName("관계를 삭제하면 변경 이벤트 발행")
+        @Test
+        void given_Following_when_Unfollow_then_PublishUnfollowedEvent() {
+            // given
+            given(followRepository.deleteByFollowerIdAndFolloweeId(USER_ID, UNAUTHORIZED_USER_ID))
+                .willReturn(1);
+
+            // when
+            followService.unfollow(UNAUTHORIZED_USER_ID, user);
+
+            // then
+            then(eventPublisher).should()
+                .publishEvent(FollowChangedEvent.unfollowed(USER_ID, UNAUTHORIZED_USER_ID));
+        }
+
+        @DisplayName("팔로우 중이 아니면 이벤트를 발행하지 않음")
+        @Test
+        void given_NotFollowing_when_Unfollow_then_PublishNothing() {
+            // given
+            given(followRepository.deleteByFollowerIdAndFolloweeId(USER_ID, UNAUTHORIZED_USER_ID))
+                .willReturn(0);
+
+            // when
+            followService.unfollow(UNAUTHORIZED_USER_ID, user);
+
+            // then
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+    }
+
+    @DisplayName("팔로우 관계 조회는 인접 리스트 캐시에서 처리")
+    @Test
+    void given_FollowGraph_when_GetFollowStats_then_ReadFromGraph() {
+        // given
+        given(followGraph.isFollowing(USER_ID, UNAUTHORIZED_USER_ID)).willReturn(true);
+        given(followGraph.getFollowerCount(UNAUTHORIZED_USER_ID)).willReturn(3);
+        given(followGraph.getFollowingCount(UNAUTHORIZED_USER_ID)).willReturn(5);
+
+        // when & then
+        assertThat(followService.isFollowing(USER_ID, UNAUTHORIZED_USER_ID)).isTrue();
+        assertThat(followService.getFollowerCount(UNAUTHORIZED_USER_ID)).isEqualTo(3);
+        assertThat(followService.getFollowingCount(UNAUTHORIZED_USER_ID)).isEqualTo(5);
+        then(followRepository).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,166 @@
+package io.sillysillyman.core.domain.follow.service;
+
+import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createUserEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.domain.follow.event.FollowChangedEvent;
+import io.sillysillyman.core.domain.follow.graph.FollowGraph;
+import io.sillysillyman.core.domain.follow.properties.FollowSuggestionProperties;
+import io.sillysillyman.core.domain.follow.query.FollowSuggestion;
+import io.sillysillyman.core.domain.follow.suggestion.SecondDegreeWalker;
+import io.sillysillyman.core.domain.follow.suggestion.SuggestionRanking;
+import io.sillysillyman.core.domain.user.User;
+import io.sillysillyman.core.domain.user.query.UserView;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FollowSuggestionServiceTest {
+
+    private static final long ASYNC_TIMEOUT_MILLIS = 1_000L;
+
+    private static final SuggestionRanking RANKING = new SuggestionRanking(
+        new long[]{10L, 20L, 30L},
+        new int[]{3, 2, 1}
+    );
+
+    @Mock
+    private FollowGraph followGraph;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SecondDegreeWalker secondDegreeWalker;
+
+    private FollowSuggestionService followSuggestionService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        followSuggestionService = new FollowSuggestionService(
+            followGraph,
+            userRepository,
+            secondDegreeWalker,
+            new FollowSuggestionProperties(),
+            new SimpleMeterRegistry()
+        );
+        user = User.from(createUserEntity());
+    }
+
+    @AfterEach
+    void tearDown() {
+        followSuggestionService.destroy();
+    }
+
+    @DisplayName("팔로우 추천 조회")
+    @Nested
+    class GetSuggestions {
+
+        @DisplayName("순위대로 활성 사용자만 요청한 수만큼 반환")
+        @Test
+        void given_Ranking_when_GetSuggestions_then_ReturnActiveUsersInOrder() {
+            // given
+            given(secondDegreeWalker.walk(USER_ID)).willReturn(RANKING);
+            given(userRepository.findActiveViewsByIds(List.of(10L, 20L, 30L))).willReturn(
+                List.of(new UserView(30L, "third"), new UserView(10L, "first"))
+            );
+
+            // when
+            List<FollowSuggestion> suggestions = followSuggestionService.getSuggestions(user, 5);
+
+            // then
+            assertThat(suggestions).containsExactly(
+                new FollowSuggestion(new UserView(10L, "first"), 3),
+                new FollowSuggestion(new UserView(30L, "third"), 1)
+            );
+        }
+
+        @DisplayName("순위 계산 이후 팔로우한 사용자는 제외")
+        @Test
+        void given_FollowedAfterRanking_when_GetSuggestions_then_ExcludeFollowed() {
+            // given
+            given(secondDegreeWalker.walk(USER_ID)).willReturn(RANKING);
+            given(followGraph.isFollowing(USER_ID, 10L)).willReturn(true);
+            given(userRepository.findActiveViewsByIds(List.of(20L, 30L))).willReturn(
+                List.of(new UserView(20L, "second"), new UserView(30L, "third"))
+            );
+
+            // when
+            List<FollowSuggestion> suggestions = followSuggestionService.getSuggestions(user, 1);
+
+            // then
+            assertThat(suggestions).containsExactly(
+                new FollowSuggestion(new UserView(20L, "second"), 2)
+            );
+        }
+
+        @DisplayName("두 번째 조회는 캐시된 순위 사용")
+        @Test
+        void given_CachedRanking_when_GetSuggestionsAgain_then_DoNotWalk() {
+            // given
+            given(secondDegreeWalker.walk(USER_ID)).willReturn(SuggestionRanking.EMPTY);
+            followSuggestionService.getSuggestions(user, 5);
+
+            // when
+            List<FollowSuggestion> suggestions = followSuggestionService.getSuggestions(user, 5);
+
+            // then
+            assertThat(suggestions).isEmpty();
+            then(secondDegreeWalker).should(times(1)).walk(USER_ID);
+            then(userRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @DisplayName("팔로우 변경 반영")
+    @Nested
+    class OnFollowChanged {
+
+        @DisplayName("캐시에 없는 사용자는 다시 계산하지 않음")
+        @Test
+        void given_InactiveUser_when_OnFollowChanged_then_DoNotWalk() {
+            // when
+            followSuggestionService.onFollowChanged(FollowChangedEvent.followed(USER_ID, 10L));
+
+            // then
+            then(secondDegreeWalker).should(never()).walk(USER_ID);
+        }
+
+        @DisplayName("캐시에 있는 사용자는 전용 갱신 풀에서 다시 계산")
+        @Test
+        void given_ActiveUser_when_OnFollowChanged_then_WalkOnRefreshExecutor() {
+            // given
+            AtomicReference<String> refreshThread = new AtomicReference<>();
+            given(secondDegreeWalker.walk(USER_ID))
+                .willReturn(SuggestionRanking.EMPTY)
+                .willAnswer(invocation -> {
+                    refreshThread.set(Thread.currentThread().getName());
+                    return SuggestionRanking.EMPTY;
+                });
+            followSuggestionService.getSuggestions(user, 5);
+
+            // when
+            followSuggestionService.onFollowChanged(FollowChangedEvent.followed(USER_ID, 10L));
+
+            // then
+            then(secondDegreeWalker).should(timeout(ASYNC_TIMEOUT_MILLIS).times(2)).walk(USER_ID);
+            assertThat(refreshThread.get()).startsWith("follow-suggestion-refresh-");
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.sillysillyman.core.domain.follow.suggestion;
+
+import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.domain.follow.graph.FollowGraph;
+import io.sillysillyman.core.domain.follow.properties.FollowSuggestionProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SecondDegreeWalkerTest {
+
+    private static final int CANDIDATE_SIZE = 2;
+
+    @Mock
+    private FollowGraph followGraph;
+
+    private FollowSuggestionProperties followSuggestionProperties;
+    private SecondDegreeWalker secondDegreeWalker;
+
+    @BeforeEach
+    void setUp() {
+        followSuggestionProperties = new FollowSuggestionProperties();
+        followSuggestionProperties.setCandidateSize(CANDIDATE_SIZE);
+        followSuggestionProperties.getWalk().setPoolSize(2);
+        followSuggestionProperties.getWalk().setChunkSize(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        secondDegreeWalker.destroy();
+    }
+
+    private SecondDegreeWalker createWalker() {
+        return new SecondDegreeWalker(
+            followGraph,
+            followSuggestionProperties,
+            new SimpleMeterRegistry()
+        );
+    }
+
+    @DisplayName("2 단계 팔로우 탐색")
+    @Nested
+    class Walk {
+
+        @DisplayName("겹치는 팔로잉 수가 많은 순으로 후보 수만큼 반환")
+        @Test
+        void given_SecondDegreeFollows_when_Walk_then_RankByMutualCount() {
+            // given
+            secondDegreeWalker = createWalker();
+            given(followGraph.getFollowingIds(USER_ID)).willReturn(new long[]{2L, 3L, 4L});
+            given(followGraph.getFollowingIds(2L)).willReturn(new long[]{10L, 20L});
+            given(followGraph.getFollowingIds(3L)).willReturn(new long[]{10L, 30L});
+            given(followGraph.getFollowingIds(4L)).willReturn(new long[]{10L, 20L, 40L});
+
+            // when
+            SuggestionRanking ranking = secondDegreeWalker.walk(USER_ID);
+
+            // then
+            assertThat(ranking.userIds()).containsExactly(10L, 20L);
+            assertThat(ranking.mutualCounts()).containsExactly(3, 2);
+        }
+
+        @DisplayName("자기 자신과 이미 팔로우 중인 사용자는 제외")
+        @Test
+        void given_SelfAndFollowedUsers_when_Walk_then_ExcludeThem() {
+            // given
+            secondDegreeWalker = createWalker();
+            given(followGraph.getFollowingIds(USER_ID)).willReturn(new long[]{2L, 3L});
+            given(followGraph.getFollowingIds(2L)).willReturn(new long[]{USER_ID, 3L, 30L});
+            given(followGraph.getFollowingIds(3L)).willReturn(new long[]{USER_ID, 2L});
+
+            // when
+            SuggestionRanking ranking = secondDegreeWalker.walk(USER_ID);
+
+            // then
+            assertThat(ranking.userIds()).containsExactly(30L);
+            assertThat(ranking.mutualCounts()).containsExactly(1);
+        }
+
+        @DisplayName("팔로잉별 탐색 상한을 넘는 이웃은 세지 않음")
+        @Test
+        void given_MaxFollowingsPerFollowee_when_Walk_then_CountOnlyWithinLimit() {
+            // given
+            followSuggestionProperties.getWalk().setMaxFollowingsPerFollowee(1);
+            secondDegreeWalker = createWalker();
+            given(followGraph.getFollowingIds(USER_ID)).willReturn(new long[]{2L, 3L});
+            given(followGraph.getFollowingIds(2L)).willReturn(new long[]{10L, 20L});
+            given(followGraph.getFollowingIds(3L)).willReturn(new long[]{20L, 30L});
+
+            // when
+            SuggestionRanking ranking = secondDegreeWalker.walk(USER_ID);
+
+            // then
+            assertThat(ranking.userIds()).containsExactly(10L, 20L);
+            assertThat(ranking.mutualCounts()).containsExactly(1, 1);
+        }
+
+        @DisplayName("팔로잉별 탐색 상한을 넘으면 앞쪽만이 아니라 전체에서 고르게 표본 추출")
+        @Test
+        void given_ManyNeighbors_when_Walk_then_SampleAcrossWholeList() {
+            // given
+            followSuggestionProperties.getWalk().setMaxFollowingsPerFollowee(2);
+            secondDegreeWalker = createWalker();
+            given(followGraph.getFollowingIds(USER_ID)).willReturn(new long[]{2L});
+            given(followGraph.getFollowingIds(2L)).willReturn(new long[]{10L, 20L, 30L, 40L});
+
+            // when
+            SuggestionRanking ranking = secondDegreeWalker.walk(USER_ID);
+
+            // then
+            assertThat(ranking.userIds()).containsExactly(10L, 30L);
+        }
+
+        @DisplayName("탐색할 팔로잉 상한을 넘으면 전체 팔로잉에서 고르게 표본 추출")
+        @Test
+        void given_ManyFollowings_when_Walk_then_SampleAcrossWholeList() {
+            // given
+            followSuggestionProperties.getWalk().setMaxFollowings(2);
+            secondDegreeWalker = createWalker();
+            given(followGraph.getFollowingIds(USER_ID)).willReturn(new long[]{2L, 3L, 4L, 5L});
+            given(followGraph.getFollowingIds(2L)).willReturn(new long[]{20L});
+            given(followGraph.getFollowingIds(4L)).willReturn(new long[]{40L});
+
+            // when
+            SuggestionRanking ranking = secondDegreeWalker.walk(USER_ID);
+
+            // then
+            assertThat(ranking.userIds()).containsExactly(20L, 40L);
+        }
+
+        @DisplayName("팔로잉이 없으면 빈 결과 반환")
+        @Test
+        void given_NoFollowings_when_Walk_then_ReturnEmpty() {
+            // given
+            secondDegreeWalker = createWalker();
+            given(followGraph.getFollowingIds(USER_ID)).willReturn(new long[0]);
+
+            // when
+            SuggestionRanking ranking = secondDegreeWalker.walk(USER_ID);
+
+            // then
+            assertThat(ranking.size()).isZero();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package io.sillysillyman.core.domain.like.service;
+
+import static io.sillysillyman.core.common.constants.TestConstants.ANOTHER_POST_ID;
+import static io.sillysillyman.core.common.constants.TestConstants.NON_EXISTENT_ID;
+import static io.sillysillyman.core.common.constants.TestConstants.POST_ID;
+import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createUserEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import io.sillysillyman.core.common.id.IdGenerator;
+import io.sillysillyman.core.domain.like.event.PostLikeChangedEvent;
+import io.sillysillyman.core.domain.like.repository.PostLikeRepository;
+import io.sillysillyman.core.domain.post.exception.PostErrorCode;
+import io.sillysillyman.core.domain.post.exception.detail.PostNotFoundException;
+import io.sillysillyman.core.domain.post.service.PostService;
+import io.sillysillyman.core.domain.user.User;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class PostLikeServiceTest {
+
+    private static final long LIKE_ID = 100L;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private IdGenerator idGenerator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PostLikeService postLikeService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.from(createUserEntity());
+    }
+
+    @DisplayName("좋아요")
+    @Nested
+    class Like {
+
+        @DisplayName("새 좋아요를 저장하면 변경 이벤트 발행")
+        @Test
+        void given_NewLike_when_Like_then_PublishLikedEvent() {
+            // given
+            given(idGenerator.nextId()).willReturn(LIKE_ID);
+            given(postLikeRepository.insertIfAbsent(eq(LIKE_ID), eq(POST_ID), eq(USER_ID), any()))
+                .willReturn(1);
+
+            // when
+            postLikeService.like(POST_ID, user);
+
+            // then
+            then(eventPublisher).should().publishEvent(PostLikeChangedEvent.liked(POST_ID));
+        }
+
+        @DisplayName("이미 좋아요를 눌렀으면 이벤트를 발행하지 않음")
+        @Test
+        void given_AlreadyLiked_when_Like_then_PublishNothing() {
+            // given
+            given(idGenerator.nextId()).willReturn(LIKE_ID);
+            given(postLikeRepository.insertIfAbsent(eq(LIKE_ID), eq(POST_ID), eq(USER_ID), any()))
+                .willReturn(0);
+
+            // when
+            postLikeService.like(POST_ID, user);
+
+            // then
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+
+        @DisplayName("존재하지 않는 게시물에 좋아요 실패")
+        @Test
+        void given_NonExistentPost_when_Like_then_ThrowPostNotFoundException() {
+            // given
+            willThrow(new PostNotFoundException(PostErrorCode.POST_NOT_FOUND))
+                .given(postService).validatePostExists(NON_EXISTENT_ID);
+
+            // when & then
+            assertThatThrownBy(() -> postLikeService.like(NON_EXISTENT_ID, user))
+                .isInstanceOf(PostNotFoundException.class)
+                .hasMessage(PostErrorCode.POST_NOT_FOUND.getMessage());
+            then(postLikeRepository).should(never())
+                .insertIfAbsent(anyLong(), any(), any(), any());
+        }
+    }
+
+    @DisplayName("좋아요 취소")
+    @Nested
+    class Unlike {
+
+        @DisplayName("좋아요를 지우면 변경 이벤트 발행")
+        @Test
+        void given_ExistingLike_when_Unlike_then_PublishUnlikedEvent() {
+            // given
+            given(postLikeRepository.deleteByPostIdAndUserId(POST_ID, USER_ID)).willReturn(1);
+
+            // when
+            postLikeService.unlike(POST_ID, user);
+
+            // then
+            then(eventPublisher).should().publishEvent(PostLikeChangedEvent.unliked(POST_ID));
+        }
+
+        @DisplayName("좋아요를 누르지 않았으면 이벤트를 발행하지 않음")
+        @Test
+        void given_NotLiked_when_Unlike_then_PublishNothing() {
+            // given
+            given(postLikeRepository.deleteByPostIdAndUserId(POST_ID, USER_ID)).willReturn(0);
+
+            // when
+            postLikeService.unlike(POST_ID, user);
+
+            // then
+            then(eventPublisher).shouldHaveNoInteractions();
+        }
+    }
+
+    @DisplayName("좋아요 여부 일괄 조회")
+    @Nested
+    class GetLikedPostIds {
+
+        @DisplayName("한 번의 조회로 좋아요한 게시물 ID 만 반환")
+        @Test
+        void given_PostIds_when_GetLikedPostIds_then_ReturnLikedOnly() {
+            // given
+            List<Long> postIds = List.of(POST_ID, ANOTHER_POST_ID);
+            given(postLikeRepository.findLikedPostIds(USER_ID, postIds))
+                .willReturn(List.of(POST_ID));
+
+            // when
+            Set<Long> likedPostIds = postLikeService.getLikedPostIds(USER_ID, postIds);
+
+            // then
+            assertThat(likedPostIds).containsExactly(POST_ID);
+        }
+
+        @DisplayName("게시물이 없으면 조회하지 않음")
+        @Test
+        void given_NoPostIds_when_GetLikedPostIds_then_DoNotQuery() {
+            // when
+            Set<Long> likedPostIds = postLikeService.getLikedPostIds(USER_ID, List.of());
+
+            // then
+            assertThat(likedPostIds).isEmpty();
+            then(postLikeRepository).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -12,6 +12,7 @@ import static io.sillysillyman.core.common.constants.TestConstants.UPDATED_CONTE
 import static io.sillysillyman.core.common.constants.TestConstants.USERNAME;
 import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createPostEntity;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createPostView;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createUnauthorizedUserEntity;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createUserEntity;
 import static io.sillysillyman.core.common.utils.TestUtils.assertPageProperties;
@@ -23,15 +24,20 @@ import static org.mockito.BDDMockito.then;
 
 import io.sillysillyman.core.auth.exception.AuthErrorCode;
 import io.sillysillyman.core.auth.exception.detail.ForbiddenAccessException;
+import io.sillysillyman.core.common.cache.ApproximateCountCache;
+import io.sillysillyman.core.domain.like.repository.PostLikeRepository;
 import io.sillysillyman.core.domain.post.Post;
 import io.sillysillyman.core.domain.post.PostEntity;
 import io.sillysillyman.core.domain.post.command.CreatePostCommand;
 import io.sillysillyman.core.domain.post.command.UpdatePostCommand;
+import io.sillysillyman.core.domain.post.event.PostCreatedEvent;
 import io.sillysillyman.core.domain.post.exception.PostErrorCode;
 import io.sillysillyman.core.domain.post.exception.detail.PostNotFoundException;
+import io.sillysillyman.core.domain.post.query.PostView;
 import io.sillysillyman.core.domain.post.repository.PostRepository;
 import io.sillysillyman.core.domain.user.User;
 import io.sillysillyman.core.domain.user.UserEntity;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
@@ -47,6 +53,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -59,6 +66,18 @@ class PostServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ApproximateCountCache approximateCountCache;
+
     @InjectMocks
     private PostService postService;
 
@@ -135,17 +154,24 @@ class PostServiceTest {
 
             PostEntity savedPostEntity = createPostEntity(userEntity);
 
+            given(userRepository.getReferenceById(USER_ID)).willReturn(userEntity);
             given(postRepository.save(any(PostEntity.class))).willReturn(savedPostEntity);
 
             // when
-            Post post = postService.createPost(command, user);
+            PostView post = postService.createPost(command, user);
 
             // then
-            assertThat(post.getContent()).isEqualTo(CONTENT);
-            assertThat(post.getUser().getId()).isEqualTo(USER_ID);
+            assertThat(post.content()).isEqualTo(CONTENT);
+            assertThat(post.user().id()).isEqualTo(USER_ID);
+            assertThat(post.user().username()).isEqualTo(USERNAME);
 
+            then(userRepository).should().getReferenceById(USER_ID);
+            then(userRepository).shouldHaveNoMoreInteractions();
             then(postRepository).should().save(any(PostEntity.class));
             then(postRepository).shouldHaveNoMoreInteractions();
+            then(approximateCountCache).should().invalidate("user-posts", USER_ID);
+            then(eventPublisher).should()
+                .publishEvent(new PostCreatedEvent(savedPostEntity.getId(), USER_ID));
         }
     }
 
@@ -175,42 +201,42 @@ class PostServiceTest {
                     Sort.by("createdAt").descending()
                 );
 
-                List<PostEntity> postEntities = List.of(
-                    createPostEntity(
+                List<PostView> postViews = List.of(
+                    createPostView(
                         ANOTHER_POST_ID,
                         NEWER_POST_CONTENT,
                         NEWER_POST_CREATED_AT,
                         userEntity
                     ),
-                    createPostEntity(
+                    createPostView(
                         POST_ID,
                         OLDER_POST_CONTENT,
                         OLDER_POST_CREATED_AT,
                         userEntity
                     )
                 );
-                Page<PostEntity> postEntityPage = new PageImpl<>(
-                    postEntities,
+                Page<PostView> postViewPage = new PageImpl<>(
+                    postViews,
                     pageable,
-                    postEntities.size()
+                    postViews.size()
                 );
 
-                given(postRepository.findByUserId(USER_ID, pageable)).willReturn(postEntityPage);
+                given(postRepository.findViewsByUserId(USER_ID, pageable)).willReturn(postViewPage);
 
                 // when
-                Page<Post> postPage = postService.getUserPosts(USER_ID, pageable);
+                Page<PostView> postPage = postService.getUserPosts(USER_ID, pageable);
 
                 // then
                 assertPageProperties(postPage, 2, FIRST_PAGE_NUMBER, DEFAULT_PAGE_SIZE, 2,
                     posts -> {
-                        assertThat(posts.get(0).getContent()).isEqualTo(NEWER_POST_CONTENT);
-                        assertThat(posts.get(1).getContent()).isEqualTo(OLDER_POST_CONTENT);
+                        assertThat(posts.get(0).content()).isEqualTo(NEWER_POST_CONTENT);
+                        assertThat(posts.get(1).content()).isEqualTo(OLDER_POST_CONTENT);
                         posts.forEach(
-                            post -> assertThat(post.getUser().getId()).isEqualTo(USER_ID));
+                            post -> assertThat(post.user().id()).isEqualTo(USER_ID));
                     }
                 );
 
-                then(postRepository).should().findByUserId(USER_ID, pageable);
+                then(postRepository).should().findViewsByUserId(USER_ID, pageable);
                 then(postRepository).shouldHaveNoMoreInteractions();
             }
 
@@ -224,22 +250,22 @@ class PostServiceTest {
                     Sort.by("createdAt").descending()
                 );
 
-                Page<PostEntity> emptyPostEntityPage = new PageImpl<>(
+                Page<PostView> emptyPostViewPage = new PageImpl<>(
                     Collections.emptyList(),
                     pageable,
                     0
                 );
 
-                given(postRepository.findByUserId(USER_ID, pageable))
-                    .willReturn(emptyPostEntityPage);
+                given(postRepository.findViewsByUserId(USER_ID, pageable))
+                    .willReturn(emptyPostViewPage);
 
                 // when
-                Page<Post> postPage = postService.getUserPosts(USER_ID, pageable);
+                Page<PostView> postPage = postService.getUserPosts(USER_ID, pageable);
 
                 // then
                 assertPageProperties(postPage, 0, FIRST_PAGE_NUMBER, DEFAULT_PAGE_SIZE, 0);
 
-                then(postRepository).should().findByUserId(USER_ID, pageable);
+                then(postRepository).should().findViewsByUserId(USER_ID, pageable);
                 then(postRepository).shouldHaveNoMoreInteractions();
             }
 
@@ -253,14 +279,14 @@ class PostServiceTest {
                     Sort.by("createdAt").descending()
                 );
 
-                List<PostEntity> postEntities = List.of(
-                    createPostEntity(
+                List<PostView> postViews = List.of(
+                    createPostView(
                         ANOTHER_POST_ID,
                         SECOND_PAGE_NEWER_POST_CONTENT,
                         NEWER_POST_CREATED_AT,
                         userEntity
                     ),
-                    createPostEntity(
+                    createPostView(
                         POST_ID,
                         SECOND_PAGE_OLDER_POST_CONTENT,
                         OLDER_POST_CREATED_AT,
@@ -268,27 +294,27 @@ class PostServiceTest {
                     )
                 );
 
-                Page<PostEntity> postEntityPage = new PageImpl<>(postEntities, pageable, 12);
+                Page<PostView> postViewPage = new PageImpl<>(postViews, pageable, 12);
 
-                given(postRepository.findByUserId(USER_ID, pageable)).willReturn(postEntityPage);
+                given(postRepository.findViewsByUserId(USER_ID, pageable)).willReturn(postViewPage);
 
                 // when
-                Page<Post> postPage = postService.getUserPosts(USER_ID, pageable);
+                Page<PostView> postPage = postService.getUserPosts(USER_ID, pageable);
 
                 // then
                 assertPageProperties(postPage, 2, SECOND_PAGE_NUMBER, DEFAULT_PAGE_SIZE, 12,
                     content -> {
-                        assertThat(content.get(0).getContent()).isEqualTo(
+                        assertThat(content.get(0).content()).isEqualTo(
                             SECOND_PAGE_NEWER_POST_CONTENT);
-                        assertThat(content.get(1).getContent()).isEqualTo(
+                        assertThat(content.get(1).content()).isEqualTo(
                             SECOND_PAGE_OLDER_POST_CONTENT);
                         content.forEach(
-                            post -> assertThat(post.getUser().getId()).isEqualTo(USER_ID)
+                            post -> assertThat(post.user().id()).isEqualTo(USER_ID)
                         );
                     }
                 );
 
-                then(postRepository).should().findByUserId(USER_ID, pageable);
+                then(postRepository).should().findViewsByUserId(USER_ID, pageable);
                 then(postRepository).shouldHaveNoMoreInteractions();
             }
         }
@@ -307,14 +333,14 @@ class PostServiceTest {
                     Sort.by("createdAt").descending()
                 );
 
-                List<PostEntity> postEntities = List.of(
-                    createPostEntity(
+                List<PostView> postViews = List.of(
+                    createPostView(
                         ANOTHER_POST_ID,
                         NEWER_POST_CONTENT,
                         NEWER_POST_CREATED_AT,
                         userEntity
                     ),
-                    createPostEntity(
+                    createPostView(
                         POST_ID,
                         OLDER_POST_CONTENT,
                         OLDER_POST_CREATED_AT,
@@ -322,25 +348,25 @@ class PostServiceTest {
                     )
                 );
 
-                Page<PostEntity> postEntityPage = new PageImpl<>(postEntities, pageable, 2);
+                Page<PostView> postViewPage = new PageImpl<>(postViews, pageable, 2);
 
-                given(postRepository.findByUserId(USER_ID, pageable)).willReturn(postEntityPage);
+                given(postRepository.findViewsByUserId(USER_ID, pageable)).willReturn(postViewPage);
 
                 // when
-                Page<Post> postPage = postService.getMyPosts(user, pageable);
+                Page<PostView> postPage = postService.getMyPosts(user, pageable);
 
                 // then
                 assertPageProperties(postPage, 2, FIRST_PAGE_NUMBER, DEFAULT_PAGE_SIZE, 2,
                     content -> {
-                        assertThat(content.get(0).getContent()).isEqualTo(NEWER_POST_CONTENT);
-                        assertThat(content.get(1).getContent()).isEqualTo(OLDER_POST_CONTENT);
+                        assertThat(content.get(0).content()).isEqualTo(NEWER_POST_CONTENT);
+                        assertThat(content.get(1).content()).isEqualTo(OLDER_POST_CONTENT);
                         content.forEach(
-                            post -> assertThat(post.getUser().getId()).isEqualTo(USER_ID)
+                            post -> assertThat(post.user().id()).isEqualTo(USER_ID)
                         );
                     }
                 );
 
-                then(postRepository).should().findByUserId(USER_ID, pageable);
+                then(postRepository).should().findViewsByUserId(USER_ID, pageable);
                 then(postRepository).shouldHaveNoMoreInteractions();
             }
         }
@@ -356,20 +382,14 @@ class PostServiceTest {
             // given
             UpdatePostCommand command = () -> UPDATED_CONTENT;
 
-            PostEntity updatedPostEntity = createPostEntity(UPDATED_CONTENT, userEntity);
-
-            given(postRepository.findById(POST_ID)).willReturn(Optional.of(postEntity));
-            given(postRepository.save(any(PostEntity.class))).willReturn(updatedPostEntity);
+            given(postRepository.updateOwnedContent(POST_ID, USER_ID, UPDATED_CONTENT))
+                .willReturn(1L);
 
             // when
             postService.updatePost(POST_ID, command, user);
-            Post updatedPost = Post.from(updatedPostEntity);
 
             // then
-            assertThat(updatedPost.getContent()).isEqualTo(UPDATED_CONTENT);
-
-            then(postRepository).should().save(any(PostEntity.class));
-            then(postRepository).should().findById(POST_ID);
+            then(postRepository).should().updateOwnedContent(POST_ID, USER_ID, UPDATED_CONTENT);
             then(postRepository).shouldHaveNoMoreInteractions();
         }
 
@@ -379,7 +399,9 @@ class PostServiceTest {
             // given
             UpdatePostCommand command = () -> UPDATED_CONTENT;
 
-            given(postRepository.findById(NON_EXISTENT_ID)).willReturn(Optional.empty());
+            given(postRepository.updateOwnedContent(NON_EXISTENT_ID, USER_ID, UPDATED_CONTENT))
+                .willReturn(0L);
+            given(postRepository.existsById(NON_EXISTENT_ID)).willReturn(false);
 
             // when
             ThrowingCallable when = () -> postService.updatePost(NON_EXISTENT_ID, command, user);
@@ -389,8 +411,7 @@ class PostServiceTest {
                 .isInstanceOf(PostNotFoundException.class)
                 .hasMessage(PostErrorCode.POST_NOT_FOUND.getMessage());
 
-            then(postRepository).should().findById(NON_EXISTENT_ID);
-            then(postRepository).shouldHaveNoMoreInteractions();
+            then(postRepository).should().existsById(NON_EXISTENT_ID);
         }
 
         @Test
@@ -402,7 +423,14 @@ class PostServiceTest {
             UserEntity unauthorizedUserEntity = createUnauthorizedUserEntity();
             User unauthorizedUser = User.from(unauthorizedUserEntity);
 
-            given(postRepository.findById(POST_ID)).willReturn(Optional.of(postEntity));
+            given(
+                postRepository.updateOwnedContent(
+                    POST_ID,
+                    unauthorizedUser.getId(),
+                    UPDATED_CONTENT
+                )
+            ).willReturn(0L);
+            given(postRepository.existsById(POST_ID)).willReturn(true);
 
             // when
             ThrowingCallable when = () -> postService.updatePost(
@@ -416,8 +444,7 @@ class PostServiceTest {
                 .isInstanceOf(ForbiddenAccessException.class)
                 .hasMessage(AuthErrorCode.FORBIDDEN_ACCESS.getMessage());
 
-            then(postRepository).should().findById(POST_ID);
-            then(postRepository).shouldHaveNoMoreInteractions();
+            then(postRepository).should().existsById(POST_ID);
         }
     }
 
@@ -429,22 +456,24 @@ class PostServiceTest {
         @DisplayName("게시물 삭제 성공")
         void given_ExistingPost_when_DeletePost_then_DeleteSuccessfully() {
             // given
-            given(postRepository.findById(POST_ID)).willReturn(Optional.of(postEntity));
+            given(postRepository.deleteOwned(POST_ID, USER_ID)).willReturn(1L);
 
             // when
             postService.deletePost(POST_ID, user);
 
             // then
-            then(postRepository).should().findById(POST_ID);
-            then(postRepository).should().delete(any(PostEntity.class));
+            then(postLikeRepository).should().deleteByPostId(POST_ID);
+            then(postRepository).should().deleteOwned(POST_ID, USER_ID);
             then(postRepository).shouldHaveNoMoreInteractions();
+            then(approximateCountCache).should().invalidate("user-posts", USER_ID);
         }
 
         @Test
         @DisplayName("존재하지 않는 게시물 삭제 실패")
         void given_NonExistentPostId_when_DeletePost_then_ThrowPostNotFoundException() {
             // given
-            given(postRepository.findById(NON_EXISTENT_ID)).willReturn(Optional.empty());
+            given(postRepository.deleteOwned(NON_EXISTENT_ID, USER_ID)).willReturn(0L);
+            given(postRepository.existsById(NON_EXISTENT_ID)).willReturn(false);
 
             // when
             ThrowingCallable when = () -> postService.deletePost(NON_EXISTENT_ID, user);
@@ -454,8 +483,7 @@ class PostServiceTest {
                 .isInstanceOf(PostNotFoundException.class)
                 .hasMessage(PostErrorCode.POST_NOT_FOUND.getMessage());
 
-            then(postRepository).should().findById(NON_EXISTENT_ID);
-            then(postRepository).shouldHaveNoMoreInteractions();
+            then(postRepository).should().existsById(NON_EXISTENT_ID);
         }
 
         @Test
@@ -465,7 +493,8 @@ class PostServiceTest {
             UserEntity unauthorizedUserEntity = createUnauthorizedUserEntity();
             User unauthorizedUser = User.from(unauthorizedUserEntity);
 
-            given(postRepository.findById(POST_ID)).willReturn(Optional.of(postEntity));
+            given(postRepository.deleteOwned(POST_ID, unauthorizedUser.getId())).willReturn(0L);
+            given(postRepository.existsById(POST_ID)).willReturn(true);
 
             // when
             ThrowingCallable when = () -> postService.deletePost(POST_ID, unauthorizedUser);
@@ -475,8 +504,7 @@ class PostServiceTest {
                 .isInstanceOf(ForbiddenAccessException.class)
                 .hasMessage(AuthErrorCode.FORBIDDEN_ACCESS.getMessage());
 
-            then(postRepository).should().findById(POST_ID);
-            then(postRepository).shouldHaveNoMoreInteractions();
+            then(postRepository).should().existsById(POST_ID);
         }
     }
 }
@@ -12,8 +12,10 @@ import static io.sillysillyman.core.common.constants.TestConstants.SECOND_PAGE_N
 import static io.sillysillyman.core.common.constants.TestConstants.UPDATED_CONTENT;
 import static io.sillysillyman.core.common.constants.TestConstants.USER_ID;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createCommentEntity;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createCommentView;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createPostEntity;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createReplyEntity;
+import static io.sillysillyman.core.common.fixtures.TestFixtures.createReplyView;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createUnauthorizedUserEntity;
 import static io.sillysillyman.core.common.fixtures.TestFixtures.createUserEntity;
 import static io.sillysillyman.core.common.utils.TestUtils.assertPageProperties;
@@ -25,19 +27,22 @@ import static org.mockito.BDDMockito.then;
 
 import io.sillysillyman.core.auth.exception.AuthErrorCode;
 import io.sillysillyman.core.auth.exception.detail.ForbiddenAccessException;
-import io.sillysillyman.core.domain.comment.Comment;
+import io.sillysillyman.core.common.cache.ApproximateCountCache;
 import io.sillysillyman.core.domain.comment.CommentEntity;
+import io.sillysillyman.core.domain.comment.repository.CommentRepository;
 import io.sillysillyman.core.domain.comment.service.CommentService;
 import io.sillysillyman.core.domain.post.PostEntity;
-import io.sillysillyman.core.domain.reply.Reply;
 import io.sillysillyman.core.domain.reply.ReplyEntity;
 import io.sillysillyman.core.domain.reply.command.UpsertReplyCommand;
+import io.sillysillyman.core.domain.reply.event.ReplyCountChangedEvent;
 import io.sillysillyman.core.domain.reply.exception.ReplyErrorCode;
 import io.sillysillyman.core.domain.reply.exception.detail.ReplyNotBelongToCommentException;
 import io.sillysillyman.core.domain.reply.exception.detail.ReplyNotFoundException;
+import io.sillysillyman.core.domain.reply.query.ReplyView;
 import io.sillysillyman.core.domain.reply.repository.ReplyRepository;
 import io.sillysillyman.core.domain.user.User;
 import io.sillysillyman.core.domain.user.UserEntity;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -50,6 +55,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -64,11 +70,22 @@ public class ReplyServiceTest {
     @Mock
     private CommentService commentService;
 
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ApproximateCountCache approximateCountCache;
+
     @InjectMocks
     private ReplyService replyService;
 
     private User user;
-    private Comment comment;
     private UserEntity userEntity;
     private PostEntity postEntity;
     private CommentEntity commentEntity;
@@ -82,7 +99,6 @@ public class ReplyServiceTest {
         replyEntity = createReplyEntity(commentEntity, userEntity);
 
         user = User.from(userEntity);
-        comment = Comment.from(commentEntity);
     }
 
     @DisplayName("답글 생성")
@@ -97,19 +113,27 @@ public class ReplyServiceTest {
 
             ReplyEntity savedReplyEntity = createReplyEntity(commentEntity, userEntity);
 
-            given(commentService.getById(COMMENT_ID)).willReturn(comment);
+            given(commentService.getViewById(COMMENT_ID))
+                .willReturn(createCommentView(commentEntity));
+            given(commentRepository.getReferenceById(COMMENT_ID)).willReturn(commentEntity);
+            given(userRepository.getReferenceById(USER_ID)).willReturn(userEntity);
             given(replyRepository.save(any(ReplyEntity.class))).willReturn(savedReplyEntity);
 
             // when
-            Reply reply = replyService.createReply(COMMENT_ID, command, user);
+            ReplyView reply = replyService.createReply(COMMENT_ID, command, user);
 
             // then
-            assertThat(reply.getContent()).isEqualTo(CONTENT);
-            assertThat(reply.getComment().getId()).isEqualTo(COMMENT_ID);
-            assertThat(reply.getUser().getId()).isEqualTo(USER_ID);
+            assertThat(reply.content()).isEqualTo(CONTENT);
+            assertThat(reply.comment().id()).isEqualTo(COMMENT_ID);
+            assertThat(reply.user().id()).isEqualTo(USER_ID);
 
+            then(commentRepository).should().getReferenceById(COMMENT_ID);
+            then(commentRepository).shouldHaveNoMoreInteractions();
             then(replyRepository).should().save(any(ReplyEntity.class));
             then(replyRepository).shouldHaveNoMoreInteractions();
+            then(eventPublisher).should()
+                .publishEvent(ReplyCountChangedEvent.added(COMMENT_ID));
+            then(approximateCountCache).should().invalidate("comment-replies", COMMENT_ID);
         }
     }
 
@@ -128,36 +152,36 @@ public class ReplyServiceTest {
             // given
             Pageable pageable = PageRequest.of(FIRST_PAGE_NUMBER, DEFAULT_PAGE_SIZE);
 
-            List<ReplyEntity> replyEntities = List.of(
-                createReplyEntity(REPLY_ID, OLDER_REPLY_CONTENT, commentEntity, userEntity),
-                createReplyEntity(ANOTHER_REPLY_ID, NEWER_REPLY_CONTENT, commentEntity, userEntity)
+            List<ReplyView> replyViews = List.of(
+                createReplyView(REPLY_ID, OLDER_REPLY_CONTENT, commentEntity, userEntity),
+                createReplyView(ANOTHER_REPLY_ID, NEWER_REPLY_CONTENT, commentEntity, userEntity)
             );
 
-            Page<ReplyEntity> replyEntityPage = new PageImpl<>(
-                replyEntities,
+            Page<ReplyView> replyViewPage = new PageImpl<>(
+                replyViews,
                 pageable,
-                replyEntities.size()
+                replyViews.size()
             );
 
-            given(replyRepository.findByCommentId(COMMENT_ID, pageable))
-                .willReturn(replyEntityPage);
+            given(replyRepository.findViewsByCommentId(COMMENT_ID, pageable))
+                .willReturn(replyViewPage);
 
             // when
-            Page<Reply> replyPage = replyService.getReplies(COMMENT_ID, pageable);
+            Page<ReplyView> replyPage = replyService.getReplies(COMMENT_ID, pageable);
 
             // then
             assertPageProperties(replyPage, 2, FIRST_PAGE_NUMBER, DEFAULT_PAGE_SIZE, 2,
                 content -> {
-                    assertThat(content.get(0).getContent()).isEqualTo(OLDER_REPLY_CONTENT);
-                    assertThat(content.get(1).getContent()).isEqualTo(NEWER_REPLY_CONTENT);
+                    assertThat(content.get(0).content()).isEqualTo(OLDER_REPLY_CONTENT);
+                    assertThat(content.get(1).content()).isEqualTo(NEWER_REPLY_CONTENT);
                     content.forEach(reply -> {
-                        assertThat(reply.getComment().getId()).isEqualTo(COMMENT_ID);
-                        assertThat(reply.getUser().getId()).isEqualTo(USER_ID);
+                        assertThat(reply.comment().id()).isEqualTo(COMMENT_ID);
+                        assertThat(reply.user().id()).isEqualTo(USER_ID);
                     });
                 }
             );
 
-            then(replyRepository).should().findByCommentId(COMMENT_ID, pageable);
+            then(replyRepository).should().findViewsByCommentId(COMMENT_ID, pageable);
             then(replyRepository).shouldHaveNoMoreInteractions();
         }
 
@@ -167,22 +191,22 @@ public class ReplyServiceTest {
             // given
             Pageable pageable = PageRequest.of(FIRST_PAGE_NUMBER, DEFAULT_PAGE_SIZE);
 
-            Page<ReplyEntity> emptyReplyEntityPage = new PageImpl<>(
+            Page<ReplyView> emptyReplyViewPage = new PageImpl<>(
                 Collections.emptyList(),
                 pageable,
                 0
             );
 
-            given(replyRepository.findByCommentId(COMMENT_ID, pageable))
-                .willReturn(emptyReplyEntityPage);
+            given(replyRepository.findViewsByCommentId(COMMENT_ID, pageable))
+                .willReturn(emptyReplyViewPage);
 
             // when
-            Page<Reply> replyPage = replyService.getReplies(COMMENT_ID, pageable);
+            Page<ReplyView> replyPage = replyService.getReplies(COMMENT_ID, pageable);
 
             // then
             assertPageProperties(replyPage, 0, FIRST_PAGE_NUMBER, DEFAULT_PAGE_SIZE, 0);
 
-            then(replyRepository).should().findByCommentId(COMMENT_ID, pageable);
+            then(replyRepository).should().findViewsByCommentId(COMMENT_ID, pageable);
             then(replyRepository).shouldHaveNoMoreInteractions();
         }
 
@@ -192,14 +216,14 @@ public class ReplyServiceTest {
             // given
             Pageable pageable = PageRequest.of(SECOND_PAGE_NUMBER, DEFAULT_PAGE_SIZE);
 
-            List<ReplyEntity> replyEntities = List.of(
-                createReplyEntity(
+            List<ReplyView> replyViews = List.of(
+                createReplyView(
                     REPLY_ID,
                     SECOND_PAGE_OLDER_REPLY_CONTENT,
                     commentEntity,
                     userEntity
                 ),
-                createReplyEntity(
+                createReplyView(
                     ANOTHER_REPLY_ID,
                     SECOND_PAGE_NEWER_REPLY_CONTENT,
                     commentEntity,
@@ -207,31 +231,31 @@ public class ReplyServiceTest {
                 )
             );
 
-            Page<ReplyEntity> replyEntityPage = new PageImpl<>(replyEntities, pageable, 12);
+            Page<ReplyView> replyViewPage = new PageImpl<>(replyViews, pageable, 12);
 
-            given(replyRepository.findByCommentId(COMMENT_ID, pageable))
-                .willReturn(replyEntityPage);
+            given(replyRepository.findViewsByCommentId(COMMENT_ID, pageable))
+                .willReturn(replyViewPage);
 
             // when
-            Page<Reply> replyPage = replyService.getReplies(COMMENT_ID, pageable);
+            Page<ReplyView> replyPage = replyService.getReplies(COMMENT_ID, pageable);
 
             // then
             assertPageProperties(replyPage, 2, SECOND_PAGE_NUMBER, DEFAULT_PAGE_SIZE, 12,
                 content -> {
-                    assertThat(content.get(0).getContent()).isEqualTo(
+                    assertThat(content.get(0).content()).isEqualTo(
                         SECOND_PAGE_OLDER_REPLY_CONTENT
                     );
-                    assertThat(content.get(1).getContent()).isEqualTo(
+                    assertThat(content.get(1).content()).isEqualTo(
                         SECOND_PAGE_NEWER_REPLY_CONTENT
                     );
                     content.forEach(reply -> {
-                        assertThat(reply.getComment().getId()).isEqualTo(COMMENT_ID);
-                        assertThat(reply.getUser().getId()).isEqualTo(USER_ID);
+                        assertThat(reply.comment().id()).isEqualTo(COMMENT_ID);
+                        assertThat(reply.user().id()).isEqualTo(USER_ID);
                     });
                 }
             );
 
-            then(replyRepository).should().findByCommentId(COMMENT_ID, pageable);
+            then(replyRepository).should().findViewsByCommentId(COMMENT_ID, pageable);
             then(replyRepository).shouldHaveNoMoreInteractions();
         }
     }
@@ -246,24 +270,16 @@ public class ReplyServiceTest {
             // given
             UpsertReplyCommand command = () -> UPDATED_CONTENT;
 
-            ReplyEntity updatedReplyEntity = createReplyEntity(
-                UPDATED_CONTENT,
-                commentEntity,
-                userEntity
-            );
-
-            given(replyRepository.findById(REPLY_ID)).willReturn(Optional.of(replyEntity));
-            given(replyRepository.save(any(ReplyEntity.class))).willReturn(updatedReplyEntity);
+            given(
+                replyRepository.updateOwnedContent(COMMENT_ID, REPLY_ID, USER_ID, UPDATED_CONTENT)
+            ).willReturn(1L);
 
             // when
             replyService.updateReply(COMMENT_ID, REPLY_ID, command, user);
-            Reply updatedReply = Reply.from(updatedReplyEntity);
 
             // then
-            assertThat(updatedReply.getContent()).isEqualTo(UPDATED_CONTENT);
-
-            then(replyRepository).should().save(any(ReplyEntity.class));
-            then(replyRepository).should().findById(REPLY_ID);
+            then(replyRepository).should()
+                .updateOwnedContent(COMMENT_ID, REPLY_ID, USER_ID, UPDATED_CONTENT);
             then(replyRepository).shouldHaveNoMoreInteractions();
         }
 
@@ -273,6 +289,7 @@ public class ReplyServiceTest {
             // given
             UpsertReplyCommand command = () -> UPDATED_CONTENT;
 
+            given(replyRepository.updateOwnedContent(any(), any(), any(), any())).willReturn(0L);
             given(replyRepository.findById(NON_EXISTENT_ID)).willReturn(Optional.empty());
 
             // when
@@ -289,7 +306,6 @@ public class ReplyServiceTest {
                 .hasMessage(ReplyErrorCode.REPLY_NOT_FOUND.getMessage());
 
             then(replyRepository).should().findById(NON_EXISTENT_ID);
-            then(replyRepository).shouldHaveNoMoreInteractions();
         }
 
         @DisplayName("권한이 없는 사용자의 답글 수정 실패")
@@ -301,6 +317,7 @@ public class ReplyServiceTest {
             UserEntity unauthorizedUserEntity = createUnauthorizedUserEntity();
             User unauthorizedUser = User.from(unauthorizedUserEntity);
 
+            given(replyRepository.updateOwnedContent(any(), any(), any(), any())).willReturn(0L);
             given(replyRepository.findById(REPLY_ID)).willReturn(Optional.of(replyEntity));
 
             // when
@@ -317,7 +334,6 @@ public class ReplyServiceTest {
                 .hasMessage(AuthErrorCode.FORBIDDEN_ACCESS.getMessage());
 
             then(replyRepository).should().findById(REPLY_ID);
-            then(replyRepository).shouldHaveNoMoreInteractions();
         }
 
         @DisplayName("다른 게시글의 답글 수정 실패")
@@ -326,6 +342,7 @@ public class ReplyServiceTest {
             // given
             UpsertReplyCommand command = () -> UPDATED_CONTENT;
 
+            given(replyRepository.updateOwnedContent(any(), any(), any(), any())).willReturn(0L);
             given(replyRepository.findById(REPLY_ID)).willReturn(Optional.of(replyEntity));
 
             // when
@@ -342,7 +359,6 @@ public class ReplyServiceTest {
                 .hasMessage(ReplyErrorCode.REPLY_NOT_BELONG_TO_COMMENT.getMessage());
 
             then(replyRepository).should().findById(REPLY_ID);
-            then(replyRepository).shouldHaveNoMoreInteractions();
         }
     }
 
@@ -354,21 +370,24 @@ public class ReplyServiceTest {
         @Test
         void given_ExistingReply_when_DeleteReply_then_ReplyDeletedSuccessfully() {
             // given
-            given(replyRepository.findById(REPLY_ID)).willReturn(Optional.of(replyEntity));
+            given(replyRepository.deleteOwned(COMMENT_ID, REPLY_ID, USER_ID)).willReturn(1L);
 
             // when
             replyService.deleteReply(COMMENT_ID, REPLY_ID, user);
 
             // then
-            then(replyRepository).should().findById(REPLY_ID);
-            then(replyRepository).should().delete(any(ReplyEntity.class));
+            then(replyRepository).should().deleteOwned(COMMENT_ID, REPLY_ID, USER_ID);
             then(replyRepository).shouldHaveNoMoreInteractions();
+            then(eventPublisher).should()
+                .publishEvent(ReplyCountChangedEvent.removed(COMMENT_ID));
+            then(approximateCountCache).should().invalidate("comment-replies", COMMENT_ID);
         }
 
         @DisplayName("존재하지 않는 답글 삭제 실패")
         @Test
         void given_NonExistentReply_when_DeleteReply_then_ThrowReplyNotFoundException() {
             // given
+            given(replyRepository.deleteOwned(any(), any(), any())).willReturn(0L);
             given(replyRepository.findById(NON_EXISTENT_ID)).willReturn(Optional.empty());
 
             // when
@@ -384,7 +403,6 @@ public class ReplyServiceTest {
                 .hasMessage(ReplyErrorCode.REPLY_NOT_FOUND.getMessage());
 
             then(replyRepository).should().findById(NON_EXISTENT_ID);
-            then(replyRepository).shouldHaveNoMoreInteractions();
         }
 
         @DisplayName("권한이 없는 사용자의 답글 삭제 실패")
@@ -394,6 +412,7 @@ public class ReplyServiceTest {
             UserEntity unauthorizedUserEntity = createUnauthorizedUserEntity();
             User unauthorizedUser = User.from(unauthorizedUserEntity);
 
+            given(replyRepository.deleteOwned(any(), any(), any())).willReturn(0L);
             given(replyRepository.findById(REPLY_ID)).willReturn(Optional.of(replyEntity));
 
             // when
@@ -408,14 +427,14 @@ public class ReplyServiceTest {
                 .isInstanceOf(ForbiddenAccessException.class)
                 .hasMessage(AuthErrorCode.FORBIDDEN_ACCESS.getMessage());
 
-            then(replyRepository).should().findById(COMMENT_ID);
-            then(replyRepository).shouldHaveNoMoreInteractions();
+            then(replyRepository).should().findById(REPLY_ID);
         }
 
         @DisplayName("다른 댓글의 답글 삭제 실패")
         @Test
         void given_ReplyFromDifferentComment_when_DeleteReply_then_ThrowReplyNotBelongToCommentException() {
             // given
+            given(replyRepository.deleteOwned(any(), any(), any())).willReturn(0L);
             given(replyRepository.findById(REPLY_ID)).willReturn(Optional.of(replyEntity));
 
             // when
@@ -431,7 +450,6 @@ public class ReplyServiceTest {
                 .hasMessage(ReplyErrorCode.REPLY_NOT_BELONG_TO_COMMENT.getMessage());
 
             then(replyRepository).should().findById(REPLY_ID);
-            then(replyRepository).shouldHaveNoMoreInteractions();
         }
     }
 }
@@ -0,0 +1,235 @@
+package io.sillysillyman.core.domain.user.cache;
+
+import static io.sillysillyman.core.common.constants.TestConstants.USERNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.domain.user.properties.UsernameFilterProperties;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UsernameBloomFilterTest {
+
+    private static final int EXPECTED_INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UsernameFilterBus usernameFilterBus;
+
+    private MeterRegistry meterRegistry;
+    private UsernameBloomFilter usernameBloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        UsernameFilterProperties usernameFilterProperties = new UsernameFilterProperties();
+        usernameFilterProperties.setExpectedInsertions(EXPECTED_INSERTIONS);
+        usernameFilterProperties.setFalsePositiveProbability(FALSE_POSITIVE_PROBABILITY);
+
+        meterRegistry = new SimpleMeterRegistry();
+        usernameBloomFilter = new UsernameBloomFilter(
+            userRepository,
+            transactionTemplate,
+            usernameFilterProperties,
+            usernameFilterBus,
+            meterRegistry
+        );
+    }
+
+    private void givenUsernames(Stream<String> usernames) {
+        willAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+        given(userRepository.streamAllUsernames()).willReturn(usernames);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("username.filter.lookups").tag("result", result).counter()
+            .count();
+    }
+
+    @DisplayName("사용자명 존재 가능성 확인")
+    @Nested
+    class MightContain {
+
+        @DisplayName("재구성 전에는 모든 사용자명을 있을 수도 있음으로 판단")
+        @Test
+        void given_NotRebuilt_when_MightContain_then_ReturnTrue() {
+            // when
+            boolean mightContain = usernameBloomFilter.mightContain(USERNAME);
+
+            // then
+            assertThat(mightContain).isTrue();
+            assertThat(lookups("possible_hit")).isEqualTo(1);
+        }
+
+        @DisplayName("재구성 후 DB 의 사용자명은 있을 수도 있음, 없는 사용자명은 확실히 없음")
+        @Test
+        void given_Rebuilt_when_MightContain_then_DistinguishTakenUsernames() {
+            // given
+            givenUsernames(Stream.of(USERNAME));
+            usernameBloomFilter.rebuild();
+
+            // when & then
+            assertThat(usernameBloomFilter.mightContain(USERNAME)).isTrue();
+            assertThat(usernameBloomFilter.mightContain("available")).isFalse();
+            assertThat(lookups("definite_miss")).isEqualTo(1);
+        }
+
+        @DisplayName("회원가입으로 추가된 사용자명은 있을 수도 있음으로 판단")
+        @Test
+        void given_PutAfterRebuild_when_MightContain_then_ReturnTrue() {
+            // given
+            givenUsernames(Stream.empty());
+            usernameBloomFilter.rebuild();
+
+            // when
+            usernameBloomFilter.put(USERNAME);
+
+            // then
+            assertThat(usernameBloomFilter.mightContain(USERNAME)).isTrue();
+        }
+
+        @DisplayName("오탐률은 설정한 확률 근처로 유지")
+        @Test
+        void given_ExpectedInsertions_when_MightContain_then_KeepFalsePositiveRate() {
+            // given
+            givenUsernames(IntStream.range(0, EXPECTED_INSERTIONS).mapToObj(i -> "user" + i));
+            usernameBloomFilter.rebuild();
+
+            // when
+            long falsePositives = IntStream.range(0, EXPECTED_INSERTIONS)
+                .mapToObj(i -> "other" + i)
+                .filter(usernameBloomFilter::mightContain)
+                .count();
+
+            // then
+            assertThat(IntStream.range(0, EXPECTED_INSERTIONS)
+                .mapToObj(i -> "user" + i)
+                .allMatch(usernameBloomFilter::mightContain)).isTrue();
+            assertThat((double) falsePositives / EXPECTED_INSERTIONS)
+                .isLessThan(FALSE_POSITIVE_PROBABILITY * 2);
+        }
+
+        @DisplayName("대소문자만 다른 사용자명도 있을 수도 있음으로 판단")
+        @Test
+        void given_DifferentCase_when_MightContain_then_ReturnTrue() {
+            // given
+            givenUsernames(Stream.of("Tester"));
+            usernameBloomFilter.rebuild();
+            usernameBloomFilter.put("NewUser");
+
+            // when & then
+            assertThat(usernameBloomFilter.mightContain("tESTER")).isTrue();
+            assertThat(usernameBloomFilter.mightContain("newuser")).isTrue();
+        }
+
+        @DisplayName("재구성 도중 추가된 사용자명은 새 필터에도 반영")
+        @Test
+        void given_PutDuringRebuild_when_MightContain_then_ReturnTrue() {
+            // given
+            givenUsernames(
+                Stream.of("existing").peek(username -> usernameBloomFilter.put(USERNAME))
+            );
+
+            // when
+            usernameBloomFilter.rebuild();
+
+            // then
+            assertThat(usernameBloomFilter.mightContain(USERNAME)).isTrue();
+        }
+
+        @DisplayName("재구성 전에 추가되고 재구성 후 커밋된 사용자명도 새 필터에 반영")
+        @Test
+        void given_PutCommittedAfterRebuild_when_MightContain_then_ReturnTrue() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                usernameBloomFilter.put(USERNAME);
+                givenUsernames(Stream.empty());
+                usernameBloomFilter.rebuild();
+
+                // when
+                TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // then
+            assertThat(usernameBloomFilter.mightContain(USERNAME)).isTrue();
+        }
+    }
+
+    @DisplayName("사용자명 전파")
+    @Nested
+    class Broadcast {
+
+        @DisplayName("추가된 사용자명은 커밋 후에만 다른 노드로 전파")
+        @Test
+        void given_Transaction_when_Put_then_PublishAfterCommit() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                usernameBloomFilter.put("NewUser");
+                then(usernameFilterBus).should(never()).publish(any());
+
+                // when
+                TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // then
+            then(usernameFilterBus).should().publish("newuser");
+        }
+
+        @DisplayName("다른 노드에서 전파된 사용자명은 있을 수도 있음으로 판단")
+        @Test
+        void given_RemotePut_when_MightContain_then_ReturnTrue() {
+            // given
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Consumer<String>> listenerCaptor =
+                ArgumentCaptor.forClass(Consumer.class);
+            then(usernameFilterBus).should().subscribe(listenerCaptor.capture());
+            givenUsernames(Stream.empty());
+            usernameBloomFilter.rebuild();
+
+            // when
+            listenerCaptor.getValue().accept("newuser");
+
+            // then
+            assertThat(usernameBloomFilter.mightContain("NewUser")).isTrue();
+            assertThat(usernameBloomFilter.mightContain("available")).isFalse();
+        }
+    }
+}
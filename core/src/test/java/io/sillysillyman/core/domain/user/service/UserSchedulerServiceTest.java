@@ -0,0 +1,363 @@
+package io.sillysillyman.core.domain.user.service;
+
+import static io.sillysillyman.core.common.constants.TestConstants.BASE_TIME;
+import static io.sillysillyman.core.common.constants.TestConstants.USERNAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.sillysillyman.core.domain.comment.event.CommentCountChangedEvent;
+import io.sillysillyman.core.domain.comment.repository.CommentRepository;
+import io.sillysillyman.core.domain.follow.event.FollowChangedEvent;
+import io.sillysillyman.core.domain.follow.query.FollowEdge;
+import io.sillysillyman.core.domain.follow.repository.FollowRepository;
+import io.sillysillyman.core.domain.like.event.PostLikeChangedEvent;
+import io.sillysillyman.core.domain.like.repository.PostLikeRepository;
+import io.sillysillyman.core.domain.post.repository.PostRepository;
+import io.sillysillyman.core.domain.reply.event.ReplyCountChangedEvent;
+import io.sillysillyman.core.domain.reply.repository.ReplyRepository;
+import io.sillysillyman.core.domain.user.event.UsernameOwnerChangedEvent;
+import io.sillysillyman.core.domain.user.properties.UserPurgeProperties;
+import io.sillysillyman.core.domain.user.repository.UserRepository;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UserSchedulerServiceTest {
+
+    private static final int USER_CHUNK_SIZE = 2;
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ReplyRepository replyRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MeterRegistry meterRegistry;
+    private UserSchedulerService userSchedulerService;
+
+    @BeforeEach
+    void setUp() {
+        UserPurgeProperties userPurgeProperties = new UserPurgeProperties();
+        userPurgeProperties.setUserChunkSize(USER_CHUNK_SIZE);
+        userPurgeProperties.setChunkSize(CHUNK_SIZE);
+        userPurgeProperties.setPauseBetweenChunks(Duration.ZERO);
+
+        meterRegistry = new SimpleMeterRegistry();
+        userSchedulerService = new UserSchedulerService(
+            userRepository,
+            postRepository,
+            commentRepository,
+            replyRepository,
+            followRepository,
+            postLikeRepository,
+            transactionTemplate,
+            eventPublisher,
+            userPurgeProperties,
+            meterRegistry
+        );
+    }
+
+    private void givenTransactionsExecuted() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    private void givenNoChildren() {
+        given(replyRepository.findIdsByUserIdsOrCommentUserIdsOrPostUserIds(anyList(), anyInt()))
+            .willReturn(Collections.emptyList());
+        given(commentRepository.findIdsByUserIdsOrPostUserIds(anyList(), anyInt()))
+            .willReturn(Collections.emptyList());
+        given(postLikeRepository.findIdsByUserIdsOrPostUserIds(anyList(), anyInt()))
+            .willReturn(Collections.emptyList());
+        given(postRepository.findIdsByUserIds(anyList(), anyInt()))
+            .willReturn(Collections.emptyList());
+        // 게시물 삭제 단계에서 중단되는 테스트는 팔로우 삭제 단계까지 가지 않음
+        lenient().when(followRepository.findIdsByUserIds(anyList(), anyInt()))
+            .thenReturn(Collections.emptyList());
+    }
+
+    private double deleted(String entity) {
+        return meterRegistry.get("user.purge.deleted").tag("entity", entity).counter().count();
+    }
+
+    @DisplayName("보관 기간이 지난 탈퇴 사용자 삭제")
+    @Nested
+    class DeleteOldSoftDeletedUsers {
+
+        @DisplayName("삭제 대상이 없으면 아무것도 삭제하지 않음")
+        @Test
+        void given_NoSoftDeletedUsers_when_DeleteOldSoftDeletedUsers_then_DeleteNothing() {
+            // given
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 0L, USER_CHUNK_SIZE))
+                .willReturn(Collections.emptyList());
+
+            // when
+            long deletedCount = userSchedulerService.deleteOldSoftDeletedUsers(BASE_TIME);
+
+            // then
+            assertThat(deletedCount).isZero();
+            then(transactionTemplate).shouldHaveNoInteractions();
+        }
+
+        @DisplayName("답글, 댓글, 좋아요, 게시물, 팔로우, 사용자 순서로 삭제")
+        @Test
+        void given_UserWithContents_when_DeleteOldSoftDeletedUsers_then_DeleteChildrenFirst() {
+            // given
+            List<Long> userIds = List.of(1L);
+            givenTransactionsExecuted();
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 0L, USER_CHUNK_SIZE))
+                .willReturn(userIds);
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 1L, USER_CHUNK_SIZE))
+                .willReturn(Collections.emptyList());
+            given(replyRepository.findIdsByUserIdsOrCommentUserIdsOrPostUserIds(userIds, CHUNK_SIZE))
+                .willReturn(List.of(10L));
+            given(commentRepository.findIdsByUserIdsOrPostUserIds(userIds, CHUNK_SIZE))
+                .willReturn(List.of(20L));
+            given(postLikeRepository.findIdsByUserIdsOrPostUserIds(userIds, CHUNK_SIZE))
+                .willReturn(List.of(25L));
+            given(postRepository.findIdsByUserIds(userIds, CHUNK_SIZE))
+                .willReturn(List.of(30L));
+            given(followRepository.findIdsByUserIds(userIds, CHUNK_SIZE))
+                .willReturn(List.of(40L));
+
+            // when
+            long deletedCount = userSchedulerService.deleteOldSoftDeletedUsers(BASE_TIME);
+
+            // then
+            assertThat(deletedCount).isEqualTo(1);
+
+            InOrder inOrder = inOrder(
+                replyRepository,
+                commentRepository,
+                postLikeRepository,
+                postRepository,
+                followRepository,
+                userRepository
+            );
+            inOrder.verify(replyRepository).deleteAllByIdInBatch(List.of(10L));
+            inOrder.verify(commentRepository).deleteAllByIdInBatch(List.of(20L));
+            inOrder.verify(postLikeRepository).deleteAllByIdInBatch(List.of(25L));
+            inOrder.verify(postRepository).deleteAllByIdInBatch(List.of(30L));
+            inOrder.verify(followRepository).deleteAllByIdInBatch(List.of(40L));
+            inOrder.verify(userRepository).deleteAllByIdInBatch(userIds);
+        }
+
+        @DisplayName("삭제한 좋아요만큼 게시물 좋아요 수 감소")
+        @Test
+        void given_PostLikes_when_DeleteOldSoftDeletedUsers_then_PublishUnliked() {
+            // given
+            List<Long> userIds = List.of(1L);
+            givenTransactionsExecuted();
+            givenNoChildren();
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 0L, USER_CHUNK_SIZE))
+                .willReturn(userIds);
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 1L, USER_CHUNK_SIZE))
+                .willReturn(Collections.emptyList());
+            given(postLikeRepository.findIdsByUserIdsOrPostUserIds(userIds, CHUNK_SIZE))
+                .willReturn(List.of(25L));
+            given(postLikeRepository.findPostIdsByIds(List.of(25L))).willReturn(List.of(7L));
+
+            // when
+            userSchedulerService.deleteOldSoftDeletedUsers(BASE_TIME);
+
+            // then
+            then(eventPublisher).should().publishEvent(PostLikeChangedEvent.unliked(7L));
+            then(postLikeRepository).should().deleteAllByIdInBatch(List.of(25L));
+        }
+
+        @DisplayName("삭제한 댓글과 답글만큼 게시물 댓글 수와 댓글 답글 수 감소")
+        @Test
+        void given_CommentsAndReplies_when_DeleteOldSoftDeletedUsers_then_PublishRemoved() {
+            // given
+            List<Long> userIds = List.of(1L);
+            givenTransactionsExecuted();
+            givenNoChildren();
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 0L, USER_CHUNK_SIZE))
+                .willReturn(userIds);
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 1L, USER_CHUNK_SIZE))
+                .willReturn(Collections.emptyList());
+            given(replyRepository.findIdsByUserIdsOrCommentUserIdsOrPostUserIds(userIds, CHUNK_SIZE))
+                .willReturn(List.of(10L, 11L))
+                .willReturn(List.of());
+            given(replyRepository.findCommentIdsByIds(List.of(10L, 11L)))
+                .willReturn(List.of(8L, 8L));
+            given(commentRepository.findIdsByUserIdsOrPostUserIds(userIds, CHUNK_SIZE))
+                .willReturn(List.of(20L));
+            given(commentRepository.findPostIdsByIds(List.of(20L))).willReturn(List.of(7L));
+
+            // when
+            userSchedulerService.deleteOldSoftDeletedUsers(BASE_TIME);
+
+            // then
+            then(eventPublisher).should(times(2)).publishEvent(ReplyCountChangedEvent.removed(8L));
+            then(eventPublisher).should().publishEvent(CommentCountChangedEvent.removed(7L));
+            then(replyRepository).should().deleteAllByIdInBatch(List.of(10L, 11L));
+            then(commentRepository).should().deleteAllByIdInBatch(List.of(20L));
+        }
+
+        @DisplayName("삭제한 팔로우 관계는 언팔로우로 발행해 팔로우 그래프 캐시에서도 제거")
+        @Test
+        void given_Follows_when_DeleteOldSoftDeletedUsers_then_PublishUnfollowed() {
+            // given
+            List<Long> userIds = List.of(1L);
+            givenTransactionsExecuted();
+            givenNoChildren();
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 0L, USER_CHUNK_SIZE))
+                .willReturn(userIds);
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 1L, USER_CHUNK_SIZE))
+                .willReturn(Collections.emptyList());
+            given(followRepository.findIdsByUserIds(userIds, CHUNK_SIZE))
+                .willReturn(List.of(40L));
+            given(followRepository.findEdgesByIds(List.of(40L)))
+                .willReturn(List.of(new FollowEdge(1L, 3L)));
+
+            // when
+            userSchedulerService.deleteOldSoftDeletedUsers(BASE_TIME);
+
+            // then
+            then(eventPublisher).should().publishEvent(FollowChangedEvent.unfollowed(1L, 3L));
+            then(followRepository).should().deleteAllByIdInBatch(List.of(40L));
+        }
+
+        @DisplayName("삭제한 사용자의 사용자명은 사용자 정보 캐시를 비우도록 발행")
+        @Test
+        void given_Users_when_DeleteOldSoftDeletedUsers_then_PublishUsernameOwnerChanged() {
+            // given
+            List<Long> userIds = List.of(1L);
+            givenTransactionsExecuted();
+            givenNoChildren();
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 0L, USER_CHUNK_SIZE))
+                .willReturn(userIds);
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 1L, USER_CHUNK_SIZE))
+                .willReturn(Collections.emptyList());
+            given(userRepository.findUsernamesByIds(userIds)).willReturn(List.of(USERNAME));
+
+            // when
+            userSchedulerService.deleteOldSoftDeletedUsers(BASE_TIME);
+
+            // then
+            then(eventPublisher).should().publishEvent(new UsernameOwnerChangedEvent(USERNAME));
+            then(userRepository).should().deleteAllByIdInBatch(userIds);
+        }
+
+        @DisplayName("하위 데이터는 청크 크기만큼 나누어 삭제")
+        @Test
+        void given_ChildrenExceedingChunkSize_when_DeleteOldSoftDeletedUsers_then_DeleteInChunks() {
+            // given
+            List<Long> userIds = List.of(1L);
+            givenTransactionsExecuted();
+            givenNoChildren();
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 0L, USER_CHUNK_SIZE))
+                .willReturn(userIds);
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 1L, USER_CHUNK_SIZE))
+                .willReturn(Collections.emptyList());
+            given(replyRepository.findIdsByUserIdsOrCommentUserIdsOrPostUserIds(userIds, CHUNK_SIZE))
+                .willReturn(List.of(10L, 11L))
+                .willReturn(List.of(12L));
+
+            // when
+            userSchedulerService.deleteOldSoftDeletedUsers(BASE_TIME);
+
+            // then
+            then(replyRepository).should().deleteAllByIdInBatch(List.of(10L, 11L));
+            then(replyRepository).should().deleteAllByIdInBatch(List.of(12L));
+            then(commentRepository).should(never()).deleteAllByIdInBatch(anyList());
+            assertThat(deleted("replies")).isEqualTo(3);
+            assertThat(deleted("users")).isEqualTo(1);
+        }
+
+        @DisplayName("사용자는 ID 키셋 순서로 청크 단위 조회")
+        @Test
+        void given_UsersExceedingUserChunkSize_when_DeleteOldSoftDeletedUsers_then_FollowKeyset() {
+            // given
+            givenTransactionsExecuted();
+            givenNoChildren();
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 0L, USER_CHUNK_SIZE))
+                .willReturn(List.of(1L, 2L));
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 2L, USER_CHUNK_SIZE))
+                .willReturn(List.of(5L));
+            given(userRepository.findSoftDeletedIdsBefore(BASE_TIME, 5L, USER_CHUNK_SIZE))
+                .willReturn(Collections.emptyList());
+
+            // when
+            long deletedCount = userSchedulerService.deleteOldSoftDeletedUsers(BASE_TIME);
+
+            // then
+            assertThat(deletedCount).isEqualTo(3);
+            then(userRepository).should().deleteAllByIdInBatch(List.of(1L, 2L));
+            then(userRepository).should().deleteAllByIdInBatch(List.of(5L));
+            assertThat(meterRegistry.get("user.purge.cursor").gauge().value()).isEqualTo(5);
+        }
+
+        @DisplayName("청크 삭제에 실패하면 사용자를 삭제하지 않고 중단")
+        @Test
+        void given_ChunkFailure_when_DeleteOldSoftDeletedUsers_then_StopBeforeDeletingUsers() {
+            // given
+            List<Long> userIds = List.of(1L);
+            givenTransactionsExecuted();
+            givenNoChildren();
+            given(userRepository.findSoftDeletedIdsBefore(eq(BASE_TIME), anyLong(), anyInt()))
+                .willReturn(userIds);
+            given(postRepository.findIdsByUserIds(userIds, CHUNK_SIZE))
+                .willReturn(List.of(30L));
+            willThrow(new DataIntegrityViolationException("fk"))
+                .given(postRepository).deleteAllByIdInBatch(List.of(30L));
+
+            // when & then
+            assertThatThrownBy(() -> userSchedulerService.deleteOldSoftDeletedUsers(BASE_TIME))
+                .isInstanceOf(DataIntegrityViolationException.class);
+            then(userRepository).should(never()).deleteAllByIdInBatch(anyList());
+            then(userRepository).should(times(1))
+                .findSoftDeletedIdsBefore(eq(BASE_TIME), anyLong(), anyInt());
+            assertThat(meterRegistry.get("user.purge.cursor").gauge().value()).isZero();
+        }
+    }
+}
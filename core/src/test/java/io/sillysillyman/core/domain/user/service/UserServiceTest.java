@@ -11,21 +11,29 @@ import static io.sillysillyman.core.common.fixtures.TestFixtures.createUserEntit
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import io.sillysillyman.core.domain.user.User;
 import io.sillysillyman.core.domain.user.UserEntity;
 import io.sillysillyman.core.domain.user.UserRole;
+import io.sillysillyman.core.domain.user.cache.UsernameBloomFilter;
 import io.sillysillyman.core.domain.user.command.ChangePasswordCommand;
 import io.sillysillyman.core.domain.user.command.SignupCommand;
+import io.sillysillyman.core.domain.user.event.UserCredentialsChangedEvent;
+import io.sillysillyman.core.domain.user.event.UsernameOwnerChangedEvent;
 import io.sillysillyman.core.domain.user.exception.UserErrorCode;
 import io.sillysillyman.core.domain.user.exception.detail.DuplicateUsernameException;
 import io.sillysillyman.core.domain.user.exception.detail.PasswordMismatchException;
 import io.sillysillyman.core.domain.user.exception.detail.UserNotFoundException;
 import io.sillysillyman.core.domain.user.repository.UserRepository;
+import java.sql.SQLException;
 import java.util.Optional;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,6 +42,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +55,12 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UsernameBloomFilter usernameBloomFilter;
+
     @InjectMocks
     private UserService userService;
 
@@ -111,9 +127,10 @@ public class UserServiceTest {
             // given
             SignupCommand command = new TestSignupCommand(USERNAME, PASSWORD, PASSWORD);
 
+            given(usernameBloomFilter.mightContain(USERNAME)).willReturn(true);
             given(userRepository.existsByUsername(USERNAME)).willReturn(false);
             given(passwordEncoder.encode(PASSWORD)).willReturn(ENCODED_PASSWORD);
-            given(userRepository.save(any(UserEntity.class))).willReturn(userEntity);
+            given(userRepository.saveAndFlush(any(UserEntity.class))).willReturn(userEntity);
 
             // when
             User savedUser = userService.signup(command);
@@ -127,8 +144,28 @@ public class UserServiceTest {
                 });
 
             then(userRepository).should().existsByUsername(USERNAME);
-            then(userRepository).should().save(any(UserEntity.class));
+            then(userRepository).should().saveAndFlush(any(UserEntity.class));
             then(userRepository).shouldHaveNoMoreInteractions();
+            then(usernameBloomFilter).should().put(USERNAME);
+            then(eventPublisher).should().publishEvent(new UsernameOwnerChangedEvent(USERNAME));
+        }
+
+        @DisplayName("필터에 없는 사용자명은 중복 확인 쿼리 없이 회원가입")
+        @Test
+        void given_DefiniteMiss_when_Signup_then_SkipExistsQuery() {
+            // given
+            SignupCommand command = new TestSignupCommand(USERNAME, PASSWORD, PASSWORD);
+
+            given(usernameBloomFilter.mightContain(USERNAME)).willReturn(false);
+            given(passwordEncoder.encode(PASSWORD)).willReturn(ENCODED_PASSWORD);
+            given(userRepository.saveAndFlush(any(UserEntity.class))).willReturn(userEntity);
+
+            // when
+            userService.signup(command);
+
+            // then
+            then(userRepository).should(never()).existsByUsername(any());
+            then(userRepository).should().saveAndFlush(any(UserEntity.class));
         }
 
         @DisplayName("중복된 사용자명 회원가입 실패")
@@ -137,6 +174,7 @@ public class UserServiceTest {
             // given
             SignupCommand command = new TestSignupCommand(USERNAME, PASSWORD, PASSWORD);
 
+            given(usernameBloomFilter.mightContain(USERNAME)).willReturn(true);
             given(userRepository.existsByUsername(USERNAME)).willReturn(true);
 
             // when
@@ -152,6 +190,38 @@ public class UserServiceTest {
             then(passwordEncoder).shouldHaveNoInteractions();
         }
 
+        @DisplayName("유니크 제약 위반 시 중복된 사용자명 예외로 변환")
+        @Test
+        void given_UniqueViolation_when_Signup_then_ThrowDuplicateUsernameException() {
+            // given
+            SignupCommand command = new TestSignupCommand(USERNAME, PASSWORD, PASSWORD);
+
+            given(usernameBloomFilter.mightContain(USERNAME)).willReturn(false);
+            given(passwordEncoder.encode(PASSWORD)).willReturn(ENCODED_PASSWORD);
+            given(userRepository.saveAndFlush(any(UserEntity.class))).willThrow(
+                new DataIntegrityViolationException(
+                    "duplicate key",
+                    new ConstraintViolationException(
+                        "duplicate key",
+                        new SQLException("duplicate key"),
+                        null,
+                        ConstraintKind.UNIQUE,
+                        "uk_users_username"
+                    )
+                )
+            );
+
+            // when
+            ThrowingCallable when = () -> userService.signup(command);
+
+            // then
+            assertThatThrownBy(when)
+                .isInstanceOf(DuplicateUsernameException.class)
+                .hasMessage(UserErrorCode.DUPLICATE_USERNAME.getMessage());
+
+            then(usernameBloomFilter).should(never()).put(any());
+        }
+
         private record TestSignupCommand(
             String username,
             String password,
@@ -161,6 +231,40 @@ public class UserServiceTest {
         }
     }
 
+    @DisplayName("사용자명 사용 가능 여부 확인")
+    @Nested
+    class IsUsernameAvailable {
+
+        @DisplayName("필터에 없는 사용자명은 DB 조회 없이 사용 가능")
+        @Test
+        void given_DefiniteMiss_when_IsUsernameAvailable_then_ReturnTrueWithoutQuery() {
+            // given
+            given(usernameBloomFilter.mightContain(USERNAME)).willReturn(false);
+
+            // when
+            boolean available = userService.isUsernameAvailable(USERNAME);
+
+            // then
+            assertThat(available).isTrue();
+            then(userRepository).shouldHaveNoInteractions();
+        }
+
+        @DisplayName("필터에 있을 수도 있는 사용자명은 DB 에서 확인")
+        @Test
+        void given_PossibleHit_when_IsUsernameAvailable_then_CheckDatabase() {
+            // given
+            given(usernameBloomFilter.mightContain(USERNAME)).willReturn(true);
+            given(userRepository.existsByUsername(USERNAME)).willReturn(true);
+
+            // when
+            boolean available = userService.isUsernameAvailable(USERNAME);
+
+            // then
+            assertThat(available).isFalse();
+            then(userRepository).should().existsByUsername(USERNAME);
+        }
+    }
+
     @DisplayName("비밀번호 변경")
     @Nested
     class ChangePassword {
@@ -183,11 +287,45 @@ public class UserServiceTest {
 
             // then
             assertThat(user.getPassword()).isEqualTo(ENCODED_NEW_PASSWORD);
+            assertThat(user.getCredentialVersion()).isEqualTo(1L);
 
             then(passwordEncoder).should().matches(PASSWORD, ENCODED_PASSWORD);
             then(passwordEncoder).should().encode(NEW_PASSWORD);
             then(userRepository).should().save(any(UserEntity.class));
             then(passwordEncoder).shouldHaveNoMoreInteractions();
+            then(eventPublisher).should()
+                .publishEvent(new UserCredentialsChangedEvent(USER_ID, USERNAME, 1L));
+        }
+
+        @DisplayName("비밀번호 해시가 없는 사용자는 DB 에서 조회 후 비밀번호 변경")
+        @Test
+        void given_StatelessUser_when_ChangePassword_then_LoadPersistedUser() {
+            // given
+            ChangePasswordCommand command = new TestChangePasswordCommand(
+                PASSWORD,
+                NEW_PASSWORD,
+                NEW_PASSWORD
+            );
+            User statelessUser = User.builder()
+                .id(USER_ID)
+                .username(USERNAME)
+                .role(UserRole.USER)
+                .build();
+
+            given(userRepository.findById(USER_ID)).willReturn(Optional.of(userEntity));
+            given(passwordEncoder.matches(PASSWORD, ENCODED_PASSWORD)).willReturn(true);
+            given(passwordEncoder.encode(NEW_PASSWORD)).willReturn(ENCODED_NEW_PASSWORD);
+
+            // when
+            userService.changePassword(command, statelessUser);
+
+            // then
+            then(userRepository).should().findById(USER_ID);
+            then(userRepository).should().save(
+                argThat(entity -> entity.getPassword().equals(ENCODED_NEW_PASSWORD))
+            );
+            then(eventPublisher).should()
+                .publishEvent(new UserCredentialsChangedEvent(USER_ID, USERNAME, 1L));
         }
 
         @DisplayName("잘못된 현재 비밀번호로 비밀번호 변경 실패")
@@ -214,6 +352,7 @@ public class UserServiceTest {
             then(passwordEncoder).should().matches(INCORRECT_PASSWORD, user.getPassword());
             then(passwordEncoder).shouldHaveNoMoreInteractions();
             then(userRepository).shouldHaveNoInteractions();
+            then(eventPublisher).shouldHaveNoInteractions();
         }
 
         private record TestChangePasswordCommand(
@@ -224,4 +363,25 @@ public class UserServiceTest {
 
         }
     }
+
+    @DisplayName("회원 탈퇴")
+    @Nested
+    class Withdraw {
+
+        @DisplayName("회원 탈퇴 성공")
+        @Test
+        void given_User_when_Withdraw_then_SoftDeleteAndRevokeCredentials() {
+            // when
+            userService.withdraw(user);
+
+            // then
+            assertThat(user.getDeletedAt()).isNotNull();
+            assertThat(user.getCredentialVersion()).isEqualTo(1L);
+
+            then(userRepository).should().save(any(UserEntity.class));
+            then(userRepository).shouldHaveNoMoreInteractions();
+            then(eventPublisher).should()
+                .publishEvent(new UserCredentialsChangedEvent(USER_ID, USERNAME, 1L));
+        }
+    }
 }